@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.actors.client;
 
+import io.dapr.client.DaprChannelProvider;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.dapr.utils.NetworkUtils;
@@ -25,6 +26,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Holds a client for Dapr sidecar communication. ActorClient should be reused.
@@ -36,11 +38,21 @@ public class ActorClient implements AutoCloseable {
    */
   private final ManagedChannel grpcManagedChannel;
 
+  /**
+   * Shared channel provider for communication with Dapr sidecar (or null).
+   */
+  private final DaprChannelProvider channelProvider;
+
   /**
    * Dapr's client.
    */
   private final DaprClient daprClient;
 
+  /**
+   * Whether this client is closed.
+   */
+  private final AtomicBoolean closed = new AtomicBoolean();
+
   /**
    * Instantiates a new channel for Dapr sidecar communication.
    */
@@ -90,6 +102,35 @@ public class ActorClient implements AutoCloseable {
         overrideProperties.getValue(Properties.API_TOKEN));
   }
 
+  /**
+   * Instantiates a client communicating over a shared channel provider, which is retained by this client
+   * and released when it is closed.
+   *
+   * @param channelProvider Shared channel provider.
+   */
+  public ActorClient(DaprChannelProvider channelProvider) {
+    this(channelProvider, null, null);
+  }
+
+  /**
+   * Instantiates a client communicating over a shared channel provider, which is retained by this client
+   * and released when it is closed.
+   *
+   * @param channelProvider Shared channel provider.
+   * @param metadata gRPC metadata or HTTP headers for actor invocation.
+   * @param resiliencyOptions Client resiliency options.
+   */
+  public ActorClient(
+      DaprChannelProvider channelProvider, Map<String, String> metadata, ResiliencyOptions resiliencyOptions) {
+    // The provider is retained last, so a failure building the client does not leak a reference to it.
+    this(null,
+        buildDaprClient(channelProvider.getChannel(),
+            metadata,
+            resiliencyOptions,
+            channelProvider.getProperties().getValue(Properties.API_TOKEN)),
+        channelProvider.retain());
+  }
+
   /**
    * Instantiates a new channel for Dapr sidecar communication.
    *
@@ -103,8 +144,20 @@ public class ActorClient implements AutoCloseable {
       Map<String, String> metadata,
       ResiliencyOptions resiliencyOptions,
       String daprApiToken) {
+    this(grpcManagedChannel, buildDaprClient(grpcManagedChannel, metadata, resiliencyOptions, daprApiToken), null);
+  }
+
+  /**
+   * Internal constructor.
+   *
+   * @param grpcManagedChannel gRPC channel to be closed (or null).
+   * @param daprClient Dapr's client.
+   * @param channelProvider Shared channel provider to be released (or null).
+   */
+  private ActorClient(ManagedChannel grpcManagedChannel, DaprClient daprClient, DaprChannelProvider channelProvider) {
     this.grpcManagedChannel = grpcManagedChannel;
-    this.daprClient = buildDaprClient(grpcManagedChannel, metadata, resiliencyOptions, daprApiToken);
+    this.channelProvider = channelProvider;
+    this.daprClient = daprClient;
   }
 
   /**
@@ -128,6 +181,9 @@ public class ActorClient implements AutoCloseable {
     if (grpcManagedChannel != null && !grpcManagedChannel.isShutdown()) {
       grpcManagedChannel.shutdown();
     }
+    if (channelProvider != null && closed.compareAndSet(false, true)) {
+      channelProvider.close();
+    }
   }
 
   /**
@@ -17,6 +17,8 @@ import com.google.protobuf.ByteString;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.exceptions.DaprException;
 import io.dapr.internal.grpc.DaprClientGrpcInterceptors;
+import io.dapr.internal.resiliency.AdmissionPolicy;
+import io.dapr.internal.resiliency.RetryBudget;
 import io.dapr.internal.resiliency.RetryPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.dapr.v1.DaprActorsProtos;
@@ -69,9 +71,13 @@ class DaprClientImpl implements DaprClient {
       String daprApiToken) {
     this.client = grpcClient;
     this.grpcInterceptors = new DaprClientGrpcInterceptors(daprApiToken,
-        new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()));
+        new TimeoutPolicy(resiliencyOptions),
+        new AdmissionPolicy(resiliencyOptions));
     this.retryPolicy = new RetryPolicy(
-        resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries());
+        resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries(),
+        (resiliencyOptions == null) || (resiliencyOptions.getRetryBudget() == null)
+            ? null : new RetryBudget(resiliencyOptions.getRetryBudget()),
+        null);
     this.metadata = metadata == null ? Map.of() : metadata;
   }
 
@@ -15,10 +15,15 @@ package io.dapr.actors.runtime;
 
 import io.dapr.actors.ActorId;
 import io.dapr.actors.ActorTrace;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -59,6 +64,21 @@ public abstract class AbstractActor {
    */
   private final AtomicBoolean started;
 
+  /**
+   * Whether reminder and timer registrations are held until the current call completes.
+   */
+  private final AtomicBoolean deferRegistrations;
+
+  /**
+   * Reminder registrations made during the current call, when coalescing is enabled.
+   */
+  private final Map<String, ActorReminderParams> pendingReminders;
+
+  /**
+   * Timer registrations made during the current call, when coalescing is enabled.
+   */
+  private final Map<String, ActorTimerParams> pendingTimers;
+
   /**
    * Instantiates a new Actor.
    *
@@ -74,6 +94,9 @@ public abstract class AbstractActor {
           id);
     this.actorTrace = runtimeContext.getActorTrace();
     this.started = new AtomicBoolean(false);
+    this.deferRegistrations = new AtomicBoolean(false);
+    this.pendingReminders = new LinkedHashMap<>();
+    this.pendingTimers = new LinkedHashMap<>();
   }
 
   /**
@@ -121,6 +144,19 @@ public abstract class AbstractActor {
     try {
       byte[] data = this.actorRuntimeContext.getObjectSerializer().serialize(state);
       ActorReminderParams params = new ActorReminderParams(data, dueTime, period);
+      if (this.actorRuntimeContext.isRegistrationCoalescingEnabled()) {
+        return Mono.defer(() -> {
+          if (this.deferRegistrations.get()) {
+            synchronized (this.pendingReminders) {
+              this.pendingReminders.put(reminderName, params);
+            }
+            return Mono.empty();
+          }
+
+          return this.actorRuntimeContext.getRegistrationTracker().registerReminder(this.id, reminderName, params);
+        });
+      }
+
       return this.actorRuntimeContext.getDaprClient().registerReminder(
             this.actorRuntimeContext.getActorTypeInformation().getName(),
             this.id.toString(),
@@ -163,6 +199,20 @@ public abstract class AbstractActor {
 
       byte[] data = this.actorRuntimeContext.getObjectSerializer().serialize(state);
       ActorTimerParams actorTimer = new ActorTimerParams(callback, data, dueTime, period);
+      if (this.actorRuntimeContext.isRegistrationCoalescingEnabled()) {
+        String registeredName = name;
+        return Mono.defer(() -> {
+          if (this.deferRegistrations.get()) {
+            synchronized (this.pendingTimers) {
+              this.pendingTimers.put(registeredName, actorTimer);
+            }
+            return Mono.just(registeredName);
+          }
+
+          return this.actorRuntimeContext.getRegistrationTracker().registerTimer(this.id, registeredName, actorTimer)
+              .thenReturn(registeredName);
+        });
+      }
 
       return this.actorRuntimeContext.getDaprClient().registerTimer(
           this.actorRuntimeContext.getActorTypeInformation().getName(),
@@ -181,10 +231,15 @@ public abstract class AbstractActor {
    * @return Asynchronous void response.
    */
   protected Mono<Void> unregisterTimer(String timerName) {
-    return this.actorRuntimeContext.getDaprClient().unregisterTimer(
+    return Mono.fromRunnable(() -> {
+      synchronized (this.pendingTimers) {
+        this.pendingTimers.remove(timerName);
+      }
+      this.actorRuntimeContext.getRegistrationTracker().forgetTimer(this.id, timerName);
+    }).then(this.actorRuntimeContext.getDaprClient().unregisterTimer(
                 this.actorRuntimeContext.getActorTypeInformation().getName(),
                 this.id.toString(),
-                timerName);
+                timerName));
   }
 
   /**
@@ -194,10 +249,15 @@ public abstract class AbstractActor {
    * @return Asynchronous void response.
    */
   protected Mono<Void> unregisterReminder(String reminderName) {
-    return this.actorRuntimeContext.getDaprClient().unregisterReminder(
+    return Mono.fromRunnable(() -> {
+      synchronized (this.pendingReminders) {
+        this.pendingReminders.remove(reminderName);
+      }
+      this.actorRuntimeContext.getRegistrationTracker().forgetReminder(this.id, reminderName);
+    }).then(this.actorRuntimeContext.getDaprClient().unregisterReminder(
           this.actorRuntimeContext.getActorTypeInformation().getName(),
           this.id.toString(),
-          reminderName);
+          reminderName));
   }
 
   /**
@@ -258,6 +318,7 @@ public abstract class AbstractActor {
     }
 
     this.resetState();
+    this.deferRegistrations.set(false);
     this.started.set(false);
   }
 
@@ -266,6 +327,7 @@ public abstract class AbstractActor {
    */
   void resetState() {
     this.actorStateManager.clear();
+    this.discardPendingRegistrations();
   }
 
   /**
@@ -277,9 +339,12 @@ public abstract class AbstractActor {
     return Mono.fromRunnable(() -> {
       this.actorTrace.writeInfo(TRACE_TYPE, this.id.toString(), "Activating ...");
       this.resetState();
+      this.deferRegistrations.set(true);
     }).then(this.onActivate())
           .then(this.doWriteInfo(TRACE_TYPE, this.id.toString(), "Activated"))
-          .then(this.saveState());
+          .then(this.saveState())
+          .then(Mono.defer(() -> this.flushPendingRegistrations()))
+          .doFinally(signal -> this.deferRegistrations.set(false));
   }
 
   /**
@@ -290,8 +355,10 @@ public abstract class AbstractActor {
   Mono<Void> onDeactivateInternal() {
     this.actorTrace.writeInfo(TRACE_TYPE, this.id.toString(), "Deactivating ...");
 
-    return Mono.fromRunnable(() -> this.resetState())
-          .then(this.onDeactivate())
+    return Mono.fromRunnable(() -> {
+      this.resetState();
+      this.actorRuntimeContext.getRegistrationTracker().forgetTimers(this.id);
+    }).then(this.onDeactivate())
           .then(this.doWriteInfo(TRACE_TYPE, this.id.toString(), "Deactivated"));
   }
 
@@ -309,6 +376,7 @@ public abstract class AbstractActor {
       }
 
       this.started.set(true);
+      this.deferRegistrations.set(true);
     }).then(this.onPreActorMethod(actorMethodContext));
   }
 
@@ -326,7 +394,53 @@ public abstract class AbstractActor {
     })
         .then(this.onPostActorMethod(actorMethodContext))
         .then(this.saveState())
-        .then(Mono.fromRunnable(() -> this.started.set(false)));
+        .then(Mono.defer(() -> this.flushPendingRegistrations()))
+        .then(Mono.fromRunnable(() -> {
+          this.deferRegistrations.set(false);
+          this.started.set(false);
+        }));
+  }
+
+  /**
+   * Sends reminder and timer registrations held during the current call.
+   *
+   * @return Asynchronous void response.
+   */
+  private Mono<Void> flushPendingRegistrations() {
+    List<Map.Entry<String, ActorReminderParams>> reminders;
+    synchronized (this.pendingReminders) {
+      reminders = new ArrayList<>(this.pendingReminders.entrySet());
+      this.pendingReminders.clear();
+    }
+
+    List<Map.Entry<String, ActorTimerParams>> timers;
+    synchronized (this.pendingTimers) {
+      timers = new ArrayList<>(this.pendingTimers.entrySet());
+      this.pendingTimers.clear();
+    }
+
+    if (reminders.isEmpty() && timers.isEmpty()) {
+      return Mono.empty();
+    }
+
+    ActorRegistrationTracker tracker = this.actorRuntimeContext.getRegistrationTracker();
+    return Flux.fromIterable(reminders)
+        .concatMap(e -> tracker.registerReminder(this.id, e.getKey(), e.getValue()))
+        .thenMany(Flux.fromIterable(timers))
+        .concatMap(e -> tracker.registerTimer(this.id, e.getKey(), e.getValue()))
+        .then();
+  }
+
+  /**
+   * Drops reminder and timer registrations held during the current call.
+   */
+  private void discardPendingRegistrations() {
+    synchronized (this.pendingReminders) {
+      this.pendingReminders.clear();
+    }
+    synchronized (this.pendingTimers) {
+      this.pendingTimers.clear();
+    }
   }
 
   /**
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorTrace;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Netty handler that routes Dapr's Actor callback API into an {@link ActorRuntime}.
+ */
+class ActorCallbackHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+  /**
+   * A trace type used when logging.
+   */
+  private static final String TRACE_TYPE = "ActorCallbackServer";
+
+  /**
+   * Tracing errors, warnings and info logs.
+   */
+  private static final ActorTrace ACTOR_TRACE = new ActorTrace();
+
+  /**
+   * Empty response body.
+   */
+  private static final byte[] EMPTY_BYTES = new byte[0];
+
+  /**
+   * Response body of a failed call, without the details of the error.
+   */
+  private static final byte[] ERROR_BYTES = "Actor call failed.".getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Runtime the Actor calls are dispatched to.
+   */
+  private final ActorRuntime actorRuntime;
+
+  /**
+   * Scheduler running Actor calls off the event loop, including the Actor code run after each call to Dapr.
+   */
+  private final Scheduler scheduler;
+
+  /**
+   * Instantiates a new handler.
+   *
+   * @param actorRuntime Runtime the Actor calls are dispatched to.
+   * @param scheduler    Scheduler running Actor calls.
+   */
+  ActorCallbackHandler(ActorRuntime actorRuntime, Scheduler scheduler) {
+    this.actorRuntime = actorRuntime;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+    boolean keepAlive = HttpUtil.isKeepAlive(request);
+    HttpMethod method = request.method();
+    String[] segments = split(new QueryStringDecoder(request.uri()).path());
+    byte[] body = request.content().isReadable() ? ByteBufUtil.getBytes(request.content()) : null;
+
+    boolean json = (segments.length > 0) && segments[0].equals("dapr");
+    Mono<byte[]> response = this.route(method, segments, body);
+    if (response == null) {
+      this.write(ctx, keepAlive, HttpResponseStatus.NOT_FOUND, EMPTY_BYTES, false);
+      return;
+    }
+
+    ActorScheduling.runOn(response, this.scheduler)
+        .subscribe(
+            result -> this.write(ctx, keepAlive, HttpResponseStatus.OK, result, json),
+            error -> {
+              // The details stay in the log: the response body is relayed to the caller of the Actor.
+              ACTOR_TRACE.writeError(TRACE_TYPE, request.uri(), "Actor callback failed: %s", error);
+              this.write(ctx, keepAlive, HttpResponseStatus.INTERNAL_SERVER_ERROR, ERROR_BYTES, false);
+            });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    ACTOR_TRACE.writeError(TRACE_TYPE, null, "Actor callback connection failed: %s", cause.getMessage());
+    ctx.close();
+  }
+
+  /**
+   * Maps a request to the Actor runtime call serving it.
+   *
+   * @param method   HTTP method.
+   * @param segments Decoded path segments.
+   * @param body     Request body, or null if empty.
+   * @return Response body, or null if no route matches.
+   */
+  private Mono<byte[]> route(HttpMethod method, String[] segments, byte[] body) {
+    if (HttpMethod.GET.equals(method)) {
+      if ((segments.length == 1) && segments[0].equals("healthz")) {
+        return Mono.just(EMPTY_BYTES);
+      }
+      if ((segments.length == 2) && segments[0].equals("dapr") && segments[1].equals("config")) {
+        return Mono.fromCallable(() -> this.actorRuntime.serializeConfig());
+      }
+      return null;
+    }
+
+    if ((segments.length < 3) || !segments[0].equals("actors")) {
+      return null;
+    }
+
+    String type = segments[1];
+    String id = segments[2];
+    if (HttpMethod.DELETE.equals(method) && (segments.length == 3)) {
+      return this.actorRuntime.deactivate(type, id).thenReturn(EMPTY_BYTES);
+    }
+
+    if (!HttpMethod.PUT.equals(method) || (segments.length < 5) || !segments[3].equals("method")) {
+      return null;
+    }
+
+    if (segments.length == 5) {
+      return this.actorRuntime.invoke(type, id, segments[4], body).defaultIfEmpty(EMPTY_BYTES);
+    }
+    if ((segments.length == 6) && segments[4].equals("timer")) {
+      return this.actorRuntime.invokeTimer(type, id, segments[5], body == null ? EMPTY_BYTES : body)
+          .thenReturn(EMPTY_BYTES);
+    }
+    if ((segments.length == 6) && segments[4].equals("remind")) {
+      return this.actorRuntime.invokeReminder(type, id, segments[5], body).thenReturn(EMPTY_BYTES);
+    }
+
+    return null;
+  }
+
+  /**
+   * Writes a response and closes the connection unless it is kept alive.
+   *
+   * @param ctx       Channel context.
+   * @param keepAlive Whether the connection is kept alive.
+   * @param status    Response status.
+   * @param body      Response body.
+   * @param json      Whether the body is JSON.
+   */
+  private void write(
+      ChannelHandlerContext ctx, boolean keepAlive, HttpResponseStatus status, byte[] body, boolean json) {
+    FullHttpResponse response = new DefaultFullHttpResponse(
+        HttpVersion.HTTP_1_1, status, Unpooled.wrappedBuffer(body));
+    response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, body.length);
+    if (json) {
+      response.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+    }
+
+    if (keepAlive) {
+      response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+      ctx.writeAndFlush(response);
+    } else {
+      ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+    }
+  }
+
+  /**
+   * Splits a path into decoded segments, ignoring empty ones.
+   *
+   * @param path Request path.
+   * @return Decoded path segments.
+   */
+  private static String[] split(String path) {
+    return Arrays.stream(path.split("/"))
+        .filter(s -> !s.isEmpty())
+        // Path segments do not use form encoding, so '+' is kept as is.
+        .map(s -> QueryStringDecoder.decodeComponent(s.replace("+", "%2B")))
+        .toArray(String[]::new);
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Lightweight HTTP server that serves Dapr's Actor callback API directly into an {@link ActorRuntime},
+ * for applications that host Actors without Spring.
+ * Network I/O runs on a small Netty event loop, while Actor calls run on a separate pool of worker
+ * threads, since Actor methods may block.
+ */
+public class ActorCallbackServer implements Closeable {
+
+  /**
+   * Runtime the Actor calls are dispatched to.
+   */
+  private final ActorRuntime actorRuntime;
+
+  /**
+   * Port the server listens on.
+   */
+  private final int port;
+
+  /**
+   * Number of threads handling network I/O.
+   */
+  private final int eventLoopThreads;
+
+  /**
+   * Number of threads executing Actor calls.
+   */
+  private final int workerThreads;
+
+  /**
+   * Maximum size of a request body, in bytes.
+   */
+  private final int maxRequestSizeBytes;
+
+  /**
+   * Thread accepting connections.
+   */
+  private EventLoopGroup bossGroup;
+
+  /**
+   * Threads handling network I/O.
+   */
+  private EventLoopGroup eventLoopGroup;
+
+  /**
+   * Threads executing Actor calls.
+   */
+  private ExecutorService workerExecutor;
+
+  /**
+   * Channel the server listens on.
+   */
+  private Channel serverChannel;
+
+  /**
+   * Instantiates a new server.
+   *
+   * @param actorRuntime        Runtime the Actor calls are dispatched to.
+   * @param port                Port to listen on.
+   * @param eventLoopThreads    Number of threads handling network I/O.
+   * @param workerThreads       Number of threads executing Actor calls.
+   * @param maxRequestSizeBytes Maximum size of a request body, in bytes.
+   */
+  ActorCallbackServer(
+      ActorRuntime actorRuntime, int port, int eventLoopThreads, int workerThreads, int maxRequestSizeBytes) {
+    this.actorRuntime = actorRuntime;
+    this.port = port;
+    this.eventLoopThreads = eventLoopThreads;
+    this.workerThreads = workerThreads;
+    this.maxRequestSizeBytes = maxRequestSizeBytes;
+  }
+
+  /**
+   * Starts listening for Actor callbacks from Dapr.
+   *
+   * @return This instance.
+   * @throws InterruptedException If interrupted while binding the port.
+   */
+  public synchronized ActorCallbackServer start() throws InterruptedException {
+    if (this.serverChannel != null) {
+      throw new IllegalStateException("Server is already started.");
+    }
+
+    this.bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("dapr-actor-boss", true));
+    this.eventLoopGroup = new NioEventLoopGroup(
+        this.eventLoopThreads, new DefaultThreadFactory("dapr-actor-io", true));
+    this.workerExecutor = Executors.newFixedThreadPool(
+        this.workerThreads, new DefaultThreadFactory("dapr-actor-worker", true));
+    Scheduler scheduler = Schedulers.fromExecutorService(this.workerExecutor);
+
+    try {
+      this.serverChannel = new ServerBootstrap()
+          .group(this.bossGroup, this.eventLoopGroup)
+          .channel(NioServerSocketChannel.class)
+          .childOption(ChannelOption.TCP_NODELAY, true)
+          .childHandler(new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel ch) {
+              ch.pipeline()
+                  .addLast(new HttpServerCodec())
+                  .addLast(new HttpObjectAggregator(maxRequestSizeBytes))
+                  .addLast(new ActorCallbackHandler(actorRuntime, scheduler));
+            }
+          })
+          .bind(this.port)
+          .sync()
+          .channel();
+    } catch (InterruptedException | RuntimeException e) {
+      this.close();
+      throw e;
+    }
+
+    return this;
+  }
+
+  /**
+   * Gets the port the server is listening on, which differs from the configured one if it was 0.
+   *
+   * @return Port the server is listening on.
+   */
+  public synchronized int getPort() {
+    if (this.serverChannel == null) {
+      throw new IllegalStateException("Server is not started.");
+    }
+
+    return ((InetSocketAddress) this.serverChannel.localAddress()).getPort();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void close() {
+    if (this.serverChannel != null) {
+      this.serverChannel.close().syncUninterruptibly();
+      this.serverChannel = null;
+    }
+    if (this.bossGroup != null) {
+      this.bossGroup.shutdownGracefully();
+      this.bossGroup = null;
+    }
+    if (this.eventLoopGroup != null) {
+      this.eventLoopGroup.shutdownGracefully();
+      this.eventLoopGroup = null;
+    }
+    if (this.workerExecutor != null) {
+      this.workerExecutor.shutdown();
+      this.workerExecutor = null;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+/**
+ * Builder to create an {@link ActorCallbackServer}.
+ */
+public class ActorCallbackServerBuilder {
+
+  /**
+   * Default maximum size of a request body, in bytes.
+   */
+  private static final int DEFAULT_MAX_REQUEST_SIZE_BYTES = 4 * 1024 * 1024;
+
+  /**
+   * Port the server listens on.
+   */
+  private final int port;
+
+  /**
+   * Runtime the Actor calls are dispatched to.
+   */
+  private ActorRuntime actorRuntime;
+
+  /**
+   * Number of threads handling network I/O.
+   */
+  private int eventLoopThreads = 1;
+
+  /**
+   * Number of threads executing Actor calls.
+   */
+  private int workerThreads = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Maximum size of a request body, in bytes.
+   */
+  private int maxRequestSizeBytes = DEFAULT_MAX_REQUEST_SIZE_BYTES;
+
+  /**
+   * Instantiates a new builder for a server listening on the given port, which must match the app port
+   * configured for the Dapr sidecar.
+   *
+   * @param port Port to listen on, or 0 to pick any free port.
+   */
+  public ActorCallbackServerBuilder(int port) {
+    if ((port < 0) || (port > 65535)) {
+      throw new IllegalArgumentException("Invalid port: " + port);
+    }
+
+    this.port = port;
+  }
+
+  /**
+   * Sets the runtime Actor calls are dispatched to. Defaults to {@link ActorRuntime#getInstance()}.
+   *
+   * @param actorRuntime Actor runtime.
+   * @return This instance.
+   */
+  public ActorCallbackServerBuilder withActorRuntime(ActorRuntime actorRuntime) {
+    if (actorRuntime == null) {
+      throw new IllegalArgumentException("Actor runtime is required.");
+    }
+
+    this.actorRuntime = actorRuntime;
+    return this;
+  }
+
+  /**
+   * Sets the number of threads handling network I/O.
+   *
+   * @param eventLoopThreads Number of event loop threads.
+   * @return This instance.
+   */
+  public ActorCallbackServerBuilder withEventLoopThreads(int eventLoopThreads) {
+    if (eventLoopThreads <= 0) {
+      throw new IllegalArgumentException("Event loop threads must be greater than zero.");
+    }
+
+    this.eventLoopThreads = eventLoopThreads;
+    return this;
+  }
+
+  /**
+   * Sets the number of threads executing Actor calls. Actor methods may block, so they never run on
+   * the event loop threads.
+   *
+   * @param workerThreads Number of worker threads.
+   * @return This instance.
+   */
+  public ActorCallbackServerBuilder withWorkerThreads(int workerThreads) {
+    if (workerThreads <= 0) {
+      throw new IllegalArgumentException("Worker threads must be greater than zero.");
+    }
+
+    this.workerThreads = workerThreads;
+    return this;
+  }
+
+  /**
+   * Sets the maximum size of a request body.
+   *
+   * @param maxRequestSizeBytes Maximum size of a request body, in bytes.
+   * @return This instance.
+   */
+  public ActorCallbackServerBuilder withMaxRequestSize(int maxRequestSizeBytes) {
+    if (maxRequestSizeBytes <= 0) {
+      throw new IllegalArgumentException("Max request size must be greater than zero.");
+    }
+
+    this.maxRequestSizeBytes = maxRequestSizeBytes;
+    return this;
+  }
+
+  /**
+   * Builds the server. The server is not started until {@link ActorCallbackServer#start()} is called.
+   *
+   * @return New server instance.
+   */
+  public ActorCallbackServer build() {
+    ActorRuntime runtime = this.actorRuntime == null ? ActorRuntime.getInstance() : this.actorRuntime;
+    return new ActorCallbackServer(
+        runtime,
+        this.port,
+        this.eventLoopThreads,
+        this.workerThreads,
+        this.maxRequestSizeBytes);
+  }
+}
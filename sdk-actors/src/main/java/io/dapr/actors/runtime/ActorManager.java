@@ -16,9 +16,11 @@ package io.dapr.actors.runtime;
 import io.dapr.actors.ActorId;
 import io.dapr.utils.TypeRef;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -60,6 +62,24 @@ class ActorManager<T extends AbstractActor> {
     this.activeActors = Collections.synchronizedMap(new HashMap<>());
   }
 
+  /**
+   * Gets the runtime context for the managed Actor type.
+   *
+   * @return Runtime context.
+   */
+  ActorRuntimeContext<T> getRuntimeContext() {
+    return this.runtimeContext;
+  }
+
+  /**
+   * Gets the number of active Actors.
+   *
+   * @return Number of active Actors.
+   */
+  int getActiveActorCount() {
+    return this.activeActors.size();
+  }
+
   /**
    * Activates an Actor.
    *
@@ -83,7 +103,8 @@ class ActorManager<T extends AbstractActor> {
    * @return Asynchronous void response.
    */
   Mono<Void> deactivateActor(ActorId actorId) {
-    return Mono.fromSupplier(() -> this.activeActors.remove(actorId)).flatMap(actor -> actor.onDeactivateInternal());
+    return Mono.fromSupplier(() -> this.activeActors.remove(actorId))
+        .flatMap(actor -> actor.onDeactivateInternal().then(this.onDeactivatedActor()));
   }
 
   /**
@@ -105,10 +126,12 @@ class ActorManager<T extends AbstractActor> {
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
-    }).flatMap(p ->
-        invoke(actorId,
-            ActorMethodContext.createForReminder(reminderName),
-            actor -> doReminderInvokation((Remindable) actor, reminderName, p))).then();
+    }).flatMap(p -> {
+      this.runtimeContext.getRegistrationTracker().onReminderFired(actorId, reminderName, p);
+      return invoke(actorId,
+          ActorMethodContext.createForReminder(reminderName),
+          actor -> doReminderInvokation((Remindable) actor, reminderName, p));
+    }).then();
   }
 
   /**
@@ -142,7 +165,20 @@ class ActorManager<T extends AbstractActor> {
    * @return Asynchronous void response.
    */
   private Mono<Void> onActivatedActor(ActorId actorId, T actor) {
-    return Mono.fromRunnable(() -> this.activeActors.put(actorId, actor));
+    return Mono.fromRunnable(() -> {
+      this.activeActors.put(actorId, actor);
+      this.runtimeContext.getMetrics().onActorActivated(this.runtimeContext.getActorTypeInformation().getName());
+    });
+  }
+
+  /**
+   * Internal callback for when Actor is deactivated.
+   *
+   * @return Asynchronous void response.
+   */
+  private Mono<Void> onDeactivatedActor() {
+    return Mono.fromRunnable(() ->
+        this.runtimeContext.getMetrics().onActorDeactivated(this.runtimeContext.getActorTypeInformation().getName()));
   }
 
   /**
@@ -306,7 +342,7 @@ class ActorManager<T extends AbstractActor> {
                 this.runtimeContext.getActorTypeInformation().getName()));
       }
 
-      return Mono.fromRunnable(() -> actor.rollback(true))
+      Mono<T> call = Mono.fromRunnable(() -> actor.rollback(true))
           .onErrorMap(throwable -> {
             actor.rollback(false);
             return throwable;
@@ -317,6 +353,15 @@ class ActorManager<T extends AbstractActor> {
               actor.onPostActorMethodInternal(context))
           .flatMap(r -> actor.onPostActorMethodInternal(context).thenReturn(r))
           .map(o -> (T) o);
+      return Mono.defer(() -> {
+        long start = System.nanoTime();
+        return call.doFinally(signal -> this.runtimeContext.getMetrics().recordCall(
+            this.runtimeContext.getActorTypeInformation().getName(),
+            context.getCallType(),
+            context.getMethodName(),
+            Duration.ofNanos(System.nanoTime() - start),
+            signal == SignalType.ON_COMPLETE));
+      });
     } catch (Exception e) {
       return Mono.error(e);
     }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import java.time.Duration;
+
+/**
+ * Receives measurements from the Actor runtime, per Actor type.
+ * All methods default to no-op, so implementations only override what they record. Methods are
+ * called on the Actor's call path and must not block. This interface does not depend on any metrics
+ * library; bridge it to Micrometer, OpenTelemetry or similar in the application.
+ */
+public interface ActorMetrics {
+
+  /**
+   * Metrics implementation that records nothing.
+   */
+  ActorMetrics NOOP = new ActorMetrics() {
+  };
+
+  /**
+   * Called after an Actor is activated.
+   *
+   * @param actorType Actor type.
+   */
+  default void onActorActivated(String actorType) {
+  }
+
+  /**
+   * Called after an Actor is deactivated.
+   *
+   * @param actorType Actor type.
+   */
+  default void onActorDeactivated(String actorType) {
+  }
+
+  /**
+   * Called once a method, timer or reminder call on an Actor completes, including the time to save state.
+   *
+   * @param actorType  Actor type.
+   * @param callType   Type of call: method, timer or reminder.
+   * @param methodName Name of the method, timer or reminder.
+   * @param latency    Time taken by the call.
+   * @param success    Whether the call completed without error.
+   */
+  default void recordCall(
+      String actorType, ActorCallType callType, String methodName, Duration latency, boolean success) {
+  }
+
+  /**
+   * Called after a state entry is loaded from the state store.
+   *
+   * @param actorType Actor type.
+   * @param bytes     Size of the serialized state entry.
+   */
+  default void recordStateLoad(String actorType, int bytes) {
+  }
+
+  /**
+   * Called after state changes are saved to the state store.
+   *
+   * @param actorType  Actor type.
+   * @param operations Number of operations in the transaction.
+   * @param bytes      Total size of the serialized values.
+   */
+  default void recordStateSave(String actorType, int operations, long bytes) {
+  }
+
+  /**
+   * Called after state is serialized or deserialized.
+   *
+   * @param actorType Actor type.
+   * @param duration  Time taken to serialize or deserialize.
+   */
+  default void recordSerialization(String actorType, Duration duration) {
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for reminder and timer registrations of a given Actor type.
+ */
+public final class ActorRegistrationCounters {
+
+  /**
+   * Reminder registrations sent to Dapr.
+   */
+  private final LongAdder sentReminders = new LongAdder();
+
+  /**
+   * Reminder registrations skipped because nothing changed.
+   */
+  private final LongAdder skippedReminders = new LongAdder();
+
+  /**
+   * Timer registrations sent to Dapr.
+   */
+  private final LongAdder sentTimers = new LongAdder();
+
+  /**
+   * Timer registrations skipped because nothing changed.
+   */
+  private final LongAdder skippedTimers = new LongAdder();
+
+  /**
+   * Instantiates new counters.
+   */
+  ActorRegistrationCounters() {
+  }
+
+  /**
+   * Gets the number of reminder registrations sent to Dapr.
+   *
+   * @return Number of reminder registrations sent.
+   */
+  public long getSentReminderRegistrations() {
+    return sentReminders.sum();
+  }
+
+  /**
+   * Gets the number of reminder registrations skipped because they were unchanged.
+   *
+   * @return Number of reminder registrations skipped.
+   */
+  public long getSkippedReminderRegistrations() {
+    return skippedReminders.sum();
+  }
+
+  /**
+   * Gets the number of timer registrations sent to Dapr.
+   *
+   * @return Number of timer registrations sent.
+   */
+  public long getSentTimerRegistrations() {
+    return sentTimers.sum();
+  }
+
+  /**
+   * Gets the number of timer registrations skipped because they were unchanged.
+   *
+   * @return Number of timer registrations skipped.
+   */
+  public long getSkippedTimerRegistrations() {
+    return skippedTimers.sum();
+  }
+
+  /**
+   * Records a reminder registration sent to Dapr.
+   */
+  void reminderSent() {
+    sentReminders.increment();
+  }
+
+  /**
+   * Records a skipped reminder registration.
+   */
+  void reminderSkipped() {
+    skippedReminders.increment();
+  }
+
+  /**
+   * Records a timer registration sent to Dapr.
+   */
+  void timerSent() {
+    sentTimers.increment();
+  }
+
+  /**
+   * Records a skipped timer registration.
+   */
+  void timerSkipped() {
+    skippedTimers.increment();
+  }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorId;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps track of reminders and timers registered with Dapr for a given Actor type, so unchanged
+ * registrations can be skipped.
+ * Only periodic registrations are tracked: one-shot reminders and timers are removed by Dapr once
+ * they fire, so they are always sent. Reminders outlive activations in Dapr, so they are remembered
+ * across activations, for a bounded number of Actors and a bounded time: a reminder removed outside
+ * of this Actor (by another host after rebalancing, or through Dapr's API) is registered again once
+ * its entry expires or is evicted. Timers are removed by Dapr when the Actor is deactivated, so they
+ * are forgotten then.
+ */
+class ActorRegistrationTracker {
+
+  /**
+   * Maximum number of Actors whose reminders are remembered, after which the least recently used are evicted.
+   */
+  static final int MAX_TRACKED_ACTORS = 10_000;
+
+  /**
+   * Time after which a reminder is registered again even if unchanged.
+   */
+  static final Duration REMINDER_TTL = Duration.ofHours(1);
+
+  /**
+   * Actor type.
+   */
+  private final String actorType;
+
+  /**
+   * Client to communicate to Dapr's API.
+   */
+  private final DaprClient daprClient;
+
+  /**
+   * Counters for sent and skipped registrations.
+   */
+  private final ActorRegistrationCounters counters;
+
+  /**
+   * Time after which a reminder is registered again even if unchanged, in nanoseconds.
+   */
+  private final long reminderTtlNanos;
+
+  /**
+   * Source of the current time, in nanoseconds.
+   */
+  private final LongSupplier nanoClock;
+
+  /**
+   * Reminders registered per Actor, least recently used first. Guarded by itself.
+   */
+  private final Map<ActorId, Map<String, TrackedReminder>> reminders;
+
+  /**
+   * Timers registered per Actor.
+   */
+  private final ConcurrentMap<ActorId, Map<String, ActorTimerParams>> timers;
+
+  /**
+   * Instantiates a new tracker for an Actor type.
+   *
+   * @param actorType  Actor type.
+   * @param daprClient Client to communicate to Dapr.
+   */
+  ActorRegistrationTracker(String actorType, DaprClient daprClient) {
+    this(actorType, daprClient, MAX_TRACKED_ACTORS, REMINDER_TTL, System::nanoTime);
+  }
+
+  /**
+   * Instantiates a new tracker for an Actor type.
+   *
+   * @param actorType   Actor type.
+   * @param daprClient  Client to communicate to Dapr.
+   * @param maxActors   Maximum number of Actors whose reminders are remembered.
+   * @param reminderTtl Time after which a reminder is registered again even if unchanged.
+   * @param nanoClock   Source of the current time, in nanoseconds.
+   */
+  ActorRegistrationTracker(
+      String actorType, DaprClient daprClient, int maxActors, Duration reminderTtl, LongSupplier nanoClock) {
+    this.actorType = actorType;
+    this.daprClient = daprClient;
+    this.counters = new ActorRegistrationCounters();
+    this.reminderTtlNanos = reminderTtl.toNanos();
+    this.nanoClock = nanoClock;
+    this.reminders = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ActorId, Map<String, TrackedReminder>> eldest) {
+        return size() > maxActors;
+      }
+    };
+    this.timers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets the counters for sent and skipped registrations.
+   *
+   * @return Counters for this Actor type.
+   */
+  ActorRegistrationCounters getCounters() {
+    return this.counters;
+  }
+
+  /**
+   * Registers a reminder, unless the same reminder is already registered for the Actor.
+   *
+   * @param actorId      Actor identifier.
+   * @param reminderName Name of the reminder.
+   * @param params       Parameters for the reminder.
+   * @return Asynchronous void response.
+   */
+  Mono<Void> registerReminder(ActorId actorId, String reminderName, ActorReminderParams params) {
+    return Mono.defer(() -> {
+      if (this.isReminderRegistered(actorId, reminderName, params)) {
+        this.counters.reminderSkipped();
+        return Mono.empty();
+      }
+
+      return this.daprClient.registerReminder(this.actorType, actorId.toString(), reminderName, params)
+          // The reminder may or may not have been replaced, so the next registration must be sent.
+          .doOnError(e -> this.forgetReminder(actorId, reminderName))
+          .then(Mono.fromRunnable(() -> {
+            this.counters.reminderSent();
+            if (isPeriodic(params.getPeriod())) {
+              TrackedReminder tracked = new TrackedReminder(params, this.nanoClock.getAsLong());
+              synchronized (this.reminders) {
+                this.reminders.computeIfAbsent(actorId, k -> new HashMap<>()).put(reminderName, tracked);
+              }
+            } else {
+              this.forgetReminder(actorId, reminderName);
+            }
+          }));
+    });
+  }
+
+  /**
+   * Registers a timer, unless the same timer is already registered for the Actor.
+   *
+   * @param actorId   Actor identifier.
+   * @param timerName Name of the timer.
+   * @param params    Parameters for the timer.
+   * @return Asynchronous void response.
+   */
+  Mono<Void> registerTimer(ActorId actorId, String timerName, ActorTimerParams params) {
+    return Mono.defer(() -> {
+      Map<String, ActorTimerParams> registered = this.timers.get(actorId);
+      if ((registered != null) && params.equals(registered.get(timerName))) {
+        this.counters.timerSkipped();
+        return Mono.empty();
+      }
+
+      return this.daprClient.registerTimer(this.actorType, actorId.toString(), timerName, params)
+          .doOnError(e -> this.forgetTimer(actorId, timerName))
+          .then(Mono.fromRunnable(() -> {
+            this.counters.timerSent();
+            if (isPeriodic(params.getPeriod())) {
+              this.timers.computeIfAbsent(actorId, k -> new ConcurrentHashMap<>()).put(timerName, params);
+            } else {
+              this.forgetTimer(actorId, timerName);
+            }
+          }));
+    });
+  }
+
+  /**
+   * Forgets a reminder after it fired, if it was a one-shot or is not the one last registered.
+   *
+   * @param actorId      Actor identifier.
+   * @param reminderName Name of the reminder.
+   * @param params       Parameters of the reminder that fired.
+   */
+  void onReminderFired(ActorId actorId, String reminderName, ActorReminderParams params) {
+    if (!isPeriodic(params.getPeriod()) || !this.isReminderRegistered(actorId, reminderName, params)) {
+      this.forgetReminder(actorId, reminderName);
+    }
+  }
+
+  /**
+   * Forgets a reminder, so the next registration is sent to Dapr.
+   *
+   * @param actorId      Actor identifier.
+   * @param reminderName Name of the reminder.
+   */
+  void forgetReminder(ActorId actorId, String reminderName) {
+    synchronized (this.reminders) {
+      this.reminders.computeIfPresent(actorId, (k, v) -> {
+        v.remove(reminderName);
+        return v.isEmpty() ? null : v;
+      });
+    }
+  }
+
+  /**
+   * Forgets a timer, so the next registration is sent to Dapr.
+   *
+   * @param actorId   Actor identifier.
+   * @param timerName Name of the timer.
+   */
+  void forgetTimer(ActorId actorId, String timerName) {
+    this.timers.computeIfPresent(actorId, (k, v) -> {
+      v.remove(timerName);
+      return v.isEmpty() ? null : v;
+    });
+  }
+
+  /**
+   * Forgets the timers of an Actor being deactivated, which Dapr removes with the activation.
+   *
+   * @param actorId Actor identifier.
+   */
+  void forgetTimers(ActorId actorId) {
+    this.timers.remove(actorId);
+  }
+
+  /**
+   * Checks if a reminder with the same parameters was registered for the Actor and has not expired.
+   *
+   * @param actorId      Actor identifier.
+   * @param reminderName Name of the reminder.
+   * @param params       Parameters for the reminder.
+   * @return True if the reminder does not need to be registered again.
+   */
+  private boolean isReminderRegistered(ActorId actorId, String reminderName, ActorReminderParams params) {
+    TrackedReminder tracked;
+    synchronized (this.reminders) {
+      Map<String, TrackedReminder> registered = this.reminders.get(actorId);
+      tracked = registered == null ? null : registered.get(reminderName);
+    }
+    return (tracked != null) && tracked.params.equals(params)
+        && (this.nanoClock.getAsLong() - tracked.registeredNanos < this.reminderTtlNanos);
+  }
+
+  /**
+   * Checks if a registration repeats, as opposed to firing only once.
+   *
+   * @param period Period for the registration.
+   * @return True if the registration repeats.
+   */
+  private static boolean isPeriodic(Duration period) {
+    return (period != null) && (period.compareTo(Duration.ZERO) > 0);
+  }
+
+  /**
+   * Reminder registered with Dapr, and when.
+   */
+  private static final class TrackedReminder {
+
+    private final ActorReminderParams params;
+
+    private final long registeredNanos;
+
+    private TrackedReminder(ActorReminderParams params, long registeredNanos) {
+      this.params = params;
+      this.registeredNanos = registeredNanos;
+    }
+  }
+}
@@ -16,6 +16,8 @@ package io.dapr.actors.runtime;
 import io.dapr.client.domain.FailurePolicy;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Parameters for Actor Reminder.
@@ -137,4 +139,32 @@ final class ActorReminderParams {
   public FailurePolicy getFailurePolicy() {
     return failurePolicy;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ActorReminderParams that = (ActorReminderParams) o;
+    return Arrays.equals(data, that.data)
+        && Objects.equals(dueTime, that.dueTime)
+        && Objects.equals(period, that.period)
+        && Objects.equals(failurePolicy, that.failurePolicy);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    int result = Objects.hash(dueTime, period, failurePolicy);
+    result = 31 * result + Arrays.hashCode(data);
+    return result;
+  }
 }
@@ -15,10 +15,12 @@ package io.dapr.actors.runtime;
 
 import io.dapr.actors.ActorId;
 import io.dapr.actors.ActorTrace;
+import io.dapr.client.DaprChannelProvider;
 import io.dapr.config.Properties;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.utils.NetworkUtils;
+import io.dapr.v1.DaprGrpc;
 import io.grpc.ManagedChannel;
 import reactor.core.publisher.Mono;
 
@@ -58,6 +60,11 @@ public class ActorRuntime implements Closeable {
    */
   private final ManagedChannel channel;
 
+  /**
+   * Shared channel provider to be released on close (or null once released).
+   */
+  private DaprChannelProvider channelProvider;
+
   /**
    * Configuration for the Actor runtime.
    */
@@ -73,6 +80,11 @@ public class ActorRuntime implements Closeable {
    */
   private final ConcurrentMap<String, ActorManager> actorManagers;
 
+  /**
+   * Receives measurements for all Actor types.
+   */
+  private volatile ActorMetrics metrics = ActorMetrics.NOOP;
+
   /**
    * The default constructor. This should not be called directly.
    *
@@ -109,14 +121,38 @@ public class ActorRuntime implements Closeable {
    * @throws IllegalStateException If class has one instance already.
    */
   private ActorRuntime(ManagedChannel channel, DaprClient daprClient) throws IllegalStateException {
+    this(channel, null, daprClient);
+  }
+
+  /**
+   * Constructor using a shared channel provider. This should not be called directly.
+   *
+   * @param channelProvider Retained channel provider.
+   * @throws IllegalStateException If you cannot instantiate Runtime.
+   */
+  private ActorRuntime(DaprChannelProvider channelProvider) throws IllegalStateException {
+    this(null, channelProvider, new DaprClientImpl(DaprGrpc.newStub(channelProvider.getChannel())));
+  }
+
+  /**
+   * Internal constructor. This should not be called directly.
+   *
+   * @param channel         GRPC managed channel to be closed (or null).
+   * @param channelProvider Shared channel provider to be released (or null).
+   * @param daprClient      Client to communicate with Dapr.
+   * @throws IllegalStateException If class has one instance already.
+   */
+  private ActorRuntime(ManagedChannel channel, DaprChannelProvider channelProvider, DaprClient daprClient)
+      throws IllegalStateException {
     if (instance != null) {
       throw new IllegalStateException("ActorRuntime should only be constructed once");
     }
 
     this.config = new ActorRuntimeConfig();
     this.actorManagers = new ConcurrentHashMap<>();
-    this.daprClient = daprClient;
+    this.daprClient = ActorScheduling.resumeOnCallScheduler(daprClient);
     this.channel = channel;
+    this.channelProvider = channelProvider;
   }
 
   /**
@@ -154,6 +190,35 @@ public class ActorRuntime implements Closeable {
     return instance;
   }
 
+  /**
+   * Returns an ActorRuntime object, communicating with Dapr over a shared channel provider.
+   * The provider is retained by the runtime and released when the runtime is closed.
+   *
+   * @param channelProvider Shared channel provider.
+   * @return An ActorRuntime object.
+   */
+  public static ActorRuntime getInstance(DaprChannelProvider channelProvider) {
+    if (channelProvider == null) {
+      throw new IllegalArgumentException("Channel provider is required.");
+    }
+
+    if (instance == null) {
+      synchronized (ActorRuntime.class) {
+        if (instance == null) {
+          channelProvider.retain();
+          try {
+            instance = new ActorRuntime(channelProvider);
+          } catch (RuntimeException e) {
+            channelProvider.close();
+            throw e;
+          }
+        }
+      }
+    }
+
+    return instance;
+  }
+
   /**
    * Gets the Actor configuration for this runtime.
    *
@@ -163,6 +228,34 @@ public class ActorRuntime implements Closeable {
     return this.config;
   }
 
+  /**
+   * Gets the metrics receiver for this runtime.
+   *
+   * @return Metrics receiver, never null.
+   */
+  public ActorMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Sets the metrics receiver for this runtime, applied to all Actor types.
+   *
+   * @param metrics Metrics receiver, or null to stop recording.
+   */
+  public void setMetrics(ActorMetrics metrics) {
+    this.metrics = (metrics == null) ? ActorMetrics.NOOP : metrics;
+  }
+
+  /**
+   * Gets the number of active Actors for an actor type.
+   *
+   * @param actorTypeName Actor type name.
+   * @return Number of active Actors.
+   */
+  public int getActiveActorCount(String actorTypeName) {
+    return this.getActorManager(actorTypeName).getActiveActorCount();
+  }
+
   /**
    * Gets the Actor configuration for this runtime.
    *
@@ -245,12 +338,22 @@ public class ActorRuntime implements Closeable {
           actorFactory,
           actorTypeInfo,
           this.daprClient,
-          new DaprStateAsyncProvider(this.daprClient, stateSerializer));
+          new DaprStateAsyncProvider(this.daprClient, stateSerializer, this::getMetrics));
       this.config.addRegisteredActorType(actorTypeInfo.getName());
       return new ActorManager<T>(context);
     });
   }
 
+  /**
+   * Gets the counters for reminder and timer registrations of an actor type.
+   *
+   * @param actorTypeName Actor type name.
+   * @return Counters for reminder and timer registrations.
+   */
+  public ActorRegistrationCounters getRegistrationCounters(String actorTypeName) {
+    return this.getActorManager(actorTypeName).getRuntimeContext().getRegistrationTracker().getCounters();
+  }
+
   /**
    * Deactivates an actor for an actor type with given actor id.
    *
@@ -276,7 +379,7 @@ public class ActorRuntime implements Closeable {
   public Mono<byte[]> invoke(String actorTypeName, String actorId, String actorMethodName, byte[] payload) {
     ActorId id = new ActorId(actorId);
     return Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
-        .flatMap(m -> m.activateActor(id).thenReturn(m))
+        .flatMap(m -> ActorScheduling.resumeOnCallScheduler(m.activateActor(id).thenReturn(m)))
         .flatMap(m -> ((ActorManager) m).invokeMethod(id, actorMethodName, payload));
   }
 
@@ -292,7 +395,7 @@ public class ActorRuntime implements Closeable {
   public Mono<Void> invokeReminder(String actorTypeName, String actorId, String reminderName, byte[] params) {
     ActorId id = new ActorId(actorId);
     return Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
-        .flatMap(m -> m.activateActor(id).thenReturn(m))
+        .flatMap(m -> ActorScheduling.resumeOnCallScheduler(m.activateActor(id).thenReturn(m)))
         .flatMap(m -> ((ActorManager) m).invokeReminder(new ActorId(actorId), reminderName, params));
   }
 
@@ -308,7 +411,7 @@ public class ActorRuntime implements Closeable {
   public Mono<Void> invokeTimer(String actorTypeName, String actorId, String timerName, byte[] params) {
     ActorId id = new ActorId(actorId);
     return Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
-        .flatMap(m -> m.activateActor(id).thenReturn(m))
+        .flatMap(m -> ActorScheduling.resumeOnCallScheduler(m.activateActor(id).thenReturn(m)))
         .flatMap(m -> ((ActorManager) m).invokeTimer(new ActorId(actorId), timerName, params));
   }
 
@@ -350,5 +453,11 @@ public class ActorRuntime implements Closeable {
     if (channel != null && !channel.isShutdown()) {
       channel.shutdown();
     }
+    synchronized (this) {
+      if (channelProvider != null) {
+        channelProvider.close();
+        channelProvider = null;
+      }
+    }
   }
 }
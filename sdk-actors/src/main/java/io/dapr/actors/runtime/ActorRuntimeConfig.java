@@ -36,6 +36,8 @@ public class ActorRuntimeConfig {
 
   private volatile Integer remindersStoragePartitions;
 
+  private volatile Boolean registrationCoalescingEnabled;
+
   private volatile List<ActorTypeConfig> actorTypeConfigs = new CopyOnWriteArrayList<>();
 
   /**
@@ -168,6 +170,28 @@ public class ActorRuntimeConfig {
     return this;
   }
 
+  /**
+   * Gets whether reminder and timer registrations are coalesced by the SDK.
+   *
+   * @return Whether reminder and timer registrations are coalesced.
+   */
+  public Boolean getRegistrationCoalescingEnabled() {
+    return registrationCoalescingEnabled;
+  }
+
+  /**
+   * Sets whether reminder and timer registrations are coalesced by the SDK.
+   * When enabled, registrations identical to the last one sent during the same activation of an Actor are
+   * skipped, and registrations made during an Actor call are sent once the call completes.
+   *
+   * @param registrationCoalescingEnabled Whether reminder and timer registrations are coalesced.
+   * @return This instance.
+   */
+  public ActorRuntimeConfig setRegistrationCoalescingEnabled(Boolean registrationCoalescingEnabled) {
+    this.registrationCoalescingEnabled = registrationCoalescingEnabled;
+    return this;
+  }
+
   /**
    * Adds a actor type config to the list of actors type configs.
    * 
@@ -58,6 +58,11 @@ public class ActorRuntimeContext<T extends AbstractActor> {
    */
   private final DaprStateAsyncProvider stateProvider;
 
+  /**
+   * Tracks reminders and timers registered for the Actor type.
+   */
+  private final ActorRegistrationTracker registrationTracker;
+
   /**
    * Instantiates a new runtime context for the Actor type.
    *
@@ -81,6 +86,7 @@ public class ActorRuntimeContext<T extends AbstractActor> {
     this.actorTrace = new ActorTrace();
     this.daprClient = daprClient;
     this.stateProvider = stateProvider;
+    this.registrationTracker = new ActorRegistrationTracker(actorTypeInformation.getName(), daprClient);
   }
 
   /**
@@ -145,4 +151,33 @@ public class ActorRuntimeContext<T extends AbstractActor> {
   DaprStateAsyncProvider getStateProvider() {
     return stateProvider;
   }
+
+  /**
+   * Gets the tracker for reminders and timers registered for the Actor type.
+   *
+   * @return Tracker for reminders and timers.
+   */
+  ActorRegistrationTracker getRegistrationTracker() {
+    return registrationTracker;
+  }
+
+  /**
+   * Checks if reminder and timer registrations should be coalesced.
+   *
+   * @return True if registrations should be coalesced.
+   */
+  boolean isRegistrationCoalescingEnabled() {
+    ActorRuntimeConfig config = (this.actorRuntime == null) ? null : this.actorRuntime.getConfig();
+    return (config != null) && Boolean.TRUE.equals(config.getRegistrationCoalescingEnabled());
+  }
+
+  /**
+   * Gets the metrics receiver for the Actor runtime.
+   *
+   * @return Metrics receiver, never null.
+   */
+  ActorMetrics getMetrics() {
+    ActorMetrics metrics = (this.actorRuntime == null) ? null : this.actorRuntime.getMetrics();
+    return (metrics == null) ? ActorMetrics.NOOP : metrics;
+  }
 }
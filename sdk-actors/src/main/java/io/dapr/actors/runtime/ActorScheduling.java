@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+
+/**
+ * Keeps Actor code on the scheduler an Actor call was dispatched to.
+ * <p>
+ * Calls to Dapr complete on gRPC's threads, and so would the Actor code chained after them, such as a
+ * blocking call following a state read. The scheduler travels in the Reactor context of the Actor call, and
+ * the results of calls to Dapr and of the Actor's activation are published on it. Calls dispatched without a
+ * scheduler are left on the thread completing them.
+ * </p>
+ */
+final class ActorScheduling {
+
+  /**
+   * Key of the scheduler in the Reactor context.
+   */
+  private static final Object SCHEDULER_KEY = ActorScheduling.class;
+
+  private ActorScheduling() {
+  }
+
+  /**
+   * Runs an Actor call on a scheduler, including the Actor code run after each call to Dapr.
+   *
+   * @param call      Actor call.
+   * @param scheduler Scheduler running the Actor code.
+   * @param <T>       Type of the call's result.
+   * @return Actor call running on the scheduler.
+   */
+  static <T> Mono<T> runOn(Mono<T> call, Scheduler scheduler) {
+    return call
+        .subscribeOn(scheduler)
+        .contextWrite(context -> context.put(SCHEDULER_KEY, scheduler));
+  }
+
+  /**
+   * Publishes the result of an asynchronous step on the scheduler of the Actor call, if any.
+   *
+   * @param step Asynchronous step of the Actor call.
+   * @param <T>  Type of the step's result.
+   * @return Step completing on the scheduler of the Actor call.
+   */
+  static <T> Mono<T> resumeOnCallScheduler(Mono<T> step) {
+    return Mono.deferContextual(context -> {
+      Scheduler scheduler = context.getOrDefault(SCHEDULER_KEY, null);
+      return (scheduler == null) ? step : step.publishOn(scheduler);
+    });
+  }
+
+  /**
+   * Wraps a client so the results of its calls are published on the scheduler of the Actor call, if any.
+   *
+   * @param client Client to communicate to Dapr.
+   * @return Client resuming on the scheduler of the Actor call.
+   */
+  static DaprClient resumeOnCallScheduler(DaprClient client) {
+    return new DaprClient() {
+      @Override
+      public Mono<byte[]> getState(String actorType, String actorId, String keyName) {
+        return resumeOnCallScheduler(client.getState(actorType, actorId, keyName));
+      }
+
+      @Override
+      public Mono<Void> saveStateTransactionally(
+          String actorType, String actorId, List<ActorStateOperation> operations) {
+        return resumeOnCallScheduler(client.saveStateTransactionally(actorType, actorId, operations));
+      }
+
+      @Override
+      public Mono<Void> registerReminder(
+          String actorType, String actorId, String reminderName, ActorReminderParams reminderParams) {
+        return resumeOnCallScheduler(client.registerReminder(actorType, actorId, reminderName, reminderParams));
+      }
+
+      @Override
+      public Mono<Void> unregisterReminder(String actorType, String actorId, String reminderName) {
+        return resumeOnCallScheduler(client.unregisterReminder(actorType, actorId, reminderName));
+      }
+
+      @Override
+      public Mono<Void> registerTimer(
+          String actorType, String actorId, String timerName, ActorTimerParams timerParams) {
+        return resumeOnCallScheduler(client.registerTimer(actorType, actorId, timerName, timerParams));
+      }
+
+      @Override
+      public Mono<Void> unregisterTimer(String actorType, String actorId, String timerName) {
+        return resumeOnCallScheduler(client.unregisterTimer(actorType, actorId, timerName));
+      }
+    };
+  }
+}
@@ -14,6 +14,8 @@ limitations under the License.
 package io.dapr.actors.runtime;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Represents the timer set on an Actor, to be called once after due time and then every period.
@@ -95,4 +97,31 @@ final class ActorTimerParams {
     return this.data;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ActorTimerParams that = (ActorTimerParams) o;
+    return Objects.equals(callback, that.callback)
+        && Arrays.equals(data, that.data)
+        && Objects.equals(dueTime, that.dueTime)
+        && Objects.equals(period, that.period);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    int result = Objects.hash(callback, dueTime, period);
+    result = 31 * result + Arrays.hashCode(data);
+    return result;
+  }
 }
@@ -23,7 +23,9 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.function.Supplier;
 
 /**
  * State Provider to interact with Dapr runtime to handle state.
@@ -55,6 +57,11 @@ class DaprStateAsyncProvider {
    */
   private final boolean isStateSerializerDefault;
 
+  /**
+   * Supplies the metrics receiver for state I/O.
+   */
+  private final Supplier<ActorMetrics> metrics;
+
   /**
    * Instantiates a new Actor's state provider.
    *
@@ -62,9 +69,21 @@ class DaprStateAsyncProvider {
    * @param stateSerializer Serializer for state objects.
    */
   DaprStateAsyncProvider(DaprClient daprClient, DaprObjectSerializer stateSerializer) {
+    this(daprClient, stateSerializer, () -> ActorMetrics.NOOP);
+  }
+
+  /**
+   * Instantiates a new Actor's state provider.
+   *
+   * @param daprClient      Dapr client for Actor runtime.
+   * @param stateSerializer Serializer for state objects.
+   * @param metrics         Supplies the metrics receiver for state I/O.
+   */
+  DaprStateAsyncProvider(DaprClient daprClient, DaprObjectSerializer stateSerializer, Supplier<ActorMetrics> metrics) {
     this.daprClient = daprClient;
     this.stateSerializer = stateSerializer;
     this.isStateSerializerDefault = stateSerializer.getClass() == DefaultObjectSerializer.class;
+    this.metrics = metrics;
   }
 
   <T> Mono<T> load(String actorType, ActorId actorId, String stateName, TypeRef<T> type) {
@@ -76,6 +95,9 @@ class DaprStateAsyncProvider {
           return Mono.empty();
         }
 
+        ActorMetrics metrics = this.metrics.get();
+        metrics.recordStateLoad(actorType, s.length);
+        long start = System.nanoTime();
         T response = this.stateSerializer.deserialize(s, type);
         if (this.isStateSerializerDefault && (response instanceof byte[])) {
           if (s.length == 0) {
@@ -84,6 +106,7 @@ class DaprStateAsyncProvider {
           // Default serializer just passes through byte arrays, so we need to decode it here.
           response = (T) OBJECT_MAPPER.readValue(s, byte[].class);
         }
+        metrics.recordSerialization(actorType, Duration.ofNanos(System.nanoTime() - start));
         if (response == null) {
           return Mono.empty();
         }
@@ -128,6 +151,9 @@ class DaprStateAsyncProvider {
       return Mono.empty();
     }
 
+    ActorMetrics metrics = this.metrics.get();
+    long bytes = 0;
+    long serializationNanos = 0;
     ArrayList<ActorStateOperation> operations = new ArrayList<>(stateChanges.length);
     for (ActorStateChange stateChange : stateChanges) {
       if ((stateChange == null) || (stateChange.getChangeKind() == null)) {
@@ -144,8 +170,11 @@ class DaprStateAsyncProvider {
       if ((stateChange.getChangeKind() == ActorStateChangeKind.UPDATE)
           || (stateChange.getChangeKind() == ActorStateChangeKind.ADD)) {
         try {
+          long start = System.nanoTime();
           byte[] data = this.stateSerializer.serialize(stateChange.getValue());
+          serializationNanos += System.nanoTime() - start;
           if (data != null) {
+            bytes += data.length;
             if (this.isStateSerializerDefault && !(stateChange.getValue() instanceof byte[])) {
               // DefaultObjectSerializer is a JSON serializer, so we just pass it on.
               value = new String(data, CHARSET);
@@ -163,7 +192,14 @@ class DaprStateAsyncProvider {
       operations.add(new ActorStateOperation(operationName, key, value));
     }
 
-    return this.daprClient.saveStateTransactionally(actorType, actorId.toString(), operations);
+    if (serializationNanos > 0) {
+      metrics.recordSerialization(actorType, Duration.ofNanos(serializationNanos));
+    }
+
+    int operationCount = operations.size();
+    long totalBytes = bytes;
+    return this.daprClient.saveStateTransactionally(actorType, actorId.toString(), operations)
+        .then(Mono.fromRunnable(() -> metrics.recordStateSave(actorType, operationCount, totalBytes)));
   }
 
 }
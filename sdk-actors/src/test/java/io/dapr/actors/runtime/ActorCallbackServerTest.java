@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorId;
+import io.dapr.actors.ActorType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Constructor;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ActorCallbackServerTest {
+
+  public interface BlockingActor {
+    Mono<String> readThenBlock();
+  }
+
+  @ActorType(name = "BlockingActor")
+  public static class BlockingActorImpl extends AbstractActor implements BlockingActor {
+
+    public BlockingActorImpl(ActorRuntimeContext runtimeContext, ActorId id) {
+      super(runtimeContext, id);
+    }
+
+    @Override
+    public Mono<String> readThenBlock() {
+      return super.getActorStateManager().get("value", String.class)
+          // Blocking fails on a non-blocking thread, such as the one completing the state read.
+          .map(value -> Mono.just(value).delayElement(Duration.ofMillis(1)).block())
+          .map(value -> Thread.currentThread().getName());
+    }
+  }
+
+  private ActorRuntime actorRuntime;
+
+  private ActorCallbackServer server;
+
+  private HttpClient httpClient;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    this.actorRuntime = mock(ActorRuntime.class);
+    this.server = new ActorCallbackServerBuilder(0)
+        .withActorRuntime(this.actorRuntime)
+        .withEventLoopThreads(1)
+        .withWorkerThreads(2)
+        .build()
+        .start();
+    this.httpClient = HttpClient.newHttpClient();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    this.server.close();
+  }
+
+  @Test
+  public void healthz() throws Exception {
+    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/healthz")).GET());
+
+    Assertions.assertEquals(200, response.statusCode());
+  }
+
+  @Test
+  public void daprConfig() throws Exception {
+    when(this.actorRuntime.serializeConfig()).thenReturn("{\"entities\":[]}".getBytes(StandardCharsets.UTF_8));
+
+    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/dapr/config")).GET());
+
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertEquals("{\"entities\":[]}", response.body());
+    Assertions.assertEquals("application/json", response.headers().firstValue("content-type").orElse(null));
+  }
+
+  @Test
+  public void invokeMethod() throws Exception {
+    when(this.actorRuntime.invoke(eq("MyActor"), eq("a b"), eq("say"), any()))
+        .thenReturn(Mono.just("\"hi\"".getBytes(StandardCharsets.UTF_8)));
+
+    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/actors/MyActor/a%20b/method/say"))
+        .PUT(HttpRequest.BodyPublishers.ofString("\"hello\"")));
+
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertEquals("\"hi\"", response.body());
+    verify(this.actorRuntime).invoke(eq("MyActor"), eq("a b"), eq("say"),
+        eq("\"hello\"".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void invokeMethodWithoutBody() throws Exception {
+    when(this.actorRuntime.invoke(eq("MyActor"), eq("1"), eq("count"), isNull())).thenReturn(Mono.empty());
+
+    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/actors/MyActor/1/method/count"))
+        .PUT(HttpRequest.BodyPublishers.noBody()));
+
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertEquals("", response.body());
+  }
+
+  @Test
+  public void invokeTimerAndReminder() throws Exception {
+    when(this.actorRuntime.invokeTimer(any(), any(), any(), any())).thenReturn(Mono.empty());
+    when(this.actorRuntime.invokeReminder(any(), any(), any(), any())).thenReturn(Mono.empty());
+
+    Assertions.assertEquals(200, send(HttpRequest.newBuilder(uri("/actors/MyActor/1/method/timer/t1"))
+        .PUT(HttpRequest.BodyPublishers.ofString("{}"))).statusCode());
+    Assertions.assertEquals(200, send(HttpRequest.newBuilder(uri("/actors/MyActor/1/method/remind/r1"))
+        .PUT(HttpRequest.BodyPublishers.ofString("{}"))).statusCode());
+
+    verify(this.actorRuntime).invokeTimer(eq("MyActor"), eq("1"), eq("t1"), any());
+    verify(this.actorRuntime).invokeReminder(eq("MyActor"), eq("1"), eq("r1"), any());
+  }
+
+  @Test
+  public void deactivate() throws Exception {
+    when(this.actorRuntime.deactivate("MyActor", "1")).thenReturn(Mono.empty());
+
+    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/actors/MyActor/1")).DELETE());
+
+    Assertions.assertEquals(200, response.statusCode());
+    verify(this.actorRuntime).deactivate("MyActor", "1");
+  }
+
+  @Test
+  public void blockingActorCodeRunsOnWorkerThreadsAfterStateRead() throws Exception {
+    DaprClient daprClient = mock(DaprClient.class);
+    // Completes on a parallel thread, where blocking is not allowed, as gRPC would on its own threads.
+    when(daprClient.getState(any(), any(), any()))
+        .thenReturn(Mono.just("\"v\"".getBytes(StandardCharsets.UTF_8)).delayElement(Duration.ofMillis(10)));
+    Constructor<ActorRuntime> constructor = (Constructor<ActorRuntime>) Arrays.stream(
+        ActorRuntime.class.getDeclaredConstructors())
+        .filter(c -> c.getParameters().length == 2)
+        .findFirst()
+        .get();
+    constructor.setAccessible(true);
+    ActorRuntime runtime = constructor.newInstance(null, daprClient);
+    runtime.registerActor(BlockingActorImpl.class);
+
+    try (ActorCallbackServer server = new ActorCallbackServerBuilder(0).withActorRuntime(runtime).build().start()) {
+      HttpResponse<String> response = this.httpClient.send(HttpRequest.newBuilder(
+          URI.create("http://127.0.0.1:" + server.getPort() + "/actors/BlockingActor/1/method/readThenBlock"))
+          .PUT(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+      Assertions.assertEquals(200, response.statusCode());
+      Assertions.assertTrue(response.body().startsWith("\"dapr-actor-worker"), response.body());
+    }
+  }
+
+  @Test
+  public void actorError() throws Exception {
+    when(this.actorRuntime.invoke(any(), any(), any(), any()))
+        .thenReturn(Mono.error(new IllegalArgumentException("Actor type X is not registered with Actor runtime.")));
+
+    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/actors/X/1/method/say"))
+        .PUT(HttpRequest.BodyPublishers.noBody()));
+
+    Assertions.assertEquals(500, response.statusCode());
+    Assertions.assertEquals("Actor call failed.", response.body());
+  }
+
+  @Test
+  public void unknownRoute() throws Exception {
+    Assertions.assertEquals(404, send(HttpRequest.newBuilder(uri("/unknown")).GET()).statusCode());
+    Assertions.assertEquals(404, send(HttpRequest.newBuilder(uri("/actors/MyActor/1/method/say")).GET())
+        .statusCode());
+  }
+
+  @Test
+  public void startTwice() {
+    Assertions.assertThrows(IllegalStateException.class, () -> this.server.start());
+  }
+
+  @Test
+  public void invalidSettings() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ActorCallbackServerBuilder(-1));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new ActorCallbackServerBuilder(0).withEventLoopThreads(0));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new ActorCallbackServerBuilder(0).withWorkerThreads(0));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new ActorCallbackServerBuilder(0).withActorRuntime(null));
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://127.0.0.1:" + this.server.getPort() + path);
+  }
+
+  private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+    return this.httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+}
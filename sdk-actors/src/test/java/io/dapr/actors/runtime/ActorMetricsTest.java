@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorId;
+import io.dapr.actors.ActorType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ActorMetricsTest {
+
+  private static final String ACTOR_NAME = "MeteredActor";
+
+  public interface MyActor {
+    Mono<Void> store(String value);
+
+    Mono<String> fetch();
+
+    Mono<Void> fail();
+  }
+
+  @ActorType(name = ACTOR_NAME)
+  public static class MyActorImpl extends AbstractActor implements MyActor {
+
+    public MyActorImpl(ActorRuntimeContext runtimeContext, ActorId id) {
+      super(runtimeContext, id);
+    }
+
+    @Override
+    public Mono<Void> store(String value) {
+      return super.getActorStateManager().set("value", value);
+    }
+
+    @Override
+    public Mono<String> fetch() {
+      return super.getActorStateManager().get("stored", String.class);
+    }
+
+    @Override
+    public Mono<Void> fail() {
+      return Mono.error(new IllegalStateException("Intentional"));
+    }
+  }
+
+  private static class RecordingMetrics implements ActorMetrics {
+
+    private final AtomicInteger activated = new AtomicInteger();
+
+    private final AtomicInteger deactivated = new AtomicInteger();
+
+    private final List<String> calls = new ArrayList<>();
+
+    private final AtomicInteger loadedBytes = new AtomicInteger();
+
+    private final AtomicLong savedBytes = new AtomicLong();
+
+    private final AtomicInteger savedOperations = new AtomicInteger();
+
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Override
+    public void onActorActivated(String actorType) {
+      activated.incrementAndGet();
+    }
+
+    @Override
+    public void onActorDeactivated(String actorType) {
+      deactivated.incrementAndGet();
+    }
+
+    @Override
+    public synchronized void recordCall(
+        String actorType, ActorCallType callType, String methodName, Duration latency, boolean success) {
+      Assertions.assertEquals(ACTOR_NAME, actorType);
+      Assertions.assertFalse(latency.isNegative());
+      calls.add(callType + ":" + methodName + ":" + success);
+    }
+
+    @Override
+    public void recordStateLoad(String actorType, int bytes) {
+      loadedBytes.addAndGet(bytes);
+    }
+
+    @Override
+    public void recordStateSave(String actorType, int operations, long bytes) {
+      savedOperations.addAndGet(operations);
+      savedBytes.addAndGet(bytes);
+    }
+
+    @Override
+    public void recordSerialization(String actorType, Duration duration) {
+      serializations.incrementAndGet();
+    }
+  }
+
+  private static final ActorObjectSerializer INTERNAL_SERIALIZER = new ActorObjectSerializer();
+
+  private static Constructor<ActorRuntime> constructor;
+
+  private DaprClient mockDaprClient;
+
+  private ActorRuntime runtime;
+
+  private RecordingMetrics metrics;
+
+  @BeforeAll
+  public static void beforeAll() throws Exception {
+    constructor =
+        (Constructor<ActorRuntime>) Arrays.stream(ActorRuntime.class.getDeclaredConstructors())
+            .filter(c -> c.getParameters().length == 2).map(c -> {
+              c.setAccessible(true);
+              return c;
+            }).findFirst().get();
+  }
+
+  @BeforeEach
+  public void setup() throws Exception {
+    this.mockDaprClient = mock(DaprClient.class);
+    when(this.mockDaprClient.saveStateTransactionally(any(), any(), any())).thenReturn(Mono.empty());
+    when(this.mockDaprClient.getState(any(), any(), eq("value"))).thenReturn(Mono.empty());
+    when(this.mockDaprClient.getState(any(), any(), eq("stored")))
+        .thenReturn(Mono.just("\"hello\"".getBytes(StandardCharsets.UTF_8)));
+
+    this.metrics = new RecordingMetrics();
+    this.runtime = constructor.newInstance(null, this.mockDaprClient);
+    this.runtime.setMetrics(this.metrics);
+    this.runtime.registerActor(MyActorImpl.class);
+  }
+
+  @Test
+  public void activationAndDeactivation() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "fetch", null).block();
+    Assertions.assertEquals(1, this.runtime.getActiveActorCount(ACTOR_NAME));
+
+    this.runtime.deactivate(ACTOR_NAME, actorId).block();
+    this.runtime.deactivate(ACTOR_NAME, actorId).block();
+
+    Assertions.assertEquals(0, this.runtime.getActiveActorCount(ACTOR_NAME));
+    Assertions.assertEquals(1, this.metrics.activated.get());
+    Assertions.assertEquals(1, this.metrics.deactivated.get());
+  }
+
+  @Test
+  public void callLatency() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "fetch", null).block();
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> this.runtime.invoke(ACTOR_NAME, actorId, "fail", null).block());
+
+    Assertions.assertEquals(
+        Arrays.asList("ACTOR_INTERFACE_METHOD:fetch:true", "ACTOR_INTERFACE_METHOD:fail:false"),
+        this.metrics.calls);
+  }
+
+  @Test
+  public void stateLoadAndSave() throws Exception {
+    String actorId = UUID.randomUUID().toString();
+
+    byte[] response = this.runtime.invoke(ACTOR_NAME, actorId, "fetch", null).block();
+    Assertions.assertEquals("hello", INTERNAL_SERIALIZER.deserialize(response, String.class));
+    Assertions.assertEquals("\"hello\"".length(), this.metrics.loadedBytes.get());
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "store", INTERNAL_SERIALIZER.serialize("world")).block();
+    Assertions.assertEquals(1, this.metrics.savedOperations.get());
+    Assertions.assertEquals("\"world\"".length(), this.metrics.savedBytes.get());
+    Assertions.assertTrue(this.metrics.serializations.get() >= 2);
+  }
+
+  @Test
+  public void nullMetricsDisablesRecording() {
+    this.runtime.setMetrics(null);
+    Assertions.assertSame(ActorMetrics.NOOP, this.runtime.getMetrics());
+
+    this.runtime.invoke(ACTOR_NAME, UUID.randomUUID().toString(), "fetch", null).block();
+    Assertions.assertEquals(0, this.metrics.activated.get());
+    Assertions.assertTrue(this.metrics.calls.isEmpty());
+  }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorId;
+import io.dapr.actors.ActorType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ActorRegistrationCoalescingTest {
+
+  private static final String ACTOR_NAME = "CoalescingActor";
+
+  public interface MyActor {
+    Mono<Void> schedule();
+
+    Mono<Void> scheduleDeferred();
+
+    Mono<Void> scheduleAndFail();
+
+    Mono<Void> scheduleAndCancel();
+
+    Mono<Void> scheduleOnce();
+  }
+
+  @ActorType(name = ACTOR_NAME)
+  public static class MyActorImpl extends AbstractActor implements MyActor {
+
+    public MyActorImpl(ActorRuntimeContext runtimeContext, ActorId id) {
+      super(runtimeContext, id);
+    }
+
+    @Override
+    public Mono<Void> onActivate() {
+      return super.registerReminder("activation", "data", Duration.ofSeconds(1), Duration.ofSeconds(10));
+    }
+
+    @Override
+    public Mono<Void> schedule() {
+      return super.registerReminder("reminder", "first", Duration.ofSeconds(1), Duration.ofSeconds(1))
+          .then(super.registerReminder("reminder", "second", Duration.ofSeconds(1), Duration.ofSeconds(1)))
+          .then(super.registerActorTimer("timer", "schedule", "data", Duration.ofSeconds(1), Duration.ofSeconds(1)))
+          .then();
+    }
+
+    @Override
+    public Mono<Void> scheduleDeferred() {
+      return super.registerReminder("deferred", "data", Duration.ofSeconds(1), Duration.ofSeconds(1))
+          .then(Mono.fromRunnable(() -> verify(currentDaprClient, never())
+              .registerReminder(any(), any(), eq("deferred"), any())));
+    }
+
+    @Override
+    public Mono<Void> scheduleAndFail() {
+      return super.registerReminder("failed", "data", Duration.ofSeconds(1), Duration.ofSeconds(1))
+          .then(Mono.error(new IllegalStateException("Intentional")));
+    }
+
+    @Override
+    public Mono<Void> scheduleAndCancel() {
+      return super.registerReminder("cancelled", "data", Duration.ofSeconds(1), Duration.ofSeconds(1))
+          .then(super.unregisterReminder("cancelled"));
+    }
+
+    @Override
+    public Mono<Void> scheduleOnce() {
+      return super.registerReminder("once", "data", Duration.ofSeconds(1), Duration.ZERO);
+    }
+  }
+
+  private static ActorReminderParams periodicReminder() {
+    return new ActorReminderParams(null, Duration.ofSeconds(1), Duration.ofSeconds(10));
+  }
+
+  private static Constructor<ActorRuntime> constructor;
+
+  private static DaprClient currentDaprClient;
+
+  private DaprClient mockDaprClient;
+
+  private ActorRuntime runtime;
+
+  @BeforeAll
+  public static void beforeAll() throws Exception {
+    constructor =
+        (Constructor<ActorRuntime>) Arrays.stream(ActorRuntime.class.getDeclaredConstructors())
+            .filter(c -> c.getParameters().length == 2).map(c -> {
+              c.setAccessible(true);
+              return c;
+            }).findFirst().get();
+  }
+
+  @BeforeEach
+  public void setup() throws Exception {
+    this.mockDaprClient = mock(DaprClient.class);
+    when(this.mockDaprClient.registerReminder(any(), any(), any(), any())).thenReturn(Mono.empty());
+    when(this.mockDaprClient.registerTimer(any(), any(), any(), any())).thenReturn(Mono.empty());
+    when(this.mockDaprClient.unregisterReminder(any(), any(), any())).thenReturn(Mono.empty());
+    when(this.mockDaprClient.unregisterTimer(any(), any(), any())).thenReturn(Mono.empty());
+    currentDaprClient = this.mockDaprClient;
+
+    this.runtime = constructor.newInstance(null, this.mockDaprClient);
+    this.runtime.getConfig().setRegistrationCoalescingEnabled(true);
+    this.runtime.registerActor(MyActorImpl.class);
+  }
+
+  @Test
+  public void registrationsSentAfterCallCompletes() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "schedule", null).block();
+
+    verify(this.mockDaprClient, times(1)).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("reminder"), any());
+    verify(this.mockDaprClient, times(1)).registerTimer(eq(ACTOR_NAME), eq(actorId), eq("timer"), any());
+    ActorRegistrationCounters counters = this.runtime.getRegistrationCounters(ACTOR_NAME);
+    Assertions.assertEquals(2, counters.getSentReminderRegistrations());
+    Assertions.assertEquals(1, counters.getSentTimerRegistrations());
+  }
+
+  @Test
+  public void registrationsNotSentDuringCall() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "scheduleDeferred", null).block();
+
+    verify(this.mockDaprClient, times(1)).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("deferred"), any());
+  }
+
+  @Test
+  public void unchangedRegistrationsSkipped() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "schedule", null).block();
+    this.runtime.invoke(ACTOR_NAME, actorId, "schedule", null).block();
+
+    verify(this.mockDaprClient, times(1)).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("reminder"), any());
+    verify(this.mockDaprClient, times(1)).registerTimer(eq(ACTOR_NAME), eq(actorId), eq("timer"), any());
+    ActorRegistrationCounters counters = this.runtime.getRegistrationCounters(ACTOR_NAME);
+    Assertions.assertEquals(1, counters.getSkippedReminderRegistrations());
+    Assertions.assertEquals(1, counters.getSkippedTimerRegistrations());
+  }
+
+  @Test
+  public void reminderSkippedAfterReactivation() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "schedule", null).block();
+    this.runtime.deactivate(ACTOR_NAME, actorId).block();
+    this.runtime.invoke(ACTOR_NAME, actorId, "schedule", null).block();
+
+    // Reminders outlive the activation, while Dapr removes the timers with it.
+    verify(this.mockDaprClient, times(1)).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("activation"), any());
+    verify(this.mockDaprClient, times(1)).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("reminder"), any());
+    verify(this.mockDaprClient, times(2)).registerTimer(eq(ACTOR_NAME), eq(actorId), eq("timer"), any());
+    Assertions.assertEquals(2, this.runtime.getRegistrationCounters(ACTOR_NAME).getSkippedReminderRegistrations());
+  }
+
+  @Test
+  public void reminderRegisteredAgainAfterExpiry() {
+    AtomicLong nanos = new AtomicLong();
+    ActorRegistrationTracker tracker = new ActorRegistrationTracker(
+        ACTOR_NAME, this.mockDaprClient, 10, Duration.ofMinutes(1), nanos::get);
+    ActorId actorId = ActorId.createRandom();
+
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+    // A reminder deleted outside of this host is registered again once the entry expires.
+    nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+
+    verify(this.mockDaprClient, times(2))
+        .registerReminder(eq(ACTOR_NAME), eq(actorId.toString()), eq("reminder"), any());
+  }
+
+  @Test
+  public void leastRecentlyUsedActorEvicted() {
+    ActorRegistrationTracker tracker = new ActorRegistrationTracker(
+        ACTOR_NAME, this.mockDaprClient, 1, Duration.ofMinutes(1), System::nanoTime);
+    ActorId first = ActorId.createRandom();
+    ActorId second = ActorId.createRandom();
+
+    tracker.registerReminder(first, "reminder", periodicReminder()).block();
+    tracker.registerReminder(second, "reminder", periodicReminder()).block();
+    tracker.registerReminder(second, "reminder", periodicReminder()).block();
+    tracker.registerReminder(first, "reminder", periodicReminder()).block();
+
+    verify(this.mockDaprClient, times(2))
+        .registerReminder(eq(ACTOR_NAME), eq(first.toString()), eq("reminder"), any());
+    verify(this.mockDaprClient, times(1))
+        .registerReminder(eq(ACTOR_NAME), eq(second.toString()), eq("reminder"), any());
+  }
+
+  @Test
+  public void reminderRegisteredAgainAfterFailure() {
+    when(this.mockDaprClient.registerReminder(any(), any(), any(), any()))
+        .thenReturn(Mono.empty())
+        .thenReturn(Mono.error(new IllegalStateException("unavailable")))
+        .thenReturn(Mono.empty());
+    ActorRegistrationTracker tracker = new ActorRegistrationTracker(ACTOR_NAME, this.mockDaprClient);
+    ActorId actorId = ActorId.createRandom();
+
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+    Assertions.assertThrows(IllegalStateException.class, () -> tracker.registerReminder(
+        actorId, "reminder", new ActorReminderParams(null, Duration.ofSeconds(1), Duration.ofSeconds(5))).block());
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+
+    verify(this.mockDaprClient, times(3))
+        .registerReminder(eq(ACTOR_NAME), eq(actorId.toString()), eq("reminder"), any());
+  }
+
+  @Test
+  public void reminderForgottenWhenFiredAsOneShot() {
+    ActorRegistrationTracker tracker = new ActorRegistrationTracker(ACTOR_NAME, this.mockDaprClient);
+    ActorId actorId = ActorId.createRandom();
+
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+    tracker.onReminderFired(actorId, "reminder", periodicReminder());
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+    // Replaced outside of this host by a one-shot reminder, which Dapr removes once fired.
+    tracker.onReminderFired(actorId, "reminder", new ActorReminderParams(null, Duration.ofSeconds(1), Duration.ZERO));
+    tracker.registerReminder(actorId, "reminder", periodicReminder()).block();
+
+    verify(this.mockDaprClient, times(2))
+        .registerReminder(eq(ACTOR_NAME), eq(actorId.toString()), eq("reminder"), any());
+  }
+
+  @Test
+  public void failedCallDiscardsRegistrations() {
+    String actorId = UUID.randomUUID().toString();
+
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> this.runtime.invoke(ACTOR_NAME, actorId, "scheduleAndFail", null).block());
+
+    verify(this.mockDaprClient, never()).registerReminder(any(), any(), eq("failed"), any());
+  }
+
+  @Test
+  public void unregisterDropsPendingRegistration() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "scheduleAndCancel", null).block();
+
+    verify(this.mockDaprClient, never()).registerReminder(any(), any(), eq("cancelled"), any());
+    verify(this.mockDaprClient, times(1)).unregisterReminder(eq(ACTOR_NAME), eq(actorId), eq("cancelled"));
+  }
+
+  @Test
+  public void oneShotReminderAlwaysSent() {
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "scheduleOnce", null).block();
+    this.runtime.invoke(ACTOR_NAME, actorId, "scheduleOnce", null).block();
+
+    verify(this.mockDaprClient, times(2)).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("once"), any());
+  }
+
+  @Test
+  public void coalescingDisabledSendsImmediately() throws Exception {
+    this.runtime.getConfig().setRegistrationCoalescingEnabled(false);
+    String actorId = UUID.randomUUID().toString();
+
+    this.runtime.invoke(ACTOR_NAME, actorId, "scheduleOnce", null).block();
+    this.runtime.invoke(ACTOR_NAME, actorId, "scheduleOnce", null).block();
+
+    InOrder order = inOrder(this.mockDaprClient);
+    order.verify(this.mockDaprClient).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("activation"), any());
+    order.verify(this.mockDaprClient, times(2)).registerReminder(eq(ACTOR_NAME), eq(actorId), eq("once"), any());
+    Assertions.assertEquals(0, this.runtime.getRegistrationCounters(ACTOR_NAME).getSentReminderRegistrations());
+  }
+}
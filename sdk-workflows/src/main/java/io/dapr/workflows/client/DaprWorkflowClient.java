@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.workflows.client;
 
+import io.dapr.client.DaprChannelProvider;
 import io.dapr.config.Properties;
 import io.dapr.durabletask.DurableTaskClient;
 import io.dapr.durabletask.DurableTaskGrpcClientBuilder;
@@ -24,7 +25,9 @@ import io.dapr.workflows.Workflow;
 import io.dapr.workflows.internal.ApiTokenClientInterceptor;
 import io.dapr.workflows.runtime.DefaultWorkflowInstanceStatus;
 import io.dapr.workflows.runtime.DefaultWorkflowState;
+import io.grpc.Channel;
 import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
 import io.grpc.ManagedChannel;
 
 import javax.annotation.Nullable;
@@ -41,6 +44,7 @@ public class DaprWorkflowClient implements AutoCloseable {
   private ClientInterceptor workflowApiTokenInterceptor;
   private DurableTaskClient innerClient;
   private ManagedChannel grpcChannel;
+  private DaprChannelProvider channelProvider;
 
   /**
    * Public constructor for DaprWorkflowClient. This layer constructs the GRPC Channel.
@@ -58,6 +62,18 @@ public class DaprWorkflowClient implements AutoCloseable {
     this(NetworkUtils.buildGrpcManagedChannel(properties, new ApiTokenClientInterceptor(properties)));
   }
 
+  /**
+   * Public constructor for DaprWorkflowClient using a channel shared with other Dapr clients.
+   * The provider is retained by this client and released when it is closed.
+   *
+   * @param channelProvider Shared channel provider.
+   */
+  public DaprWorkflowClient(DaprChannelProvider channelProvider) {
+    this(createDurableTaskClient(ClientInterceptors.intercept(
+        channelProvider.getChannel(), new ApiTokenClientInterceptor(channelProvider.getProperties()))), null);
+    this.channelProvider = channelProvider.retain();
+  }
+
   /**
    * Private Constructor that passes a created DurableTaskClient and the new GRPC channel.
    *
@@ -411,16 +427,20 @@ public class DaprWorkflowClient implements AutoCloseable {
         this.grpcChannel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
         this.grpcChannel = null;
       }
+      if (this.channelProvider != null) {
+        this.channelProvider.close();
+        this.channelProvider = null;
+      }
     }
   }
 
   /**
    * Static method to create the DurableTaskClient.
    *
-   * @param grpcChannel ManagedChannel for GRPC.
+   * @param grpcChannel Channel for GRPC.
    * @return a new instance of a DurableTaskClient with a GRPC channel.
    */
-  private static DurableTaskClient createDurableTaskClient(ManagedChannel grpcChannel) {
+  private static DurableTaskClient createDurableTaskClient(Channel grpcChannel) {
     return new DurableTaskGrpcClientBuilder()
         .grpcChannel(grpcChannel)
         .build();
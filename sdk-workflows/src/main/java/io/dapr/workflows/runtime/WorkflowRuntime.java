@@ -13,11 +13,13 @@ limitations under the License.
 
 package io.dapr.workflows.runtime;
 
+import io.dapr.client.DaprChannelProvider;
 import io.dapr.durabletask.DurableTaskGrpcWorker;
 import io.grpc.ManagedChannel;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Contains methods to register workflows and activities.
@@ -26,7 +28,9 @@ public class WorkflowRuntime implements AutoCloseable {
 
   private final DurableTaskGrpcWorker worker;
   private final ManagedChannel managedChannel;
+  private final DaprChannelProvider channelProvider;
   private final ExecutorService executorService;
+  private final AtomicBoolean channelReleased = new AtomicBoolean();
 
   /**
    * Constructor.
@@ -40,6 +44,23 @@ public class WorkflowRuntime implements AutoCloseable {
                          ExecutorService executorService) {
     this.worker = worker;
     this.managedChannel = managedChannel;
+    this.channelProvider = null;
+    this.executorService = executorService;
+  }
+
+  /**
+   * Constructor for a runtime using a shared channel provider, which is released on close.
+   *
+   * @param worker grpcWorker processing activities.
+   * @param channelProvider retained provider of the grpc channel.
+   * @param executorService executor service responsible for running the threads.
+   */
+  WorkflowRuntime(DurableTaskGrpcWorker worker,
+                  DaprChannelProvider channelProvider,
+                  ExecutorService executorService) {
+    this.worker = worker;
+    this.managedChannel = null;
+    this.channelProvider = channelProvider;
     this.executorService = executorService;
   }
 
@@ -74,6 +95,14 @@ public class WorkflowRuntime implements AutoCloseable {
   }
 
   private void closeSideCarChannel() {
+    if (this.channelProvider != null) {
+      // The provider may still be used by other clients, it shuts down the channel with its last holder.
+      if (this.channelReleased.compareAndSet(false, true)) {
+        this.channelProvider.close();
+      }
+      return;
+    }
+
     this.managedChannel.shutdown();
 
     try {
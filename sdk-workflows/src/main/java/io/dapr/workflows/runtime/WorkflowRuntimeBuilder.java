@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.workflows.runtime;
 
+import io.dapr.client.DaprChannelProvider;
 import io.dapr.config.Properties;
 import io.dapr.durabletask.DurableTaskGrpcWorkerBuilder;
 import io.dapr.durabletask.TaskActivityFactory;
@@ -22,6 +23,7 @@ import io.dapr.workflows.Workflow;
 import io.dapr.workflows.WorkflowActivity;
 import io.dapr.workflows.internal.ApiTokenClientInterceptor;
 import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
 import io.grpc.ManagedChannel;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -43,6 +45,7 @@ public class WorkflowRuntimeBuilder {
   private final Set<String> workflowSet = Collections.synchronizedSet(new HashSet<>());
   private final DurableTaskGrpcWorkerBuilder builder;
   private final ManagedChannel managedChannel;
+  private final DaprChannelProvider channelProvider;
   private ExecutorService executorService;
 
   /**
@@ -65,9 +68,29 @@ public class WorkflowRuntimeBuilder {
     this(new Properties(), logger);
   }
 
+  /**
+   * Constructs the WorkflowRuntimeBuilder using a channel shared with other Dapr clients.
+   * The built runtime retains the provider and releases it when closed.
+   *
+   * @param channelProvider Shared channel provider.
+   */
+  public WorkflowRuntimeBuilder(DaprChannelProvider channelProvider) {
+    if (channelProvider == null) {
+      throw new IllegalArgumentException("Channel provider is required.");
+    }
+
+    this.workflowApiTokenInterceptor = new ApiTokenClientInterceptor(channelProvider.getProperties());
+    this.managedChannel = null;
+    this.channelProvider = channelProvider;
+    this.builder = new DurableTaskGrpcWorkerBuilder()
+        .grpcChannel(ClientInterceptors.intercept(channelProvider.getChannel(), workflowApiTokenInterceptor));
+    this.logger = LoggerFactory.getLogger(WorkflowRuntimeBuilder.class);
+  }
+
   private WorkflowRuntimeBuilder(Properties properties, Logger logger) {
     this.workflowApiTokenInterceptor = new ApiTokenClientInterceptor(properties);
     this.managedChannel = NetworkUtils.buildGrpcManagedChannel(properties, workflowApiTokenInterceptor);
+    this.channelProvider = null;
     this.builder = new DurableTaskGrpcWorkerBuilder().grpcChannel(this.managedChannel);
     this.logger = logger;
   }
@@ -81,7 +104,11 @@ public class WorkflowRuntimeBuilder {
     if (instance == null) {
       synchronized (WorkflowRuntime.class) {
         this.executorService = this.executorService == null ? Executors.newCachedThreadPool() : this.executorService;
-        if (instance == null) {
+        if (instance == null && this.channelProvider != null) {
+          instance = new WorkflowRuntime(
+              this.builder.withExecutorService(this.executorService).build(),
+              this.channelProvider.retain(), this.executorService);
+        } else if (instance == null) {
           instance = new WorkflowRuntime(
               this.builder.withExecutorService(this.executorService).build(),
               this.managedChannel, this.executorService);
@@ -14,11 +14,19 @@ limitations under the License.
 package io.dapr.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.domain.BulkJobOptions;
+import io.dapr.client.domain.BulkJobResult;
 import io.dapr.client.domain.BulkPublishEntry;
 import io.dapr.client.domain.BulkPublishRequest;
 import io.dapr.client.domain.BulkPublishResponse;
+import io.dapr.client.domain.BulkStateChunkOptions;
 import io.dapr.client.domain.ConfigurationItem;
+import io.dapr.client.domain.ConversationRequestAlpha2;
+import io.dapr.client.domain.ConversationResponseAlpha2;
+import io.dapr.client.domain.DecryptRequestAlpha1;
+import io.dapr.client.domain.DeleteJobRequest;
 import io.dapr.client.domain.DeleteStateRequest;
+import io.dapr.client.domain.EncryptRequestAlpha1;
 import io.dapr.client.domain.ExecuteStateTransactionRequest;
 import io.dapr.client.domain.GetBulkSecretRequest;
 import io.dapr.client.domain.GetBulkStateRequest;
@@ -30,9 +38,11 @@ import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.InvokeMethodRequest;
 import io.dapr.client.domain.LockRequest;
 import io.dapr.client.domain.PublishEventRequest;
+import io.dapr.client.domain.QueryStateItem;
 import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
 import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.ScheduleJobRequest;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.SubscribeConfigurationRequest;
@@ -43,17 +53,30 @@ import io.dapr.client.domain.UnlockResponseStatus;
 import io.dapr.client.domain.UnsubscribeConfigurationRequest;
 import io.dapr.client.domain.UnsubscribeConfigurationResponse;
 import io.dapr.client.domain.query.Query;
+import io.dapr.exceptions.DaprException;
+import io.dapr.internal.health.SidecarDownException;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.utils.TypeRef;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -408,6 +431,35 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.queryState(request, TypeRef.get(clazz));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, Class<T> clazz) {
+    return this.queryStateAll(request, TypeRef.get(clazz));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<ConversationResponseAlpha2> converseAlpha2(
+      Iterable<ConversationRequestAlpha2> conversationRequests,
+      int maxConcurrency) {
+    try {
+      if (conversationRequests == null) {
+        throw new IllegalArgumentException("Conversation requests cannot be null.");
+      }
+      if (maxConcurrency <= 0) {
+        throw new IllegalArgumentException("Max concurrency must be positive.");
+      }
+    } catch (Exception ex) {
+      return DaprException.wrapFlux(ex);
+    }
+
+    return Flux.fromIterable(conversationRequests).flatMapSequential(this::converseAlpha2, maxConcurrency);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -468,6 +520,15 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.getBulkState(storeName, keys, TypeRef.get(clazz));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getBulkStateChunked(GetBulkStateRequest request, Class<T> clazz,
+      BulkStateChunkOptions options) {
+    return this.getBulkStateChunked(request, TypeRef.get(clazz), options);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -586,6 +647,14 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.getBulkSecret(request).defaultIfEmpty(Collections.emptyMap());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invalidateSecretCache(String storeName) {
+    this.invalidateSecretCache(storeName, null);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -659,6 +728,71 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.unsubscribeConfiguration(request);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<ConfigurationSnapshot> getConfigurationSnapshot(String storeName, String... keys) {
+    SubscribeConfigurationRequest request = new SubscribeConfigurationRequest(storeName, filterEmptyKeys(keys));
+    return this.getConfigurationSnapshot(request);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<ConfigurationSnapshot> getConfigurationSnapshot(SubscribeConfigurationRequest request) {
+    return ConfigurationSnapshot.start(this, request);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<BulkJobResult> scheduleJobs(Flux<ScheduleJobRequest> requests) {
+    return this.scheduleJobs(requests, new BulkJobOptions());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<BulkJobResult> scheduleJobs(Flux<ScheduleJobRequest> requests, BulkJobOptions options) {
+    return runJobs(requests, ScheduleJobRequest::getName, this::scheduleJob, options);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<BulkJobResult> deleteJobs(Flux<DeleteJobRequest> requests) {
+    return this.deleteJobs(requests, new BulkJobOptions());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<BulkJobResult> deleteJobs(Flux<DeleteJobRequest> requests, BulkJobOptions options) {
+    return runJobs(requests, DeleteJobRequest::getName, this::deleteJob, options);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Long> encrypt(EncryptRequestAlpha1 request, Path target) {
+    return writeFile(target, channel -> this.encrypt(request, channel));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Long> decrypt(DecryptRequestAlpha1 request, Path target) {
+    return writeFile(target, channel -> this.decrypt(request, channel));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -682,4 +816,119 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
         .filter(key -> !key.trim().isEmpty())
         .collect(Collectors.toList());
   }
+
+  /**
+   * Runs a call per job, with a bounded number in flight, retrying the ones failing with a transient error while
+   * the retry budget of the client allows it.
+   *
+   * @param requests Requests of the jobs.
+   * @param name     Gets the name of the job of a request.
+   * @param call     Makes the call for a request.
+   * @param options  Number of calls in flight and retries.
+   * @param <T>      Type of the requests.
+   * @return Outcome of every job, in the order of the requests.
+   */
+  private <T> Flux<BulkJobResult> runJobs(
+      Flux<T> requests, Function<T, String> name, Function<T, Mono<Void>> call, BulkJobOptions options) {
+    try {
+      if (requests == null) {
+        throw new IllegalArgumentException("Job requests cannot be null.");
+      }
+      if (options == null) {
+        throw new IllegalArgumentException("Bulk job options cannot be null.");
+      }
+      if (options.getConcurrency() <= 0) {
+        throw new IllegalArgumentException("Concurrency must be positive.");
+      }
+      if (options.getMaxRetries() < 0) {
+        throw new IllegalArgumentException("Max retries cannot be negative.");
+      }
+      if ((options.getMinBackoff() == null) || options.getMinBackoff().isNegative()
+          || (options.getMaxBackoff() == null) || (options.getMaxBackoff().compareTo(options.getMinBackoff()) < 0)) {
+        throw new IllegalArgumentException("Backoff must be non-negative, with a max backoff of at least the min.");
+      }
+    } catch (Exception ex) {
+      return DaprException.wrapFlux(ex);
+    }
+
+    int maxRetries = options.getMaxRetries();
+    Retry retry = Retry.from(signals -> {
+      // The failure exhausting the retries is not retried, so it must not take from the budget.
+      boolean[] exhausted = new boolean[1];
+      Retry backoff = Retry.backoff(maxRetries, options.getMinBackoff())
+          .maxBackoff(options.getMaxBackoff())
+          .filter(e -> isTransientJobFailure(e) && (exhausted[0] || this.tryRetryJob()))
+          .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+      return backoff.generateCompanion(
+          signals.doOnNext(signal -> exhausted[0] = signal.totalRetries() >= maxRetries));
+    });
+    return requests.index().flatMapSequential(indexed -> {
+      T request = indexed.getT2();
+      AtomicInteger attempts = new AtomicInteger();
+      return Mono.defer(() -> {
+        attempts.incrementAndGet();
+        return call.apply(request);
+      })
+          .retryWhen(retry)
+          .then(Mono.fromCallable(() -> new BulkJobResult(
+              indexed.getT1().intValue(), name.apply(request), attempts.get(), null)))
+          .onErrorResume(e -> Mono.just(new BulkJobResult(
+              indexed.getT1().intValue(), name.apply(request), attempts.get(), e)));
+    }, options.getConcurrency());
+  }
+
+  /**
+   * Takes the retry of a job call from the retry budget of the client, if any.
+   *
+   * @return Whether the call can be retried.
+   */
+  boolean tryRetryJob() {
+    return true;
+  }
+
+  private static boolean isTransientJobFailure(Throwable throwable) {
+    for (Throwable e = throwable; e != null; e = e.getCause()) {
+      if (e instanceof StatusRuntimeException) {
+        Status status = ((StatusRuntimeException) e).getStatus();
+        if (SidecarDownException.isCauseOf(status)) {
+          return false;
+        }
+        switch (status.getCode()) {
+          case UNAVAILABLE:
+          case DEADLINE_EXCEEDED:
+          case ABORTED:
+            return true;
+          default:
+            return false;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Writes a file, created or truncated, through a channel closed once the write completes.
+   *
+   * @param target File to write.
+   * @param write  Writes to the channel of the file.
+   * @param <T>    Type of the result.
+   * @return Result of the write.
+   */
+  private static <T> Mono<T> writeFile(Path target, Function<WritableByteChannel, Mono<T>> write) {
+    if (target == null) {
+      return DaprException.wrapMono(new IllegalArgumentException("Target file cannot be null."));
+    }
+    return Mono.using(
+        () -> FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE),
+        write::apply,
+        channel -> {
+          try {
+            channel.close();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        })
+        .onErrorMap(IOException.class, DaprException::propagate);
+  }
 }
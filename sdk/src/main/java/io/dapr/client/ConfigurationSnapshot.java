@@ -0,0 +1,312 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.ConfigurationItem;
+import io.dapr.client.domain.GetConfigurationRequest;
+import io.dapr.client.domain.SubscribeConfigurationRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Local, always up to date view of configuration items, maintained from a configuration subscription.
+ * <p>
+ * Reads are served from an immutable map replaced on every change, so they never call the sidecar. Each time
+ * the subscription is (re)established, the items are read again with getConfiguration so changes missed while
+ * disconnected are applied; a subscription that fails or ends is renewed with backoff until the snapshot is
+ * closed.
+ * </p>
+ */
+public final class ConfigurationSnapshot implements AutoCloseable {
+
+  /**
+   * Notified of the items changed in the snapshot.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called after items changed, from the thread receiving the update.
+     *
+     * @param changed Items added or updated, by key.
+     * @param version Version of the snapshot including the change.
+     */
+    void onChange(Map<String, ConfigurationItem> changed, long version);
+  }
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationSnapshot.class);
+
+  private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+
+  private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+  private final DaprClient client;
+
+  private final SubscribeConfigurationRequest request;
+
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+  private final Sinks.One<ConfigurationSnapshot> ready = Sinks.one();
+
+  private volatile Items items = new Items(Collections.emptyMap(), Collections.emptyMap(), 0);
+
+  private volatile String subscriptionId;
+
+  private volatile Disposable subscription;
+
+  /**
+   * Whether the items were read once: until then, a failure fails the snapshot instead of resubscribing.
+   */
+  private volatile boolean loaded;
+
+  private volatile boolean closed;
+
+  /**
+   * Resubscriptions after the subscription ended since it was last confirmed, updated by one subscription at
+   * a time.
+   */
+  private int resubscriptions;
+
+  private ConfigurationSnapshot(DaprClient client, SubscribeConfigurationRequest request) {
+    this.client = client;
+    this.request = request;
+  }
+
+  /**
+   * Subscribes to configuration items and reads their current values.
+   *
+   * @param client  Client calling the sidecar.
+   * @param request Store, keys and metadata of the subscription.
+   * @return Snapshot, emitted once the current values are read.
+   */
+  static Mono<ConfigurationSnapshot> start(DaprClient client, SubscribeConfigurationRequest request) {
+    if (request == null) {
+      throw new IllegalArgumentException("Subscribe configuration request cannot be null.");
+    }
+
+    return Mono.defer(() -> {
+      ConfigurationSnapshot snapshot = new ConfigurationSnapshot(client, request);
+      snapshot.subscription = snapshot.subscribe();
+      return snapshot.ready.asMono().doOnCancel(snapshot::close);
+    });
+  }
+
+  /**
+   * Gets an item.
+   *
+   * @param key Key of the item.
+   * @return Item, or null if not set.
+   */
+  public ConfigurationItem get(String key) {
+    return this.items.items.get(key);
+  }
+
+  /**
+   * Gets all the items.
+   *
+   * @return Immutable map of the items by key.
+   */
+  public Map<String, ConfigurationItem> getItems() {
+    return this.items.items;
+  }
+
+  /**
+   * Gets the version of the snapshot, incremented by every change.
+   *
+   * @return Version.
+   */
+  public long getVersion() {
+    return this.items.version;
+  }
+
+  /**
+   * Registers a listener of the changes.
+   *
+   * @param listener Listener.
+   */
+  public void addListener(Listener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener is required");
+    }
+
+    this.listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener of the changes.
+   *
+   * @param listener Listener.
+   */
+  public void removeListener(Listener listener) {
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * Stops following the changes; the last items stay readable.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    Disposable subscription = this.subscription;
+    if (subscription != null) {
+      subscription.dispose();
+    }
+
+    String id = this.subscriptionId;
+    if (id != null) {
+      this.client.unsubscribeConfiguration(id, this.request.getStoreName())
+          .onErrorResume(e -> Mono.empty())
+          .subscribe();
+    }
+  }
+
+  private Disposable subscribe() {
+    return Flux.defer(() -> {
+      boolean[] acknowledged = new boolean[1];
+      return this.client.subscribeConfiguration(this.request)
+          .concatMap(response -> {
+            this.subscriptionId = response.getSubscriptionId();
+            this.apply(response.getItems(), -1);
+            if (acknowledged[0]) {
+              return Mono.empty();
+            }
+
+            // The first response confirms the subscription: read the items changed before it took effect.
+            acknowledged[0] = true;
+            this.resubscriptions = 0;
+            return this.refresh();
+          });
+    })
+        // The sidecar may also end the subscription without an error, such as when it restarts gracefully.
+        .repeatWhen(completions -> completions
+            .takeWhile(completed -> this.loaded && !this.closed)
+            .concatMap(completed -> {
+              LOGGER.warn("Configuration subscription to {} ended, resubscribing", this.request.getStoreName());
+              return Mono.delay(backoff(this.resubscriptions++));
+            }))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+            .maxBackoff(MAX_BACKOFF)
+            .filter(e -> this.loaded && !this.closed)
+            .doBeforeRetry(signal -> LOGGER.warn("Configuration subscription to {} failed, resubscribing",
+                this.request.getStoreName(), signal.failure())))
+        .subscribe(
+            it -> {
+            },
+            e -> this.ready.tryEmitError(e),
+            () -> this.ready.tryEmitError(new IllegalStateException(
+                "Configuration subscription to " + this.request.getStoreName() + " ended before the items were read")));
+  }
+
+  /**
+   * Gets the delay before resubscribing, doubling from the minimum to the maximum backoff.
+   *
+   * @param attempt Number of resubscriptions since the last confirmed subscription.
+   * @return Delay before resubscribing.
+   */
+  private static Duration backoff(int attempt) {
+    Duration delay = MIN_BACKOFF.multipliedBy(1L << Math.min(attempt, 30));
+    return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+  }
+
+  private Mono<Void> refresh() {
+    long startVersion = this.getVersion();
+    GetConfigurationRequest get = new GetConfigurationRequest(this.request.getStoreName(), this.request.getKeys())
+        .setMetadata(this.request.getMetadata());
+    return this.client.getConfiguration(get)
+        .doOnNext(current -> {
+          this.apply(current, startVersion);
+          this.loaded = true;
+          this.ready.tryEmitValue(this);
+        })
+        .then();
+  }
+
+  /**
+   * Applies items to the snapshot.
+   *
+   * @param changes      Items to apply.
+   * @param startVersion For items read with getConfiguration, the version when the read started: items changed
+   *                     by the subscription since then are kept. -1 for items from the subscription.
+   */
+  private synchronized void apply(Map<String, ConfigurationItem> changes, long startVersion) {
+    Items current = this.items;
+    long version = current.version + 1;
+    Map<String, ConfigurationItem> items = new HashMap<>(current.items);
+    Map<String, Long> updatedAt = new HashMap<>(current.updatedAt);
+    Map<String, ConfigurationItem> changed = new HashMap<>();
+    for (Map.Entry<String, ConfigurationItem> change : changes.entrySet()) {
+      String key = change.getKey();
+      if ((startVersion >= 0) && (updatedAt.getOrDefault(key, 0L) > startVersion)) {
+        continue;
+      }
+      if (isSame(change.getValue(), items.get(key))) {
+        continue;
+      }
+
+      items.put(key, change.getValue());
+      updatedAt.put(key, version);
+      changed.put(key, change.getValue());
+    }
+    if (changed.isEmpty()) {
+      return;
+    }
+
+    this.items = new Items(Collections.unmodifiableMap(items), updatedAt, version);
+    Map<String, ConfigurationItem> unmodifiableChanged = Collections.unmodifiableMap(changed);
+    for (Listener listener : this.listeners) {
+      try {
+        listener.onChange(unmodifiableChanged, version);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Configuration listener failed", e);
+      }
+    }
+  }
+
+  private static boolean isSame(ConfigurationItem item, ConfigurationItem other) {
+    return (other != null) && Objects.equals(item.getValue(), other.getValue())
+        && Objects.equals(item.getVersion(), other.getVersion())
+        && Objects.equals(item.getMetadata(), other.getMetadata());
+  }
+
+  private static final class Items {
+
+    private final Map<String, ConfigurationItem> items;
+
+    /**
+     * Version of the last change of each item.
+     */
+    private final Map<String, Long> updatedAt;
+
+    private final long version;
+
+    private Items(Map<String, ConfigurationItem> items, Map<String, Long> updatedAt, long version) {
+      this.items = items;
+      this.updatedAt = updatedAt;
+      this.version = version;
+    }
+  }
+}
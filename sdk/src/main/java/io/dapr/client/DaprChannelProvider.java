@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.config.Properties;
+import io.dapr.utils.NetworkUtils;
+import io.grpc.Channel;
+import io.grpc.ManagedChannel;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns the gRPC connections to the Dapr sidecar so they can be shared by every client and runtime in
+ * the process ({@link DaprClientBuilder}, the Actor runtime and client, the Workflow runtime and client).
+ * <p>
+ * The provider is reference-counted: each component that accepts it calls {@link #retain()} and releases
+ * it with {@link #close()} when it is closed itself. The connections are shut down once the creator and
+ * every component have released it.
+ * </p>
+ */
+public class DaprChannelProvider implements Closeable {
+
+  /**
+   * Properties used to build the channels.
+   */
+  private final Properties properties;
+
+  /**
+   * Connections to the sidecar.
+   */
+  private final ManagedChannel[] channels;
+
+  /**
+   * Channel handed to the components, spreading calls over all connections.
+   *
+   * @see GrpcChannelPool
+   */
+  private final Channel channel;
+
+  /**
+   * Number of holders, starting with the creator of this provider.
+   */
+  private final AtomicInteger references = new AtomicInteger(1);
+
+  /**
+   * Instantiates a new provider with a single connection, configured from the default properties.
+   */
+  public DaprChannelProvider() {
+    this(new Properties());
+  }
+
+  /**
+   * Instantiates a new provider with a single connection.
+   *
+   * @param properties Properties used to build the channel.
+   */
+  public DaprChannelProvider(Properties properties) {
+    this(properties, 1);
+  }
+
+  /**
+   * Instantiates a new provider.
+   *
+   * @param properties  Properties used to build the channels.
+   * @param connections Number of connections to open to the sidecar.
+   */
+  public DaprChannelProvider(Properties properties, int connections) {
+    this(properties, buildChannels(properties, connections));
+  }
+
+  /**
+   * Instantiates a new provider over existing channels, useful for testing.
+   *
+   * @param properties Properties the channels were built with.
+   * @param channels   Connections to the sidecar.
+   */
+  DaprChannelProvider(Properties properties, ManagedChannel... channels) {
+    if (properties == null) {
+      throw new IllegalArgumentException("Properties are required.");
+    }
+    if ((channels == null) || (channels.length == 0)) {
+      throw new IllegalArgumentException("At least one channel is required.");
+    }
+
+    this.properties = properties;
+    this.channels = channels.clone();
+    this.channel = channels.length == 1 ? channels[0] : new GrpcChannelPool(this.channels);
+  }
+
+  /**
+   * Gets the channel to the sidecar. It must not be shut down by the caller.
+   *
+   * @return Channel to the sidecar.
+   */
+  public Channel getChannel() {
+    return this.channel;
+  }
+
+  /**
+   * Gets the properties the channels were built with.
+   *
+   * @return Properties.
+   */
+  public Properties getProperties() {
+    return this.properties;
+  }
+
+  /**
+   * Gets the number of connections to the sidecar.
+   *
+   * @return Number of connections.
+   */
+  public int getConnections() {
+    return this.channels.length;
+  }
+
+  /**
+   * Registers a new holder of this provider, which must later call {@link #close()}.
+   *
+   * @return This instance.
+   * @throws IllegalStateException If the provider is already shut down.
+   */
+  public DaprChannelProvider retain() {
+    int current;
+    do {
+      current = this.references.get();
+      if (current <= 0) {
+        throw new IllegalStateException("Channel provider is already shut down.");
+      }
+    } while (!this.references.compareAndSet(current, current + 1));
+
+    return this;
+  }
+
+  /**
+   * Releases one holder of this provider, shutting down the connections once the last one is released.
+   */
+  @Override
+  public void close() {
+    int current;
+    do {
+      current = this.references.get();
+      if (current <= 0) {
+        return;
+      }
+    } while (!this.references.compareAndSet(current, current - 1));
+
+    if (current == 1) {
+      for (ManagedChannel managedChannel : this.channels) {
+        if (!managedChannel.isShutdown()) {
+          managedChannel.shutdown();
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks whether the connections are shut down.
+   *
+   * @return True if every holder released this provider.
+   */
+  public boolean isShutdown() {
+    return this.references.get() <= 0;
+  }
+
+  /**
+   * Builds the connections to the sidecar.
+   *
+   * @param properties  Properties used to build the channels.
+   * @param connections Number of connections.
+   * @return Connections to the sidecar.
+   */
+  private static ManagedChannel[] buildChannels(Properties properties, int connections) {
+    if (connections <= 0) {
+      throw new IllegalArgumentException("Connections must be greater than zero.");
+    }
+
+    ManagedChannel[] channels = new ManagedChannel[connections];
+    for (int i = 0; i < connections; i++) {
+      channels[i] = NetworkUtils.buildGrpcManagedChannel(properties);
+    }
+    return channels;
+  }
+}
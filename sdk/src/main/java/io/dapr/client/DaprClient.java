@@ -13,10 +13,13 @@ limitations under the License.
 
 package io.dapr.client;
 
+import io.dapr.client.domain.BulkJobOptions;
+import io.dapr.client.domain.BulkJobResult;
 import io.dapr.client.domain.BulkPublishEntry;
 import io.dapr.client.domain.BulkPublishRequest;
 import io.dapr.client.domain.BulkPublishResponse;
 import io.dapr.client.domain.BulkPublishResponseFailedEntry;
+import io.dapr.client.domain.BulkStateChunkOptions;
 import io.dapr.client.domain.ConfigurationItem;
 import io.dapr.client.domain.DaprMetadata;
 import io.dapr.client.domain.DeleteJobRequest;
@@ -61,11 +64,28 @@ public interface DaprClient extends AutoCloseable {
 
   /**
    * Waits for the sidecar, giving up after timeout.
+   * Completes right away if the sidecar monitor last found the sidecar ready.
    * @param timeoutInMilliseconds Timeout in milliseconds to wait for sidecar.
    * @return a Mono plan of type Void.
    */
   Mono<Void> waitForSidecar(int timeoutInMilliseconds);
 
+  /**
+   * Tells whether the sidecar was ready at the last probe of the sidecar monitor, without calling it.
+   *
+   * @return True if the sidecar is ready, false if it is down or not probed yet.
+   * @throws IllegalStateException If the client was built without {@link DaprClientBuilder#withSidecarMonitor}.
+   */
+  boolean isSidecarReady();
+
+  /**
+   * Gets the readiness of the sidecar as found by the sidecar monitor: the current one once the sidecar was
+   * probed, then every change. It completes when the client is closed.
+   *
+   * @return Flux of whether the sidecar is ready, failing if the client was built without a sidecar monitor.
+   */
+  Flux<Boolean> getSidecarReadiness();
+
   /**
    * Publish an event.
    *
@@ -521,6 +541,32 @@ public interface DaprClient extends AutoCloseable {
    */
   <T> Mono<List<State<T>>> getBulkState(GetBulkStateRequest request, TypeRef<T> type);
 
+  /**
+   * Retrieve bulk States in chunks of keys sent concurrently, emitting the States of each chunk as it arrives.
+   * Use it for key sets too large for a single request or response.
+   *
+   * @param request The request to get state.
+   * @param clazz   The type of State needed as return.
+   * @param options Chunk size and concurrency.
+   * @param <T>     The Type of the return.
+   * @return A Flux of the requested States, not in the order of the keys.
+   */
+  <T> Flux<State<T>> getBulkStateChunked(GetBulkStateRequest request, Class<T> clazz,
+      BulkStateChunkOptions options);
+
+  /**
+   * Retrieve bulk States in chunks of keys sent concurrently, emitting the States of each chunk as it arrives.
+   * Use it for key sets too large for a single request or response.
+   *
+   * @param request The request to get state.
+   * @param type    The Type of State needed as return.
+   * @param options Chunk size and concurrency.
+   * @param <T>     The Type of the return.
+   * @return A Flux of the requested States, not in the order of the keys.
+   */
+  <T> Flux<State<T>> getBulkStateChunked(GetBulkStateRequest request, TypeRef<T> type,
+      BulkStateChunkOptions options);
+
   /** Execute a transaction.
    *
    * @param storeName        The name of the state store.
@@ -555,6 +601,16 @@ public interface DaprClient extends AutoCloseable {
    */
   Mono<Void> saveBulkState(SaveStateRequest request);
 
+  /**
+   * Save/Update a list of states in chunks sent concurrently, serializing the states as chunks are sent.
+   * The first failed chunk, once its retries are exhausted, fails the call; other chunks may have been saved.
+   *
+   * @param request Request to save states.
+   * @param options Chunk size and concurrency.
+   * @return a Mono plan of type Void.
+   */
+  Mono<Void> saveBulkStateChunked(SaveStateRequest request, BulkStateChunkOptions options);
+
   /**
    * Save/Update a state.
    *
@@ -672,6 +728,31 @@ public interface DaprClient extends AutoCloseable {
    */
   Mono<Map<String, Map<String, String>>> getBulkSecret(GetBulkSecretRequest request);
 
+  /**
+   * Loads all the secrets of a store into the client-side secret cache, such as at startup.
+   * Completes without calling the sidecar if the cache is disabled.
+   *
+   * @param request Request to fetch the secrets, whose metadata must match the one of the later reads.
+   * @return Empty Mono, completed once the secrets are cached.
+   * @see DaprClientBuilder#withSecretCache(io.dapr.client.domain.SecretCacheOptions)
+   */
+  Mono<Void> warmUpSecretCache(GetBulkSecretRequest request);
+
+  /**
+   * Drops all the secrets of a store from the client-side secret cache, such as after rotating them.
+   *
+   * @param storeName Name of secret store.
+   */
+  void invalidateSecretCache(String storeName);
+
+  /**
+   * Drops a secret from the client-side secret cache, such as after rotating it.
+   *
+   * @param storeName Name of secret store.
+   * @param key       Secret key.
+   */
+  void invalidateSecretCache(String storeName, String key);
+
   /**
    * Retrieve a configuration based on a provided key.
    *
@@ -765,6 +846,24 @@ public interface DaprClient extends AutoCloseable {
    */
   Mono<UnsubscribeConfigurationResponse> unsubscribeConfiguration(UnsubscribeConfigurationRequest request);
 
+  /**
+   * Keeps a local snapshot of configuration items, updated from a subscription to their changes.
+   *
+   * @param storeName Name of the configuration store
+   * @param keys      keys of the configurations to follow
+   * @return Mono of the {@link ConfigurationSnapshot}, emitted once the current items are read.
+   */
+  Mono<ConfigurationSnapshot> getConfigurationSnapshot(String storeName, String... keys);
+
+  /**
+   * Keeps a local snapshot of configuration items, updated from a subscription to their changes.
+   * The subscription is re-established with backoff if it fails, until the snapshot is closed.
+   *
+   * @param request request for subscribing to the changes of the given keys
+   * @return Mono of the {@link ConfigurationSnapshot}, emitted once the current items are read.
+   */
+  Mono<ConfigurationSnapshot> getConfigurationSnapshot(SubscribeConfigurationRequest request);
+
   /**
    * Returns a newly created gRPC stub with proper interceptors and channel for gRPC proxy invocation.
    * @param appId appId to be included in all gRPC calls for service invocation.
@@ -776,11 +875,18 @@ public interface DaprClient extends AutoCloseable {
 
   /**
    * Fetches Dapr Metadata from the metadata endpoint.
+   * With a sidecar monitor, the metadata is cached for its refresh interval.
    *
    * @return DaprMetadata containing Dapr Metadata from the metadata endpoint.
    */
   Mono<DaprMetadata> getMetadata();
 
+  /**
+   * Clears the metadata cached by the sidecar monitor, so the next call to {@link #getMetadata()} reads it from
+   * the sidecar. Does nothing without a sidecar monitor.
+   */
+  void invalidateMetadataCache();
+
   /**
    * Schedules a job using the provided job request details.
    *
@@ -813,6 +919,46 @@ public interface DaprClient extends AutoCloseable {
    */
   public Mono<Void> deleteJob(DeleteJobRequest deleteJobRequest);
 
+  /**
+   * Schedules many jobs, with a bounded number of calls in flight, as per the default {@link BulkJobOptions}.
+   *
+   * @param requests The requests of the jobs to schedule.
+   * @return A {@link Flux} of the outcome of every job, in the order of the requests.
+   */
+  Flux<BulkJobResult> scheduleJobs(Flux<ScheduleJobRequest> requests);
+
+  /**
+   * Schedules many jobs, with a bounded number of calls in flight.
+   * A failing job is reported in its result, and retried first if its failure is transient: the other jobs are
+   * still scheduled.
+   *
+   * @param requests The requests of the jobs to schedule.
+   * @param options  Number of calls in flight and retries of the failing jobs.
+   * @return A {@link Flux} of the outcome of every job, in the order of the requests.
+   * @throws IllegalArgumentException If the options are invalid.
+   */
+  Flux<BulkJobResult> scheduleJobs(Flux<ScheduleJobRequest> requests, BulkJobOptions options);
+
+  /**
+   * Deletes many jobs, with a bounded number of calls in flight, as per the default {@link BulkJobOptions}.
+   *
+   * @param requests The requests of the jobs to delete.
+   * @return A {@link Flux} of the outcome of every job, in the order of the requests.
+   */
+  Flux<BulkJobResult> deleteJobs(Flux<DeleteJobRequest> requests);
+
+  /**
+   * Deletes many jobs, with a bounded number of calls in flight.
+   * A failing job is reported in its result, and retried first if its failure is transient: the other jobs are
+   * still deleted.
+   *
+   * @param requests The requests of the jobs to delete.
+   * @param options  Number of calls in flight and retries of the failing jobs.
+   * @return A {@link Flux} of the outcome of every job, in the order of the requests.
+   * @throws IllegalArgumentException If the options are invalid.
+   */
+  Flux<BulkJobResult> deleteJobs(Flux<DeleteJobRequest> requests, BulkJobOptions options);
+
   /**
    * Gracefully shutdown the dapr runtime.
    *
@@ -13,17 +13,28 @@ limitations under the License.
 
 package io.dapr.client;
 
+import io.dapr.client.domain.ConversationCacheOptions;
+import io.dapr.client.domain.InvokeMethodRequest;
+import io.dapr.client.domain.InvokeMethodTransport;
+import io.dapr.client.domain.SecretCacheOptions;
+import io.dapr.client.domain.SidecarMonitorOptions;
+import io.dapr.client.domain.StateCacheOptions;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.dapr.config.Property;
+import io.dapr.internal.conversation.ConversationCache;
+import io.dapr.internal.health.SidecarMonitor;
+import io.dapr.internal.resiliency.ResiliencyListener;
+import io.dapr.internal.secret.SecretCache;
+import io.dapr.internal.state.StateCache;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.utils.NetworkUtils;
 import io.dapr.v1.DaprGrpc;
-import io.grpc.ManagedChannel;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * A builder for the DaprClient,
@@ -53,6 +64,46 @@ public class DaprClientBuilder {
    */
   private ResiliencyOptions resiliencyOptions;
 
+  /**
+   * Shared provider of the gRPC channel, or null to open a dedicated one.
+   */
+  private DaprChannelProvider channelProvider;
+
+  /**
+   * Number of gRPC connections opened to the sidecar when no channel provider is set.
+   */
+  private int grpcConnections = 1;
+
+  /**
+   * Default protocol to the sidecar for service invocation.
+   */
+  private InvokeMethodTransport invokeMethodTransport = InvokeMethodTransport.HTTP;
+
+  /**
+   * OpenTelemetry instrumentation of the gRPC calls, disabled when null.
+   */
+  private DaprClientTelemetry telemetry;
+
+  /**
+   * Options of the client-side state cache, null if disabled.
+   */
+  private StateCacheOptions stateCacheOptions;
+
+  /**
+   * Options of the client-side secret cache, null if disabled.
+   */
+  private SecretCacheOptions secretCacheOptions;
+
+  /**
+   * Options of the client-side conversation response cache, null if disabled.
+   */
+  private ConversationCacheOptions conversationCacheOptions;
+
+  /**
+   * Options of the sidecar monitor, null if disabled.
+   */
+  private SidecarMonitorOptions sidecarMonitorOptions;
+
   /**
    * Creates a constructor for DaprClient.
    *
@@ -112,6 +163,152 @@ public class DaprClientBuilder {
     return this;
   }
 
+  /**
+   * Sets a provider of the gRPC channel shared with other Dapr clients and runtimes in the process.
+   * Each client built retains the provider and releases it when closed.
+   *
+   * @param channelProvider Shared channel provider.
+   * @return This instance.
+   */
+  public DaprClientBuilder withChannelProvider(DaprChannelProvider channelProvider) {
+    if (channelProvider == null) {
+      throw new IllegalArgumentException("Channel provider is required");
+    }
+
+    this.channelProvider = channelProvider;
+    return this;
+  }
+
+  /**
+   * Sets the default protocol used to reach the sidecar for service invocation. Requests can override it
+   * with {@link InvokeMethodRequest#setTransport(InvokeMethodTransport)}.
+   *
+   * @param invokeMethodTransport Protocol to the sidecar, defaults to HTTP.
+   * @return This instance.
+   */
+  public DaprClientBuilder withInvokeMethodTransport(InvokeMethodTransport invokeMethodTransport) {
+    if (invokeMethodTransport == null) {
+      throw new IllegalArgumentException("Invoke method transport is required");
+    }
+
+    this.invokeMethodTransport = invokeMethodTransport;
+    return this;
+  }
+
+  /**
+   * Records an OpenTelemetry client span and the duration of every gRPC call to the sidecar.
+   * Instrumentation is disabled by default and requires the OpenTelemetry API on the classpath.
+   *
+   * @param telemetry Instrumentation, such as {@link DaprClientTelemetry#global()}.
+   * @return This instance.
+   */
+  public DaprClientBuilder withTelemetry(DaprClientTelemetry telemetry) {
+    if (telemetry == null) {
+      throw new IllegalArgumentException("Telemetry is required");
+    }
+
+    this.telemetry = telemetry;
+    return this;
+  }
+
+  /**
+   * Caches the states read with getState in the client, serving repeated reads of the same keys without calling
+   * the sidecar until their time to live elapses. The cache is disabled by default.
+   *
+   * @param options Cache options.
+   * @return This instance.
+   */
+  public DaprClientBuilder withStateCache(StateCacheOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("State cache options are required");
+    }
+
+    this.stateCacheOptions = options;
+    return this;
+  }
+
+  /**
+   * Caches the secrets read with getSecret in the client, serving repeated reads without calling the sidecar until
+   * their time to live elapses and refreshing them in the background shortly before. The cache is disabled by
+   * default.
+   *
+   * @param options Cache options.
+   * @return This instance.
+   * @see DaprClient#warmUpSecretCache(io.dapr.client.domain.GetBulkSecretRequest)
+   */
+  public DaprClientBuilder withSecretCache(SecretCacheOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("Secret cache options are required");
+    }
+
+    this.secretCacheOptions = options;
+    return this;
+  }
+
+  /**
+   * Caches the responses of converseAlpha2 to requests with a temperature of zero and no context id, answering
+   * repeated identical prompts without calling the sidecar until their time to live elapses. The cache is disabled
+   * by default.
+   *
+   * @param options Cache options.
+   * @return This instance.
+   */
+  public DaprClientBuilder withConversationCache(ConversationCacheOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("Conversation cache options are required");
+    }
+
+    this.conversationCacheOptions = options;
+    return this;
+  }
+
+  /**
+   * Monitors the sidecar in the background, probing its health endpoint at a fixed interval. The client then tells
+   * whether the sidecar is ready without calling it, caches its metadata, and fails the calls made while the sidecar
+   * is down right away. The monitor is disabled by default.
+   *
+   * @param options Monitor options.
+   * @return This instance.
+   * @see DaprClient#isSidecarReady()
+   * @see DaprClient#getSidecarReadiness()
+   */
+  public DaprClientBuilder withSidecarMonitor(SidecarMonitorOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("Sidecar monitor options are required");
+    }
+
+    this.sidecarMonitorOptions = options;
+    return this;
+  }
+
+  /**
+   * Sets the executor running the HTTP client's asynchronous tasks, such as a virtual thread executor.
+   * Clients built with an executor get their own HTTP client instead of one shared by configuration.
+   *
+   * @param executor Executor for the HTTP client.
+   * @return This instance.
+   */
+  public DaprClientBuilder withHttpExecutor(Executor executor) {
+    this.daprHttpBuilder.withExecutor(executor);
+    return this;
+  }
+
+  /**
+   * Sets the number of gRPC connections opened to the sidecar. With more than one connection, each call goes to
+   * the healthy connection with the fewest calls in flight. Ignored if a channel provider is set.
+   *
+   * @param grpcConnections Number of connections, defaults to 1.
+   * @return This instance.
+   */
+  public DaprClientBuilder withGrpcConnections(int grpcConnections) {
+    if (grpcConnections <= 0) {
+      throw new IllegalArgumentException("gRPC connections must be greater than zero");
+    }
+
+    this.grpcConnections = grpcConnections;
+    return this;
+  }
+
   /**
    * Allow to set up properties override for static properties.
    * @param property that we want to override
@@ -163,18 +360,42 @@ public class DaprClientBuilder {
    */
   private DaprClientImpl buildDaprClient() {
     Properties properties = new Properties(this.propertyOverrides);
-    ManagedChannel channel = NetworkUtils.buildGrpcManagedChannel(properties);
-    DaprHttp daprHttp = this.daprHttpBuilder.build(properties);
-    GrpcChannelFacade channelFacade = new GrpcChannelFacade(channel);
-    DaprGrpc.DaprStub asyncStub = DaprGrpc.newStub(channel);
+    GrpcChannelFacade channelFacade;
+    if (this.channelProvider != null) {
+      channelFacade = new GrpcChannelFacade(this.channelProvider.retain());
+    } else if (this.grpcConnections > 1) {
+      channelFacade = new GrpcChannelFacade(new DaprChannelProvider(properties, this.grpcConnections));
+    } else {
+      channelFacade = new GrpcChannelFacade(NetworkUtils.buildGrpcManagedChannel(properties));
+    }
+    if (this.telemetry != null) {
+      channelFacade = channelFacade.withInterceptor(this.telemetry.newInterceptor());
+    }
 
+    DaprClientCollaborators collaborators = new DaprClientCollaborators()
+        .withResiliencyOptions(this.resiliencyOptions)
+        .withDaprApiToken(properties.getValue(Properties.API_TOKEN))
+        .withInvokeMethodTransport(this.invokeMethodTransport)
+        .withResiliencyListener(
+            this.telemetry == null ? ResiliencyListener.NONE : this.telemetry.newResiliencyListener());
+    if (this.stateCacheOptions != null) {
+      collaborators.withStateCache(new StateCache(this.stateCacheOptions,
+          this.telemetry == null ? StateCache.Listener.NONE : this.telemetry.newStateCacheListener()));
+    }
+    if (this.secretCacheOptions != null) {
+      collaborators.withSecretCache(new SecretCache(this.secretCacheOptions,
+          this.telemetry == null ? SecretCache.Listener.NONE : this.telemetry.newSecretCacheListener()));
+    }
+    if (this.conversationCacheOptions != null) {
+      collaborators.withConversationCache(new ConversationCache(this.conversationCacheOptions));
+    }
+    if (this.sidecarMonitorOptions != null) {
+      collaborators.withSidecarMonitor(new SidecarMonitor(this.sidecarMonitorOptions));
+    }
+
+    DaprHttp daprHttp = this.daprHttpBuilder.build(properties);
+    DaprGrpc.DaprStub asyncStub = DaprGrpc.newStub(channelFacade.getGrpcChannel());
     return new DaprClientImpl(
-        channelFacade,
-        asyncStub,
-        daprHttp,
-        this.objectSerializer,
-        this.stateSerializer,
-        this.resiliencyOptions,
-        properties.getValue(Properties.API_TOKEN));
+        channelFacade, asyncStub, daprHttp, this.objectSerializer, this.stateSerializer, collaborators);
   }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.InvokeMethodTransport;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.internal.conversation.ConversationCache;
+import io.dapr.internal.health.SidecarMonitor;
+import io.dapr.internal.resiliency.ResiliencyListener;
+import io.dapr.internal.secret.SecretCache;
+import io.dapr.internal.state.StateCache;
+
+/**
+ * Optional settings and collaborators of a {@link DaprClientImpl}, filled in by the {@link DaprClientBuilder}.
+ * Anything left unset keeps the default behavior of the client.
+ */
+final class DaprClientCollaborators {
+
+  private ResiliencyOptions resiliencyOptions;
+
+  private String daprApiToken;
+
+  private InvokeMethodTransport invokeMethodTransport = InvokeMethodTransport.HTTP;
+
+  private ResiliencyListener resiliencyListener = ResiliencyListener.NONE;
+
+  private StateCache stateCache;
+
+  private SecretCache secretCache;
+
+  private ConversationCache conversationCache;
+
+  private SidecarMonitor sidecarMonitor;
+
+  /**
+   * Sets the client-level override for resiliency options.
+   *
+   * @param resiliencyOptions Resiliency options, null for the defaults.
+   * @return This instance.
+   */
+  DaprClientCollaborators withResiliencyOptions(ResiliencyOptions resiliencyOptions) {
+    this.resiliencyOptions = resiliencyOptions;
+    return this;
+  }
+
+  /**
+   * Sets the Dapr API token sent with every call.
+   *
+   * @param daprApiToken Dapr API token, null for none.
+   * @return This instance.
+   */
+  DaprClientCollaborators withDaprApiToken(String daprApiToken) {
+    this.daprApiToken = daprApiToken;
+    return this;
+  }
+
+  /**
+   * Sets the default protocol to the sidecar for service invocation.
+   *
+   * @param invokeMethodTransport Protocol for service invocation, null for HTTP.
+   * @return This instance.
+   */
+  DaprClientCollaborators withInvokeMethodTransport(InvokeMethodTransport invokeMethodTransport) {
+    this.invokeMethodTransport = invokeMethodTransport == null ? InvokeMethodTransport.HTTP : invokeMethodTransport;
+    return this;
+  }
+
+  /**
+   * Sets the listener of the decisions of the resiliency policies.
+   *
+   * @param resiliencyListener Listener, null for none.
+   * @return This instance.
+   */
+  DaprClientCollaborators withResiliencyListener(ResiliencyListener resiliencyListener) {
+    this.resiliencyListener = resiliencyListener == null ? ResiliencyListener.NONE : resiliencyListener;
+    return this;
+  }
+
+  /**
+   * Sets the cache of the states read.
+   *
+   * @param stateCache State cache, null to always read from the sidecar.
+   * @return This instance.
+   */
+  DaprClientCollaborators withStateCache(StateCache stateCache) {
+    this.stateCache = stateCache;
+    return this;
+  }
+
+  /**
+   * Sets the cache of the secrets read.
+   *
+   * @param secretCache Secret cache, null to always read from the sidecar.
+   * @return This instance.
+   */
+  DaprClientCollaborators withSecretCache(SecretCache secretCache) {
+    this.secretCache = secretCache;
+    return this;
+  }
+
+  /**
+   * Sets the cache of the conversation responses.
+   *
+   * @param conversationCache Conversation cache, null to always call the sidecar.
+   * @return This instance.
+   */
+  DaprClientCollaborators withConversationCache(ConversationCache conversationCache) {
+    this.conversationCache = conversationCache;
+    return this;
+  }
+
+  /**
+   * Sets the monitor of the sidecar, started by the client.
+   *
+   * @param sidecarMonitor Sidecar monitor, null to not monitor the sidecar.
+   * @return This instance.
+   */
+  DaprClientCollaborators withSidecarMonitor(SidecarMonitor sidecarMonitor) {
+    this.sidecarMonitor = sidecarMonitor;
+    return this;
+  }
+
+  ResiliencyOptions getResiliencyOptions() {
+    return resiliencyOptions;
+  }
+
+  String getDaprApiToken() {
+    return daprApiToken;
+  }
+
+  InvokeMethodTransport getInvokeMethodTransport() {
+    return invokeMethodTransport;
+  }
+
+  ResiliencyListener getResiliencyListener() {
+    return resiliencyListener;
+  }
+
+  StateCache getStateCache() {
+    return stateCache;
+  }
+
+  SecretCache getSecretCache() {
+    return secretCache;
+  }
+
+  ConversationCache getConversationCache() {
+    return conversationCache;
+  }
+
+  SidecarMonitor getSidecarMonitor() {
+    return sidecarMonitor;
+  }
+}
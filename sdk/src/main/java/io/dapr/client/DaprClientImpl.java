@@ -13,11 +13,15 @@ limitations under the License.
 
 package io.dapr.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Strings;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Empty;
 import com.google.protobuf.Struct;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.protobuf.Value;
 import io.dapr.client.domain.ActorMetadata;
 import io.dapr.client.domain.AppConnectionPropertiesHealthMetadata;
@@ -27,6 +31,7 @@ import io.dapr.client.domain.BulkPublishEntry;
 import io.dapr.client.domain.BulkPublishRequest;
 import io.dapr.client.domain.BulkPublishResponse;
 import io.dapr.client.domain.BulkPublishResponseFailedEntry;
+import io.dapr.client.domain.BulkStateChunkOptions;
 import io.dapr.client.domain.CloudEvent;
 import io.dapr.client.domain.ComponentMetadata;
 import io.dapr.client.domain.ConfigurationItem;
@@ -69,6 +74,7 @@ import io.dapr.client.domain.HttpEndpointMetadata;
 import io.dapr.client.domain.HttpExtension;
 import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.InvokeMethodRequest;
+import io.dapr.client.domain.InvokeMethodTransport;
 import io.dapr.client.domain.JobSchedule;
 import io.dapr.client.domain.LockRequest;
 import io.dapr.client.domain.PublishEventRequest;
@@ -91,10 +97,22 @@ import io.dapr.client.domain.UnsubscribeConfigurationRequest;
 import io.dapr.client.domain.UnsubscribeConfigurationResponse;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.exceptions.DaprException;
+import io.dapr.internal.conversation.ConversationCache;
 import io.dapr.internal.exceptions.DaprHttpException;
+import io.dapr.internal.grpc.BidiStreams;
 import io.dapr.internal.grpc.DaprClientGrpcInterceptors;
+import io.dapr.internal.health.SidecarMonitor;
+import io.dapr.internal.nio.ByteChunks;
+import io.dapr.internal.opencensus.GrpcHelper;
+import io.dapr.internal.resiliency.AdmissionPolicy;
+import io.dapr.internal.resiliency.HedgePolicy;
+import io.dapr.internal.resiliency.ResiliencyListener;
+import io.dapr.internal.resiliency.RetryBudget;
 import io.dapr.internal.resiliency.RetryPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
+import io.dapr.internal.secret.SecretCache;
+import io.dapr.internal.state.StateCache;
+import io.dapr.internal.state.StateChunker;
 import io.dapr.internal.subscription.EventSubscriberStreamObserver;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
@@ -107,6 +125,7 @@ import io.dapr.v1.DaprBindingsProtos;
 import io.dapr.v1.DaprConfigurationProtos;
 import io.dapr.v1.DaprCryptoProtos;
 import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprInvokeProtos;
 import io.dapr.v1.DaprJobsProtos;
 import io.dapr.v1.DaprLockProtos;
 import io.dapr.v1.DaprMetadataProtos;
@@ -117,6 +136,7 @@ import io.dapr.v1.DaprStateProtos;
 import io.grpc.Channel;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
+import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -129,6 +149,10 @@ import reactor.util.retry.Retry;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -140,7 +164,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -157,6 +183,19 @@ import static io.dapr.internal.exceptions.DaprHttpException.parseHttpStatusCode;
  */
 public class DaprClientImpl extends AbstractDaprClient {
 
+  /**
+   * Format of the due times and TTLs of the jobs.
+   */
+  private static final DateTimeFormatter JOB_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+  /**
+   * Headers set by gRPC itself or specific to an HTTP connection, which are not forwarded to the sidecar.
+   */
+  private static final Set<String> RESERVED_GRPC_HEADERS = Set.of(
+      "content-type", "te", "user-agent", "host", "connection", "keep-alive", "proxy-connection",
+      "transfer-encoding", "upgrade");
+
   private final Logger logger;
 
   /**
@@ -169,6 +208,19 @@ public class DaprClientImpl extends AbstractDaprClient {
    */
   private final RetryPolicy retryPolicy;
 
+  /**
+   * Hedging of read-only calls.
+   */
+  private final HedgePolicy hedgePolicy;
+
+  private final StateCache stateCache;
+
+  private final SecretCache secretCache;
+
+  private final ConversationCache conversationCache;
+
+  private final SidecarMonitor sidecarMonitor;
+
   /**
    * The async gRPC stub.
    */
@@ -183,6 +235,11 @@ public class DaprClientImpl extends AbstractDaprClient {
 
   private final DaprClientGrpcInterceptors grpcInterceptors;
 
+  /**
+   * Default protocol to the sidecar for service invocation.
+   */
+  private final InvokeMethodTransport invokeMethodTransport;
+
   /**
    * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
    *
@@ -198,7 +255,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprHttp httpClient,
       DaprObjectSerializer objectSerializer,
       DaprObjectSerializer stateSerializer) {
-    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, null, null);
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, new DaprClientCollaborators());
   }
 
   /**
@@ -218,7 +275,8 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer objectSerializer,
       DaprObjectSerializer stateSerializer,
       String daprApiToken) {
-    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, null, daprApiToken);
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer,
+        new DaprClientCollaborators().withDaprApiToken(daprApiToken));
   }
 
   /**
@@ -241,46 +299,60 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer stateSerializer,
       ResiliencyOptions resiliencyOptions,
       String daprApiToken) {
-    this(
-        channel,
-        asyncStub,
-        httpClient,
-        objectSerializer,
-        stateSerializer,
-        new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()),
-        new RetryPolicy(resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries()),
-        daprApiToken);
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer,
+        new DaprClientCollaborators().withResiliencyOptions(resiliencyOptions).withDaprApiToken(daprApiToken));
   }
 
   /**
-   * Instantiates a new DaprClient.
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
    *
    * @param channel           Facade for the managed GRPC channel
    * @param asyncStub         async gRPC stub
    * @param httpClient        client for http service invocation
    * @param objectSerializer  Serializer for transient request/response objects.
    * @param stateSerializer   Serializer for state objects.
-   * @param timeoutPolicy     Client-level timeout policy.
-   * @param retryPolicy       Client-level retry policy.
-   * @param daprApiToken      Dapr API Token.
+   * @param collaborators     Optional settings, caches and monitors of the client.
    * @see DaprClientBuilder
    */
-  private DaprClientImpl(
+  DaprClientImpl(
       GrpcChannelFacade channel,
       DaprGrpc.DaprStub asyncStub,
       DaprHttp httpClient,
       DaprObjectSerializer objectSerializer,
       DaprObjectSerializer stateSerializer,
-      TimeoutPolicy timeoutPolicy,
-      RetryPolicy retryPolicy,
-      String daprApiToken) {
+      DaprClientCollaborators collaborators) {
     super(objectSerializer, stateSerializer);
+    ResiliencyOptions resiliencyOptions = collaborators.getResiliencyOptions();
+    ResiliencyListener resiliencyListener = collaborators.getResiliencyListener();
+    RetryBudget retryBudget = (resiliencyOptions == null) || (resiliencyOptions.getRetryBudget() == null)
+        ? null : new RetryBudget(resiliencyOptions.getRetryBudget());
+    this.retryPolicy = new RetryPolicy(
+        resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries(), retryBudget, resiliencyListener);
+    this.hedgePolicy = new HedgePolicy(resiliencyOptions == null ? null : resiliencyOptions.getHedging(), retryBudget,
+        resiliencyListener);
     this.channel = channel;
     this.asyncStub = asyncStub;
     this.httpClient = httpClient;
-    this.retryPolicy = retryPolicy;
-    this.grpcInterceptors = new DaprClientGrpcInterceptors(daprApiToken, timeoutPolicy);
+    this.stateCache = collaborators.getStateCache();
+    this.secretCache = collaborators.getSecretCache();
+    this.conversationCache = collaborators.getConversationCache();
+    this.invokeMethodTransport = collaborators.getInvokeMethodTransport();
+    this.sidecarMonitor = collaborators.getSidecarMonitor();
+    this.grpcInterceptors = new DaprClientGrpcInterceptors(collaborators.getDaprApiToken(),
+        new TimeoutPolicy(resiliencyOptions), new AdmissionPolicy(resiliencyOptions, resiliencyListener),
+        sidecarMonitor);
     this.logger = LoggerFactory.getLogger(DaprClientImpl.class);
+    if (sidecarMonitor != null) {
+      sidecarMonitor.start(this::checkSidecarHealth);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  boolean tryRetryJob() {
+    return this.retryPolicy.allowRetry();
   }
 
   private CommonProtos.StateOptions.StateConsistency getGrpcStateConsistency(StateOptions options) {
@@ -318,13 +390,11 @@ public class DaprClientImpl extends AbstractDaprClient {
    */
   @Override
   public Mono<Void> waitForSidecar(int timeoutInMilliseconds) {
-    String[] pathSegments = new String[] { DaprHttp.API_VERSION, "healthz", "outbound"};
-
-    // Do the Dapr Http endpoint check to have parity with Dotnet
-    Mono<DaprHttp.Response> responseMono = this.httpClient.invokeApi(DaprHttp.HttpMethods.GET.name(), pathSegments,
-        null, "", null, null);
+    if ((this.sidecarMonitor != null) && (this.sidecarMonitor.getState() == SidecarMonitor.State.READY)) {
+      return Mono.empty();
+    }
 
-    return responseMono
+    return this.checkSidecarHealth()
         // No method to "retry forever every 500ms", so we make it practically forever.
         // 9223372036854775807 * 500 ms = 1.46235604 x 10^11 years
         // If anyone needs to wait for the sidecar for longer than that, sorry.
@@ -341,6 +411,53 @@ public class DaprClientImpl extends AbstractDaprClient {
         .then();
   }
 
+  /**
+   * Checks the sidecar's outbound health endpoint once.
+   *
+   * @return Response of the sidecar, failing if it is not healthy.
+   */
+  private Mono<DaprHttp.Response> checkSidecarHealth() {
+    String[] pathSegments = new String[] { DaprHttp.API_VERSION, "healthz", "outbound"};
+
+    // Do the Dapr Http endpoint check to have parity with Dotnet
+    return this.httpClient.invokeApi(DaprHttp.HttpMethods.GET.name(), pathSegments, null, "", null, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isSidecarReady() {
+    if (this.sidecarMonitor == null) {
+      throw new IllegalStateException("Sidecar monitor is not enabled, see DaprClientBuilder.withSidecarMonitor");
+    }
+
+    return this.sidecarMonitor.getState() == SidecarMonitor.State.READY;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<Boolean> getSidecarReadiness() {
+    if (this.sidecarMonitor == null) {
+      return Flux.error(
+          new IllegalStateException("Sidecar monitor is not enabled, see DaprClientBuilder.withSidecarMonitor"));
+    }
+
+    return this.sidecarMonitor.readiness();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invalidateMetadataCache() {
+    if (this.sidecarMonitor != null) {
+      this.sidecarMonitor.invalidateMetadata();
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -628,6 +745,13 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
 
 
+      InvokeMethodTransport transport = invokeMethodRequest.getTransport() == null
+          ? this.invokeMethodTransport
+          : invokeMethodRequest.getTransport();
+      if (transport == InvokeMethodTransport.GRPC) {
+        return invokeServiceGrpc(appId, method, request, httpExtension, contentType, metadata, type);
+      }
+
       String[] methodSegments = method.split("/");
 
       List<String> pathSegments = new ArrayList<>(Arrays.asList(DaprHttp.API_VERSION, "invoke", appId, "method"));
@@ -648,19 +772,99 @@ public class DaprClientImpl extends AbstractDaprClient {
           context -> this.httpClient.invokeApi(httpMethod, pathSegments.toArray(new String[0]),
               httpExtension.getQueryParams(), serializedRequestBody, headers, context)
       );
-      return response.flatMap(r -> getMonoForHttpResponse(type, r));
+      return response.flatMap(r -> getMonoForResponseBody(type, r.getBody()));
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
   }
 
-  private <T> Mono<T> getMonoForHttpResponse(TypeRef<T> type, DaprHttp.Response r) {
+  /**
+   * Invokes a method on another application through Dapr's gRPC InvokeService API.
+   * HTTP headers and metadata are sent as gRPC metadata, which the sidecar forwards as headers.
+   */
+  private <T> Mono<T> invokeServiceGrpc(
+      String appId,
+      String method,
+      Object request,
+      HttpExtension httpExtension,
+      String contentType,
+      Map<String, String> metadata,
+      TypeRef<T> type) throws IOException {
+    CommonProtos.HTTPExtension extension = CommonProtos.HTTPExtension.newBuilder()
+        .setVerb(CommonProtos.HTTPExtension.Verb.valueOf(httpExtension.getMethod().name()))
+        .setQuerystring(httpExtension.encodeQueryString())
+        .build();
+    CommonProtos.InvokeRequest.Builder message = CommonProtos.InvokeRequest.newBuilder()
+        .setMethod(method)
+        .setContentType(contentType != null && !contentType.isEmpty()
+            ? contentType
+            : objectSerializer.getContentType())
+        .setHttpExtension(extension);
+    byte[] serializedRequestBody = objectSerializer.serialize(request);
+    if (serializedRequestBody != null) {
+      message.setData(Any.newBuilder().setValue(ByteString.copyFrom(serializedRequestBody)));
+    }
+    DaprInvokeProtos.InvokeServiceRequest envelope = DaprInvokeProtos.InvokeServiceRequest.newBuilder()
+        .setId(appId)
+        .setMessage(message)
+        .build();
+
+    Metadata headers = new Metadata();
+    addGrpcHeaders(headers, httpExtension.getHeaders());
+    addGrpcHeaders(headers, metadata);
+
+    return Mono.deferContextual(
+        context -> this.<CommonProtos.InvokeResponse>createMono(
+            it -> intercept(context, asyncStub)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers))
+                .invokeService(envelope, it)
+        )
+    ).flatMap(it -> getMonoForResponseBody(type, it.getData().getValue().toByteArray()));
+  }
+
+  /**
+   * Adds HTTP headers or metadata to the gRPC headers of an invocation.
+   * Headers set by gRPC itself or specific to an HTTP connection are dropped, as are names that are not valid
+   * gRPC keys. Values of names ending in {@value Metadata#BINARY_HEADER_SUFFIX} are sent as their UTF-8 bytes.
+   *
+   * @param headers gRPC headers of the invocation.
+   * @param values  HTTP headers or metadata, or null.
+   */
+  static void addGrpcHeaders(Metadata headers, Map<String, String> values) {
+    if (values == null) {
+      return;
+    }
+
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      if ((entry.getKey() == null) || (entry.getValue() == null)) {
+        continue;
+      }
+
+      String name = entry.getKey().toLowerCase(Locale.ROOT);
+      if (name.startsWith(":") || name.startsWith("grpc-") || RESERVED_GRPC_HEADERS.contains(name)) {
+        continue;
+      }
+
+      try {
+        if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+          headers.put(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER),
+              entry.getValue().getBytes(StandardCharsets.UTF_8));
+        } else {
+          headers.put(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER), entry.getValue());
+        }
+      } catch (IllegalArgumentException e) {
+        // Not a valid gRPC key: the header cannot be sent, but the invocation can.
+      }
+    }
+  }
+
+  private <T> Mono<T> getMonoForResponseBody(TypeRef<T> type, byte[] body) {
     try {
       if (type == null) {
         return Mono.empty();
       }
 
-      T object = objectSerializer.deserialize(r.getBody(), type);
+      T object = objectSerializer.deserialize(body, type);
       if (object == null) {
         return Mono.empty();
       }
@@ -759,13 +963,30 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
 
       DaprStateProtos.GetStateRequest envelope = builder.build();
+      boolean cacheable = (this.stateCache != null)
+          && ((metadata == null) || metadata.isEmpty())
+          && ((options == null) || (options.getConsistency() != StateOptions.Consistency.STRONG));
 
-      return Mono.deferContextual(
+      Mono<DaprStateProtos.GetStateResponse> fetch = Mono.deferContextual(
           context ->
-              this.<DaprStateProtos.GetStateResponse>createMono(
+              this.<DaprStateProtos.GetStateResponse>createHedgedMono("GetState", stateStoreName,
                   it -> intercept(context, asyncStub).getState(envelope, it)
               )
-      ).map(
+      );
+      Mono<DaprStateProtos.GetStateResponse> response = fetch;
+      if (cacheable) {
+        response = Mono.defer(() -> {
+          DaprStateProtos.GetStateResponse cached = this.stateCache.get(stateStoreName, key);
+          if (cached != null) {
+            return Mono.just(cached);
+          }
+
+          long version = this.stateCache.getVersion();
+          return fetch.doOnNext(it -> this.stateCache.put(stateStoreName, key, it, version));
+        });
+      }
+
+      return response.map(
           it -> {
             try {
               return buildStateKeyValue(it, key, options, type);
@@ -810,8 +1031,8 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprStateProtos.GetBulkStateRequest envelope = builder.build();
 
       return Mono.deferContextual(
-          context -> this.<DaprStateProtos.GetBulkStateResponse>createMono(it -> intercept(context, asyncStub)
-              .getBulkState(envelope, it)
+          context -> this.<DaprStateProtos.GetBulkStateResponse>createHedgedMono("GetBulkState", stateStoreName,
+              it -> intercept(context, asyncStub).getBulkState(envelope, it)
           )
       ).map(
           it ->
@@ -832,6 +1053,58 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getBulkStateChunked(GetBulkStateRequest request, TypeRef<T> type,
+      BulkStateChunkOptions options) {
+    try {
+      final String stateStoreName = request.getStoreName();
+      final List<String> keys = request.getKeys();
+      final int parallelism = request.getParallelism();
+      final Map<String, String> metadata = request.getMetadata();
+      if ((stateStoreName == null) || (stateStoreName.trim().isEmpty())) {
+        throw new IllegalArgumentException("State store name cannot be null or empty.");
+      }
+      if (keys == null || keys.isEmpty()) {
+        throw new IllegalArgumentException("Key cannot be null or empty.");
+      }
+      if (parallelism < 0) {
+        throw new IllegalArgumentException("Parallelism cannot be negative.");
+      }
+      StateChunker.validate(options);
+
+      return StateChunker.chunk(Flux.fromIterable(keys), CodedOutputStream::computeStringSizeNoTag, options)
+          .flatMap(chunk -> {
+            DaprStateProtos.GetBulkStateRequest.Builder builder = DaprStateProtos.GetBulkStateRequest.newBuilder()
+                .setStoreName(stateStoreName)
+                .addAllKeys(chunk)
+                .setParallelism(parallelism);
+            if (metadata != null) {
+              builder.putAllMetadata(metadata);
+            }
+            DaprStateProtos.GetBulkStateRequest envelope = builder.build();
+
+            return Mono.deferContextual(
+                context -> this.<DaprStateProtos.GetBulkStateResponse>createHedgedMono("GetBulkState",
+                    stateStoreName, it -> intercept(context, asyncStub).getBulkState(envelope, it)));
+          }, options.getConcurrency())
+          .flatMapIterable(DaprStateProtos.GetBulkStateResponse::getItemsList)
+          .map(item -> {
+            try {
+              return buildStateKeyValue(item, type);
+            } catch (Exception e) {
+              throw DaprException.propagate(e);
+            }
+          })
+          // Every chunk is sent with the tracing headers of the request, encoded once.
+          .contextWrite(GrpcHelper::withTraceHeaders);
+    } catch (Exception ex) {
+      return DaprException.wrapFlux(ex);
+    }
+  }
+
   private <T> State<T> buildStateKeyValue(
       DaprStateProtos.BulkStateItem item,
       TypeRef<T> type) throws IOException {
@@ -903,10 +1176,12 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
       DaprStateProtos.ExecuteStateTransactionRequest req = builder.build();
 
-      return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub)
-              .executeStateTransaction(req, it))
-      ).then();
+      return this.invalidatingState(stateStoreName,
+          operations.stream().map(operation -> operation.getRequest().getKey()).collect(Collectors.toList()),
+          Mono.deferContextual(
+              context -> this.<Empty>createMono(it -> intercept(context, asyncStub)
+                  .executeStateTransaction(req, it))
+          ).then());
     } catch (Exception e) {
       return DaprException.wrapMono(e);
     }
@@ -930,9 +1205,54 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
       DaprStateProtos.SaveStateRequest req = builder.build();
 
-      return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub).saveState(req, it))
-      ).then();
+      return this.invalidatingState(stateStoreName,
+          states.stream().map(State::getKey).collect(Collectors.toList()),
+          Mono.deferContextual(
+              context -> this.<Empty>createMono(it -> intercept(context, asyncStub).saveState(req, it))
+          ).then());
+    } catch (Exception ex) {
+      return DaprException.wrapMono(ex);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> saveBulkStateChunked(SaveStateRequest request, BulkStateChunkOptions options) {
+    try {
+      final String stateStoreName = request.getStoreName();
+      final List<State<?>> states = request.getStates();
+      if ((stateStoreName == null) || (stateStoreName.trim().isEmpty())) {
+        throw new IllegalArgumentException("State store name cannot be null or empty.");
+      }
+      StateChunker.validate(options);
+      if ((states == null) || states.isEmpty()) {
+        return Mono.empty();
+      }
+
+      Flux<CommonProtos.StateItem> items = Flux.fromIterable(states).map(state -> {
+        try {
+          return buildStateRequest(state).build();
+        } catch (IOException e) {
+          throw DaprException.propagate(e);
+        }
+      });
+      return StateChunker.chunk(items, CommonProtos.StateItem::getSerializedSize, options)
+          .flatMap(chunk -> {
+            DaprStateProtos.SaveStateRequest req = DaprStateProtos.SaveStateRequest.newBuilder()
+                .setStoreName(stateStoreName)
+                .addAllStates(chunk)
+                .build();
+
+            return this.invalidatingState(stateStoreName,
+                chunk.stream().map(CommonProtos.StateItem::getKey).collect(Collectors.toList()),
+                Mono.deferContextual(
+                    context -> this.<Empty>createMono(it -> intercept(context, asyncStub).saveState(req, it))
+                ).then());
+          }, options.getConcurrency())
+          .then()
+          .contextWrite(GrpcHelper::withTraceHeaders);
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
@@ -1014,14 +1334,35 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       DaprStateProtos.DeleteStateRequest req = builder.build();
 
-      return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub).deleteState(req, it))
-      ).then();
+      return this.invalidatingState(stateStoreName, List.of(key),
+          Mono.deferContextual(
+              context -> this.<Empty>createMono(it -> intercept(context, asyncStub).deleteState(req, it))
+          ).then());
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
   }
 
+  /**
+   * Drops the cached states of the keys written by a call, both before it is sent and once it ends, so reads
+   * made while it runs are not cached either.
+   *
+   * @param stateStoreName State store name.
+   * @param keys           Keys written by the call.
+   * @param call           Call writing the keys.
+   * @return Call invalidating the cached states.
+   */
+  private Mono<Void> invalidatingState(String stateStoreName, List<String> keys, Mono<Void> call) {
+    if (this.stateCache == null) {
+      return call;
+    }
+
+    Runnable invalidate = () -> keys.forEach(key -> this.stateCache.invalidate(stateStoreName, key));
+    return call
+        .doOnSubscribe(it -> invalidate.run())
+        .doFinally(it -> invalidate.run());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -1050,10 +1391,39 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
     DaprSecretProtos.GetSecretRequest req = requestBuilder.build();
 
-    return Mono.deferContextual(
-        context -> this.<DaprSecretProtos.GetSecretResponse>createMono(
+    Mono<Map<String, String>> fetch = Mono.deferContextual(
+        context -> this.<DaprSecretProtos.GetSecretResponse>createHedgedMono("GetSecret", secretStoreName,
             it -> intercept(context, asyncStub).getSecret(req, it))
     ).map(DaprSecretProtos.GetSecretResponse::getDataMap);
+    if (this.secretCache == null) {
+      return fetch;
+    }
+
+    return this.secretCache.get(secretStoreName, key, metadata, () -> fetch);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> warmUpSecretCache(GetBulkSecretRequest request) {
+    if (this.secretCache == null) {
+      return Mono.empty();
+    }
+
+    return this.getBulkSecret(request)
+        .doOnNext(secrets -> this.secretCache.putAll(request.getStoreName(), request.getMetadata(), secrets))
+        .then();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invalidateSecretCache(String storeName, String key) {
+    if (this.secretCache != null) {
+      this.secretCache.invalidate(storeName, key);
+    }
   }
 
   /**
@@ -1078,7 +1448,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       return Mono.deferContextual(
           context ->
-              this.<DaprSecretProtos.GetBulkSecretResponse>createMono(
+              this.<DaprSecretProtos.GetBulkSecretResponse>createHedgedMono("GetBulkSecret", storeName,
                   it -> intercept(context, asyncStub).getBulkSecret(envelope, it)
               )
       ).map(it -> {
@@ -1245,6 +1615,83 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, TypeRef<T> type) {
+    try {
+      if (request == null) {
+        throw new IllegalArgumentException("Query state request cannot be null.");
+      }
+      final String storeName = request.getStoreName();
+      final Map<String, String> metadata = request.getMetadata();
+      if ((storeName == null) || (storeName.trim().isEmpty())) {
+        throw new IllegalArgumentException("State store name cannot be null or empty.");
+      }
+
+      ObjectNode query;
+      if (request.getQuery() != null) {
+        query = JSON_REQUEST_MAPPER.valueToTree(request.getQuery());
+      } else if ((request.getQueryString() != null) && !request.getQueryString().isEmpty()) {
+        JsonNode node = JSON_REQUEST_MAPPER.readTree(request.getQueryString());
+        if (!(node instanceof ObjectNode)) {
+          throw new IllegalArgumentException("Query string must be a JSON object to be paginated.");
+        }
+        query = (ObjectNode) node;
+      } else {
+        throw new IllegalArgumentException("Both query and queryString fields are not set.");
+      }
+
+      // The next page is only requested once the previous one has been emitted; concatMapIterable's prefetch
+      // of 2 keeps one page in flight while the items of the current one are consumed.
+      return this.queryStatePage(storeName, metadata, query, null)
+          .expand(page -> page.getToken().isEmpty() || (page.getResultsCount() == 0)
+              ? Mono.empty()
+              : this.queryStatePage(storeName, metadata, query, page.getToken()))
+          .concatMapIterable(DaprStateProtos.QueryStateResponse::getResultsList, 2)
+          .map(item -> {
+            try {
+              return buildQueryStateKeyValue(item, type);
+            } catch (Exception e) {
+              throw DaprException.propagate(e);
+            }
+          })
+          .contextWrite(GrpcHelper::withTraceHeaders);
+    } catch (Exception ex) {
+      return DaprException.wrapFlux(ex);
+    }
+  }
+
+  private Mono<DaprStateProtos.QueryStateResponse> queryStatePage(
+      String storeName, Map<String, String> metadata, ObjectNode query, String token) {
+    try {
+      ObjectNode pageQuery = query;
+      if (token != null) {
+        pageQuery = query.deepCopy();
+        JsonNode page = pageQuery.get("page");
+        ObjectNode pageNode = page instanceof ObjectNode ? (ObjectNode) page : pageQuery.putObject("page");
+        pageNode.put("token", token);
+      }
+
+      DaprStateProtos.QueryStateRequest.Builder builder = DaprStateProtos.QueryStateRequest.newBuilder()
+          .setStoreName(storeName)
+          .setQuery(JSON_REQUEST_MAPPER.writeValueAsString(pageQuery));
+      if (metadata != null) {
+        builder.putAllMetadata(metadata);
+      }
+
+      DaprStateProtos.QueryStateRequest envelope = builder.build();
+      return Mono.deferContextual(
+          context -> this.<DaprStateProtos.QueryStateResponse>createMono(
+              it -> intercept(context, asyncStub).queryStateAlpha1(envelope, it)
+          )
+      );
+    } catch (Exception ex) {
+      return DaprException.wrapMono(ex);
+    }
+  }
+
   private <T> QueryStateItem<T> buildQueryStateKeyValue(
       DaprStateProtos.QueryStateItem item,
       TypeRef<T> type) throws IOException {
@@ -1276,6 +1723,9 @@ public class DaprClientImpl extends AbstractDaprClient {
   @Override
   public void close() throws Exception {
     DaprException.wrap(() -> {
+      if (sidecarMonitor != null) {
+        sidecarMonitor.close();
+      }
       if (channel != null) {
         channel.close();
       }
@@ -1330,8 +1780,8 @@ public class DaprClientImpl extends AbstractDaprClient {
                                                                     .GetConfigurationRequest envelope) {
     return Mono.deferContextual(
         context ->
-            this.<DaprConfigurationProtos.GetConfigurationResponse>createMono(
-                it -> intercept(context, asyncStub).getConfiguration(envelope, it)
+            this.<DaprConfigurationProtos.GetConfigurationResponse>createHedgedMono("GetConfiguration",
+                envelope.getStoreName(), it -> intercept(context, asyncStub).getConfiguration(envelope, it)
             )
     ).map(
         it -> {
@@ -1432,9 +1882,6 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprJobsProtos.Job.Builder jobBuilder = DaprJobsProtos.Job.newBuilder();
       jobBuilder.setName(scheduleJobRequest.getName());
 
-      DateTimeFormatter iso8601Formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
-              .withZone(ZoneOffset.UTC);
-
       if (scheduleJobRequest.getData() != null) {
         jobBuilder.setData(Any.newBuilder()
             .setValue(ByteString.copyFrom(scheduleJobRequest.getData())).build());
@@ -1445,7 +1892,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
 
       if (scheduleJobRequest.getTtl() != null) {
-        jobBuilder.setTtl(iso8601Formatter.format(scheduleJobRequest.getTtl()));
+        jobBuilder.setTtl(JOB_TIME_FORMATTER.format(scheduleJobRequest.getTtl()));
       }
 
       if (scheduleJobRequest.getRepeats() != null) {
@@ -1453,7 +1900,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
 
       if (scheduleJobRequest.getDueTime() != null) {
-        jobBuilder.setDueTime(iso8601Formatter.format(scheduleJobRequest.getDueTime()));
+        jobBuilder.setDueTime(JOB_TIME_FORMATTER.format(scheduleJobRequest.getDueTime()));
       }
 
       if (scheduleJobRequest.getFailurePolicy() != null) {
@@ -1490,31 +1937,48 @@ public class DaprClientImpl extends AbstractDaprClient {
               )
           );
 
-      return getJobResponseMono.map(response -> {
-        DaprJobsProtos.Job job = response.getJob();
-        GetJobResponse getJobResponse = null;
+      return getJobResponseMono.map(response -> toGetJobResponse(response.getJob()));
+    } catch (Exception ex) {
+      return DaprException.wrapMono(ex);
+    }
+  }
 
-        if (job.hasSchedule() && job.hasDueTime()) {
-          getJobResponse = new GetJobResponse(job.getName(), JobSchedule.fromString(job.getSchedule()));
-          getJobResponse.setDueTime(Instant.parse(job.getDueTime()));
-        } else if (job.hasSchedule()) {
-          getJobResponse = new GetJobResponse(job.getName(), JobSchedule.fromString(job.getSchedule()));
-        } else {
-          getJobResponse = new GetJobResponse(job.getName(), Instant.parse(job.getDueTime()));
-        }
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<GetJobResponse> listJobs() {
+    Mono<DaprJobsProtos.ListJobsResponseAlpha1> listJobsResponseMono =
+        Mono.deferContextual(context -> this.createMono(
+                it -> intercept(context, asyncStub)
+                    .listJobsAlpha1(DaprJobsProtos.ListJobsRequestAlpha1.getDefaultInstance(), it)
+            )
+        );
 
-        if (job.hasFailurePolicy()) {
-          getJobResponse.setFailurePolicy(getJobFailurePolicy(job.getFailurePolicy()));
-        }
+    return listJobsResponseMono.flatMapIterable(DaprJobsProtos.ListJobsResponseAlpha1::getJobsList)
+        .map(this::toGetJobResponse);
+  }
 
-        return getJobResponse
-            .setTtl(job.hasTtl() ? Instant.parse(job.getTtl()) : null)
-            .setData(job.hasData() ? job.getData().getValue().toByteArray() : null)
-            .setRepeat(job.hasRepeats() ? job.getRepeats() : null);
-      });
-    } catch (Exception ex) {
-      return DaprException.wrapMono(ex);
+  private GetJobResponse toGetJobResponse(DaprJobsProtos.Job job) {
+    GetJobResponse getJobResponse = null;
+
+    if (job.hasSchedule() && job.hasDueTime()) {
+      getJobResponse = new GetJobResponse(job.getName(), JobSchedule.fromString(job.getSchedule()));
+      getJobResponse.setDueTime(Instant.parse(job.getDueTime()));
+    } else if (job.hasSchedule()) {
+      getJobResponse = new GetJobResponse(job.getName(), JobSchedule.fromString(job.getSchedule()));
+    } else {
+      getJobResponse = new GetJobResponse(job.getName(), Instant.parse(job.getDueTime()));
+    }
+
+    if (job.hasFailurePolicy()) {
+      getJobResponse.setFailurePolicy(getJobFailurePolicy(job.getFailurePolicy()));
     }
+
+    return getJobResponse
+        .setTtl(job.hasTtl() ? Instant.parse(job.getTtl()) : null)
+        .setData(job.hasData() ? job.getData().getValue().toByteArray() : null)
+        .setRepeat(job.hasRepeats() ? job.getRepeats() : null);
   }
 
   private FailurePolicy getJobFailurePolicy(CommonProtos.JobFailurePolicy jobFailurePolicy) {
@@ -1559,6 +2023,32 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> deleteJobsByPrefix(String namePrefix) {
+    try {
+      // The sidecar deletes every job of the application for an empty prefix.
+      if (namePrefix == null || namePrefix.isEmpty()) {
+        throw new IllegalArgumentException("Name prefix cannot be null or empty");
+      }
+
+      DaprJobsProtos.DeleteJobsByPrefixRequestAlpha1 request =
+          DaprJobsProtos.DeleteJobsByPrefixRequestAlpha1.newBuilder().setNamePrefix(namePrefix).build();
+
+      Mono<DaprJobsProtos.DeleteJobsByPrefixResponseAlpha1> deleteJobsResponseMono =
+          Mono.deferContextual(context -> this.createMono(
+                  it -> intercept(context, asyncStub).deleteJobsByPrefixAlpha1(request, it)
+              )
+          );
+
+      return deleteJobsResponseMono.then();
+    } catch (Exception ex) {
+      return DaprException.wrapMono(ex);
+    }
+  }
+
   private void validateScheduleJobRequest(ScheduleJobRequest scheduleJobRequest) {
     if (scheduleJobRequest == null) {
       throw new IllegalArgumentException("scheduleJobRequest cannot be null");
@@ -1642,6 +2132,21 @@ public class DaprClientImpl extends AbstractDaprClient {
             createStreamObserver(sink, metadata))).run()));
   }
 
+  /**
+   * Creates a read-only call that is hedged when slow, per the client's hedge policy.
+   *
+   * @param api       Dapr API, such as GetState.
+   * @param component Component the call is for.
+   * @param consumer  Sends the call.
+   * @param <T>       Type of the response.
+   * @return Call with hedging and retries.
+   */
+  private <T> Mono<T> createHedgedMono(String api, String component, Consumer<StreamObserver<T>> consumer) {
+    return retryPolicy.apply(hedgePolicy.apply(api, component,
+        Mono.create(sink -> DaprException.wrap(() -> consumer.accept(
+            createStreamObserver(sink, null))).run())));
+  }
+
   private <T> Flux<T> createFlux(Consumer<StreamObserver<T>> consumer) {
     return this.createFlux(null, consumer);
   }
@@ -1691,6 +2196,14 @@ public class DaprClientImpl extends AbstractDaprClient {
 
   @Override
   public Mono<DaprMetadata> getMetadata() {
+    if (this.sidecarMonitor != null) {
+      return this.sidecarMonitor.getMetadata(this::fetchMetadata);
+    }
+
+    return this.fetchMetadata();
+  }
+
+  private Mono<DaprMetadata> fetchMetadata() {
     DaprMetadataProtos.GetMetadataRequest metadataRequest = DaprMetadataProtos.GetMetadataRequest.newBuilder().build();
     return Mono.deferContextual(
             context -> this.<DaprMetadataProtos.GetMetadataResponse>createMono(
@@ -1800,13 +2313,13 @@ public class DaprClientImpl extends AbstractDaprClient {
               it -> intercept(context, asyncStub).converseAlpha2(protoRequest, it)
           )
       );
+      if ((this.conversationCache != null) && ConversationCache.isCacheable(protoRequest)) {
+        Mono<DaprAiProtos.ConversationResponseAlpha2> call = conversationResponseMono;
+        conversationResponseMono = this.conversationCache.get(protoRequest, () -> call);
+      }
 
-      DaprAiProtos.ConversationResponseAlpha2 conversationResponse = conversationResponseMono.block();
-
-      assert conversationResponse != null;
-
-      List<ConversationResultAlpha2> results = buildConversationResults(conversationResponse.getOutputsList());
-      return Mono.just(new ConversationResponseAlpha2(conversationResponse.getContextId(), results));
+      return conversationResponseMono.map(conversationResponse -> new ConversationResponseAlpha2(
+          conversationResponse.getContextId(), buildConversationResults(conversationResponse.getOutputsList())));
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
@@ -2188,6 +2701,27 @@ public class DaprClientImpl extends AbstractDaprClient {
    */
   @Override
   public Flux<byte[]> encrypt(EncryptRequestAlpha1 request) {
+    return encryptData(request).map(ByteString::toByteArray);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Long> encrypt(EncryptRequestAlpha1 request, WritableByteChannel target) {
+    if (target == null) {
+      return DaprException.wrapMono(new IllegalArgumentException("Target channel cannot be null."));
+    }
+    return write(encryptData(request), target, "ENCRYPT_ERROR", "Error writing ciphertext: ");
+  }
+
+  /**
+   * Encrypts the data of a request.
+   *
+   * @param request The encryption request.
+   * @return Chunks of ciphertext, as received.
+   */
+  private Flux<ByteString> encryptData(EncryptRequestAlpha1 request) {
     try {
       if (request == null) {
         throw new IllegalArgumentException("EncryptRequestAlpha1 cannot be null.");
@@ -2201,86 +2735,48 @@ public class DaprClientImpl extends AbstractDaprClient {
       if (request.getKeyWrapAlgorithm() == null || request.getKeyWrapAlgorithm().trim().isEmpty()) {
         throw new IllegalArgumentException("Key wrap algorithm cannot be null or empty.");
       }
-      if (request.getPlainTextStream() == null) {
+      if (request.getPlainTextBuffers() == null) {
         throw new IllegalArgumentException("Plaintext stream cannot be null.");
       }
+      if (request.getChunkSize() <= 0) {
+        throw new IllegalArgumentException("Chunk size must be positive.");
+      }
 
-      return Flux.create(sink -> {
-        // Create response observer to receive encrypted data
-        final StreamObserver<DaprCryptoProtos.EncryptResponse> responseObserver =
-            new StreamObserver<DaprCryptoProtos.EncryptResponse>() {
-              @Override
-              public void onNext(DaprCryptoProtos.EncryptResponse response) {
-                if (response.hasPayload()) {
-                  byte[] data = response.getPayload().getData().toByteArray();
-                  if (data.length > 0) {
-                    sink.next(data);
-                  }
-                }
-              }
-
-              @Override
-              public void onError(Throwable t) {
-                sink.error(DaprException.propagate(new DaprException("ENCRYPT_ERROR",
-                    "Error during encryption: " + t.getMessage(), t)));
-              }
-
-              @Override
-              public void onCompleted() {
-                sink.complete();
-              }
-            };
-
-        // Build options for the first message
-        DaprCryptoProtos.EncryptRequestOptions.Builder optionsBuilder = DaprCryptoProtos.EncryptRequestOptions
-            .newBuilder()
-            .setComponentName(request.getComponentName())
-            .setKeyName(request.getKeyName())
-            .setKeyWrapAlgorithm(request.getKeyWrapAlgorithm());
-
-        if (request.getDataEncryptionCipher() != null && !request.getDataEncryptionCipher().isEmpty()) {
-          optionsBuilder.setDataEncryptionCipher(request.getDataEncryptionCipher());
-        }
-        optionsBuilder.setOmitDecryptionKeyName(request.isOmitDecryptionKeyName());
-        if (request.getDecryptionKeyName() != null && !request.getDecryptionKeyName().isEmpty()) {
-          optionsBuilder.setDecryptionKeyName(request.getDecryptionKeyName());
-        }
-
-        final DaprCryptoProtos.EncryptRequestOptions options = optionsBuilder.build();
-        final long[] sequenceNumber = {0};
-        final boolean[] firstMessage = {true};
-
-        // Get the request stream observer from gRPC
-        final StreamObserver<DaprCryptoProtos.EncryptRequest> requestObserver =
-            intercept(null, asyncStub).encryptAlpha1(responseObserver);
-
-        // Subscribe to the plaintext stream and send chunks
-        request.getPlainTextStream()
-            .doOnNext(chunk -> {
-              DaprCryptoProtos.EncryptRequest.Builder reqBuilder = DaprCryptoProtos.EncryptRequest.newBuilder()
-                  .setPayload(CommonProtos.StreamPayload.newBuilder()
-                      .setData(ByteString.copyFrom(chunk))
-                      .setSeq(sequenceNumber[0]++)
-                      .build());
-
-              // Include options only in the first message
-              if (firstMessage[0]) {
-                reqBuilder.setOptions(options);
-                firstMessage[0] = false;
-              }
+      // Build options for the first message
+      DaprCryptoProtos.EncryptRequestOptions.Builder optionsBuilder = DaprCryptoProtos.EncryptRequestOptions
+          .newBuilder()
+          .setComponentName(request.getComponentName())
+          .setKeyName(request.getKeyName())
+          .setKeyWrapAlgorithm(request.getKeyWrapAlgorithm());
+
+      if (request.getDataEncryptionCipher() != null && !request.getDataEncryptionCipher().isEmpty()) {
+        optionsBuilder.setDataEncryptionCipher(request.getDataEncryptionCipher());
+      }
+      optionsBuilder.setOmitDecryptionKeyName(request.isOmitDecryptionKeyName());
+      if (request.getDecryptionKeyName() != null && !request.getDecryptionKeyName().isEmpty()) {
+        optionsBuilder.setDecryptionKeyName(request.getDecryptionKeyName());
+      }
+
+      final DaprCryptoProtos.EncryptRequestOptions options = optionsBuilder.build();
+      Flux<DaprCryptoProtos.EncryptRequest> requests = toStreamPayloads(
+          request.getPlainTextBuffers(), request.getChunkSize(), "ENCRYPT_ERROR", "Error reading plaintext stream: ")
+          .map(payload -> {
+            DaprCryptoProtos.EncryptRequest.Builder reqBuilder = DaprCryptoProtos.EncryptRequest.newBuilder()
+                .setPayload(payload);
+            // Include options only in the first message
+            if (payload.getSeq() == 0) {
+              reqBuilder.setOptions(options);
+            }
+            return reqBuilder.build();
+          });
 
-              requestObserver.onNext(reqBuilder.build());
-            })
-            .doOnError(error -> {
-              requestObserver.onError(error);
-              sink.error(DaprException.propagate(new DaprException("ENCRYPT_ERROR", 
-                  "Error reading plaintext stream: " + error.getMessage(), error)));
-            })
-            .doOnComplete(() -> {
-              requestObserver.onCompleted();
-            })
-            .subscribe();
-      });
+      return Flux.deferContextual(context -> BidiStreams.call(
+          (StreamObserver<DaprCryptoProtos.EncryptResponse> responseObserver) ->
+              intercept(context, asyncStub).encryptAlpha1(responseObserver),
+          requests))
+          .onErrorMap(e -> !(e instanceof DaprException), e -> DaprException.propagate(
+              new DaprException("ENCRYPT_ERROR", "Error during encryption: " + e.getMessage(), e)))
+          .concatMapIterable(response -> toStreamData(response.hasPayload(), response.getPayload()));
     } catch (Exception ex) {
       return DaprException.wrapFlux(ex);
     }
@@ -2291,6 +2787,27 @@ public class DaprClientImpl extends AbstractDaprClient {
    */
   @Override
   public Flux<byte[]> decrypt(DecryptRequestAlpha1 request) {
+    return decryptData(request).map(ByteString::toByteArray);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Long> decrypt(DecryptRequestAlpha1 request, WritableByteChannel target) {
+    if (target == null) {
+      return DaprException.wrapMono(new IllegalArgumentException("Target channel cannot be null."));
+    }
+    return write(decryptData(request), target, "DECRYPT_ERROR", "Error writing plaintext: ");
+  }
+
+  /**
+   * Decrypts the data of a request.
+   *
+   * @param request The decryption request.
+   * @return Chunks of plaintext, as received.
+   */
+  private Flux<ByteString> decryptData(DecryptRequestAlpha1 request) {
     try {
       if (request == null) {
         throw new IllegalArgumentException("DecryptRequestAlpha1 cannot be null.");
@@ -2298,82 +2815,117 @@ public class DaprClientImpl extends AbstractDaprClient {
       if (request.getComponentName() == null || request.getComponentName().trim().isEmpty()) {
         throw new IllegalArgumentException("Component name cannot be null or empty.");
       }
-      if (request.getCipherTextStream() == null) {
+      if (request.getCipherTextBuffers() == null) {
         throw new IllegalArgumentException("Ciphertext stream cannot be null.");
       }
+      if (request.getChunkSize() <= 0) {
+        throw new IllegalArgumentException("Chunk size must be positive.");
+      }
 
-      return Flux.create(sink -> {
-        // Create response observer to receive decrypted data
-        final StreamObserver<DaprCryptoProtos.DecryptResponse> responseObserver =
-            new StreamObserver<DaprCryptoProtos.DecryptResponse>() {
-              @Override
-              public void onNext(DaprCryptoProtos.DecryptResponse response) {
-                if (response.hasPayload()) {
-                  byte[] data = response.getPayload().getData().toByteArray();
-                  if (data.length > 0) {
-                    sink.next(data);
-                  }
-                }
-              }
-
-              @Override
-              public void onError(Throwable t) {
-                sink.error(DaprException.propagate(new DaprException("DECRYPT_ERROR",
-                    "Error during decryption: " + t.getMessage(), t)));
-              }
-
-              @Override
-              public void onCompleted() {
-                sink.complete();
-              }
-            };
-
-        // Build options for the first message
-        DaprCryptoProtos.DecryptRequestOptions.Builder optionsBuilder = DaprCryptoProtos.DecryptRequestOptions
-            .newBuilder()
-            .setComponentName(request.getComponentName());
+      // Build options for the first message
+      DaprCryptoProtos.DecryptRequestOptions.Builder optionsBuilder = DaprCryptoProtos.DecryptRequestOptions
+          .newBuilder()
+          .setComponentName(request.getComponentName());
 
-        if (request.getKeyName() != null && !request.getKeyName().isEmpty()) {
-          optionsBuilder.setKeyName(request.getKeyName());
-        }
+      if (request.getKeyName() != null && !request.getKeyName().isEmpty()) {
+        optionsBuilder.setKeyName(request.getKeyName());
+      }
 
-        final DaprCryptoProtos.DecryptRequestOptions options = optionsBuilder.build();
-        final long[] sequenceNumber = {0};
-        final boolean[] firstMessage = {true};
-
-        // Get the request stream observer from gRPC
-        final StreamObserver<DaprCryptoProtos.DecryptRequest> requestObserver =
-            intercept(null, asyncStub).decryptAlpha1(responseObserver);
-
-        // Subscribe to the ciphertext stream and send chunks
-        request.getCipherTextStream()
-            .doOnNext(chunk -> {
-              DaprCryptoProtos.DecryptRequest.Builder reqBuilder = DaprCryptoProtos.DecryptRequest.newBuilder()
-                  .setPayload(CommonProtos.StreamPayload.newBuilder()
-                      .setData(ByteString.copyFrom(chunk))
-                      .setSeq(sequenceNumber[0]++)
-                      .build());
-
-              // Include options only in the first message
-              if (firstMessage[0]) {
-                reqBuilder.setOptions(options);
-                firstMessage[0] = false;
-              }
+      final DaprCryptoProtos.DecryptRequestOptions options = optionsBuilder.build();
+      Flux<DaprCryptoProtos.DecryptRequest> requests = toStreamPayloads(
+          request.getCipherTextBuffers(), request.getChunkSize(), "DECRYPT_ERROR", "Error reading ciphertext stream: ")
+          .map(payload -> {
+            DaprCryptoProtos.DecryptRequest.Builder reqBuilder = DaprCryptoProtos.DecryptRequest.newBuilder()
+                .setPayload(payload);
+            // Include options only in the first message
+            if (payload.getSeq() == 0) {
+              reqBuilder.setOptions(options);
+            }
+            return reqBuilder.build();
+          });
 
-              requestObserver.onNext(reqBuilder.build());
-            })
-            .doOnError(error -> {
-              requestObserver.onError(error);
-              sink.error(DaprException.propagate(new DaprException("DECRYPT_ERROR", 
-                  "Error reading ciphertext stream: " + error.getMessage(), error)));
-            })
-            .doOnComplete(() -> {
-              requestObserver.onCompleted();
-            })
-            .subscribe();
-      });
+      return Flux.deferContextual(context -> BidiStreams.call(
+          (StreamObserver<DaprCryptoProtos.DecryptResponse> responseObserver) ->
+              intercept(context, asyncStub).decryptAlpha1(responseObserver),
+          requests))
+          .onErrorMap(e -> !(e instanceof DaprException), e -> DaprException.propagate(
+              new DaprException("DECRYPT_ERROR", "Error during decryption: " + e.getMessage(), e)))
+          .concatMapIterable(response -> toStreamData(response.hasPayload(), response.getPayload()));
     } catch (Exception ex) {
       return DaprException.wrapFlux(ex);
     }
   }
+
+  /**
+   * Splits a stream into numbered payloads of at most a chunk each.
+   * <p>
+   * The payloads wrap the chunks without copying them: the requests own their buffers, which gRPC serializes
+   * when they are sent, or again if it retries the call transparently.
+   * </p>
+   *
+   * @param buffers      Data to send.
+   * @param chunkSize    Maximum size of the payloads.
+   * @param errorCode    Error code of the failures to read the data.
+   * @param errorMessage Message prefix of the failures to read the data.
+   * @return Payloads, numbered from zero.
+   */
+  private static Flux<CommonProtos.StreamPayload> toStreamPayloads(
+      Flux<ByteBuffer> buffers, int chunkSize, String errorCode, String errorMessage) {
+    return Flux.defer(() -> {
+      long[] sequenceNumber = {0};
+      return ByteChunks.split(buffers, chunkSize)
+          .map(chunk -> CommonProtos.StreamPayload.newBuilder()
+              .setData(UnsafeByteOperations.unsafeWrap(chunk.duplicate()))
+              .setSeq(sequenceNumber[0]++)
+              .build())
+          .onErrorMap(e -> DaprException.propagate(
+              new DaprException(errorCode, errorMessage + e.getMessage(), e)));
+    });
+  }
+
+  /**
+   * Gets the data of a response payload, skipping empty ones.
+   *
+   * @param hasPayload Whether the response has a payload.
+   * @param payload    Payload of the response.
+   * @return The data, or nothing.
+   */
+  private static List<ByteString> toStreamData(boolean hasPayload, CommonProtos.StreamPayload payload) {
+    if (!hasPayload || payload.getData().isEmpty()) {
+      return Collections.emptyList();
+    }
+    return Collections.singletonList(payload.getData());
+  }
+
+  /**
+   * Writes a stream to a channel as it is received, without copying it to arrays.
+   * <p>
+   * The chunks are written on the thread receiving them, and the next ones are only asked for once written, so a
+   * slow channel slows the call down instead of buffering its responses.
+   * </p>
+   *
+   * @param data         Stream to write.
+   * @param target       Channel to write to, left open.
+   * @param errorCode    Error code of the failures to write the data.
+   * @param errorMessage Message prefix of the failures to write the data.
+   * @return Number of bytes written.
+   */
+  private static Mono<Long> write(Flux<ByteString> data, WritableByteChannel target, String errorCode,
+                                  String errorMessage) {
+    return data
+        .reduce(0L, (written, chunk) -> {
+          try {
+            for (ByteBuffer buffer : chunk.asReadOnlyByteBufferList()) {
+              while (buffer.hasRemaining()) {
+                target.write(buffer);
+              }
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          return written + chunk.size();
+        })
+        .onErrorMap(UncheckedIOException.class, e -> DaprException.propagate(
+            new DaprException(errorCode, errorMessage + e.getCause().getMessage(), e.getCause())));
+  }
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.internal.grpc.interceptors.DaprTelemetryInterceptor;
+import io.dapr.internal.resiliency.AdmissionPolicy;
+import io.dapr.internal.resiliency.CircuitBreaker;
+import io.dapr.internal.resiliency.ResiliencyListener;
+import io.dapr.internal.secret.SecretCache;
+import io.dapr.internal.state.StateCache;
+import io.grpc.ClientInterceptor;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Tracer;
+
+import java.util.Locale;
+
+/**
+ * OpenTelemetry instrumentation of the Dapr client, enabled with
+ * {@link DaprClientBuilder#withTelemetry(DaprClientTelemetry)}.
+ * <p>
+ * Every call to the sidecar's gRPC API records a client span, which the sidecar continues, and its duration in
+ * the {@value #DURATION_METRIC} histogram. Both carry the method, the gRPC status code and the name of the
+ * state store, pub/sub, binding or other component used. Only the OpenTelemetry API is needed on the classpath:
+ * spans and metrics are exported by the SDK configured by the application.
+ * </p>
+ */
+public final class DaprClientTelemetry {
+
+  /**
+   * Name of the instrumentation scope.
+   */
+  public static final String INSTRUMENTATION_NAME = "io.dapr.client";
+
+  /**
+   * Name of the histogram of the call durations.
+   */
+  public static final String DURATION_METRIC = "dapr.client.operation.duration";
+
+  /**
+   * Name of the counter of the calls rejected by the circuit breaker or concurrency limit.
+   */
+  public static final String REJECTED_METRIC = "dapr.client.resiliency.rejected";
+
+  /**
+   * Name of the counter of the circuit breaker state transitions.
+   */
+  public static final String CIRCUIT_BREAKER_TRANSITIONS_METRIC = "dapr.client.circuit_breaker.transitions";
+
+  /**
+   * Name of the counter of the retries, including the ones denied by the retry budget.
+   */
+  public static final String RETRIES_METRIC = "dapr.client.retries";
+
+  /**
+   * Name of the counter of the hedged requests sent and of the ones answering first.
+   */
+  public static final String HEDGED_REQUESTS_METRIC = "dapr.client.hedged_requests";
+
+  /**
+   * Name of the counter of the getState calls served from the client-side cache or sent to the sidecar.
+   */
+  public static final String STATE_CACHE_REQUESTS_METRIC = "dapr.client.state_cache.requests";
+
+  /**
+   * Name of the counter of the states evicted from the client-side cache to stay within its limits.
+   */
+  public static final String STATE_CACHE_EVICTIONS_METRIC = "dapr.client.state_cache.evictions";
+
+  /**
+   * Name of the counter of the getSecret calls served from the client-side cache or sent to the sidecar.
+   */
+  public static final String SECRET_CACHE_REQUESTS_METRIC = "dapr.client.secret_cache.requests";
+
+  /**
+   * Name of the counter of the cached secrets read again in the background before they expire.
+   */
+  public static final String SECRET_CACHE_REFRESHES_METRIC = "dapr.client.secret_cache.refreshes";
+
+  private static final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
+
+  private static final AttributeKey<String> COMPONENT_NAME = AttributeKey.stringKey("dapr.component.name");
+
+  private static final AttributeKey<String> REJECTION_REASON = AttributeKey.stringKey("dapr.rejection.reason");
+
+  private static final AttributeKey<String> CIRCUIT_BREAKER_STATE =
+      AttributeKey.stringKey("dapr.circuit_breaker.state");
+
+  private static final AttributeKey<Boolean> RETRY_ALLOWED = AttributeKey.booleanKey("dapr.retry.allowed");
+
+  private static final AttributeKey<String> HEDGE_RESULT = AttributeKey.stringKey("dapr.hedge.result");
+
+  private static final AttributeKey<String> CACHE_RESULT = AttributeKey.stringKey("dapr.state_cache.result");
+
+  private static final AttributeKey<String> SECRET_CACHE_RESULT = AttributeKey.stringKey("dapr.secret_cache.result");
+
+  private static final Attributes RETRY_ALLOWED_ATTRIBUTES = Attributes.of(RETRY_ALLOWED, true);
+
+  private static final Attributes RETRY_DENIED_ATTRIBUTES = Attributes.of(RETRY_ALLOWED, false);
+
+  private final Tracer tracer;
+
+  private final DoubleHistogram duration;
+
+  private final LongCounter rejected;
+
+  private final LongCounter transitions;
+
+  private final LongCounter retries;
+
+  private final LongCounter hedgedRequests;
+
+  private final LongCounter cacheRequests;
+
+  private final LongCounter cacheEvictions;
+
+  private final LongCounter secretCacheRequests;
+
+  private final LongCounter secretCacheRefreshes;
+
+  private DaprClientTelemetry(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(INSTRUMENTATION_NAME);
+    this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    this.duration = meter
+        .histogramBuilder(DURATION_METRIC)
+        .setDescription("Duration of the calls to the Dapr sidecar.")
+        .setUnit("s")
+        .build();
+    this.rejected = meter
+        .counterBuilder(REJECTED_METRIC)
+        .setDescription("Calls rejected by the client without reaching the Dapr sidecar.")
+        .build();
+    this.transitions = meter
+        .counterBuilder(CIRCUIT_BREAKER_TRANSITIONS_METRIC)
+        .setDescription("State transitions of the client's circuit breakers.")
+        .build();
+    this.retries = meter
+        .counterBuilder(RETRIES_METRIC)
+        .setDescription("Retries of failed calls to the Dapr sidecar, by whether the retry budget allowed them.")
+        .build();
+    this.hedgedRequests = meter
+        .counterBuilder(HEDGED_REQUESTS_METRIC)
+        .setDescription("Hedged requests sent for slow read-only calls, and the ones answering first.")
+        .build();
+    this.cacheRequests = meter
+        .counterBuilder(STATE_CACHE_REQUESTS_METRIC)
+        .setDescription("State reads served from the client-side cache (hit) or sent to the sidecar (miss).")
+        .build();
+    this.cacheEvictions = meter
+        .counterBuilder(STATE_CACHE_EVICTIONS_METRIC)
+        .setDescription("States evicted from the client-side cache to stay within its size or weight limit.")
+        .build();
+    this.secretCacheRequests = meter
+        .counterBuilder(SECRET_CACHE_REQUESTS_METRIC)
+        .setDescription("Secret reads served from the client-side cache (hit) or sent to the sidecar (miss).")
+        .build();
+    this.secretCacheRefreshes = meter
+        .counterBuilder(SECRET_CACHE_REFRESHES_METRIC)
+        .setDescription("Cached secrets read again in the background before they expire.")
+        .build();
+  }
+
+  /**
+   * Creates the instrumentation for an OpenTelemetry instance.
+   *
+   * @param openTelemetry OpenTelemetry instance providing the tracer and meter.
+   * @return Instrumentation of the Dapr client.
+   */
+  public static DaprClientTelemetry create(OpenTelemetry openTelemetry) {
+    if (openTelemetry == null) {
+      throw new IllegalArgumentException("OpenTelemetry is required");
+    }
+
+    return new DaprClientTelemetry(openTelemetry);
+  }
+
+  /**
+   * Creates the instrumentation for the globally registered OpenTelemetry instance.
+   *
+   * @return Instrumentation of the Dapr client.
+   */
+  public static DaprClientTelemetry global() {
+    return create(GlobalOpenTelemetry.get());
+  }
+
+  /**
+   * Creates the interceptor recording the calls made on a channel.
+   *
+   * @return gRPC interceptor.
+   */
+  ClientInterceptor newInterceptor() {
+    return new DaprTelemetryInterceptor(this.tracer, this.duration);
+  }
+
+  /**
+   * Creates the listener counting the rejected calls, circuit state transitions, retries and hedged requests.
+   *
+   * @return Resiliency listener.
+   */
+  ResiliencyListener newResiliencyListener() {
+    return new ResiliencyListener() {
+      @Override
+      public void onRejected(String api, String component, AdmissionPolicy.Rejection reason) {
+        rejected.add(1, attributes(api, component).put(REJECTION_REASON, toAttributeValue(reason)).build());
+      }
+
+      @Override
+      public void onStateChange(String api, String component, CircuitBreaker.State from, CircuitBreaker.State to) {
+        transitions.add(1, attributes(api, component).put(CIRCUIT_BREAKER_STATE, toAttributeValue(to)).build());
+      }
+
+      @Override
+      public void onRetry(boolean allowed) {
+        retries.add(1, allowed ? RETRY_ALLOWED_ATTRIBUTES : RETRY_DENIED_ATTRIBUTES);
+      }
+
+      @Override
+      public void onHedgeSent(String api, String component) {
+        hedgedRequests.add(1, attributes(api, component).put(HEDGE_RESULT, "sent").build());
+      }
+
+      @Override
+      public void onHedgeWon(String api, String component) {
+        hedgedRequests.add(1, attributes(api, component).put(HEDGE_RESULT, "won").build());
+      }
+    };
+  }
+
+  /**
+   * Creates the listener counting the hits, misses and evictions of the state cache.
+   *
+   * @return State cache listener.
+   */
+  StateCache.Listener newStateCacheListener() {
+    return new StateCache.Listener() {
+      @Override
+      public void onHit(String storeName) {
+        cacheRequests.add(1, attributes("GetState", storeName).put(CACHE_RESULT, "hit").build());
+      }
+
+      @Override
+      public void onMiss(String storeName) {
+        cacheRequests.add(1, attributes("GetState", storeName).put(CACHE_RESULT, "miss").build());
+      }
+
+      @Override
+      public void onEviction(String storeName) {
+        cacheEvictions.add(1, attributes("GetState", storeName).build());
+      }
+    };
+  }
+
+  /**
+   * Creates the listener counting the hits, misses and background refreshes of the secret cache.
+   *
+   * @return Secret cache listener.
+   */
+  SecretCache.Listener newSecretCacheListener() {
+    return new SecretCache.Listener() {
+      @Override
+      public void onHit(String storeName) {
+        secretCacheRequests.add(1, attributes("GetSecret", storeName).put(SECRET_CACHE_RESULT, "hit").build());
+      }
+
+      @Override
+      public void onMiss(String storeName) {
+        secretCacheRequests.add(1, attributes("GetSecret", storeName).put(SECRET_CACHE_RESULT, "miss").build());
+      }
+
+      @Override
+      public void onRefresh(String storeName) {
+        secretCacheRefreshes.add(1, attributes("GetSecret", storeName).build());
+      }
+    };
+  }
+
+  private static AttributesBuilder attributes(String api, String component) {
+    AttributesBuilder attributes = Attributes.builder().put(RPC_METHOD, api);
+    if (component != null) {
+      attributes.put(COMPONENT_NAME, component);
+    }
+    return attributes;
+  }
+
+  private static String toAttributeValue(Enum<?> value) {
+    return value.name().toLowerCase(Locale.ROOT);
+  }
+}
@@ -14,10 +14,12 @@ limitations under the License.
 package io.dapr.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.dapr.client.domain.Metadata;
 import io.dapr.exceptions.DaprError;
 import io.dapr.exceptions.DaprException;
 import io.dapr.internal.exceptions.DaprHttpException;
+import io.dapr.internal.opentelemetry.OpenTelemetryTraceContext;
 import io.dapr.utils.Version;
 import reactor.core.publisher.Mono;
 import reactor.util.context.ContextView;
@@ -26,6 +28,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
@@ -40,6 +43,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
 public class DaprHttp implements AutoCloseable {
 
@@ -69,9 +74,9 @@ public class DaprHttp implements AutoCloseable {
   private static final Set<String> ALLOWED_CONTEXT_IN_HEADERS = Set.of("grpc-trace-bin", "traceparent", "tracestate");
 
   /**
-   * Object mapper to parse DaprError with or without details.
+   * Reader to parse DaprError with or without details.
    */
-  private static final ObjectMapper DAPR_ERROR_DETAILS_OBJECT_MAPPER = new ObjectMapper();
+  private static final ObjectReader DAPR_ERROR_READER = new ObjectMapper().readerFor(DaprError.class);
 
   /**
    * HTTP Methods supported.
@@ -91,7 +96,8 @@ public class DaprHttp implements AutoCloseable {
 
   public static class Response {
     private final byte[] body;
-    private final Map<String, String> headers;
+    private final HttpHeaders httpHeaders;
+    private volatile Map<String, String> headers;
     private final int statusCode;
 
     /**
@@ -103,16 +109,44 @@ public class DaprHttp implements AutoCloseable {
      */
     public Response(byte[] body, Map<String, String> headers, int statusCode) {
       this.body = body == null ? EMPTY_BYTES : Arrays.copyOf(body, body.length);
+      this.httpHeaders = null;
       this.headers = headers == null ? null : Collections.unmodifiableMap(headers);
       this.statusCode = statusCode;
     }
 
+    /**
+     * Represents a HTTP response received by this client, which owns the body and
+     * only copies the headers if they are read.
+     *
+     * @param body        The body of the http response.
+     * @param httpHeaders The headers of the http response.
+     * @param statusCode  The status code of the http response.
+     */
+    Response(byte[] body, HttpHeaders httpHeaders, int statusCode) {
+      this.body = body;
+      this.httpHeaders = httpHeaders;
+      this.statusCode = statusCode;
+    }
+
     public byte[] getBody() {
       return Arrays.copyOf(this.body, this.body.length);
     }
 
+    /**
+     * Gets the headers of the response, keeping the first value of each header.
+     *
+     * @return Headers of the response.
+     */
     public Map<String, String> getHeaders() {
-      return headers;
+      Map<String, String> result = this.headers;
+      if ((result == null) && (this.httpHeaders != null)) {
+        Map<String, String> responseHeaders = new HashMap<>();
+        this.httpHeaders.map().forEach((k, v) -> responseHeaders.put(k, v.isEmpty() ? null : v.get(0)));
+        result = Collections.unmodifiableMap(responseHeaders);
+        this.headers = result;
+      }
+
+      return result;
     }
 
     public int getStatusCode() {
@@ -140,6 +174,11 @@ public class DaprHttp implements AutoCloseable {
    */
   private final URI uri;
 
+  /**
+   * Scheme, authority and base path of {@link #uri}, the prefix of every request URI.
+   */
+  private final String baseUrl;
+
   /**
    * Dapr API Token required to interact with DAPR APIs.
    */
@@ -165,6 +204,7 @@ public class DaprHttp implements AutoCloseable {
    */
   DaprHttp(String hostname, int port, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
     this.uri = URI.create(DEFAULT_HTTP_SCHEME + "://" + hostname + ":" + port);
+    this.baseUrl = this.uri.getScheme() + "://" + this.uri.getAuthority() + this.uri.getPath();
     this.daprApiToken = daprApiToken;
     this.readTimeout = readTimeout;
     this.httpClient = httpClient;
@@ -179,6 +219,7 @@ public class DaprHttp implements AutoCloseable {
    */
   DaprHttp(String uri, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
     this.uri = URI.create(uri);
+    this.baseUrl = this.uri.getScheme() + "://" + this.uri.getAuthority() + this.uri.getPath();
     this.daprApiToken = daprApiToken;
     this.readTimeout = readTimeout;
     this.httpClient = httpClient;
@@ -252,7 +293,8 @@ public class DaprHttp implements AutoCloseable {
   }
 
   /**
-   * Shutdown call is not necessary for HttpClient.
+   * Shutdown call is not necessary for HttpClient, which is shared by the DaprHttp instances built with the same
+   * settings or executor.
    * @see HttpClient
    */
   @Override
@@ -280,9 +322,9 @@ public class DaprHttp implements AutoCloseable {
       ContextView context) {
     HttpRequest.Builder requestBuilder = HttpRequest.newBuilder();
 
-    requestBuilder.uri(createUri(uri, pathSegments, urlParameters));
+    requestBuilder.uri(createUri(baseUrl, pathSegments, urlParameters));
     addHeader(requestBuilder, Headers.DAPR_USER_AGENT, Version.getSdkVersion());
-    addHeader(requestBuilder, HEADER_DAPR_REQUEST_ID, UUID.randomUUID().toString());
+    addHeader(requestBuilder, HEADER_DAPR_REQUEST_ID, newRequestId());
     addHeader(requestBuilder, "Content-Type", getContentType(headers));
     addHeaders(requestBuilder, headers);
 
@@ -290,10 +332,35 @@ public class DaprHttp implements AutoCloseable {
       addHeader(requestBuilder, Headers.DAPR_API_TOKEN, daprApiToken);
     }
 
-    if (context != null) {
-      context.stream()
-          .filter(entry -> ALLOWED_CONTEXT_IN_HEADERS.contains(entry.getKey().toString().toLowerCase()))
-          .forEach(entry -> addHeader(requestBuilder, entry.getKey().toString(), entry.getValue().toString()));
+    boolean hasTraceContext = false;
+    if ((context != null) && !context.isEmpty()) {
+      for (String key : ALLOWED_CONTEXT_IN_HEADERS) {
+        Object value = context.getOrDefault(key, null);
+        if (value != null) {
+          addHeader(requestBuilder, key, value.toString());
+          hasTraceContext = true;
+        }
+      }
+      if (!hasTraceContext) {
+        // Keys put by the caller in another case, such as "TraceParent", are only found by a scan.
+        List<Map.Entry<Object, Object>> entries = context.stream()
+            .filter(entry -> ALLOWED_CONTEXT_IN_HEADERS.contains(entry.getKey().toString().toLowerCase()))
+            .collect(Collectors.toList());
+        for (Map.Entry<Object, Object> entry : entries) {
+          addHeader(requestBuilder, entry.getKey().toString(), entry.getValue().toString());
+        }
+        hasTraceContext = !entries.isEmpty();
+      }
+    }
+
+    if (!hasTraceContext) {
+      OpenTelemetryTraceContext otelContext = OpenTelemetryTraceContext.current(context);
+      if (otelContext != null) {
+        addHeader(requestBuilder, "traceparent", otelContext.getTraceparent());
+        if (otelContext.getTracestate() != null) {
+          addHeader(requestBuilder, "tracestate", otelContext.getTracestate());
+        }
+      }
     }
 
     HttpRequest.BodyPublisher body = getBodyPublisher(content);
@@ -321,12 +388,10 @@ public class DaprHttp implements AutoCloseable {
     return result == null ? MEDIA_TYPE_APPLICATION_JSON : result;
   }
 
-  private static URI createUri(URI uri, String[] pathSegments, Map<String, List<String>> urlParameters) {
-    String path = createPath(uri, pathSegments);
+  private static URI createUri(String baseUrl, String[] pathSegments, Map<String, List<String>> urlParameters) {
+    StringBuilder result = new StringBuilder(baseUrl.length() + 64).append(baseUrl);
+    appendPath(result, pathSegments);
     String query = createQuery(urlParameters);
-    StringBuilder result = new StringBuilder();
-
-    result.append(uri.getScheme()).append("://").append(uri.getAuthority()).append(path);
 
     if (query != null) {
       result.append("?").append(query);
@@ -339,16 +404,12 @@ public class DaprHttp implements AutoCloseable {
     }
   }
 
-  private static String createPath(URI uri, String[] pathSegments) {
-    String basePath = uri.getPath();
-
+  private static void appendPath(StringBuilder pathBuilder, String[] pathSegments) {
     if (pathSegments == null || pathSegments.length == 0) {
-      return basePath;
+      return;
     }
 
-    StringBuilder pathBuilder = new StringBuilder(basePath);
-
-    if (!basePath.endsWith("/")) { // Add a "/" if needed
+    if (pathBuilder.charAt(pathBuilder.length() - 1) != '/') { // Add a "/" if needed
       pathBuilder.append("/");
     }
 
@@ -357,12 +418,11 @@ public class DaprHttp implements AutoCloseable {
         continue; // Skip empty segments
       }
 
-      pathBuilder.append(encodePathSegment(segment)).append("/"); // Encode each segment
+      appendPathSegment(pathBuilder, segment);
+      pathBuilder.append("/");
     }
 
     pathBuilder.deleteCharAt(pathBuilder.length() - 1); // Remove the trailing "/"
-
-    return pathBuilder.toString();
   }
 
   private static String createQuery(Map<String, List<String>> urlParameters) {
@@ -393,8 +453,36 @@ public class DaprHttp implements AutoCloseable {
     return queryBuilder.toString();
   }
 
-  private static String encodePathSegment(String segment) {
-    return URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"); // Encode and handle spaces
+  private static void appendPathSegment(StringBuilder pathBuilder, String segment) {
+    for (int i = 0; i < segment.length(); i++) {
+      if (!isUnreserved(segment.charAt(i))) {
+        // Encode and handle spaces
+        pathBuilder.append(URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"));
+        return;
+      }
+    }
+
+    // Most segments (API version, app ids, method names) need no encoding.
+    pathBuilder.append(segment);
+  }
+
+  private static boolean isUnreserved(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+        || c == '-' || c == '.' || c == '_' || c == '*';
+  }
+
+  /**
+   * Generates a random request id in UUID format. Request ids only need to be unique, so they come from
+   * a thread-local generator instead of the contended {@link java.security.SecureRandom} behind
+   * {@link UUID#randomUUID()}.
+   *
+   * @return New request id.
+   */
+  static String newRequestId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L; // Version 4
+    long leastSigBits = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48); // IETF variant
+    return new UUID(mostSigBits, leastSigBits).toString();
   }
 
   private static String encodeQueryParam(String key, String value) {
@@ -432,10 +520,7 @@ public class DaprHttp implements AutoCloseable {
       }
     }
 
-    Map<String, String> responseHeaders = new HashMap<>();
-    httpResponse.headers().map().forEach((k, v) -> responseHeaders.put(k, v.isEmpty() ? null : v.get(0)));
-
-    return new Response(body, responseHeaders, httpStatusCode);
+    return new Response(body, httpResponse.headers(), httpStatusCode);
   }
 
   /**
@@ -450,7 +535,7 @@ public class DaprHttp implements AutoCloseable {
     }
 
     try {
-      return DAPR_ERROR_DETAILS_OBJECT_MAPPER.readValue(json, DaprError.class);
+      return DAPR_ERROR_READER.readValue(json);
     } catch (IOException e) {
       // Could not parse DaprError. Return null.
       return null;
@@ -17,10 +17,13 @@ import io.dapr.config.Properties;
 
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 import static io.dapr.config.Properties.API_TOKEN;
+import static io.dapr.config.Properties.HTTP_CLIENT_HTTP2_ENABLED;
 import static io.dapr.config.Properties.HTTP_CLIENT_MAX_REQUESTS;
 import static io.dapr.config.Properties.HTTP_CLIENT_READ_TIMEOUT_SECONDS;
 import static io.dapr.config.Properties.HTTP_ENDPOINT;
@@ -29,15 +32,48 @@ import static io.dapr.config.Properties.SIDECAR_IP;
 
 /**
  * A builder for the DaprHttp.
+ * <p>
+ * The JDK's HttpClient only reads the size and idle timeout of its connection pool from the
+ * {@code jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout} system properties,
+ * once for the whole JVM. The SDK leaves them to the application, which can set them on the command line.
+ * </p>
  */
 public class DaprHttpBuilder {
 
-  private static volatile HttpClient HTTP_CLIENT;
+  /**
+   * Http clients shared by all DaprHttp instances with the same settings.
+   */
+  private static final Map<String, HttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+
+  /**
+   * Executor for a dedicated Http client, or null to share one by settings.
+   */
+  private Executor executor;
 
   /**
-   * Static lock object.
+   * Http clients running on the executor, by HTTP version, reused by all DaprHttp instances this builder builds.
    */
-  private static final Object LOCK = new Object();
+  private final Map<HttpClient.Version, HttpClient> executorHttpClients = new ConcurrentHashMap<>();
+
+  /**
+   * Sets the executor running the HTTP client's asynchronous tasks, such as a virtual thread executor.
+   * DaprHttp instances built with an executor share an HttpClient of their own instead of the one shared by
+   * settings.
+   *
+   * @param executor Executor for the HTTP client.
+   * @return This instance.
+   */
+  public DaprHttpBuilder withExecutor(Executor executor) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor is required");
+    }
+
+    if (executor != this.executor) {
+      this.executorHttpClients.clear();
+    }
+    this.executor = executor;
+    return this;
+  }
 
   /**
    * Build an instance of the Http client based on the provided setup.
@@ -55,30 +91,41 @@ public class DaprHttpBuilder {
    * @return Instance of {@link DaprHttp}
    */
   private DaprHttp buildDaprHttp(Properties properties) {
-    if (HTTP_CLIENT == null) {
-      synchronized (LOCK) {
-        if (HTTP_CLIENT == null) {
-          int maxRequests = properties.getValue(HTTP_CLIENT_MAX_REQUESTS);
-          Executor executor = Executors.newFixedThreadPool(maxRequests);
-          HTTP_CLIENT = HttpClient.newBuilder()
-              .executor(executor)
-              .version(HttpClient.Version.HTTP_1_1)
-              .build();
-        }
-      }
-    }
-
+    HttpClient httpClient = this.getHttpClient(properties);
     String endpoint = properties.getValue(HTTP_ENDPOINT);
     String apiToken = properties.getValue(API_TOKEN);
     Duration readTimeout = Duration.ofSeconds(properties.getValue(HTTP_CLIENT_READ_TIMEOUT_SECONDS));
 
     if ((endpoint != null) && !endpoint.isEmpty()) {
-      return new DaprHttp(endpoint, apiToken, readTimeout, HTTP_CLIENT);
+      return new DaprHttp(endpoint, apiToken, readTimeout, httpClient);
     }
 
     String sidecarIp = properties.getValue(SIDECAR_IP);
     int port = properties.getValue(HTTP_PORT);
 
-    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, HTTP_CLIENT);
+    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, httpClient);
+  }
+
+  /**
+   * Gets the HttpClient for the given settings, reusing the one built for the same settings if any.
+   * @param properties to configure the HttpClient
+   * @return HttpClient
+   */
+  private HttpClient getHttpClient(Properties properties) {
+    boolean http2 = properties.getValue(HTTP_CLIENT_HTTP2_ENABLED);
+    HttpClient.Version version = http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+    if (this.executor != null) {
+      Executor executor = this.executor;
+      return this.executorHttpClients.computeIfAbsent(version, key -> HttpClient.newBuilder()
+          .executor(executor)
+          .version(key)
+          .build());
+    }
+
+    int maxRequests = properties.getValue(HTTP_CLIENT_MAX_REQUESTS);
+    return HTTP_CLIENTS.computeIfAbsent(version + "/" + maxRequests, key -> HttpClient.newBuilder()
+        .executor(Executors.newFixedThreadPool(maxRequests))
+        .version(version)
+        .build());
   }
 }
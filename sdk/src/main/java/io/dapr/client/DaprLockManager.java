@@ -0,0 +1,349 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.LockManagerOptions;
+import io.dapr.client.domain.UnlockResponseStatus;
+import io.dapr.exceptions.DaprException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Acquires distributed locks of a lock store on top of {@link DaprPreviewClient#tryLock(String, String, String,
+ * Integer)} and {@link DaprPreviewClient#unlock(String, String, String)}.
+ * <p>
+ * Requests for a resource already locked or being locked by this manager wait in a local queue, so only one of
+ * them at a time polls the lock store; it retries with jittered exponential backoff while the lock is held by
+ * others. Each lock gets its own owner id. The lock API has no way to extend a lease, so every handle tracks the
+ * lease it was granted: once it runs out, {@link LockHandle#onExpired()} completes and the next local request is
+ * let through, the same as the lock store does for other processes.
+ * </p>
+ */
+public final class DaprLockManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DaprLockManager.class);
+
+  private static final NotAcquiredException NOT_ACQUIRED = new NotAcquiredException();
+
+  private final DaprPreviewClient client;
+
+  private final String storeName;
+
+  private final int leaseSeconds;
+
+  private final Duration acquireTimeout;
+
+  private final Duration minBackoff;
+
+  private final Duration maxBackoff;
+
+  private final Scheduler scheduler;
+
+  private final String ownerPrefix = UUID.randomUUID().toString();
+
+  private final AtomicLong owners = new AtomicLong();
+
+  /**
+   * Requests of each resource in arrival order, the first one holding or acquiring the lock. Guarded by this.
+   */
+  private final Map<String, Deque<Turn>> queues = new HashMap<>();
+
+  /**
+   * Creates a lock manager.
+   *
+   * @param client    Client calling the lock API.
+   * @param storeName Name of the lock store.
+   * @param options   Lock options.
+   */
+  public DaprLockManager(DaprPreviewClient client, String storeName, LockManagerOptions options) {
+    this(client, storeName, options, Schedulers.parallel());
+  }
+
+  DaprLockManager(DaprPreviewClient client, String storeName, LockManagerOptions options, Scheduler scheduler) {
+    if (client == null) {
+      throw new IllegalArgumentException("Client is required");
+    }
+    if ((storeName == null) || storeName.trim().isEmpty()) {
+      throw new IllegalArgumentException("State store name cannot be null or empty.");
+    }
+    if (options == null) {
+      throw new IllegalArgumentException("Lock manager options are required");
+    }
+    if (!isPositive(options.getLeaseDuration())) {
+      throw new IllegalArgumentException("Lease duration must be positive");
+    }
+    if ((options.getAcquireTimeout() != null) && !isPositive(options.getAcquireTimeout())) {
+      throw new IllegalArgumentException("Acquire timeout must be positive");
+    }
+    if (!isPositive(options.getMinBackoff()) || (options.getMaxBackoff() == null)
+        || (options.getMaxBackoff().compareTo(options.getMinBackoff()) < 0)) {
+      throw new IllegalArgumentException("Backoff must be positive, and the maximum not less than the minimum");
+    }
+
+    this.client = client;
+    this.storeName = storeName;
+    this.leaseSeconds = (int) Math.min(Integer.MAX_VALUE,
+        (options.getLeaseDuration().toMillis() + TimeUnit.SECONDS.toMillis(1) - 1) / TimeUnit.SECONDS.toMillis(1));
+    this.acquireTimeout = options.getAcquireTimeout();
+    this.minBackoff = options.getMinBackoff();
+    this.maxBackoff = options.getMaxBackoff();
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Acquires the lock of a resource, waiting while it is held.
+   *
+   * @param resourceId Resource to lock.
+   * @return Handle of the lock, to release once done.
+   */
+  public Mono<LockHandle> acquire(String resourceId) {
+    if ((resourceId == null) || resourceId.isEmpty()) {
+      return DaprException.wrapMono(new IllegalArgumentException("ResourceId cannot be null or empty."));
+    }
+
+    Mono<LockHandle> acquire = Mono.defer(() -> {
+      Turn turn = this.enqueue(resourceId);
+      return turn.granted.asMono()
+          .then(Mono.defer(() -> this.lock(turn)))
+          .doOnError(e -> this.leave(turn))
+          .doOnCancel(() -> this.abandon(turn));
+    });
+    return this.acquireTimeout == null ? acquire : acquire.timeout(this.acquireTimeout, this.scheduler);
+  }
+
+  /**
+   * Runs an action while holding the lock of a resource, releasing it once the action completes or fails.
+   *
+   * @param resourceId Resource to lock.
+   * @param action     Action to run.
+   * @param <T>        Type of the result.
+   * @return Result of the action.
+   */
+  public <T> Mono<T> withLock(String resourceId, Function<LockHandle, Mono<T>> action) {
+    return Mono.usingWhen(this.acquire(resourceId), action, LockHandle::release);
+  }
+
+  private Mono<LockHandle> lock(Turn turn) {
+    String owner = this.ownerPrefix + '-' + this.owners.incrementAndGet();
+    return Mono.defer(() -> {
+      long startNanos = System.nanoTime();
+      return this.client.tryLock(this.storeName, turn.resourceId, owner, this.leaseSeconds)
+          .flatMap(acquired -> acquired ? Mono.just(startNanos) : Mono.error(NOT_ACQUIRED));
+    })
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, this.minBackoff)
+            .maxBackoff(this.maxBackoff)
+            .jitter(0.5)
+            .scheduler(this.scheduler)
+            .filter(NotAcquiredException.class::isInstance))
+        .map(startNanos -> {
+          LockHandle handle = new LockHandle(turn, owner);
+          long elapsedNanos = System.nanoTime() - startNanos;
+          long remainingNanos = Math.max(0, TimeUnit.SECONDS.toNanos(this.leaseSeconds) - elapsedNanos);
+          handle.expiry = this.scheduler.schedule(handle::expire, remainingNanos, TimeUnit.NANOSECONDS);
+          turn.handle = handle;
+          return handle;
+        });
+  }
+
+  private Turn enqueue(String resourceId) {
+    Turn turn = new Turn(resourceId);
+    boolean first;
+    synchronized (this) {
+      Deque<Turn> queue = this.queues.computeIfAbsent(resourceId, it -> new ArrayDeque<>());
+      queue.addLast(turn);
+      first = queue.size() == 1;
+    }
+
+    if (first) {
+      turn.granted.tryEmitEmpty();
+    }
+    return turn;
+  }
+
+  /**
+   * Gives up a request, releasing the lock if it was acquired as the request got cancelled.
+   */
+  private void abandon(Turn turn) {
+    LockHandle handle = turn.handle;
+    if (handle != null) {
+      handle.release().subscribe(it -> {
+      }, e -> LOGGER.debug("Failed to release abandoned lock of {}", turn.resourceId, e));
+    } else {
+      this.leave(turn);
+    }
+  }
+
+  /**
+   * Removes a request from its queue, letting the next one through if it was first.
+   */
+  private void leave(Turn turn) {
+    Turn next = null;
+    synchronized (this) {
+      Deque<Turn> queue = this.queues.get(turn.resourceId);
+      if (queue == null) {
+        return;
+      }
+
+      boolean first = queue.peekFirst() == turn;
+      if (!queue.remove(turn)) {
+        return;
+      }
+      if (queue.isEmpty()) {
+        this.queues.remove(turn.resourceId);
+      } else if (first) {
+        next = queue.peekFirst();
+      }
+    }
+
+    if (next != null) {
+      next.granted.tryEmitEmpty();
+    }
+  }
+
+  private static boolean isPositive(Duration duration) {
+    return (duration != null) && !duration.isNegative() && !duration.isZero();
+  }
+
+  /**
+   * A lock held on a resource.
+   */
+  public final class LockHandle {
+
+    private final Turn turn;
+
+    private final String lockOwner;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private final Sinks.Empty<Void> expired = Sinks.empty();
+
+    private volatile Disposable expiry;
+
+    private volatile boolean leaseExpired;
+
+    private LockHandle(Turn turn, String lockOwner) {
+      this.turn = turn;
+      this.lockOwner = lockOwner;
+    }
+
+    public String getResourceId() {
+      return this.turn.resourceId;
+    }
+
+    public String getLockOwner() {
+      return this.lockOwner;
+    }
+
+    /**
+     * Checks whether the lock is still held: neither released nor past its lease.
+     *
+     * @return True if the lock is held.
+     */
+    public boolean isHeld() {
+      return !this.released.get() && !this.leaseExpired;
+    }
+
+    /**
+     * Completes when the lease runs out before the lock is released, after which other requests can acquire it.
+     *
+     * @return Empty Mono.
+     */
+    public Mono<Void> onExpired() {
+      return this.expired.asMono();
+    }
+
+    /**
+     * Releases the lock and lets the next request for the resource through. Releasing twice does nothing.
+     *
+     * @return Empty Mono, completed once the lock store released the lock.
+     */
+    public Mono<Void> release() {
+      return Mono.defer(() -> {
+        if (!this.released.compareAndSet(false, true)) {
+          return Mono.empty();
+        }
+
+        Disposable expiry = this.expiry;
+        if (expiry != null) {
+          expiry.dispose();
+        }
+        return client.unlock(storeName, this.turn.resourceId, this.lockOwner)
+            .doOnNext(status -> {
+              if (status != UnlockResponseStatus.SUCCESS) {
+                LOGGER.debug("Lock of {} was not released: {}", this.turn.resourceId, status);
+              }
+            })
+            .doFinally(signal -> leave(this.turn))
+            .then();
+      });
+    }
+
+    private void expire() {
+      if (this.released.get()) {
+        return;
+      }
+
+      LOGGER.warn("Lease of the lock of {} expired before it was released", this.turn.resourceId);
+      this.leaseExpired = true;
+      this.expired.tryEmitEmpty();
+      leave(this.turn);
+    }
+  }
+
+  /**
+   * A request for the lock of a resource.
+   */
+  private static final class Turn {
+
+    private final String resourceId;
+
+    /**
+     * Completed once the request is first in its queue.
+     */
+    private final Sinks.Empty<Void> granted = Sinks.empty();
+
+    private volatile LockHandle handle;
+
+    private Turn(String resourceId) {
+      this.resourceId = resourceId;
+    }
+  }
+
+  /**
+   * Signals a lock held by others, to retry; shared as it carries no stack trace.
+   */
+  private static final class NotAcquiredException extends RuntimeException {
+
+    private NotAcquiredException() {
+      super("Lock is held by another owner", null, false, false);
+    }
+  }
+}
@@ -23,7 +23,9 @@ import io.dapr.client.domain.ConversationResponse;
 import io.dapr.client.domain.ConversationResponseAlpha2;
 import io.dapr.client.domain.DecryptRequestAlpha1;
 import io.dapr.client.domain.EncryptRequestAlpha1;
+import io.dapr.client.domain.GetJobResponse;
 import io.dapr.client.domain.LockRequest;
+import io.dapr.client.domain.QueryStateItem;
 import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
 import io.dapr.client.domain.UnlockRequest;
@@ -33,6 +35,8 @@ import io.dapr.utils.TypeRef;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -159,6 +163,30 @@ public interface DaprPreviewClient extends AutoCloseable {
    */
   <T> Mono<QueryStateResponse<T>> queryState(QueryStateRequest request, TypeRef<T> type);
 
+  /**
+   * Streams all the states matching a query, following the continuation token of every page.
+   * The next page is requested while the current one is consumed, and items are only deserialized as they are
+   * emitted. The query string, if used instead of a {@link Query}, must be a JSON object.
+   *
+   * @param request Query request object, its pagination limit sets the page size.
+   * @param clazz The type needed as return for the call.
+   * @param <T> The Type of the return, use byte[] to skip serialization.
+   * @return A Flux of the matching states.
+   */
+  <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, Class<T> clazz);
+
+  /**
+   * Streams all the states matching a query, following the continuation token of every page.
+   * The next page is requested while the current one is consumed, and items are only deserialized as they are
+   * emitted. The query string, if used instead of a {@link Query}, must be a JSON object.
+   *
+   * @param request Query request object, its pagination limit sets the page size.
+   * @param type The type needed as return for the call.
+   * @param <T> The Type of the return, use byte[] to skip serialization.
+   * @return A Flux of the matching states.
+   */
+  <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, TypeRef<T> type);
+
   /**
    * Publish multiple events to Dapr in a single request.
    *
@@ -369,6 +397,16 @@ public interface DaprPreviewClient extends AutoCloseable {
    */
   public Mono<ConversationResponseAlpha2> converseAlpha2(ConversationRequestAlpha2 conversationRequestAlpha2);
 
+  /**
+   * Converse with an LLM using Alpha2 API, for many requests with a bounded number in flight.
+   *
+   * @param conversationRequests requests to be passed to the LLM.
+   * @param maxConcurrency       maximum number of requests sent to the sidecar at once.
+   * @return Flux of the {@link ConversationResponseAlpha2}, in the order of the requests.
+   */
+  Flux<ConversationResponseAlpha2> converseAlpha2(Iterable<ConversationRequestAlpha2> conversationRequests,
+                                                  int maxConcurrency);
+
   /**
    * Encrypt data using the Dapr cryptography building block.
    * This method uses streaming to handle large payloads efficiently.
@@ -379,6 +417,28 @@ public interface DaprPreviewClient extends AutoCloseable {
    */
   Flux<byte[]> encrypt(EncryptRequestAlpha1 request);
 
+  /**
+   * Encrypt data using the Dapr cryptography building block, writing the ciphertext to a channel as it is received.
+   * The ciphertext is written without being copied to arrays, and is only asked for as fast as the channel takes it.
+   *
+   * @param request The encryption request containing component name, key information, and plaintext stream.
+   * @param target  Blocking channel the ciphertext is written to; it is not closed.
+   * @return A Mono of the number of bytes written.
+   * @throws IllegalArgumentException if required parameters are missing.
+   */
+  Mono<Long> encrypt(EncryptRequestAlpha1 request, WritableByteChannel target);
+
+  /**
+   * Encrypt data using the Dapr cryptography building block, writing the ciphertext to a file.
+   * The file is created or truncated, and is left incomplete if the encryption fails.
+   *
+   * @param request The encryption request containing component name, key information, and plaintext stream.
+   * @param target  File the ciphertext is written to.
+   * @return A Mono of the number of bytes written.
+   * @throws IllegalArgumentException if required parameters are missing.
+   */
+  Mono<Long> encrypt(EncryptRequestAlpha1 request, Path target);
+
   /**
    * Decrypt data using the Dapr cryptography building block.
    * This method uses streaming to handle large payloads efficiently.
@@ -388,4 +448,44 @@ public interface DaprPreviewClient extends AutoCloseable {
    * @throws IllegalArgumentException if required parameters are missing.
    */
   Flux<byte[]> decrypt(DecryptRequestAlpha1 request);
+
+  /**
+   * Decrypt data using the Dapr cryptography building block, writing the plaintext to a channel as it is received.
+   * The plaintext is written without being copied to arrays, and is only asked for as fast as the channel takes it.
+   *
+   * @param request The decryption request containing component name, optional key name, and ciphertext stream.
+   * @param target  Blocking channel the plaintext is written to; it is not closed.
+   * @return A Mono of the number of bytes written.
+   * @throws IllegalArgumentException if required parameters are missing.
+   */
+  Mono<Long> decrypt(DecryptRequestAlpha1 request, WritableByteChannel target);
+
+  /**
+   * Decrypt data using the Dapr cryptography building block, writing the plaintext to a file.
+   * The file is created or truncated, and is left incomplete if the decryption fails.
+   *
+   * @param request The decryption request containing component name, optional key name, and ciphertext stream.
+   * @param target  File the plaintext is written to.
+   * @return A Mono of the number of bytes written.
+   * @throws IllegalArgumentException if required parameters are missing.
+   */
+  Mono<Long> decrypt(DecryptRequestAlpha1 request, Path target);
+
+  /**
+   * Deletes all the jobs of the application whose name starts with a prefix, in a single call, using the
+   * Alpha1 API.
+   *
+   * @param namePrefix Prefix of the names of the jobs to delete.
+   * @return A {@link Mono} that completes when the jobs are deleted or raises an error.
+   * @throws IllegalArgumentException If the prefix is null or empty.
+   */
+  Mono<Void> deleteJobsByPrefix(String namePrefix);
+
+  /**
+   * Lists the jobs of the application using the Alpha1 API.
+   * The sidecar returns them all in one response, which is emitted job by job.
+   *
+   * @return A {@link Flux} of the {@link GetJobResponse} of every job.
+   */
+  Flux<GetJobResponse> listJobs();
 }
@@ -14,10 +14,14 @@ limitations under the License.
 package io.dapr.client;
 
 import io.dapr.v1.DaprGrpc;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
 import io.grpc.ManagedChannel;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Facade for common operations on gRPC channel.
@@ -28,9 +32,19 @@ import java.io.IOException;
 class GrpcChannelFacade implements Closeable {
 
   /**
-   * The GRPC managed channel to be used.
+   * The GRPC channel to be used.
    */
-  private final ManagedChannel channel;
+  private final Channel channel;
+
+  /**
+   * Releases the channel once this facade is closed.
+   */
+  private final Closeable closer;
+
+  /**
+   * Whether the channel was released, shared with the facades derived from this one.
+   */
+  private final AtomicBoolean released;
 
   /**
    * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
@@ -39,21 +53,68 @@ class GrpcChannelFacade implements Closeable {
    * @see DaprClientBuilder
    */
   GrpcChannelFacade(ManagedChannel channel) {
+    this(channel, () -> {
+      if (channel != null && !channel.isShutdown()) {
+        channel.shutdown();
+      }
+    });
+  }
+
+  /**
+   * Constructor for a channel owned by a shared provider, which is released when this facade is closed.
+   *
+   * @param channelProvider Retained provider of the channel.
+   * @see DaprChannelProvider
+   */
+  GrpcChannelFacade(DaprChannelProvider channelProvider) {
+    this(channelProvider.getChannel(), channelProvider);
+  }
+
+  /**
+   * Internal constructor.
+   *
+   * @param channel GRPC channel.
+   * @param closer  Releases the channel once this facade is closed.
+   */
+  private GrpcChannelFacade(Channel channel, Closeable closer) {
+    this(channel, closer, new AtomicBoolean());
+  }
+
+  /**
+   * Internal constructor.
+   *
+   * @param channel  GRPC channel.
+   * @param closer   Releases the channel once this facade is closed.
+   * @param released Whether the channel was released.
+   */
+  private GrpcChannelFacade(Channel channel, Closeable closer, AtomicBoolean released) {
     this.channel = channel;
+    this.closer = closer;
+    this.released = released;
   }
 
   /**
    * Returns the gRPC channel to the sidecar.
    * @return Sidecar's gRPC channel.
    */
-  ManagedChannel getGrpcChannel() {
+  Channel getGrpcChannel() {
     return this.channel;
   }
 
+  /**
+   * Returns a facade whose channel runs an interceptor on every call, closing the same channel.
+   * @param interceptor Interceptor applied below the interceptors of each stub.
+   * @return Facade over the intercepted channel.
+   */
+  GrpcChannelFacade withInterceptor(ClientInterceptor interceptor) {
+    return new GrpcChannelFacade(ClientInterceptors.intercept(this.channel, interceptor), this.closer, this.released);
+  }
+
   @Override
   public void close() throws IOException {
-    if (channel != null && !channel.isShutdown()) {
-      channel.shutdown();
+    // A shared provider counts its holders, so it must be released only once however often the client is closed.
+    if (released.compareAndSet(false, true)) {
+      closer.close();
     }
   }
 
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Channel spreading calls over several connections to the sidecar.
+ * Each call goes to the healthy connection with the fewest calls in flight, so a connection slowed down by
+ * large messages or reaching the sidecar's concurrent stream limit receives less traffic.
+ */
+class GrpcChannelPool extends Channel {
+
+  /**
+   * Connections to the sidecar.
+   */
+  private final ManagedChannel[] channels;
+
+  /**
+   * Number of calls in flight, per connection.
+   */
+  private final AtomicInteger[] outstanding;
+
+  /**
+   * Rotating start of the search, so ties are spread over all connections.
+   */
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * Instantiates a new pool.
+   *
+   * @param channels Connections to the sidecar.
+   */
+  GrpcChannelPool(ManagedChannel[] channels) {
+    this.channels = channels;
+    this.outstanding = new AtomicInteger[channels.length];
+    for (int i = 0; i < channels.length; i++) {
+      this.outstanding[i] = new AtomicInteger();
+    }
+  }
+
+  /**
+   * Gets the number of calls in flight on a connection.
+   *
+   * @param index Index of the connection.
+   * @return Number of calls in flight.
+   */
+  int getOutstandingRequests(int index) {
+    return this.outstanding[index].get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+    int index = this.select();
+    return new CountingCall<>(this.channels[index].newCall(methodDescriptor, callOptions), this.outstanding[index]);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String authority() {
+    return this.channels[0].authority();
+  }
+
+  /**
+   * Selects the connection for a new call.
+   *
+   * @return Index of the healthy connection with the fewest calls in flight, or of any connection with the
+   *     fewest calls in flight if none is healthy.
+   */
+  private int select() {
+    int start = Math.floorMod(this.next.getAndIncrement(), this.channels.length);
+    int best = -1;
+    int bestLoad = Integer.MAX_VALUE;
+    int fallback = start;
+    int fallbackLoad = Integer.MAX_VALUE;
+    for (int i = 0; i < this.channels.length; i++) {
+      int index = (start + i) % this.channels.length;
+      int load = this.outstanding[index].get();
+      if (load < fallbackLoad) {
+        fallback = index;
+        fallbackLoad = load;
+      }
+      if ((load < bestLoad) && isHealthy(this.channels[index])) {
+        best = index;
+        bestLoad = load;
+      }
+    }
+
+    return best >= 0 ? best : fallback;
+  }
+
+  /**
+   * Checks whether a connection can take new calls, without triggering a connection attempt.
+   *
+   * @param channel Connection to the sidecar.
+   * @return False if the connection is failing or shut down.
+   */
+  private static boolean isHealthy(ManagedChannel channel) {
+    ConnectivityState state = channel.getState(false);
+    return (state != ConnectivityState.TRANSIENT_FAILURE) && (state != ConnectivityState.SHUTDOWN);
+  }
+
+  /**
+   * Call keeping track of the number of calls in flight on its connection.
+   *
+   * @param <ReqT>  Request type.
+   * @param <RespT> Response type.
+   */
+  private static final class CountingCall<ReqT, RespT>
+      extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+    /**
+     * Number of calls in flight on the connection.
+     */
+    private final AtomicInteger outstanding;
+
+    /**
+     * Whether this call was counted and not yet released.
+     */
+    private final AtomicBoolean counted = new AtomicBoolean();
+
+    /**
+     * Instantiates a new call.
+     *
+     * @param delegate    Call on the selected connection.
+     * @param outstanding Number of calls in flight on the connection.
+     */
+    private CountingCall(ClientCall<ReqT, RespT> delegate, AtomicInteger outstanding) {
+      super(delegate);
+      this.outstanding = outstanding;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      this.outstanding.incrementAndGet();
+      this.counted.set(true);
+      try {
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            release();
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      } catch (RuntimeException e) {
+        this.release();
+        throw e;
+      }
+    }
+
+    /**
+     * Stops counting this call as in flight.
+     */
+    private void release() {
+      if (this.counted.compareAndSet(true, false)) {
+        this.outstanding.decrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+
+/**
+ * Sending of many job requests with a bounded number in flight.
+ * A job whose call fails with a transient error is retried on its own, with a backoff, on top of the retries of
+ * the client's resiliency options; the other jobs are not held back.
+ */
+public final class BulkJobOptions {
+
+  private int concurrency = 16;
+
+  private int maxRetries = 3;
+
+  private Duration minBackoff = Duration.ofMillis(200);
+
+  private Duration maxBackoff = Duration.ofSeconds(5);
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public BulkJobOptions setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * Sets how many times a job failing with UNAVAILABLE, DEADLINE_EXCEEDED or ABORTED is sent again before its
+   * failure is reported, each retry taking from the client's retry budget. Other failures, such as invalid requests
+   * or an overloaded sidecar, are reported right away.
+   *
+   * @param maxRetries Maximum number of retries of a job, zero to not retry.
+   * @return This instance.
+   */
+  public BulkJobOptions setMaxRetries(int maxRetries) {
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  public Duration getMinBackoff() {
+    return minBackoff;
+  }
+
+  public BulkJobOptions setMinBackoff(Duration minBackoff) {
+    this.minBackoff = minBackoff;
+    return this;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  public BulkJobOptions setMaxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+/**
+ * Outcome of one job of a bulk job operation, reported in the order of the requests.
+ */
+public final class BulkJobResult {
+
+  private final int index;
+
+  private final String name;
+
+  private final int attempts;
+
+  private final Throwable error;
+
+  /**
+   * Constructor for BulkJobResult.
+   *
+   * @param index    Position of the job in the requests, from zero.
+   * @param name     Name of the job, null if the request had none.
+   * @param attempts Number of attempts made for the job, including the first one.
+   * @param error    Failure of the job, null if it succeeded.
+   */
+  public BulkJobResult(int index, String name, int attempts, Throwable error) {
+    this.index = index;
+    this.name = name;
+    this.attempts = attempts;
+    this.error = error;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public Throwable getError() {
+    return error;
+  }
+
+  public boolean isSuccessful() {
+    return error == null;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkJobResult{"
+        + "index=" + index
+        + ", name='" + name + '\''
+        + ", attempts=" + attempts
+        + ", error=" + error
+        + '}';
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+/**
+ * Splitting of a bulk state request into chunks sent concurrently, bounded both by number of keys and by size.
+ * Each chunk is retried on its own as per the client's resiliency options.
+ */
+public final class BulkStateChunkOptions {
+
+  private int maxKeys = 500;
+
+  private long maxBytes = 1024 * 1024;
+
+  private int concurrency = 4;
+
+  public int getMaxKeys() {
+    return maxKeys;
+  }
+
+  public BulkStateChunkOptions setMaxKeys(int maxKeys) {
+    this.maxKeys = maxKeys;
+    return this;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Sets the maximum serialized size of the keys, or of the states for a save, sent in one chunk.
+   * A single state larger than this is sent in a chunk of its own.
+   *
+   * @param maxBytes Maximum size in bytes.
+   * @return This instance.
+   */
+  public BulkStateChunkOptions setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+    return this;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public BulkStateChunkOptions setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+    return this;
+  }
+}
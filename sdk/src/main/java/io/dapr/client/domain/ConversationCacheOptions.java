@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+
+/**
+ * Client-side cache of the responses of converseAlpha2, keyed by a hash of the request.
+ * Only requests with a temperature of zero and no context id are cached, as only those are expected to get
+ * the same answer every time; concurrent identical requests missing from the cache share one call.
+ */
+public final class ConversationCacheOptions {
+
+  private Duration ttl = Duration.ofMinutes(10);
+
+  private long maxEntries = 1_000;
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public ConversationCacheOptions setTtl(Duration ttl) {
+    this.ttl = ttl;
+    return this;
+  }
+
+  public long getMaxEntries() {
+    return maxEntries;
+  }
+
+  public ConversationCacheOptions setMaxEntries(long maxEntries) {
+    this.maxEntries = maxEntries;
+    return this;
+  }
+}
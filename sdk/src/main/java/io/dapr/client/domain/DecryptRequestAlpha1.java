@@ -13,8 +13,13 @@ limitations under the License.
 
 package io.dapr.client.domain;
 
+import io.dapr.internal.nio.ByteChunks;
 import reactor.core.publisher.Flux;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
 /**
  * Request to decrypt data using the Dapr Cryptography building block.
  * Uses streaming to handle large payloads efficiently.
@@ -23,6 +28,10 @@ public class DecryptRequestAlpha1 {
 
   private final String componentName;
   private final Flux<byte[]> cipherTextStream;
+  private Flux<ByteBuffer> cipherTextBuffers;
+  private Path cipherTextPath;
+  private ReadableByteChannel cipherTextChannel;
+  private int chunkSize = ByteChunks.DEFAULT_CHUNK_SIZE;
   private String keyName;
 
   /**
@@ -36,6 +45,47 @@ public class DecryptRequestAlpha1 {
     this.cipherTextStream = cipherTextStream;
   }
 
+  /**
+   * Creates a request to decrypt data held in buffers, such as direct or memory-mapped ones.
+   * The buffers are sent without being copied, and must not be modified until the call completes.
+   *
+   * @param componentName     Name of the cryptography component. Required.
+   * @param cipherTextBuffers Stream of ciphertext buffers to decrypt. Required.
+   * @return the request
+   */
+  public static DecryptRequestAlpha1 ofBuffers(String componentName, Flux<ByteBuffer> cipherTextBuffers) {
+    DecryptRequestAlpha1 request = new DecryptRequestAlpha1(componentName, null);
+    request.cipherTextBuffers = cipherTextBuffers;
+    return request;
+  }
+
+  /**
+   * Creates a request to decrypt a file, read in chunks of the chunk size as they are sent.
+   *
+   * @param componentName  Name of the cryptography component. Required.
+   * @param cipherTextPath File to decrypt. Required.
+   * @return the request
+   */
+  public static DecryptRequestAlpha1 ofPath(String componentName, Path cipherTextPath) {
+    DecryptRequestAlpha1 request = new DecryptRequestAlpha1(componentName, null);
+    request.cipherTextPath = cipherTextPath;
+    return request;
+  }
+
+  /**
+   * Creates a request to decrypt the content of a channel, read in chunks of the chunk size as they are sent.
+   * The channel is not closed, and can only be read once: the request cannot be retried.
+   *
+   * @param componentName     Name of the cryptography component. Required.
+   * @param cipherTextChannel Blocking channel to decrypt, read to its end. Required.
+   * @return the request
+   */
+  public static DecryptRequestAlpha1 ofChannel(String componentName, ReadableByteChannel cipherTextChannel) {
+    DecryptRequestAlpha1 request = new DecryptRequestAlpha1(componentName, null);
+    request.cipherTextChannel = cipherTextChannel;
+    return request;
+  }
+
   /**
    * Gets the cryptography component name.
    *
@@ -51,7 +101,58 @@ public class DecryptRequestAlpha1 {
    * @return the ciphertext stream as Flux of byte arrays
    */
   public Flux<byte[]> getCipherTextStream() {
-    return cipherTextStream;
+    Flux<ByteBuffer> buffers = getCipherTextBuffers();
+    if ((cipherTextStream != null) || (buffers == null)) {
+      return cipherTextStream;
+    }
+
+    return buffers.map(buffer -> {
+      byte[] data = new byte[buffer.remaining()];
+      buffer.duplicate().get(data);
+      return data;
+    });
+  }
+
+  /**
+   * Gets the ciphertext data stream to decrypt, as buffers.
+   *
+   * @return the ciphertext stream as Flux of buffers, or null if not set
+   */
+  public Flux<ByteBuffer> getCipherTextBuffers() {
+    if (cipherTextPath != null) {
+      Path path = cipherTextPath;
+      int size = chunkSize;
+      return Flux.defer(() -> ByteChunks.read(path, size));
+    }
+    if (cipherTextChannel != null) {
+      return ByteChunks.read(cipherTextChannel, chunkSize);
+    }
+    if (cipherTextBuffers != null) {
+      return cipherTextBuffers;
+    }
+    // The arrays are copied, since the caller may reuse them once emitted.
+    return cipherTextStream == null ? null : cipherTextStream.map(data -> ByteBuffer.wrap(data.clone()));
+  }
+
+  /**
+   * Gets the maximum size of the chunks of ciphertext sent to the sidecar.
+   *
+   * @return the chunk size in bytes
+   */
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Sets the maximum size of the chunks of ciphertext sent to the sidecar, 64 KiB by default.
+   * Larger chunks from the stream are split, and files and channels are read in chunks of this size.
+   *
+   * @param chunkSize the chunk size in bytes
+   * @return this request instance for method chaining
+   */
+  public DecryptRequestAlpha1 setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+    return this;
   }
 
   /**
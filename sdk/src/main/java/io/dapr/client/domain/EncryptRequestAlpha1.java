@@ -13,8 +13,13 @@ limitations under the License.
 
 package io.dapr.client.domain;
 
+import io.dapr.internal.nio.ByteChunks;
 import reactor.core.publisher.Flux;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
 /**
  * Request to encrypt data using the Dapr Cryptography building block.
  * Uses streaming to handle large payloads efficiently.
@@ -23,6 +28,10 @@ public class EncryptRequestAlpha1 {
 
   private final String componentName;
   private final Flux<byte[]> plainTextStream;
+  private Flux<ByteBuffer> plainTextBuffers;
+  private Path plainTextPath;
+  private ReadableByteChannel plainTextChannel;
+  private int chunkSize = ByteChunks.DEFAULT_CHUNK_SIZE;
   private final String keyName;
   private final String keyWrapAlgorithm;
   private String dataEncryptionCipher;
@@ -47,6 +56,56 @@ public class EncryptRequestAlpha1 {
     this.keyWrapAlgorithm = keyWrapAlgorithm;
   }
 
+  /**
+   * Creates a request to encrypt data held in buffers, such as direct or memory-mapped ones.
+   * The buffers are sent without being copied, and must not be modified until the call completes.
+   *
+   * @param componentName    Name of the cryptography component. Required.
+   * @param plainTextBuffers Stream of plaintext buffers to encrypt. Required.
+   * @param keyName          Name (or name/version) of the key to use for encryption. Required.
+   * @param keyWrapAlgorithm Key wrapping algorithm to use. Required.
+   * @return the request
+   */
+  public static EncryptRequestAlpha1 ofBuffers(String componentName, Flux<ByteBuffer> plainTextBuffers,
+                                               String keyName, String keyWrapAlgorithm) {
+    EncryptRequestAlpha1 request = new EncryptRequestAlpha1(componentName, null, keyName, keyWrapAlgorithm);
+    request.plainTextBuffers = plainTextBuffers;
+    return request;
+  }
+
+  /**
+   * Creates a request to encrypt a file, read in chunks of the chunk size as they are sent.
+   *
+   * @param componentName    Name of the cryptography component. Required.
+   * @param plainTextPath    File to encrypt. Required.
+   * @param keyName          Name (or name/version) of the key to use for encryption. Required.
+   * @param keyWrapAlgorithm Key wrapping algorithm to use. Required.
+   * @return the request
+   */
+  public static EncryptRequestAlpha1 ofPath(String componentName, Path plainTextPath,
+                                            String keyName, String keyWrapAlgorithm) {
+    EncryptRequestAlpha1 request = new EncryptRequestAlpha1(componentName, null, keyName, keyWrapAlgorithm);
+    request.plainTextPath = plainTextPath;
+    return request;
+  }
+
+  /**
+   * Creates a request to encrypt the content of a channel, read in chunks of the chunk size as they are sent.
+   * The channel is not closed, and can only be read once: the request cannot be retried.
+   *
+   * @param componentName    Name of the cryptography component. Required.
+   * @param plainTextChannel Blocking channel to encrypt, read to its end. Required.
+   * @param keyName          Name (or name/version) of the key to use for encryption. Required.
+   * @param keyWrapAlgorithm Key wrapping algorithm to use. Required.
+   * @return the request
+   */
+  public static EncryptRequestAlpha1 ofChannel(String componentName, ReadableByteChannel plainTextChannel,
+                                               String keyName, String keyWrapAlgorithm) {
+    EncryptRequestAlpha1 request = new EncryptRequestAlpha1(componentName, null, keyName, keyWrapAlgorithm);
+    request.plainTextChannel = plainTextChannel;
+    return request;
+  }
+
   /**
    * Gets the cryptography component name.
    *
@@ -62,7 +121,58 @@ public class EncryptRequestAlpha1 {
    * @return the plaintext stream as Flux of byte arrays
    */
   public Flux<byte[]> getPlainTextStream() {
-    return plainTextStream;
+    Flux<ByteBuffer> buffers = getPlainTextBuffers();
+    if ((plainTextStream != null) || (buffers == null)) {
+      return plainTextStream;
+    }
+
+    return buffers.map(buffer -> {
+      byte[] data = new byte[buffer.remaining()];
+      buffer.duplicate().get(data);
+      return data;
+    });
+  }
+
+  /**
+   * Gets the plaintext data stream to encrypt, as buffers.
+   *
+   * @return the plaintext stream as Flux of buffers, or null if not set
+   */
+  public Flux<ByteBuffer> getPlainTextBuffers() {
+    if (plainTextPath != null) {
+      Path path = plainTextPath;
+      int size = chunkSize;
+      return Flux.defer(() -> ByteChunks.read(path, size));
+    }
+    if (plainTextChannel != null) {
+      return ByteChunks.read(plainTextChannel, chunkSize);
+    }
+    if (plainTextBuffers != null) {
+      return plainTextBuffers;
+    }
+    // The arrays are copied, since the caller may reuse them once emitted.
+    return plainTextStream == null ? null : plainTextStream.map(data -> ByteBuffer.wrap(data.clone()));
+  }
+
+  /**
+   * Gets the maximum size of the chunks of plaintext sent to the sidecar.
+   *
+   * @return the chunk size in bytes
+   */
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Sets the maximum size of the chunks of plaintext sent to the sidecar, 64 KiB by default.
+   * Larger chunks from the stream are split, and files and channels are read in chunks of this size.
+   *
+   * @param chunkSize the chunk size in bytes
+   * @return this request instance for method chaining
+   */
+  public EncryptRequestAlpha1 setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+    return this;
   }
 
   /**
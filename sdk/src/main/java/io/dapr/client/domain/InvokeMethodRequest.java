@@ -33,6 +33,8 @@ public class InvokeMethodRequest {
 
   private Map<String, String> metadata;
 
+  private InvokeMethodTransport transport;
+
   /**
    * Constructor for InvokeMethodRequest.
    *
@@ -87,4 +89,24 @@ public class InvokeMethodRequest {
     this.metadata = metadata == null ? null : Collections.unmodifiableMap(metadata);
     return this;
   }
+
+  /**
+   * Gets the protocol used to reach the sidecar for this request.
+   *
+   * @return Protocol to the sidecar, or null for the client's default.
+   */
+  public InvokeMethodTransport getTransport() {
+    return transport;
+  }
+
+  /**
+   * Sets the protocol used to reach the sidecar for this request, overriding the client's default.
+   *
+   * @param transport Protocol to the sidecar, or null for the client's default.
+   * @return This request object.
+   */
+  public InvokeMethodRequest setTransport(InvokeMethodTransport transport) {
+    this.transport = transport;
+    return this;
+  }
 }
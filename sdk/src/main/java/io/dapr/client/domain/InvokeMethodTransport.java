@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+/**
+ * Protocol used between the client and its sidecar to invoke a method on another application.
+ * The protocol used by the sidecar to reach the target application does not change.
+ */
+public enum InvokeMethodTransport {
+  /**
+   * Dapr's HTTP invocation API.
+   */
+  HTTP,
+
+  /**
+   * Dapr's gRPC InvokeService API, sharing the client's gRPC channel and interceptors.
+   */
+  GRPC
+}
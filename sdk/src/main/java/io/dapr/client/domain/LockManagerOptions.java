@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+
+/**
+ * Options of the locks acquired with {@link io.dapr.client.DaprLockManager}.
+ */
+public final class LockManagerOptions {
+
+  private Duration leaseDuration = Duration.ofSeconds(30);
+
+  private Duration acquireTimeout;
+
+  private Duration minBackoff = Duration.ofMillis(50);
+
+  private Duration maxBackoff = Duration.ofSeconds(2);
+
+  public Duration getLeaseDuration() {
+    return leaseDuration;
+  }
+
+  /**
+   * Sets how long a lock is held before the lock store releases it, rounded up to whole seconds.
+   *
+   * @param leaseDuration Lease duration.
+   * @return This instance.
+   */
+  public LockManagerOptions setLeaseDuration(Duration leaseDuration) {
+    this.leaseDuration = leaseDuration;
+    return this;
+  }
+
+  public Duration getAcquireTimeout() {
+    return acquireTimeout;
+  }
+
+  /**
+   * Sets how long to wait for a lock held by others before failing with a timeout.
+   *
+   * @param acquireTimeout Maximum wait, null to wait until the lock is acquired or the caller cancels.
+   * @return This instance.
+   */
+  public LockManagerOptions setAcquireTimeout(Duration acquireTimeout) {
+    this.acquireTimeout = acquireTimeout;
+    return this;
+  }
+
+  public Duration getMinBackoff() {
+    return minBackoff;
+  }
+
+  public LockManagerOptions setMinBackoff(Duration minBackoff) {
+    this.minBackoff = minBackoff;
+    return this;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  public LockManagerOptions setMaxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+}
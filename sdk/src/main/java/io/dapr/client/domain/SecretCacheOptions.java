@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+
+/**
+ * Client-side cache of the secrets read with getSecret, keyed by secret store, key and metadata.
+ * Cached secrets are served without calling the sidecar until the time to live elapses. Reads past the refresh
+ * point are still served from the cache while the secret is read again in the background, so rotated secrets are
+ * picked up without making callers wait. Concurrent reads of a secret missing from the cache share one call.
+ */
+public final class SecretCacheOptions {
+
+  private Duration ttl = Duration.ofMinutes(5);
+
+  private Duration refreshAhead = Duration.ofMinutes(1);
+
+  private long maxEntries = 1_000;
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public SecretCacheOptions setTtl(Duration ttl) {
+    this.ttl = ttl;
+    return this;
+  }
+
+  public Duration getRefreshAhead() {
+    return refreshAhead;
+  }
+
+  /**
+   * Sets how long before expiry a read of a cached secret triggers its refresh in the background.
+   *
+   * @param refreshAhead Time before expiry, zero to only read secrets again once expired.
+   * @return This instance.
+   */
+  public SecretCacheOptions setRefreshAhead(Duration refreshAhead) {
+    this.refreshAhead = refreshAhead;
+    return this;
+  }
+
+  public long getMaxEntries() {
+    return maxEntries;
+  }
+
+  public SecretCacheOptions setMaxEntries(long maxEntries) {
+    this.maxEntries = maxEntries;
+    return this;
+  }
+}
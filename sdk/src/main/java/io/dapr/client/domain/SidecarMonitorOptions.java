@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+
+/**
+ * Background monitoring of the sidecar's readiness, probing its outbound health endpoint at a fixed interval.
+ * The client then tells whether the sidecar is ready without calling it, caches its metadata, and fails the calls
+ * made while the sidecar is known to be down instead of waiting for them to time out.
+ */
+public final class SidecarMonitorOptions {
+
+  private Duration probeInterval = Duration.ofSeconds(5);
+
+  private Duration probeTimeout = Duration.ofSeconds(2);
+
+  private int failureThreshold = 2;
+
+  private Duration metadataRefreshInterval = Duration.ofMinutes(1);
+
+  private boolean failFast = true;
+
+  public Duration getProbeInterval() {
+    return probeInterval;
+  }
+
+  public SidecarMonitorOptions setProbeInterval(Duration probeInterval) {
+    this.probeInterval = probeInterval;
+    return this;
+  }
+
+  public Duration getProbeTimeout() {
+    return probeTimeout;
+  }
+
+  public SidecarMonitorOptions setProbeTimeout(Duration probeTimeout) {
+    this.probeTimeout = probeTimeout;
+    return this;
+  }
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  /**
+   * Sets the number of consecutive failed probes after which the sidecar is considered down.
+   * A single successful probe makes it ready again.
+   *
+   * @param failureThreshold Number of failed probes.
+   * @return This instance.
+   */
+  public SidecarMonitorOptions setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+    return this;
+  }
+
+  public Duration getMetadataRefreshInterval() {
+    return metadataRefreshInterval;
+  }
+
+  /**
+   * Sets how long the metadata read with getMetadata is served from the cache before being read again.
+   * The cache is also cleared whenever the sidecar becomes ready after being down, as it may have restarted.
+   *
+   * @param metadataRefreshInterval Time the metadata is cached for.
+   * @return This instance.
+   */
+  public SidecarMonitorOptions setMetadataRefreshInterval(Duration metadataRefreshInterval) {
+    this.metadataRefreshInterval = metadataRefreshInterval;
+    return this;
+  }
+
+  public boolean isFailFast() {
+    return failFast;
+  }
+
+  /**
+   * Sets whether gRPC calls made while the sidecar is known to be down fail right away with UNAVAILABLE, which the
+   * client does not retry. Calls are never failed before the first probe.
+   *
+   * @param failFast Whether to fail the calls, true by default.
+   * @return This instance.
+   */
+  public SidecarMonitorOptions setFailFast(boolean failFast) {
+    this.failFast = failFast;
+    return this;
+  }
+}
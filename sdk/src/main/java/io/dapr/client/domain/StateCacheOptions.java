@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+
+/**
+ * Client-side cache of the states read with getState, keyed by state store and key.
+ * Cached states, with their etag, are served without calling the sidecar until the time to live elapses, and are
+ * dropped when the same client saves, deletes or transacts on their key. Reads with metadata or strong
+ * consistency always go to the sidecar. Writes made by other clients are only seen once the entry expires.
+ */
+public final class StateCacheOptions {
+
+  private Duration ttl = Duration.ofSeconds(10);
+
+  private long maxEntries = 10_000;
+
+  private long maxWeight;
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public StateCacheOptions setTtl(Duration ttl) {
+    this.ttl = ttl;
+    return this;
+  }
+
+  public long getMaxEntries() {
+    return maxEntries;
+  }
+
+  public StateCacheOptions setMaxEntries(long maxEntries) {
+    this.maxEntries = maxEntries;
+    return this;
+  }
+
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Sets the maximum total size of the cached states, in bytes of their serialized value and key.
+   *
+   * @param maxWeight Maximum size in bytes, zero for no limit other than the number of entries.
+   * @return This instance.
+   */
+  public StateCacheOptions setMaxWeight(long maxWeight) {
+    this.maxWeight = maxWeight;
+    return this;
+  }
+}
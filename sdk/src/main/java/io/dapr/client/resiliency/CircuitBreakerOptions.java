@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.resiliency;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker applied per Dapr API and component, such as GetState on a given state store.
+ * After a number of consecutive failed calls (unavailable, deadline exceeded or resource exhausted), calls
+ * are rejected without reaching the sidecar until the open duration elapses. A single trial call then
+ * decides whether the circuit closes again.
+ */
+public final class CircuitBreakerOptions {
+
+  private int failureThreshold = 5;
+
+  private Duration openDuration = Duration.ofSeconds(10);
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  public CircuitBreakerOptions setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+    return this;
+  }
+
+  public Duration getOpenDuration() {
+    return openDuration;
+  }
+
+  public CircuitBreakerOptions setOpenDuration(Duration openDuration) {
+    this.openDuration = openDuration;
+    return this;
+  }
+}
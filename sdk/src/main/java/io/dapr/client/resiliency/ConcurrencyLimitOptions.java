@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.resiliency;
+
+/**
+ * Adaptive limit of concurrent calls per Dapr API and component, such as GetState on a given state store.
+ * The limit grows by one while calls complete within the latency tolerance of the lowest latency observed,
+ * and shrinks multiplicatively when latency exceeds it or calls fail with unavailable, deadline exceeded or
+ * resource exhausted. Calls over the limit are rejected without reaching the sidecar.
+ */
+public final class ConcurrencyLimitOptions {
+
+  private int initialLimit = 20;
+
+  private int minLimit = 1;
+
+  private int maxLimit = 200;
+
+  private double latencyTolerance = 2.0;
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public ConcurrencyLimitOptions setInitialLimit(int initialLimit) {
+    this.initialLimit = initialLimit;
+    return this;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public ConcurrencyLimitOptions setMinLimit(int minLimit) {
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public ConcurrencyLimitOptions setMaxLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  public double getLatencyTolerance() {
+    return latencyTolerance;
+  }
+
+  public ConcurrencyLimitOptions setLatencyTolerance(double latencyTolerance) {
+    this.latencyTolerance = latencyTolerance;
+    return this;
+  }
+}
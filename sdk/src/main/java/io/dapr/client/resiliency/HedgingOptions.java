@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.resiliency;
+
+import java.time.Duration;
+
+/**
+ * Hedged requests for read-only APIs: getState, getBulkState, getSecret, getBulkSecret and getConfiguration.
+ * When a call takes longer than the given percentile of the recent latencies of the same API and store, a
+ * second identical call is sent and the first response is used. The initial delay applies until enough calls
+ * completed. Hedged requests take tokens from the retry budget when one is configured.
+ */
+public final class HedgingOptions {
+
+  private double percentile = 0.95;
+
+  private Duration initialDelay = Duration.ofMillis(50);
+
+  private Duration minDelay = Duration.ofMillis(1);
+
+  public double getPercentile() {
+    return percentile;
+  }
+
+  public HedgingOptions setPercentile(double percentile) {
+    this.percentile = percentile;
+    return this;
+  }
+
+  public Duration getInitialDelay() {
+    return initialDelay;
+  }
+
+  public HedgingOptions setInitialDelay(Duration initialDelay) {
+    this.initialDelay = initialDelay;
+    return this;
+  }
+
+  public Duration getMinDelay() {
+    return minDelay;
+  }
+
+  public HedgingOptions setMinDelay(Duration minDelay) {
+    this.minDelay = minDelay;
+    return this;
+  }
+}
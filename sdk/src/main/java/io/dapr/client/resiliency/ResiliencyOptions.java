@@ -14,16 +14,34 @@ limitations under the License.
 package io.dapr.client.resiliency;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Resiliency policy for SDK communication to Dapr API.
+ * <p>
+ * Calls made with an {@link io.grpc.Deadline} in the Reactor context, under the {@code io.grpc.Deadline} class,
+ * end at that deadline when it comes before their configured timeout, so work is not left running on the
+ * sidecar once the caller has given up.
+ * </p>
  */
 public final class ResiliencyOptions {
 
   private Duration timeout;
 
+  private Map<String, Duration> apiTimeouts = Collections.emptyMap();
+
   private Integer maxRetries;
 
+  private CircuitBreakerOptions circuitBreaker;
+
+  private ConcurrencyLimitOptions concurrencyLimit;
+
+  private RetryBudgetOptions retryBudget;
+
+  private HedgingOptions hedging;
+
   public Duration getTimeout() {
     return timeout;
   }
@@ -33,6 +51,32 @@ public final class ResiliencyOptions {
     return this;
   }
 
+  public Map<String, Duration> getApiTimeouts() {
+    return Collections.unmodifiableMap(apiTimeouts);
+  }
+
+  /**
+   * Overrides the timeout of one Dapr API, such as a longer one for {@code QueryStateAlpha1}.
+   *
+   * @param api Name of the gRPC method of the Dapr API, such as {@code GetState}.
+   * @param timeout Timeout of the calls to the API, zero or negative for none.
+   * @return This instance.
+   */
+  public ResiliencyOptions setApiTimeout(String api, Duration timeout) {
+    if ((api == null) || api.isEmpty()) {
+      throw new IllegalArgumentException("API is required");
+    }
+
+    Map<String, Duration> apiTimeouts = new HashMap<>(this.apiTimeouts);
+    if (timeout == null) {
+      apiTimeouts.remove(api);
+    } else {
+      apiTimeouts.put(api, timeout);
+    }
+    this.apiTimeouts = apiTimeouts;
+    return this;
+  }
+
   public Integer getMaxRetries() {
     return maxRetries;
   }
@@ -41,4 +85,40 @@ public final class ResiliencyOptions {
     this.maxRetries = maxRetries;
     return this;
   }
+
+  public CircuitBreakerOptions getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public ResiliencyOptions setCircuitBreaker(CircuitBreakerOptions circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+    return this;
+  }
+
+  public ConcurrencyLimitOptions getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  public ResiliencyOptions setConcurrencyLimit(ConcurrencyLimitOptions concurrencyLimit) {
+    this.concurrencyLimit = concurrencyLimit;
+    return this;
+  }
+
+  public RetryBudgetOptions getRetryBudget() {
+    return retryBudget;
+  }
+
+  public ResiliencyOptions setRetryBudget(RetryBudgetOptions retryBudget) {
+    this.retryBudget = retryBudget;
+    return this;
+  }
+
+  public HedgingOptions getHedging() {
+    return hedging;
+  }
+
+  public ResiliencyOptions setHedging(HedgingOptions hedging) {
+    this.hedging = hedging;
+    return this;
+  }
 }
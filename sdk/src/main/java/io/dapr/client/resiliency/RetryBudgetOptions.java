@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.resiliency;
+
+/**
+ * Token bucket shared by all calls of a client, bounding retries and hedged requests to a share of the traffic.
+ * Every call adds the retry ratio to the bucket, up to the maximum number of tokens, and every retry or hedged
+ * request takes one token. When the bucket is empty, failed calls are not retried and slow calls are not hedged.
+ */
+public final class RetryBudgetOptions {
+
+  private double retryRatio = 0.1;
+
+  private int maxTokens = 10;
+
+  public double getRetryRatio() {
+    return retryRatio;
+  }
+
+  public RetryBudgetOptions setRetryRatio(double retryRatio) {
+    this.retryRatio = retryRatio;
+    return this;
+  }
+
+  public int getMaxTokens() {
+    return maxTokens;
+  }
+
+  public RetryBudgetOptions setMaxTokens(int maxTokens) {
+    this.maxTokens = maxTokens;
+    return this;
+  }
+}
@@ -213,6 +213,14 @@ public class Properties {
       "DAPR_API_TIMEOUT_MILLISECONDS",
       DEFAULT_API_TIMEOUT);
 
+  /**
+   * Whether DaprExceptions for the NOT_FOUND, ABORTED and UNAVAILABLE errors of the sidecar skip their stack trace.
+   */
+  public static final Property<Boolean> STACKLESS_EXCEPTIONS = new BooleanProperty(
+      "dapr.api.stacklessExceptions",
+      "DAPR_API_STACKLESS_EXCEPTIONS",
+      false);
+
   /**
    * API token for authentication between App and Dapr's side car.
    */
@@ -248,12 +256,24 @@ public class Properties {
 
   /**
    * Dapr's default maximum number of idle connections for HTTP connection pool.
+   *
+   * @deprecated Not read by the SDK: the JDK's HttpClient only sizes its connection pool from the
+   *     {@code jdk.httpclient.connectionPoolSize} system property, to be set by the application.
    */
+  @Deprecated
   public static final Property<Integer> HTTP_CLIENT_MAX_IDLE_CONNECTIONS = new IntegerProperty(
           "dapr.http.client.maxIdleConnections",
           "DAPR_HTTP_CLIENT_MAX_IDLE_CONNECTIONS",
           DEFAULT_HTTP_CLIENT_MAX_IDLE_CONNECTIONS);
 
+  /**
+   * Determines if the HTTP client negotiates HTTP/2 (h2c) with the sidecar, falling back to HTTP/1.1.
+   */
+  public static final Property<Boolean> HTTP_CLIENT_HTTP2_ENABLED = new BooleanProperty(
+          "dapr.http.client.http2Enabled",
+          "DAPR_HTTP_CLIENT_HTTP2_ENABLED",
+          false);
+
   /**
    * Dapr's default maximum inbound message size for GRPC in bytes.
    */
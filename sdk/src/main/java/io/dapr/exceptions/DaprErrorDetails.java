@@ -18,6 +18,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.rpc.Status;
 import io.dapr.utils.TypeRef;
+import io.grpc.protobuf.StatusProto;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -53,18 +54,57 @@ public class DaprErrorDetails {
       ));
 
   /**
-   * Error status details.
+   * Error status details, parsed on first access.
    */
-  private final Map<ErrorDetailType, Map<String, Object>> map;
+  private volatile Map<ErrorDetailType, Map<String, Object>> map;
+
+  /**
+   * Error that the gRPC status is read from, null if the details did not come from one.
+   */
+  private final Throwable source;
+
+  /**
+   * gRPC status of the error, null if the details did not come from one.
+   */
+  private volatile Status status;
 
   public DaprErrorDetails(Status grpcStatus) {
-    this.map = parse(grpcStatus);
+    this.source = null;
+    this.status = grpcStatus;
   }
 
   public DaprErrorDetails(List<Map<String, Object>> entries) {
+    this.source = null;
     this.map = parse(entries);
   }
 
+  private DaprErrorDetails(Throwable source) {
+    this.source = source;
+  }
+
+  /**
+   * Creates the details of a gRPC error, only read from its trailers when first accessed.
+   *
+   * @param source Error carrying the gRPC status.
+   * @return Error details.
+   */
+  static DaprErrorDetails fromThrowable(Throwable source) {
+    return new DaprErrorDetails(source);
+  }
+
+  /**
+   * Gets the serialized gRPC status of an error created with {@link #fromThrowable(Throwable)}.
+   *
+   * @return Serialized status, or null if the details were not created from a gRPC error.
+   */
+  byte[] getStatusPayload() {
+    if (this.source == null) {
+      return null;
+    }
+    Status status = this.getStatus();
+    return status == null ? null : status.toByteArray();
+  }
+
   /**
    * Gets an attribute of an error detail.
    * @param errorDetailType Type of the error detail.
@@ -74,7 +114,7 @@ public class DaprErrorDetails {
    * @return Value of the attribute or null if not found.
    */
   public <T> T get(ErrorDetailType errorDetailType, String errAttribute, TypeRef<T> typeRef) {
-    Map<String, Object> dictionary = map.get(errorDetailType);
+    Map<String, Object> dictionary = this.getMap().get(errorDetailType);
     if (dictionary == null) {
       return null;
     }
@@ -82,6 +122,24 @@ public class DaprErrorDetails {
     return (T) dictionary.get(errAttribute);
   }
 
+  private Map<ErrorDetailType, Map<String, Object>> getMap() {
+    Map<ErrorDetailType, Map<String, Object>> map = this.map;
+    if (map == null) {
+      map = parse(this.getStatus());
+      this.map = map;
+    }
+    return map;
+  }
+
+  private Status getStatus() {
+    Status status = this.status;
+    if ((status == null) && (this.source != null)) {
+      status = StatusProto.fromThrowable(this.source);
+      this.status = status;
+    }
+    return status;
+  }
+
   /**
    * Parses status details from a gRPC Status.
    *
@@ -194,7 +252,7 @@ public class DaprErrorDetails {
       return false;
     }
     DaprErrorDetails that = (DaprErrorDetails) o;
-    return Objects.equals(map, that.map);
+    return Objects.equals(this.getMap(), that.getMap());
   }
 
   /**
@@ -202,7 +260,7 @@ public class DaprErrorDetails {
    */
   @Override
   public int hashCode() {
-    return Objects.hash(map);
+    return Objects.hash(this.getMap());
   }
 
   public enum ErrorDetailType {
@@ -13,16 +13,18 @@ limitations under the License.
 
 package io.dapr.exceptions;
 
-import com.google.rpc.Status;
+import io.dapr.config.Properties;
 import io.dapr.internal.exceptions.DaprHttpException;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import io.grpc.protobuf.StatusProto;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -30,6 +32,17 @@ import java.util.concurrent.Callable;
  */
 public class DaprException extends RuntimeException {
 
+  /**
+   * Whether the failures expected from the sidecar are raised without a stack trace, read once.
+   */
+  private static final boolean STACKLESS_REMOTE_ERRORS = Properties.STACKLESS_EXCEPTIONS.get();
+
+  /**
+   * gRPC codes of the failures expected during normal operation, whose stack trace says nothing about the cause.
+   */
+  private static final Set<Status.Code> EXPECTED_REMOTE_CODES =
+      EnumSet.of(Status.Code.NOT_FOUND, Status.Code.ABORTED, Status.Code.UNAVAILABLE);
+
   /**
    * Dapr's error code for this exception.
    */
@@ -193,7 +206,18 @@ public class DaprException extends RuntimeException {
       DaprErrorDetails errorDetails,
       byte[] payload,
       int httpStatusCode) {
-    super(buildErrorMessage(errorCode, httpStatusCode, message), cause);
+    this(errorCode, message, cause, errorDetails, payload, httpStatusCode, true);
+  }
+
+  private DaprException(
+      String errorCode,
+      String message,
+      Throwable cause,
+      DaprErrorDetails errorDetails,
+      byte[] payload,
+      int httpStatusCode,
+      boolean writableStackTrace) {
+    super(buildErrorMessage(errorCode, httpStatusCode, message), cause, true, writableStackTrace);
     this.errorCode = errorCode;
     this.errorDetails = errorDetails == null ? DaprErrorDetails.EMPTY_INSTANCE : errorDetails;
     this.payload = payload;
@@ -224,7 +248,7 @@ public class DaprException extends RuntimeException {
    * @return Error's payload.
    */
   public byte[] getPayload() {
-    return this.payload == null ? null : this.payload.clone();
+    return this.payload == null ? this.errorDetails.getStatusPayload() : this.payload.clone();
   }
 
   /**
@@ -322,6 +346,17 @@ public class DaprException extends RuntimeException {
    * @return wrapped RuntimeException
    */
   public static RuntimeException propagate(Throwable exception) {
+    return propagate(exception, STACKLESS_REMOTE_ERRORS);
+  }
+
+  /**
+   * Wraps an exception into DaprException (if not already DaprException).
+   *
+   * @param exception Exception to be wrapped.
+   * @param stacklessRemoteErrors Whether to skip the stack trace of expected gRPC failures.
+   * @return wrapped RuntimeException
+   */
+  static RuntimeException propagate(Throwable exception, boolean stacklessRemoteErrors) {
     Exceptions.throwIfFatal(exception);
 
     if (exception instanceof DaprException) {
@@ -337,18 +372,17 @@ public class DaprException extends RuntimeException {
         httpStatusCode = daprHttpException.getStatusCode();
         httpPayload = daprHttpException.getPayload();
       } else if (e instanceof StatusRuntimeException) {
-        StatusRuntimeException statusRuntimeException = (StatusRuntimeException) e;
-        Status status = StatusProto.fromThrowable(statusRuntimeException);
-
-        DaprErrorDetails errorDetails  = new DaprErrorDetails(status);
+        Status status = ((StatusRuntimeException) e).getStatus();
 
+        // Details and payload are only read from the trailers if the caller looks at them.
         return new DaprException(
-            statusRuntimeException.getStatus().getCode().toString(),
-            statusRuntimeException.getStatus().getDescription(),
+            status.getCode().toString(),
+            status.getDescription(),
             exception,
-            errorDetails,
-            httpPayload != null ? httpPayload : status.toByteArray(),
-            httpStatusCode);
+            DaprErrorDetails.fromThrowable(e),
+            httpPayload,
+            httpStatusCode,
+            !stacklessRemoteErrors || !EXPECTED_REMOTE_CODES.contains(status.getCode()));
       }
 
       e = e.getCause();
@@ -361,7 +395,7 @@ public class DaprException extends RuntimeException {
     if (exception instanceof DaprHttpException) {
       DaprHttpException daprHttpException = (DaprHttpException)exception;
       return new DaprException(
-          io.grpc.Status.UNKNOWN.toString(),
+          Status.UNKNOWN.toString(),
           null,
           exception,
           null,
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.conversation;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import io.dapr.client.domain.ConversationCacheOptions;
+import io.dapr.v1.DaprAiProtos;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, least recently used cache of conversation responses with a time to live.
+ * Requests are keyed by the SHA-256 digest of their deterministic serialization, so equal requests share an entry
+ * whatever the order of their metadata and parameters. Responses are immutable protos, shared between the reads.
+ */
+public final class ConversationCache {
+
+  private final long ttlNanos;
+
+  private final long maxEntries;
+
+  private final LongSupplier nanoClock;
+
+  /**
+   * Entries in access order, guarded by this.
+   */
+  private final LinkedHashMap<ByteString, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Calls in flight, shared by the concurrent identical requests.
+   */
+  private final Map<ByteString, Mono<DaprAiProtos.ConversationResponseAlpha2>> calls = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new cache.
+   *
+   * @param options Cache options.
+   */
+  public ConversationCache(ConversationCacheOptions options) {
+    this(options, System::nanoTime);
+  }
+
+  ConversationCache(ConversationCacheOptions options, LongSupplier nanoClock) {
+    if (options == null) {
+      throw new IllegalArgumentException("Conversation cache options are required");
+    }
+    if ((options.getTtl() == null) || options.getTtl().isNegative() || options.getTtl().isZero()) {
+      throw new IllegalArgumentException("Conversation cache TTL must be positive");
+    }
+    if (options.getMaxEntries() <= 0) {
+      throw new IllegalArgumentException("Conversation cache max entries must be positive");
+    }
+
+    this.ttlNanos = options.getTtl().toNanos();
+    this.maxEntries = options.getMaxEntries();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Checks whether the response to a request can be cached.
+   *
+   * @param request Request to the sidecar.
+   * @return True for requests with a temperature of zero and no context id.
+   */
+  public static boolean isCacheable(DaprAiProtos.ConversationRequestAlpha2 request) {
+    return (request.getTemperature() == 0) && !request.hasContextId();
+  }
+
+  /**
+   * Gets the cached response to a request, or calls the sidecar.
+   *
+   * @param request Request to the sidecar.
+   * @param call    Sends the request to the sidecar.
+   * @return Response.
+   */
+  public Mono<DaprAiProtos.ConversationResponseAlpha2> get(
+      DaprAiProtos.ConversationRequestAlpha2 request, Supplier<Mono<DaprAiProtos.ConversationResponseAlpha2>> call) {
+    return Mono.defer(() -> {
+      ByteString key = digest(request);
+      long now = this.nanoClock.getAsLong();
+      synchronized (this) {
+        Entry entry = this.entries.get(key);
+        if ((entry != null) && (now - entry.expiresAt < 0)) {
+          return Mono.just(entry.response);
+        }
+        if (entry != null) {
+          this.entries.remove(key);
+        }
+      }
+
+      return this.calls.computeIfAbsent(key, it -> {
+        AtomicReference<Mono<DaprAiProtos.ConversationResponseAlpha2>> shared = new AtomicReference<>();
+        shared.set(Mono.defer(call)
+            .doOnNext(response -> this.put(key, response))
+            .doFinally(signal -> this.calls.remove(key, shared.get()))
+            .cache());
+        return shared.get();
+      });
+    });
+  }
+
+  /**
+   * Gets the number of cached responses, including expired ones not yet dropped.
+   *
+   * @return Number of entries.
+   */
+  public synchronized int size() {
+    return this.entries.size();
+  }
+
+  private synchronized void put(ByteString key, DaprAiProtos.ConversationResponseAlpha2 response) {
+    this.entries.put(key, new Entry(response, this.nanoClock.getAsLong() + this.ttlNanos));
+    Iterator<ByteString> eldest = this.entries.keySet().iterator();
+    while (this.entries.size() > this.maxEntries) {
+      eldest.next();
+      eldest.remove();
+    }
+  }
+
+  private static ByteString digest(DaprAiProtos.ConversationRequestAlpha2 request) {
+    try {
+      byte[] serialized = new byte[request.getSerializedSize()];
+      CodedOutputStream output = CodedOutputStream.newInstance(serialized);
+      output.useDeterministicSerialization();
+      request.writeTo(output);
+      output.checkNoSpaceLeft();
+      return ByteString.copyFrom(MessageDigest.getInstance("SHA-256").digest(serialized));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class Entry {
+
+    private final DaprAiProtos.ConversationResponseAlpha2 response;
+
+    private final long expiresAt;
+
+    private Entry(DaprAiProtos.ConversationResponseAlpha2 response, long expiresAt) {
+      this.response = response;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Bidirectional streaming gRPC calls with back-pressure both ways.
+ * <p>
+ * Requests are pulled from their publisher one at a time, only while the call's transport is ready to send, and
+ * responses are only requested from the sidecar as the subscriber asks for them, so a stream of any size is sent
+ * and received with a bounded number of messages in memory. Stubs that do not expose the call's flow control,
+ * such as test doubles, fall back to sending requests as they come and receiving responses unrequested.
+ * </p>
+ */
+public final class BidiStreams {
+
+  private BidiStreams() {
+  }
+
+  /**
+   * Starts a bidirectional streaming call on subscription.
+   *
+   * @param call     Starts the call with the response observer, returning the request observer.
+   * @param requests Messages to send; the call is half-closed once they complete.
+   * @param <ReqT>   Type of the requests.
+   * @param <RespT>  Type of the responses.
+   * @return Responses of the call; cancelling it cancels the call.
+   */
+  public static <ReqT, RespT> Flux<RespT> call(
+      Function<StreamObserver<RespT>, StreamObserver<ReqT>> call, Flux<ReqT> requests) {
+    return Flux.create(sink -> {
+      Sender<ReqT> sender = new Sender<>(sink);
+      StreamObserver<ReqT> requestObserver = call.apply(new ClientResponseObserver<ReqT, RespT>() {
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+          sender.flowControl = requestStream;
+          requestStream.disableAutoRequestWithInitial(0);
+          requestStream.setOnReadyHandler(sender::pump);
+        }
+
+        @Override
+        public void onNext(RespT response) {
+          sink.next(response);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+          sender.dispose();
+          sink.error(t);
+        }
+
+        @Override
+        public void onCompleted() {
+          sender.dispose();
+          sink.complete();
+        }
+      });
+      sender.requestObserver = requestObserver;
+
+      ClientCallStreamObserver<ReqT> flowControl = sender.flowControl;
+      if (flowControl != null) {
+        sink.onRequest(n -> flowControl.request((int) Math.min(n, Integer.MAX_VALUE)));
+      }
+      sink.onCancel(() -> {
+        sender.dispose();
+        if (flowControl != null) {
+          flowControl.cancel("Cancelled by the subscriber", null);
+        }
+      });
+      requests.subscribe(sender);
+    });
+  }
+
+  /**
+   * Sends the requests, asking for the next one once the previous one is sent and the call is ready.
+   */
+  private static final class Sender<ReqT> extends BaseSubscriber<ReqT> {
+
+    private final FluxSink<?> sink;
+
+    /**
+     * Whether a request was asked for and not received yet.
+     */
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private volatile ClientCallStreamObserver<ReqT> flowControl;
+
+    private volatile StreamObserver<ReqT> requestObserver;
+
+    private Sender(FluxSink<?> sink) {
+      this.sink = sink;
+    }
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+      this.pump();
+    }
+
+    @Override
+    protected void hookOnNext(ReqT request) {
+      this.requestObserver.onNext(request);
+      this.pending.set(false);
+      this.pump();
+    }
+
+    @Override
+    protected void hookOnComplete() {
+      this.requestObserver.onCompleted();
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+      this.requestObserver.onError(throwable);
+      this.sink.error(throwable);
+    }
+
+    private void pump() {
+      ClientCallStreamObserver<ReqT> flowControl = this.flowControl;
+      if ((this.upstream() == null) || this.isDisposed()) {
+        return;
+      }
+      if (((flowControl == null) || flowControl.isReady()) && this.pending.compareAndSet(false, true)) {
+        this.request(1);
+      }
+    }
+  }
+}
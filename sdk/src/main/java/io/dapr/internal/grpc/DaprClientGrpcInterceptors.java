@@ -13,11 +13,15 @@ limitations under the License.
 
 package io.dapr.internal.grpc;
 
+import io.dapr.internal.grpc.interceptors.DaprAdmissionInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprApiTokenInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprAppIdInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprMetadataReceiverInterceptor;
+import io.dapr.internal.grpc.interceptors.DaprSidecarReadinessInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprTimeoutInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprTracingInterceptor;
+import io.dapr.internal.health.SidecarMonitor;
+import io.dapr.internal.resiliency.AdmissionPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
@@ -35,6 +39,10 @@ public class DaprClientGrpcInterceptors {
 
   private final TimeoutPolicy timeoutPolicy;
 
+  private final AdmissionPolicy admissionPolicy;
+
+  private final SidecarMonitor sidecarMonitor;
+
   /**
    * Instantiates a holder of all gRPC interceptors.
    */
@@ -48,8 +56,33 @@ public class DaprClientGrpcInterceptors {
    * @param timeoutPolicy Timeout Policy.
    */
   public DaprClientGrpcInterceptors(String daprApiToken, TimeoutPolicy timeoutPolicy) {
+    this(daprApiToken, timeoutPolicy, null);
+  }
+
+  /**
+   * Instantiates a holder of all gRPC interceptors.
+   * @param daprApiToken Dapr API token.
+   * @param timeoutPolicy Timeout Policy.
+   * @param admissionPolicy Circuit breaker and concurrency limit, null to admit every call.
+   */
+  public DaprClientGrpcInterceptors(String daprApiToken, TimeoutPolicy timeoutPolicy,
+      AdmissionPolicy admissionPolicy) {
+    this(daprApiToken, timeoutPolicy, admissionPolicy, null);
+  }
+
+  /**
+   * Instantiates a holder of all gRPC interceptors.
+   * @param daprApiToken Dapr API token.
+   * @param timeoutPolicy Timeout Policy.
+   * @param admissionPolicy Circuit breaker and concurrency limit, null to admit every call.
+   * @param sidecarMonitor Monitor of the sidecar failing the calls while it is down, null to never fail them.
+   */
+  public DaprClientGrpcInterceptors(String daprApiToken, TimeoutPolicy timeoutPolicy,
+      AdmissionPolicy admissionPolicy, SidecarMonitor sidecarMonitor) {
     this.daprApiToken = daprApiToken;
     this.timeoutPolicy = timeoutPolicy;
+    this.admissionPolicy = (admissionPolicy != null) && admissionPolicy.isEnabled() ? admissionPolicy : null;
+    this.sidecarMonitor = sidecarMonitor;
   }
 
   /**
@@ -121,12 +154,21 @@ public class DaprClientGrpcInterceptors {
       throw new IllegalArgumentException("client cannot be null");
     }
 
-    return client.withInterceptors(
+    T intercepted = client.withInterceptors(
         new DaprAppIdInterceptor(appId),
         new DaprApiTokenInterceptor(this.daprApiToken),
-        new DaprTimeoutInterceptor(this.timeoutPolicy),
+        new DaprTimeoutInterceptor(this.timeoutPolicy, context),
         new DaprTracingInterceptor(context),
         new DaprMetadataReceiverInterceptor(metadataConsumer));
+    if (this.admissionPolicy != null) {
+      // Runs first, so rejected calls skip the other interceptors and the deadline starts once admitted.
+      intercepted = intercepted.withInterceptors(new DaprAdmissionInterceptor(this.admissionPolicy, context));
+    }
+    if (this.sidecarMonitor != null) {
+      // Runs before admission, so calls failed while the sidecar is down do not count against the circuit breaker.
+      intercepted = intercepted.withInterceptors(new DaprSidecarReadinessInterceptor(this.sidecarMonitor));
+    }
+    return intercepted;
   }
 
 }
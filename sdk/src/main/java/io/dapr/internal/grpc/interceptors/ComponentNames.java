@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the Dapr component a gRPC request is for.
+ */
+final class ComponentNames {
+
+  /**
+   * Request fields holding the name of the Dapr component, in order of preference.
+   */
+  private static final String[] COMPONENT_FIELDS = {"store_name", "pubsub_name", "component_name"};
+
+  /**
+   * Component name field of each request type, resolved once per type.
+   */
+  private static final Map<Descriptors.Descriptor, Optional<Descriptors.FieldDescriptor>> COMPONENT_FIELD_CACHE =
+      new ConcurrentHashMap<>();
+
+  private ComponentNames() {
+  }
+
+  /**
+   * Gets the name of the Dapr component a request is for.
+   *
+   * @param message gRPC request.
+   * @return Name of the state store, pub/sub, binding or other component, null if the request has none.
+   */
+  static String of(Object message) {
+    if (!(message instanceof Message)) {
+      return null;
+    }
+
+    Message request = (Message) message;
+    Descriptors.FieldDescriptor field = COMPONENT_FIELD_CACHE
+        .computeIfAbsent(request.getDescriptorForType(), ComponentNames::findComponentField)
+        .orElse(null);
+    if (field == null) {
+      return null;
+    }
+
+    String value = (String) request.getField(field);
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Optional<Descriptors.FieldDescriptor> findComponentField(Descriptors.Descriptor descriptor) {
+    for (String name : COMPONENT_FIELDS) {
+      Descriptors.FieldDescriptor field = descriptor.findFieldByName(name);
+      if (isComponentField(field)) {
+        return Optional.of(field);
+      }
+    }
+
+    // Bindings are the only components referenced by a plain "name".
+    if ("InvokeBindingRequest".equals(descriptor.getName())) {
+      Descriptors.FieldDescriptor field = descriptor.findFieldByName("name");
+      if (isComponentField(field)) {
+        return Optional.of(field);
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  private static boolean isComponentField(Descriptors.FieldDescriptor field) {
+    return (field != null)
+        && !field.isRepeated()
+        && (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.STRING);
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import io.dapr.internal.resiliency.AdmissionPolicy;
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Deadline;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Applies the circuit breaker and concurrency limit of an {@link AdmissionPolicy} to unary gRPC calls.
+ * <p>
+ * The call to the sidecar is only created once the request is sent, as the request tells which component the
+ * call is for. Rejected calls fail with {@link Status#RESOURCE_EXHAUSTED}, which is not retried, without
+ * reaching the sidecar or any interceptor added before this one. Streaming calls are not limited.
+ * </p>
+ */
+public class DaprAdmissionInterceptor implements ClientInterceptor {
+
+  private final AdmissionPolicy admissionPolicy;
+
+  private final Deadline callerDeadline;
+
+  /**
+   * Creates an instance of the interceptor.
+   *
+   * @param admissionPolicy Policy deciding whether calls may proceed.
+   */
+  public DaprAdmissionInterceptor(AdmissionPolicy admissionPolicy) {
+    this(admissionPolicy, null);
+  }
+
+  /**
+   * Creates an instance of the interceptor for a call made from a Reactor context.
+   *
+   * @param admissionPolicy Policy deciding whether calls may proceed.
+   * @param context Reactor context, possibly holding the caller's deadline.
+   */
+  public DaprAdmissionInterceptor(AdmissionPolicy admissionPolicy, ContextView context) {
+    this.admissionPolicy = admissionPolicy;
+    Object deadline = context == null ? null : context.getOrDefault(Deadline.class, null);
+    this.callerDeadline = deadline instanceof Deadline ? (Deadline) deadline : null;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor,
+      CallOptions callOptions,
+      Channel channel) {
+    if ((this.admissionPolicy == null)
+        || !this.admissionPolicy.isEnabled()
+        || (methodDescriptor.getType() != MethodDescriptor.MethodType.UNARY)) {
+      return channel.newCall(methodDescriptor, callOptions);
+    }
+
+    Deadline deadline = this.callerDeadline;
+    if (callOptions.getDeadline() != null) {
+      deadline = deadline == null ? callOptions.getDeadline() : deadline.minimum(callOptions.getDeadline());
+    }
+    return new AdmittedCall<>(this.admissionPolicy, methodDescriptor, callOptions, channel, deadline);
+  }
+
+  /**
+   * Classifies the outcome of a call for the circuit breaker and concurrency limit.
+   * Errors raised by the client itself say nothing about the health of the API: a deadline exceeded once the
+   * caller's deadline expired, or a resource exhausted without trailers from the sidecar, such as a message
+   * over the size limit, are ignored.
+   *
+   * @param status Status the call completed with.
+   * @param trailers Trailers the call completed with, empty when the status was not sent by the sidecar.
+   * @param callerDeadline Deadline set by the caller, null if none.
+   * @return Outcome of the call.
+   */
+  static AdmissionPolicy.Outcome toOutcome(Status status, Metadata trailers, Deadline callerDeadline) {
+    switch (status.getCode()) {
+      case UNAVAILABLE:
+        return AdmissionPolicy.Outcome.FAILURE;
+      case DEADLINE_EXCEEDED:
+        return ((callerDeadline != null) && callerDeadline.isExpired())
+            ? AdmissionPolicy.Outcome.IGNORED : AdmissionPolicy.Outcome.FAILURE;
+      case RESOURCE_EXHAUSTED:
+        return trailers.keys().isEmpty() ? AdmissionPolicy.Outcome.IGNORED : AdmissionPolicy.Outcome.FAILURE;
+      case CANCELLED:
+        return AdmissionPolicy.Outcome.IGNORED;
+      default:
+        return AdmissionPolicy.Outcome.SUCCESS;
+    }
+  }
+
+  /**
+   * Unary call admitted when its request is sent.
+   * {@link #request(int)} and {@link #cancel(String, Throwable)} may be called from any thread, so the state
+   * shared with {@link #sendMessage(Object)} is guarded by a lock, which is never held while calling the listener.
+   *
+   * @param <ReqT>  Request type.
+   * @param <RespT> Response type.
+   */
+  private static final class AdmittedCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+    private final AdmissionPolicy admissionPolicy;
+
+    private final MethodDescriptor<ReqT, RespT> methodDescriptor;
+
+    private final CallOptions callOptions;
+
+    private final Channel channel;
+
+    private final Deadline callerDeadline;
+
+    private final Object lock = new Object();
+
+    private Listener<RespT> listener;
+
+    private Metadata headers;
+
+    private int requested;
+
+    private ClientCall<ReqT, RespT> delegate;
+
+    private boolean closed;
+
+    private AdmittedCall(
+        AdmissionPolicy admissionPolicy,
+        MethodDescriptor<ReqT, RespT> methodDescriptor,
+        CallOptions callOptions,
+        Channel channel,
+        Deadline callerDeadline) {
+      this.admissionPolicy = admissionPolicy;
+      this.methodDescriptor = methodDescriptor;
+      this.callOptions = callOptions;
+      this.channel = channel;
+      this.callerDeadline = callerDeadline;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      synchronized (this.lock) {
+        this.listener = responseListener;
+        this.headers = headers;
+      }
+    }
+
+    @Override
+    public void request(int numMessages) {
+      ClientCall<ReqT, RespT> call;
+      synchronized (this.lock) {
+        call = this.delegate;
+        if (call == null) {
+          this.requested += numMessages;
+          return;
+        }
+      }
+      call.request(numMessages);
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+      ClientCall<ReqT, RespT> call;
+      int pending = 0;
+      Status rejection = null;
+      synchronized (this.lock) {
+        call = this.delegate;
+        if (call == null) {
+          if (this.closed) {
+            return;
+          }
+
+          String api = this.methodDescriptor.getBareMethodName();
+          String component = ComponentNames.of(message);
+          AdmissionPolicy.Permit permit = this.admissionPolicy.tryAcquire(api, component);
+          if (permit == null) {
+            this.closed = true;
+            rejection = Status.RESOURCE_EXHAUSTED.withDescription(
+                "Call to " + api + (component == null ? "" : " on component " + component)
+                    + " rejected by the client: circuit breaker open or concurrency limit reached");
+          } else {
+            // Started under the lock, so a concurrent cancel either sees the call or prevents it.
+            call = this.newCall(permit);
+            this.delegate = call;
+            pending = this.requested;
+            this.requested = 0;
+          }
+        }
+      }
+
+      if (rejection != null) {
+        this.deliverClose(rejection);
+        return;
+      }
+      if (pending > 0) {
+        call.request(pending);
+      }
+      call.sendMessage(message);
+    }
+
+    @Override
+    public void halfClose() {
+      ClientCall<ReqT, RespT> call = this.getDelegate();
+      if (call != null) {
+        call.halfClose();
+      }
+    }
+
+    @Override
+    public void cancel(String message, Throwable cause) {
+      ClientCall<ReqT, RespT> call;
+      synchronized (this.lock) {
+        call = this.delegate;
+        if (call == null) {
+          if ((this.listener == null) || this.closed) {
+            return;
+          }
+          this.closed = true;
+        }
+      }
+
+      if (call != null) {
+        call.cancel(message, cause);
+      } else {
+        this.deliverClose(Status.CANCELLED.withDescription(message).withCause(cause));
+      }
+    }
+
+    @Override
+    public boolean isReady() {
+      ClientCall<ReqT, RespT> call;
+      synchronized (this.lock) {
+        call = this.delegate;
+        if (call == null) {
+          return !this.closed;
+        }
+      }
+      return call.isReady();
+    }
+
+    @Override
+    public void setMessageCompression(boolean enabled) {
+      ClientCall<ReqT, RespT> call = this.getDelegate();
+      if (call != null) {
+        call.setMessageCompression(enabled);
+      }
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      ClientCall<ReqT, RespT> call = this.getDelegate();
+      return (call == null) ? Attributes.EMPTY : call.getAttributes();
+    }
+
+    private ClientCall<ReqT, RespT> getDelegate() {
+      synchronized (this.lock) {
+        return this.delegate;
+      }
+    }
+
+    private ClientCall<ReqT, RespT> newCall(AdmissionPolicy.Permit permit) {
+      ClientCall<ReqT, RespT> call = this.channel.newCall(this.methodDescriptor, this.callOptions);
+      try {
+        call.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(this.listener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            permit.release(toOutcome(status, trailers, callerDeadline));
+            super.onClose(status, trailers);
+          }
+        }, this.headers);
+      } catch (RuntimeException e) {
+        permit.release(AdmissionPolicy.Outcome.IGNORED);
+        throw e;
+      }
+      return call;
+    }
+
+    /**
+     * Closes a call that never reached the channel. Like the channel, it notifies the listener on the call's
+     * executor rather than on the thread that sent the request or cancelled the call.
+     *
+     * @param status Status the call completes with.
+     */
+    private void deliverClose(Status status) {
+      Listener<RespT> responseListener;
+      synchronized (this.lock) {
+        responseListener = this.listener;
+      }
+      Executor executor = this.callOptions.getExecutor();
+      (executor == null ? ForkJoinPool.commonPool() : executor)
+          .execute(() -> responseListener.onClose(status, new Metadata()));
+    }
+  }
+}
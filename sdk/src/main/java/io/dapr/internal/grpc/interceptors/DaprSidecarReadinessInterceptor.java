@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import io.dapr.internal.health.SidecarDownException;
+import io.dapr.internal.health.SidecarMonitor;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fails the gRPC calls made while the {@link SidecarMonitor} knows the sidecar to be down.
+ * <p>
+ * Such calls fail with {@link Status#UNAVAILABLE} when started, without reaching the sidecar or any interceptor
+ * added before this one, instead of waiting for their deadline. The status is caused by a
+ * {@link SidecarDownException}, so the retry policies do not retry them: failing fast would otherwise become
+ * retrying with backoff until the sidecar recovers.
+ * </p>
+ */
+public class DaprSidecarReadinessInterceptor implements ClientInterceptor {
+
+  private final SidecarMonitor sidecarMonitor;
+
+  /**
+   * Creates an instance of the interceptor.
+   *
+   * @param sidecarMonitor Monitor of the sidecar's readiness.
+   */
+  public DaprSidecarReadinessInterceptor(SidecarMonitor sidecarMonitor) {
+    this.sidecarMonitor = sidecarMonitor;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor,
+      CallOptions callOptions,
+      Channel channel) {
+    if ((this.sidecarMonitor == null) || !this.sidecarMonitor.shouldFailFast()) {
+      return channel.newCall(methodDescriptor, callOptions);
+    }
+
+    return new ClientCall<>() {
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        String description =
+            "Call to " + methodDescriptor.getBareMethodName() + " failed by the client: the Dapr sidecar is down";
+        Status status = Status.UNAVAILABLE.withDescription(description)
+            .withCause(new SidecarDownException(description));
+        // Like the channel, notifies the listener on the call's executor rather than on the starting thread.
+        Executor executor = callOptions.getExecutor();
+        (executor == null ? ForkJoinPool.commonPool() : executor)
+            .execute(() -> responseListener.onClose(status, new Metadata()));
+      }
+
+      @Override
+      public void request(int numMessages) {
+      }
+
+      @Override
+      public void cancel(String message, Throwable cause) {
+      }
+
+      @Override
+      public void halfClose() {
+      }
+
+      @Override
+      public void sendMessage(ReqT message) {
+      }
+
+      @Override
+      public boolean isReady() {
+        return false;
+      }
+    };
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import com.google.protobuf.MessageLite;
+import io.dapr.internal.opencensus.GrpcHelper;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * Records an OpenTelemetry client span and the duration of every gRPC call to the sidecar.
+ * <p>
+ * It must run after {@link DaprTracingInterceptor}: the span is a child of the trace headers found in the
+ * metadata, traceparent or else grpc-trace-bin, which are then replaced by the ones of the span so the sidecar
+ * continues the trace from it.
+ * </p>
+ */
+public class DaprTelemetryInterceptor implements ClientInterceptor {
+
+  static final AttributeKey<String> RPC_SYSTEM = AttributeKey.stringKey("rpc.system");
+
+  static final AttributeKey<String> RPC_SERVICE = AttributeKey.stringKey("rpc.service");
+
+  static final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
+
+  static final AttributeKey<Long> RPC_GRPC_STATUS_CODE = AttributeKey.longKey("rpc.grpc.status_code");
+
+  static final AttributeKey<String> DAPR_COMPONENT_NAME = AttributeKey.stringKey("dapr.component.name");
+
+  static final AttributeKey<Long> DAPR_REQUEST_SIZE = AttributeKey.longKey("dapr.request.size");
+
+  private static final Metadata.Key<byte[]> GRPC_TRACE_BIN_KEY =
+      Metadata.Key.of("grpc-trace-bin", Metadata.BINARY_BYTE_MARSHALLER);
+
+  private static final Metadata.Key<String> TRACEPARENT_KEY =
+      Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> TRACESTATE_KEY =
+      Metadata.Key.of("tracestate", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final TextMapGetter<Metadata> METADATA_GETTER = new TextMapGetter<>() {
+    @Override
+    public Iterable<String> keys(Metadata carrier) {
+      return carrier.keys();
+    }
+
+    @Override
+    public String get(Metadata carrier, String key) {
+      if ((carrier == null) || key.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+        return null;
+      }
+      return carrier.get(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER));
+    }
+  };
+
+  private static final TextMapSetter<Metadata> METADATA_SETTER =
+      (carrier, key, value) -> carrier.put(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER), value);
+
+  private final Tracer tracer;
+
+  private final DoubleHistogram duration;
+
+  /**
+   * Creates an instance of the interceptor.
+   *
+   * @param tracer Tracer creating the client spans.
+   * @param duration Histogram of the call durations, in seconds.
+   */
+  public DaprTelemetryInterceptor(Tracer tracer, DoubleHistogram duration) {
+    this.tracer = tracer;
+    this.duration = duration;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor,
+      CallOptions callOptions,
+      Channel channel) {
+    ClientCall<ReqT, RespT> clientCall = channel.newCall(methodDescriptor, callOptions);
+    return new ForwardingClientCall.SimpleForwardingClientCall<>(clientCall) {
+
+      private volatile Span span = Span.getInvalid();
+
+      private volatile long startNanos;
+
+      private volatile String componentName;
+
+      private volatile long requestSize;
+
+      @Override
+      public void start(final Listener<RespT> responseListener, final Metadata metadata) {
+        Context parent = extractParent(metadata);
+        Span clientSpan = tracer.spanBuilder(methodDescriptor.getFullMethodName())
+            .setParent(parent)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(RPC_SYSTEM, "grpc")
+            .setAttribute(RPC_SERVICE, methodDescriptor.getServiceName())
+            .setAttribute(RPC_METHOD, methodDescriptor.getBareMethodName())
+            .startSpan();
+        this.span = clientSpan;
+        if (clientSpan.getSpanContext().isValid()) {
+          metadata.removeAll(GRPC_TRACE_BIN_KEY);
+          metadata.removeAll(TRACEPARENT_KEY);
+          metadata.removeAll(TRACESTATE_KEY);
+          // Every call has its own span, so its headers are encoded for this call only.
+          W3CTraceContextPropagator.getInstance().inject(parent.with(clientSpan), metadata, METADATA_SETTER);
+          SpanContext spanContext = clientSpan.getSpanContext();
+          metadata.put(GRPC_TRACE_BIN_KEY, GrpcHelper.toGrpcTraceBin(
+              spanContext.getTraceId(), spanContext.getSpanId(), spanContext.getTraceFlags().asHex()));
+        }
+
+        this.startNanos = System.nanoTime();
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            finish(status);
+            super.onClose(status, trailers);
+          }
+        }, metadata);
+      }
+
+      @Override
+      public void sendMessage(ReqT message) {
+        if (this.componentName == null) {
+          this.componentName = ComponentNames.of(message);
+        }
+        if (this.span.isRecording() && (message instanceof MessageLite)) {
+          this.requestSize += ((MessageLite) message).getSerializedSize();
+        }
+        super.sendMessage(message);
+      }
+
+      private Context extractParent(Metadata metadata) {
+        W3CTraceContextPropagator propagator = W3CTraceContextPropagator.getInstance();
+        Context parent = propagator.extract(Context.root(), metadata, METADATA_GETTER);
+        if (Span.fromContext(parent).getSpanContext().isValid()) {
+          return parent;
+        }
+
+        // Without a traceparent, the trace is continued from the grpc-trace-bin provided by the caller, if any.
+        String traceparent = GrpcHelper.toTraceparent(metadata.get(GRPC_TRACE_BIN_KEY));
+        if (traceparent == null) {
+          return parent;
+        }
+        Metadata carrier = new Metadata();
+        carrier.put(TRACEPARENT_KEY, traceparent);
+        return propagator.extract(Context.root(), carrier, METADATA_GETTER);
+      }
+
+      private void finish(Status status) {
+        double seconds = (System.nanoTime() - this.startNanos) / 1_000_000_000.0;
+        long code = status.getCode().value();
+
+        AttributesBuilder attributes = Attributes.builder()
+            .put(RPC_METHOD, methodDescriptor.getBareMethodName())
+            .put(RPC_GRPC_STATUS_CODE, code);
+        if (this.componentName != null) {
+          attributes.put(DAPR_COMPONENT_NAME, this.componentName);
+        }
+        duration.record(seconds, attributes.build());
+
+        Span clientSpan = this.span;
+        if (clientSpan.isRecording()) {
+          clientSpan.setAttribute(RPC_GRPC_STATUS_CODE, code);
+          clientSpan.setAttribute(DAPR_REQUEST_SIZE, this.requestSize);
+          if (this.componentName != null) {
+            clientSpan.setAttribute(DAPR_COMPONENT_NAME, this.componentName);
+          }
+          if (!status.isOk()) {
+            clientSpan.setStatus(StatusCode.ERROR, status.getCode().name());
+          }
+        }
+        clientSpan.end();
+      }
+    };
+  }
+}
@@ -18,17 +18,33 @@ import io.grpc.CallOptions;
 import io.grpc.Channel;
 import io.grpc.ClientCall;
 import io.grpc.ClientInterceptor;
+import io.grpc.Deadline;
 import io.grpc.MethodDescriptor;
+import reactor.util.context.ContextView;
 
 /**
  * Class to be used as part of your service's client stub interceptor to include timeout.
+ * The call ends at the earliest of its timeout and the {@link Deadline} found in the Reactor context.
  */
 public class DaprTimeoutInterceptor implements ClientInterceptor {
 
   private final TimeoutPolicy timeoutPolicy;
 
+  private final Deadline callerDeadline;
+
   public DaprTimeoutInterceptor(TimeoutPolicy timeoutPolicy) {
+    this(timeoutPolicy, null);
+  }
+
+  /**
+   * Instantiates the interceptor for a call made from a Reactor context.
+   * @param timeoutPolicy Timeout policy, null for no timeout.
+   * @param context Reactor context, possibly holding the caller's deadline.
+   */
+  public DaprTimeoutInterceptor(TimeoutPolicy timeoutPolicy, ContextView context) {
     this.timeoutPolicy = timeoutPolicy;
+    Object deadline = context == null ? null : context.getOrDefault(Deadline.class, null);
+    this.callerDeadline = deadline instanceof Deadline ? (Deadline) deadline : null;
   }
 
   @Override
@@ -37,10 +53,11 @@ public class DaprTimeoutInterceptor implements ClientInterceptor {
       CallOptions options,
       Channel channel) {
     if (timeoutPolicy == null) {
-      return channel.newCall(methodDescriptor, options);
+      return channel.newCall(methodDescriptor, callerDeadline == null ? options : options.withDeadline(callerDeadline));
     }
 
-    return channel.newCall(methodDescriptor, timeoutPolicy.apply(options));
+    return channel.newCall(methodDescriptor,
+        timeoutPolicy.apply(methodDescriptor.getBareMethodName(), options, callerDeadline));
   }
 
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.health;
+
+import io.grpc.Status;
+
+/**
+ * Cause of the calls failed by the client while the {@link SidecarMonitor} knows the sidecar to be down.
+ * <p>
+ * Such calls fail with {@link Status#UNAVAILABLE}, like the ones the sidecar could not serve, but retrying them
+ * would only wait for the sidecar to recover: retries look for this cause to skip them.
+ * </p>
+ */
+public final class SidecarDownException extends RuntimeException {
+
+  /**
+   * Instantiates a new exception, without a stack trace.
+   *
+   * @param message Description of the failed call.
+   */
+  public SidecarDownException(String message) {
+    super(message, null, false, false);
+  }
+
+  /**
+   * Checks whether a status was set by the client because the sidecar is down.
+   *
+   * @param status Status of a call.
+   * @return True if the call was failed fast by the client.
+   */
+  public static boolean isCauseOf(Status status) {
+    return status.getCause() instanceof SidecarDownException;
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.health;
+
+import io.dapr.client.domain.DaprMetadata;
+import io.dapr.client.domain.SidecarMonitorOptions;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the readiness of the sidecar by probing it in the background, and caches its metadata.
+ * <p>
+ * The sidecar is ready after a successful probe, and down after a number of consecutive failed ones; until the
+ * first probe completes, its readiness is unknown. The metadata is read at most once per refresh interval, the
+ * concurrent reads sharing one call, and read again once the sidecar recovers from being down.
+ * </p>
+ */
+public final class SidecarMonitor {
+
+  /**
+   * Readiness of the sidecar.
+   */
+  public enum State {
+    UNKNOWN,
+    READY,
+    DOWN
+  }
+
+  private final Duration probeInterval;
+
+  private final Duration probeTimeout;
+
+  private final int failureThreshold;
+
+  private final long metadataRefreshNanos;
+
+  private final boolean failFast;
+
+  private final Scheduler scheduler;
+
+  private final LongSupplier nanoClock;
+
+  private final Sinks.Many<Boolean> readiness = Sinks.many().replay().latest();
+
+  private final AtomicReference<CachedMetadata> metadata = new AtomicReference<>();
+
+  private volatile State state = State.UNKNOWN;
+
+  /**
+   * Consecutive failed probes, only updated by the probing loop.
+   */
+  private int failures;
+
+  private volatile Disposable probing;
+
+  private volatile boolean closed;
+
+  /**
+   * Instantiates a new monitor, which probes once started.
+   *
+   * @param options Monitor options.
+   */
+  public SidecarMonitor(SidecarMonitorOptions options) {
+    this(options, Schedulers.parallel(), System::nanoTime);
+  }
+
+  SidecarMonitor(SidecarMonitorOptions options, Scheduler scheduler, LongSupplier nanoClock) {
+    if (options == null) {
+      throw new IllegalArgumentException("Sidecar monitor options are required");
+    }
+    if (!isPositive(options.getProbeInterval())) {
+      throw new IllegalArgumentException("Sidecar probe interval must be positive");
+    }
+    if (!isPositive(options.getProbeTimeout())) {
+      throw new IllegalArgumentException("Sidecar probe timeout must be positive");
+    }
+    if (options.getFailureThreshold() <= 0) {
+      throw new IllegalArgumentException("Sidecar failure threshold must be positive");
+    }
+    if ((options.getMetadataRefreshInterval() == null) || options.getMetadataRefreshInterval().isNegative()) {
+      throw new IllegalArgumentException("Metadata refresh interval cannot be negative");
+    }
+
+    this.probeInterval = options.getProbeInterval();
+    this.probeTimeout = options.getProbeTimeout();
+    this.failureThreshold = options.getFailureThreshold();
+    this.metadataRefreshNanos = options.getMetadataRefreshInterval().toNanos();
+    this.failFast = options.isFailFast();
+    this.scheduler = scheduler;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Starts probing the sidecar, right away and then at every interval. Probes never overlap.
+   *
+   * @param probe Checks the sidecar, completing if it is ready and failing otherwise.
+   */
+  public synchronized void start(Supplier<Mono<?>> probe) {
+    if ((this.probing != null) || this.closed) {
+      return;
+    }
+
+    this.probing = Flux.interval(Duration.ZERO, this.probeInterval, this.scheduler)
+        .onBackpressureDrop()
+        .concatMap(tick -> Mono.defer(probe)
+            .timeout(this.probeTimeout, this.scheduler)
+            .then(Mono.just(true))
+            .onErrorReturn(false), 1)
+        .subscribe(this::onProbe);
+  }
+
+  /**
+   * Gets the readiness of the sidecar as of the last probe.
+   *
+   * @return Readiness of the sidecar.
+   */
+  public State getState() {
+    return this.state;
+  }
+
+  /**
+   * Checks whether calls should fail right away, the sidecar being known to be down.
+   *
+   * @return True if failing fast is enabled and the sidecar is down.
+   */
+  public boolean shouldFailFast() {
+    return this.failFast && (this.state == State.DOWN);
+  }
+
+  /**
+   * Gets the readiness of the sidecar: the current one once known, then every change.
+   *
+   * @return Whether the sidecar is ready.
+   */
+  public Flux<Boolean> readiness() {
+    return this.readiness.asFlux();
+  }
+
+  /**
+   * Gets the metadata of the sidecar, from the cache if read less than a refresh interval ago.
+   *
+   * @param loader Reads the metadata from the sidecar.
+   * @return Metadata of the sidecar.
+   */
+  public Mono<DaprMetadata> getMetadata(Supplier<Mono<DaprMetadata>> loader) {
+    return Mono.defer(() -> {
+      while (true) {
+        CachedMetadata cached = this.metadata.get();
+        if ((cached != null) && (!cached.loaded || !this.isStale(cached))) {
+          return cached.value;
+        }
+
+        CachedMetadata loading = new CachedMetadata(loader);
+        if (this.metadata.compareAndSet(cached, loading)) {
+          return loading.value;
+        }
+      }
+    });
+  }
+
+  /**
+   * Clears the cached metadata, so the next read gets it from the sidecar.
+   */
+  public void invalidateMetadata() {
+    this.metadata.set(null);
+  }
+
+  /**
+   * Stops probing the sidecar and completes the readiness stream.
+   */
+  public synchronized void close() {
+    this.closed = true;
+    if (this.probing != null) {
+      this.probing.dispose();
+    }
+    this.readiness.tryEmitComplete();
+  }
+
+  private void onProbe(boolean success) {
+    State previous = this.state;
+    if (success) {
+      this.failures = 0;
+      if (previous != State.READY) {
+        if (previous == State.DOWN) {
+          this.invalidateMetadata();
+        }
+        this.state = State.READY;
+        this.readiness.tryEmitNext(true);
+      }
+      return;
+    }
+
+    this.failures++;
+    if ((previous != State.DOWN) && (this.failures >= this.failureThreshold)) {
+      this.state = State.DOWN;
+      this.readiness.tryEmitNext(false);
+    }
+  }
+
+  private boolean isStale(CachedMetadata cached) {
+    return this.nanoClock.getAsLong() - cached.loadedAt >= this.metadataRefreshNanos;
+  }
+
+  private static boolean isPositive(Duration duration) {
+    return (duration != null) && !duration.isNegative() && !duration.isZero();
+  }
+
+  /**
+   * Metadata read, or being read, from the sidecar.
+   */
+  private final class CachedMetadata {
+
+    private final Mono<DaprMetadata> value;
+
+    private volatile long loadedAt;
+
+    /**
+     * Whether the metadata was read, written after its read time.
+     */
+    private volatile boolean loaded;
+
+    private CachedMetadata(Supplier<Mono<DaprMetadata>> loader) {
+      // A failed read is not cached: the next one calls the sidecar again.
+      this.value = Mono.defer(loader)
+          .doOnSuccess(value -> {
+            this.loadedAt = nanoClock.getAsLong();
+            this.loaded = true;
+          })
+          .doOnError(e -> metadata.compareAndSet(this, null))
+          .cache();
+    }
+  }
+}
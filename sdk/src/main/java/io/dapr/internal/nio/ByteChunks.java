@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.nio;
+
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits byte streams into chunks of a bounded size.
+ */
+public final class ByteChunks {
+
+  /**
+   * Default size of the chunks, matching the segments of the Dapr encryption scheme.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+  private ByteChunks() {
+  }
+
+  /**
+   * Reads a file in chunks, one chunk per request of the subscriber, so it is read in constant memory.
+   *
+   * @param path      File to read.
+   * @param chunkSize Maximum size of the chunks.
+   * @return Chunks of the file, each in its own buffer.
+   */
+  public static Flux<ByteBuffer> read(Path path, int chunkSize) {
+    return Flux.using(
+        () -> FileChannel.open(path, StandardOpenOption.READ),
+        channel -> read((ReadableByteChannel) channel, chunkSize),
+        channel -> {
+          try {
+            channel.close();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  /**
+   * Reads a channel in chunks, one chunk per request of the subscriber, up to its end.
+   * <p>
+   * Every chunk is read into its own buffer, which is never written again once emitted: subscribers may hand it
+   * over without copying it, even to consumers that keep it after they return. The channel is left open.
+   * </p>
+   *
+   * @param channel   Channel to read.
+   * @param chunkSize Maximum size of the chunks.
+   * @return Chunks of the channel, each in its own buffer.
+   */
+  public static Flux<ByteBuffer> read(ReadableByteChannel channel, int chunkSize) {
+    return Flux.generate(sink -> {
+      try {
+        ByteBuffer chunk = ByteBuffer.allocate(chunkSize);
+        while (chunk.hasRemaining()) {
+          if (channel.read(chunk) < 0) {
+            break;
+          }
+        }
+        chunk.flip();
+        if (chunk.hasRemaining()) {
+          sink.next(chunk);
+        } else {
+          sink.complete();
+        }
+      } catch (IOException e) {
+        sink.error(new UncheckedIOException(e));
+      }
+    });
+  }
+
+  /**
+   * Splits the buffers larger than a chunk into views of at most a chunk, without copying their content.
+   *
+   * @param buffers   Buffers to split.
+   * @param chunkSize Maximum size of the chunks.
+   * @return Chunks, in order.
+   */
+  public static Flux<ByteBuffer> split(Flux<ByteBuffer> buffers, int chunkSize) {
+    return buffers.concatMapIterable(buffer -> split(buffer, chunkSize), 1);
+  }
+
+  private static List<ByteBuffer> split(ByteBuffer buffer, int chunkSize) {
+    if (buffer.remaining() <= chunkSize) {
+      return Collections.singletonList(buffer);
+    }
+
+    List<ByteBuffer> chunks = new ArrayList<>((buffer.remaining() + chunkSize - 1) / chunkSize);
+    ByteBuffer source = buffer.duplicate();
+    while (source.hasRemaining()) {
+      int length = Math.min(chunkSize, source.remaining());
+      ByteBuffer chunk = source.slice();
+      chunk.limit(length);
+      chunks.add(chunk);
+      source.position(source.position() + length);
+    }
+    return chunks;
+  }
+}
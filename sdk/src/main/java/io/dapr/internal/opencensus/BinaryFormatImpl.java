@@ -77,4 +77,40 @@ final class BinaryFormatImpl {
     return bytes;
   }
 
+  /**
+   * Decodes the byte array of a span context into a W3C traceparent.
+   * @param bytes byte array for span context.
+   * @return traceparent of the span context, null if the bytes hold no valid trace and span IDs.
+   */
+  String toTraceparent(byte[] bytes) {
+    if ((bytes == null) || (bytes.length < REQUIRED_FORMAT_LENGTH) || (bytes[VERSION_ID_OFFSET] != VERSION_ID)
+        || (bytes[TRACE_ID_FIELD_ID_OFFSET] != TRACE_ID_FIELD_ID)
+        || (bytes[SPAN_ID_FIELD_ID_OFFSET] != SPAN_ID_FIELD_ID)) {
+      return null;
+    }
+
+    long traceIdHi = BigendianEncoding.longFromByteArray(bytes, TRACE_ID_OFFSET);
+    long traceIdLo = BigendianEncoding.longFromByteArray(bytes, TRACE_ID_OFFSET + BigendianEncoding.LONG_BYTES);
+    long spanId = BigendianEncoding.longFromByteArray(bytes, SPAN_ID_OFFSET);
+    if (((traceIdHi == 0) && (traceIdLo == 0)) || (spanId == 0)) {
+      return null;
+    }
+    byte options = 0;
+    if ((bytes.length >= ALL_FORMAT_LENGTH) && (bytes[TRACE_OPTION_FIELD_ID_OFFSET] == TRACE_OPTION_FIELD_ID)) {
+      options = bytes[TRACE_OPTIONS_OFFSET];
+    }
+
+    char[] chars = new char[55];
+    chars[0] = '0';
+    chars[1] = '0';
+    chars[2] = '-';
+    BigendianEncoding.longToBase16String(traceIdHi, chars, 3);
+    BigendianEncoding.longToBase16String(traceIdLo, chars, 3 + BigendianEncoding.LONG_BASE16);
+    chars[35] = '-';
+    BigendianEncoding.longToBase16String(spanId, chars, 36);
+    chars[52] = '-';
+    chars[53] = Character.forDigit((options >> 4) & 0xF, 16);
+    chars[54] = Character.forDigit(options & 0xF, 16);
+    return new String(chars);
+  }
 }
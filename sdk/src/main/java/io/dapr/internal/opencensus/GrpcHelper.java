@@ -13,14 +13,17 @@ limitations under the License.
 
 package io.dapr.internal.opencensus;
 
+import io.dapr.internal.opentelemetry.OpenTelemetryTraceContext;
 import io.grpc.Metadata;
 import reactor.util.context.Context;
 import reactor.util.context.ContextView;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Helper to extract tracing information for gRPC calls.
@@ -43,49 +46,154 @@ public final class GrpcHelper {
   private static final Metadata.Key<String> TRACESTATE_KEY =
       Metadata.Key.of("tracestate", Metadata.ASCII_STRING_MARSHALLER);
 
+  /**
+   * Key of the encoded tracing headers in the Reactor context.
+   */
+  private static final Object TRACE_HEADERS_KEY = TraceHeaders.class;
+
+  /**
+   * Maximum number of spans whose headers are kept, after which the least recently used ones are evicted.
+   */
+  private static final int MAX_CACHED_SPANS = 1024;
+
+  /**
+   * Headers per span, reused by the calls made on behalf of the same request.
+   */
+  private static final Map<SpanKey, TraceHeaders> HEADERS_BY_SPAN = Collections.synchronizedMap(
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SpanKey, TraceHeaders> eldest) {
+          return size() > MAX_CACHED_SPANS;
+        }
+      });
+
   private GrpcHelper() {
   }
 
   /**
    * Populates GRPC client's metadata with tracing headers.
+   * When the Reactor context holds no tracing headers, the ones of the current OpenTelemetry span are used.
    *
    * @param context Reactor's context.
    * @param metadata GRPC client metadata to be populated.
    */
   public static void populateMetadata(final ContextView context, final Metadata metadata) {
-    Map<String, Object> map = (context == null ? Context.empty() : context)
-        .stream()
-        .filter(e -> (e.getKey() != null) && (e.getValue() != null))
-        .collect(Collectors.toMap(e -> e.getKey().toString(), e -> e.getValue()));
-    if (map.containsKey(GRPC_TRACE_BIN_KEY.name())) {
-      byte[] value = (byte[]) map.get(GRPC_TRACE_BIN_KEY.name());
-      metadata.put(GRPC_TRACE_BIN_KEY, value);
-    }
-    if (map.containsKey(TRACEPARENT_KEY.name())) {
-      String value = map.get(TRACEPARENT_KEY.name()).toString();
-      metadata.put(TRACEPARENT_KEY, value);
-    }
-    if (map.containsKey(TRACESTATE_KEY.name())) {
-      String value = map.get(TRACESTATE_KEY.name()).toString();
-      metadata.put(TRACESTATE_KEY, value);
-    }
-
-    // Dapr only supports "grpc-trace-bin" for GRPC and OpenTelemetry SDK does not support that yet:
-    // https://github.com/open-telemetry/opentelemetry-specification/issues/639
-    // This should be the only use of OpenCensus SDK: populate "grpc-trace-bin".
-    SpanContext opencensusSpanContext = extractOpenCensusSpanContext(metadata);
-    if (opencensusSpanContext != null) {
-      byte[] grpcTraceBin = OPENCENSUS_BINARY_FORMAT.toByteArray(opencensusSpanContext);
-      metadata.put(GRPC_TRACE_BIN_KEY, grpcTraceBin);
+    TraceHeaders headers = null;
+    if (context != null) {
+      headers = context.getOrDefault(TRACE_HEADERS_KEY, null);
+    }
+    if (headers == null) {
+      headers = resolveHeaders(context);
+    }
+    if (headers != null) {
+      headers.applyTo(metadata);
+    }
+  }
+
+  /**
+   * Encodes the tracing headers of a Reactor context once, so every call made with the returned context
+   * reuses them, such as the calls made for the chunks or pages of a single request.
+   *
+   * @param context Reactor's context.
+   * @return Context holding the encoded headers, or the same context when it has no trace context.
+   */
+  public static Context withTraceHeaders(final Context context) {
+    if (context.hasKey(TRACE_HEADERS_KEY)) {
+      return context;
     }
+    TraceHeaders headers = resolveHeaders(context);
+    return headers == null ? context : context.put(TRACE_HEADERS_KEY, headers);
   }
 
-  private static SpanContext extractOpenCensusSpanContext(Metadata metadata) {
-    if (!metadata.keys().contains(TRACEPARENT_KEY.name())) {
+  /**
+   * Encodes the grpc-trace-bin header of a span, without caching it.
+   *
+   * @param traceId Trace ID, in lowercase hexadecimal.
+   * @param spanId Span ID, in lowercase hexadecimal.
+   * @param traceFlags Trace flags, in lowercase hexadecimal.
+   * @return grpc-trace-bin header of the span.
+   */
+  public static byte[] toGrpcTraceBin(String traceId, String spanId, String traceFlags) {
+    return OPENCENSUS_BINARY_FORMAT.toByteArray(SpanContext.create(
+        TraceId.fromLowerBase16(traceId, 0),
+        SpanId.fromLowerBase16(spanId, 0),
+        TraceOptions.fromLowerBase16(traceFlags, 0),
+        Tracestate.builder().build()));
+  }
+
+  /**
+   * Decodes a grpc-trace-bin header into the W3C traceparent of the same span.
+   *
+   * @param grpcTraceBin grpc-trace-bin header.
+   * @return traceparent of the span, null if the header cannot be decoded.
+   */
+  public static String toTraceparent(byte[] grpcTraceBin) {
+    return OPENCENSUS_BINARY_FORMAT.toTraceparent(grpcTraceBin);
+  }
+
+  private static TraceHeaders resolveHeaders(final ContextView context) {
+    Object grpcTraceBin = null;
+    Object traceparent = null;
+    Object tracestate = null;
+    if (context != null) {
+      grpcTraceBin = context.getOrDefault(GRPC_TRACE_BIN_KEY.name(), null);
+      traceparent = context.getOrDefault(TRACEPARENT_KEY.name(), null);
+      tracestate = context.getOrDefault(TRACESTATE_KEY.name(), null);
+    }
+
+    if ((grpcTraceBin == null) && (traceparent == null) && (tracestate == null)) {
+      OpenTelemetryTraceContext otelContext = OpenTelemetryTraceContext.current(context);
+      if (otelContext == null) {
+        return null;
+      }
+      traceparent = otelContext.getTraceparent();
+      tracestate = otelContext.getTracestate();
+    }
+
+    return getHeaders(
+        (byte[]) grpcTraceBin,
+        traceparent == null ? null : traceparent.toString(),
+        tracestate == null ? null : tracestate.toString());
+  }
+
+  /**
+   * Gets the encoded headers for the given trace context, reusing the ones of the same span if any.
+   * Only headers encoded from a traceparent are cached: a grpc-trace-bin from the context is sent as is.
+   *
+   * @param grpcTraceBin grpc-trace-bin from the Reactor context.
+   * @param traceparent traceparent from the Reactor context.
+   * @param tracestate tracestate from the Reactor context.
+   * @return Headers to be added to the metadata.
+   */
+  static TraceHeaders getHeaders(byte[] grpcTraceBin, String traceparent, String tracestate) {
+    if ((grpcTraceBin != null) || (traceparent == null)) {
+      return new TraceHeaders(grpcTraceBin, traceparent, tracestate);
+    }
+
+    SpanKey key = new SpanKey(traceparent, tracestate);
+    TraceHeaders headers = HEADERS_BY_SPAN.get(key);
+    if (headers != null) {
+      return headers;
+    }
+
+    // Encoded outside of the lock: a concurrent call for the same span may encode it too, and keep its own.
+    headers = new TraceHeaders(null, traceparent, tracestate);
+    HEADERS_BY_SPAN.put(key, headers);
+    return headers;
+  }
+
+  private static SpanContext extractOpenCensusSpanContext(String traceparent, String tracestate) {
+    if (traceparent == null) {
       // Trying to extract context without this key will throw an "expected" exception, so we avoid it here.
       return null;
     }
 
+    Metadata metadata = new Metadata();
+    metadata.put(TRACEPARENT_KEY, traceparent);
+    if (tracestate != null) {
+      metadata.put(TRACESTATE_KEY, tracestate);
+    }
+
     try {
       return TraceContextFormat.extract(metadata);
     } catch (RuntimeException e) {
@@ -93,4 +201,80 @@ public final class GrpcHelper {
       return null;
     }
   }
+
+  /**
+   * Identifies a span by its W3C trace headers.
+   */
+  private static final class SpanKey {
+
+    private final String traceparent;
+
+    private final String tracestate;
+
+    private SpanKey(String traceparent, String tracestate) {
+      this.traceparent = traceparent;
+      this.tracestate = tracestate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SpanKey)) {
+        return false;
+      }
+      SpanKey that = (SpanKey) o;
+      return this.traceparent.equals(that.traceparent) && Objects.equals(this.tracestate, that.tracestate);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * this.traceparent.hashCode() + Objects.hashCode(this.tracestate);
+    }
+  }
+
+  /**
+   * Tracing headers of a span, encoded once and applied to the metadata of every call made for it.
+   */
+  static final class TraceHeaders {
+
+    private final String traceparent;
+
+    private final String tracestate;
+
+    /**
+     * grpc-trace-bin to be sent: encoded from traceparent when it can be parsed, else the one provided.
+     */
+    private final byte[] grpcTraceBin;
+
+    private TraceHeaders(byte[] grpcTraceBin, String traceparent, String tracestate) {
+      this.traceparent = traceparent;
+      this.tracestate = tracestate;
+
+      // Dapr only supports "grpc-trace-bin" for GRPC and OpenTelemetry SDK does not support that yet:
+      // https://github.com/open-telemetry/opentelemetry-specification/issues/639
+      // This should be the only use of OpenCensus SDK: populate "grpc-trace-bin".
+      SpanContext opencensusSpanContext = extractOpenCensusSpanContext(traceparent, tracestate);
+      this.grpcTraceBin = opencensusSpanContext == null
+          ? grpcTraceBin : OPENCENSUS_BINARY_FORMAT.toByteArray(opencensusSpanContext);
+    }
+
+    /**
+     * Adds the headers to the metadata of a call.
+     *
+     * @param metadata GRPC client metadata to be populated.
+     */
+    void applyTo(Metadata metadata) {
+      if (this.grpcTraceBin != null) {
+        metadata.put(GRPC_TRACE_BIN_KEY, this.grpcTraceBin);
+      }
+      if (this.traceparent != null) {
+        metadata.put(TRACEPARENT_KEY, this.traceparent);
+      }
+      if (this.tracestate != null) {
+        metadata.put(TRACESTATE_KEY, this.tracestate);
+      }
+    }
+  }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.opentelemetry;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * W3C trace headers of an OpenTelemetry span.
+ * <p>
+ * The OpenTelemetry API is an optional dependency of the SDK: when it is on the classpath, calls made
+ * without trace headers in the Reactor context are attached to the OpenTelemetry context stored in the
+ * Reactor context under the {@code io.opentelemetry.context.Context} class, or to the current one.
+ * </p>
+ */
+public final class OpenTelemetryTraceContext {
+
+  /**
+   * Whether the OpenTelemetry API is on the classpath.
+   */
+  private static final boolean AVAILABLE = isOnClasspath();
+
+  /**
+   * Version of the W3C trace context format.
+   */
+  private static final String VERSION = "00";
+
+  private final String traceparent;
+
+  private final String tracestate;
+
+  private OpenTelemetryTraceContext(String traceparent, String tracestate) {
+    this.traceparent = traceparent;
+    this.tracestate = tracestate;
+  }
+
+  /**
+   * Gets the W3C traceparent header.
+   *
+   * @return traceparent header.
+   */
+  public String getTraceparent() {
+    return traceparent;
+  }
+
+  /**
+   * Gets the W3C tracestate header.
+   *
+   * @return tracestate header, null if the span has no trace state.
+   */
+  public String getTracestate() {
+    return tracestate;
+  }
+
+  /**
+   * Checks whether the OpenTelemetry API is on the classpath.
+   *
+   * @return True if the OpenTelemetry context can be read.
+   */
+  public static boolean isAvailable() {
+    return AVAILABLE;
+  }
+
+  /**
+   * Gets the trace headers of the OpenTelemetry span for a call.
+   *
+   * @param context Reactor's context, possibly holding an OpenTelemetry context.
+   * @return Trace headers, or null if the OpenTelemetry API is not on the classpath or there is no valid span.
+   */
+  public static OpenTelemetryTraceContext current(ContextView context) {
+    if (!AVAILABLE) {
+      return null;
+    }
+
+    return Reader.read(context);
+  }
+
+  private static boolean isOnClasspath() {
+    try {
+      Class.forName("io.opentelemetry.api.trace.Span", false, OpenTelemetryTraceContext.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Only loaded once the OpenTelemetry API is known to be on the classpath.
+   */
+  private static final class Reader {
+
+    private static OpenTelemetryTraceContext read(ContextView context) {
+      Object value = context == null ? null : context.getOrDefault(Context.class, null);
+      Context otelContext = value instanceof Context ? (Context) value : Context.current();
+      SpanContext spanContext = Span.fromContext(otelContext).getSpanContext();
+      if (!spanContext.isValid()) {
+        return null;
+      }
+
+      String traceparent = VERSION + '-' + spanContext.getTraceId() + '-' + spanContext.getSpanId() + '-'
+          + spanContext.getTraceFlags().asHex();
+      return new OpenTelemetryTraceContext(traceparent, encode(spanContext.getTraceState()));
+    }
+
+    private static String encode(TraceState traceState) {
+      if (traceState.isEmpty()) {
+        return null;
+      }
+
+      StringBuilder builder = new StringBuilder();
+      traceState.forEach((key, value) -> {
+        if (builder.length() > 0) {
+          builder.append(',');
+        }
+        builder.append(key).append('=').append(value);
+      });
+      return builder.toString();
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.CircuitBreakerOptions;
+import io.dapr.client.resiliency.ConcurrencyLimitOptions;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether calls to the sidecar may proceed, with a circuit breaker and an adaptive concurrency limit
+ * per Dapr API and component.
+ */
+public final class AdmissionPolicy {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionPolicy.class);
+
+  /**
+   * Reason for rejecting a call.
+   */
+  public enum Rejection {
+    CIRCUIT_OPEN,
+    CONCURRENCY_LIMIT
+  }
+
+  /**
+   * Outcome of a permitted call.
+   */
+  public enum Outcome {
+    /**
+     * The sidecar answered, even with an application error such as not found.
+     */
+    SUCCESS,
+    /**
+     * The call failed because the sidecar or the component is unavailable or overloaded.
+     */
+    FAILURE,
+    /**
+     * The outcome says nothing about the health of the API, such as a cancelled call.
+     */
+    IGNORED
+  }
+
+  private final CircuitBreakerOptions circuitBreakerOptions;
+
+  private final ConcurrencyLimitOptions concurrencyLimitOptions;
+
+  private final ResiliencyListener listener;
+
+  private final LongSupplier nanoClock;
+
+  /**
+   * Guards per API, then per component ("" when the call is for no component).
+   */
+  private final Map<String, Map<String, Guard>> guards = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new admission policy.
+   *
+   * @param options Client resiliency options, may be null.
+   */
+  public AdmissionPolicy(ResiliencyOptions options) {
+    this(options, ResiliencyListener.NONE);
+  }
+
+  /**
+   * Instantiates a new admission policy.
+   *
+   * @param options  Client resiliency options, may be null.
+   * @param listener Receives the rejections and circuit state transitions.
+   */
+  public AdmissionPolicy(ResiliencyOptions options, ResiliencyListener listener) {
+    this(
+        options == null ? null : options.getCircuitBreaker(),
+        options == null ? null : options.getConcurrencyLimit(),
+        listener,
+        System::nanoTime);
+  }
+
+  /**
+   * Instantiates a new admission policy.
+   *
+   * @param circuitBreakerOptions   Circuit breaker options, null to disable it.
+   * @param concurrencyLimitOptions Concurrency limit options, null to disable it.
+   * @param listener                Receives the rejections and circuit state transitions.
+   * @param nanoClock               Source of {@link System#nanoTime()}.
+   */
+  AdmissionPolicy(
+      CircuitBreakerOptions circuitBreakerOptions,
+      ConcurrencyLimitOptions concurrencyLimitOptions,
+      ResiliencyListener listener,
+      LongSupplier nanoClock) {
+    this.circuitBreakerOptions = circuitBreakerOptions;
+    this.concurrencyLimitOptions = concurrencyLimitOptions;
+    this.listener = listener == null ? ResiliencyListener.NONE : listener;
+    this.nanoClock = nanoClock;
+
+    // Fails fast on invalid options instead of on the first call.
+    if (this.isEnabled()) {
+      new Guard("", null);
+    }
+  }
+
+  /**
+   * Checks whether calls can be rejected at all.
+   *
+   * @return False if neither the circuit breaker nor the concurrency limit is configured.
+   */
+  public boolean isEnabled() {
+    return (this.circuitBreakerOptions != null) || (this.concurrencyLimitOptions != null);
+  }
+
+  /**
+   * Admits a call.
+   *
+   * @param api       Dapr API, such as GetState.
+   * @param component Component the call is for, null if none.
+   * @return Permit to be released once the call completes, or null if the call is rejected.
+   */
+  public Permit tryAcquire(String api, String component) {
+    Guard guard = this.getGuard(api, component);
+
+    boolean trial = false;
+    if (guard.circuitBreaker != null) {
+      CircuitBreaker.Admission admission = guard.circuitBreaker.tryAcquire();
+      if (admission == CircuitBreaker.Admission.REJECTED) {
+        this.listener.onRejected(api, component, Rejection.CIRCUIT_OPEN);
+        return null;
+      }
+      trial = admission == CircuitBreaker.Admission.TRIAL;
+    }
+    if ((guard.concurrencyLimiter != null) && !guard.concurrencyLimiter.tryAcquire()) {
+      if (guard.circuitBreaker != null) {
+        guard.circuitBreaker.onIgnored(trial);
+      }
+      this.listener.onRejected(api, component, Rejection.CONCURRENCY_LIMIT);
+      return null;
+    }
+
+    return new Permit(guard, trial, this.nanoClock.getAsLong());
+  }
+
+  private Guard getGuard(String api, String component) {
+    Map<String, Guard> byComponent = this.guards.get(api);
+    if (byComponent == null) {
+      byComponent = this.guards.computeIfAbsent(api, k -> new ConcurrentHashMap<>());
+    }
+
+    String key = component == null ? "" : component;
+    Guard guard = byComponent.get(key);
+    if (guard == null) {
+      guard = byComponent.computeIfAbsent(key, k -> new Guard(api, component));
+    }
+    return guard;
+  }
+
+  /**
+   * Admission of a single call.
+   */
+  public final class Permit {
+
+    private final Guard guard;
+
+    /**
+     * Whether this is the trial call of a half-open circuit, the only one whose outcome closes or reopens it.
+     */
+    private final boolean trial;
+
+    private final long startNanos;
+
+    private Permit(Guard guard, boolean trial, long startNanos) {
+      this.guard = guard;
+      this.trial = trial;
+      this.startNanos = startNanos;
+    }
+
+    /**
+     * Records the outcome of the call and frees its slot.
+     *
+     * @param outcome Outcome of the call.
+     */
+    public void release(Outcome outcome) {
+      CircuitBreaker circuitBreaker = this.guard.circuitBreaker;
+      if (circuitBreaker != null) {
+        switch (outcome) {
+          case SUCCESS:
+            circuitBreaker.onSuccess(this.trial);
+            break;
+          case FAILURE:
+            circuitBreaker.onFailure(this.trial);
+            break;
+          default:
+            circuitBreaker.onIgnored(this.trial);
+            break;
+        }
+      }
+
+      ConcurrencyLimiter concurrencyLimiter = this.guard.concurrencyLimiter;
+      if (concurrencyLimiter != null) {
+        if (outcome == Outcome.IGNORED) {
+          concurrencyLimiter.onIgnored();
+        } else {
+          concurrencyLimiter.onComplete(nanoClock.getAsLong() - this.startNanos, outcome == Outcome.FAILURE);
+        }
+      }
+    }
+  }
+
+  /**
+   * Circuit breaker and concurrency limiter of one API and component.
+   */
+  private final class Guard {
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    private Guard(String api, String component) {
+      CircuitBreakerOptions cb = circuitBreakerOptions;
+      this.circuitBreaker = cb == null ? null : new CircuitBreaker(
+          cb.getFailureThreshold(),
+          cb.getOpenDuration() == null ? 0 : cb.getOpenDuration().toNanos(),
+          nanoClock,
+          (from, to) -> {
+            if (to == CircuitBreaker.State.OPEN) {
+              LOGGER.warn("Circuit breaker opened for {} on component {}.", api, component);
+            } else if (to == CircuitBreaker.State.CLOSED) {
+              LOGGER.info("Circuit breaker closed for {} on component {}.", api, component);
+            }
+            listener.onStateChange(api, component, from, to);
+          });
+
+      ConcurrencyLimitOptions cl = concurrencyLimitOptions;
+      this.concurrencyLimiter = cl == null ? null : new ConcurrencyLimiter(
+          cl.getInitialLimit(), cl.getMinLimit(), cl.getMaxLimit(), cl.getLatencyTolerance());
+    }
+  }
+}
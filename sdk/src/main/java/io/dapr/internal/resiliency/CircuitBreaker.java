@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for the calls to one Dapr API and component.
+ * Closed calls only touch volatile and atomic fields; state transitions are synchronized.
+ */
+public final class CircuitBreaker {
+
+  /**
+   * State of the circuit.
+   */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /**
+   * Notified when the circuit changes state.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called after a state transition.
+     *
+     * @param from Previous state.
+     * @param to   New state.
+     */
+    void onStateChange(State from, State to);
+  }
+
+  /**
+   * Decision on a call.
+   */
+  public enum Admission {
+    REJECTED,
+    PERMITTED,
+    /**
+     * Permitted as the single trial call of a half-open circuit, whose outcome closes or reopens it.
+     */
+    TRIAL
+  }
+
+  private final int failureThreshold;
+
+  private final long openNanos;
+
+  private final LongSupplier nanoClock;
+
+  private final Listener listener;
+
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+  private volatile State state = State.CLOSED;
+
+  /**
+   * When the circuit last opened, guarded by this.
+   */
+  private long openedAt;
+
+  /**
+   * Whether the trial call of the half-open circuit is in flight, guarded by this.
+   */
+  private boolean trialInFlight;
+
+  /**
+   * Instantiates a new circuit breaker.
+   *
+   * @param failureThreshold Consecutive failures opening the circuit.
+   * @param openNanos        Time the circuit stays open before a trial call, in nanoseconds.
+   * @param nanoClock        Source of {@link System#nanoTime()}.
+   * @param listener         Notified of state transitions.
+   */
+  public CircuitBreaker(int failureThreshold, long openNanos, LongSupplier nanoClock, Listener listener) {
+    if (failureThreshold <= 0) {
+      throw new IllegalArgumentException("Circuit breaker failure threshold must be greater than zero");
+    }
+    if (openNanos <= 0) {
+      throw new IllegalArgumentException("Circuit breaker open duration must be positive");
+    }
+
+    this.failureThreshold = failureThreshold;
+    this.openNanos = openNanos;
+    this.nanoClock = nanoClock;
+    this.listener = listener;
+  }
+
+  /**
+   * Gets the state of the circuit.
+   *
+   * @return State of the circuit.
+   */
+  public State getState() {
+    return this.state;
+  }
+
+  /**
+   * Checks whether a call may proceed. Every permitted call must be followed by {@link #onSuccess(boolean)},
+   * {@link #onFailure(boolean)} or {@link #onIgnored(boolean)}, telling whether it was the trial call.
+   *
+   * @return Whether the call is rejected, permitted, or permitted as the trial call of a half-open circuit.
+   */
+  public Admission tryAcquire() {
+    if (this.state == State.CLOSED) {
+      return Admission.PERMITTED;
+    }
+
+    synchronized (this) {
+      if (this.state == State.OPEN) {
+        if (this.nanoClock.getAsLong() - this.openedAt < this.openNanos) {
+          return Admission.REJECTED;
+        }
+        this.trialInFlight = false;
+        this.transition(State.HALF_OPEN);
+      }
+      if (this.state == State.HALF_OPEN) {
+        if (this.trialInFlight) {
+          return Admission.REJECTED;
+        }
+        this.trialInFlight = true;
+        return Admission.TRIAL;
+      }
+      return Admission.PERMITTED;
+    }
+  }
+
+  /**
+   * Records a successful call. Only the trial call closes a half-open circuit: the calls admitted before the
+   * circuit opened say nothing about its recovery.
+   *
+   * @param trial Whether the call was the trial call.
+   */
+  public void onSuccess(boolean trial) {
+    if (this.state == State.CLOSED) {
+      if (this.consecutiveFailures.get() != 0) {
+        this.consecutiveFailures.set(0);
+      }
+      return;
+    }
+
+    if (trial) {
+      synchronized (this) {
+        if (this.state == State.HALF_OPEN) {
+          this.consecutiveFailures.set(0);
+          this.trialInFlight = false;
+          this.transition(State.CLOSED);
+        }
+      }
+    }
+  }
+
+  /**
+   * Records a failed call, opening the circuit once the threshold is reached or the trial call failed.
+   *
+   * @param trial Whether the call was the trial call.
+   */
+  public void onFailure(boolean trial) {
+    if ((this.state == State.CLOSED) && (this.consecutiveFailures.incrementAndGet() < this.failureThreshold)) {
+      return;
+    }
+
+    synchronized (this) {
+      if (((this.state == State.HALF_OPEN) && trial)
+          || ((this.state == State.CLOSED) && (this.consecutiveFailures.get() >= this.failureThreshold))) {
+        this.openedAt = this.nanoClock.getAsLong();
+        this.trialInFlight = false;
+        this.transition(State.OPEN);
+      }
+    }
+  }
+
+  /**
+   * Records a call whose outcome says nothing about the health of the API, such as a cancelled one.
+   * An ignored trial call lets the next call be the trial.
+   *
+   * @param trial Whether the call was the trial call.
+   */
+  public void onIgnored(boolean trial) {
+    if (trial && (this.state == State.HALF_OPEN)) {
+      synchronized (this) {
+        if (this.state == State.HALF_OPEN) {
+          this.trialInFlight = false;
+        }
+      }
+    }
+  }
+
+  private void transition(State to) {
+    State from = this.state;
+    this.state = to;
+    this.listener.onStateChange(from, to);
+  }
+}
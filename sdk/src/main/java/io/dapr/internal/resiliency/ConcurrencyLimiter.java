@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive-increase/multiplicative-decrease limit of the concurrent calls to one Dapr API and component.
+ * <p>
+ * A call is congested when it failed with an overload status or took longer than the latency tolerance times
+ * the lowest latency observed. Congested calls shrink the limit by {@value #BACKOFF_RATIO}; other calls grow it
+ * by one while at least half of it is in use. The lowest latency is re-measured every {@value #WINDOW} calls so
+ * the baseline follows lasting changes, such as a store moving further away.
+ * </p>
+ */
+public final class ConcurrencyLimiter {
+
+  static final double BACKOFF_RATIO = 0.9;
+
+  static final int WINDOW = 1000;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double latencyTolerance;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private volatile int limit;
+
+  /**
+   * Lowest latency of the previous window and of the current one so far, guarded by this.
+   */
+  private long minRttNanos = Long.MAX_VALUE;
+
+  /**
+   * Lowest latency of the current window, guarded by this.
+   */
+  private long windowMinRttNanos = Long.MAX_VALUE;
+
+  /**
+   * Calls in the current window, guarded by this.
+   */
+  private int windowSamples;
+
+  /**
+   * Instantiates a new limiter.
+   *
+   * @param initialLimit     Limit before any call completes.
+   * @param minLimit         Lowest limit.
+   * @param maxLimit         Highest limit.
+   * @param latencyTolerance Latency, relative to the lowest one observed, above which a call is congested.
+   */
+  public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+    if ((minLimit <= 0) || (maxLimit < minLimit) || (initialLimit < minLimit) || (initialLimit > maxLimit)) {
+      throw new IllegalArgumentException("Concurrency limits must satisfy 0 < min <= initial <= max");
+    }
+    if (latencyTolerance <= 1.0) {
+      throw new IllegalArgumentException("Concurrency latency tolerance must be greater than 1");
+    }
+
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTolerance = latencyTolerance;
+  }
+
+  /**
+   * Gets the current limit.
+   *
+   * @return Maximum number of concurrent calls.
+   */
+  public int getLimit() {
+    return this.limit;
+  }
+
+  /**
+   * Gets the number of calls in flight.
+   *
+   * @return Number of calls in flight.
+   */
+  public int getInFlight() {
+    return this.inFlight.get();
+  }
+
+  /**
+   * Reserves a slot for a call. Every reserved slot must be released with {@link #onComplete(long, boolean)} or
+   * {@link #onIgnored()}.
+   *
+   * @return False if the limit is reached.
+   */
+  public boolean tryAcquire() {
+    int current;
+    do {
+      current = this.inFlight.get();
+      if (current >= this.limit) {
+        return false;
+      }
+    } while (!this.inFlight.compareAndSet(current, current + 1));
+
+    return true;
+  }
+
+  /**
+   * Releases the slot of a completed call and adjusts the limit.
+   *
+   * @param rttNanos Latency of the call, in nanoseconds.
+   * @param dropped  Whether the call failed with an overload status.
+   */
+  public void onComplete(long rttNanos, boolean dropped) {
+    int current = this.inFlight.getAndDecrement();
+
+    synchronized (this) {
+      boolean congested = dropped;
+      if (!dropped) {
+        this.windowMinRttNanos = Math.min(this.windowMinRttNanos, rttNanos);
+        this.minRttNanos = Math.min(this.minRttNanos, rttNanos);
+        if (++this.windowSamples >= WINDOW) {
+          this.minRttNanos = this.windowMinRttNanos;
+          this.windowMinRttNanos = Long.MAX_VALUE;
+          this.windowSamples = 0;
+        }
+        congested = rttNanos > this.minRttNanos * this.latencyTolerance;
+      }
+
+      int limit = this.limit;
+      if (congested) {
+        this.limit = Math.max(this.minLimit, (int) (limit * BACKOFF_RATIO));
+      } else if ((current * 2 >= limit) && (limit < this.maxLimit)) {
+        this.limit = limit + 1;
+      }
+    }
+  }
+
+  /**
+   * Releases the slot of a call without adjusting the limit, such as a cancelled one.
+   */
+  public void onIgnored() {
+    this.inFlight.decrementAndGet();
+  }
+}
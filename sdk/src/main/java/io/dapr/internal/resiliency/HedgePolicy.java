@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.HedgingOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends a second attempt of a read-only call once it takes longer than a percentile of the recent latencies of
+ * the same API and component, and uses whichever attempt answers first. The call only fails once every attempt
+ * sent has failed.
+ */
+public final class HedgePolicy {
+
+  /**
+   * Number of recent latencies kept per API and component.
+   */
+  static final int WINDOW = 1000;
+
+  /**
+   * Latencies needed before the percentile replaces the initial delay.
+   */
+  static final int MIN_SAMPLES = 20;
+
+  /**
+   * Latencies recorded between two computations of the percentile.
+   */
+  static final int UPDATE_INTERVAL = 50;
+
+  private final double percentile;
+
+  private final long initialDelayNanos;
+
+  private final long minDelayNanos;
+
+  private final RetryBudget retryBudget;
+
+  private final ResiliencyListener listener;
+
+  /**
+   * Latency trackers per API, then per component ("" when the call is for no component).
+   */
+  private final Map<String, Map<String, LatencyTracker>> trackers = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new hedge policy.
+   *
+   * @param options     Hedging options, null to disable hedging.
+   * @param retryBudget Budget hedged requests are taken from, null for none.
+   * @param listener    Receives the hedged requests.
+   */
+  public HedgePolicy(HedgingOptions options, RetryBudget retryBudget, ResiliencyListener listener) {
+    if (options != null) {
+      if ((options.getPercentile() <= 0) || (options.getPercentile() > 1)) {
+        throw new IllegalArgumentException("Hedging percentile must be greater than 0 and at most 1");
+      }
+      if ((options.getInitialDelay() == null) || options.getInitialDelay().isNegative()
+          || (options.getMinDelay() == null) || options.getMinDelay().isNegative()) {
+        throw new IllegalArgumentException("Hedging delays must not be negative");
+      }
+    }
+
+    this.percentile = options == null ? 0 : options.getPercentile();
+    this.initialDelayNanos = options == null ? -1 : options.getInitialDelay().toNanos();
+    this.minDelayNanos = options == null ? 0 : options.getMinDelay().toNanos();
+    this.retryBudget = retryBudget;
+    this.listener = listener == null ? ResiliencyListener.NONE : listener;
+  }
+
+  /**
+   * Checks whether calls are hedged.
+   *
+   * @return False if hedging is not configured.
+   */
+  public boolean isEnabled() {
+    return this.initialDelayNanos >= 0;
+  }
+
+  /**
+   * Applies the hedge policy to a read-only call.
+   *
+   * @param api       Dapr API, such as GetState.
+   * @param component Component the call is for, null if none.
+   * @param attempt   Call, subscribed once per attempt.
+   * @param <T>       Type of the response.
+   * @return Call answered by the first attempt to succeed, failing once every attempt sent has failed.
+   */
+  public <T> Mono<T> apply(String api, String component, Mono<T> attempt) {
+    if (!this.isEnabled()) {
+      return attempt;
+    }
+
+    return Mono.defer(() -> {
+      LatencyTracker tracker = this.getTracker(api, component);
+      long start = System.nanoTime();
+      Sinks.One<Throwable> primaryFailure = Sinks.one();
+      Mono<Signal<T>> primary = attempt.materialize()
+          .doOnNext(signal -> {
+            if (signal.isOnError()) {
+              primaryFailure.tryEmitValue(signal.getThrowable());
+            }
+          });
+      // Not sent once the primary attempt failed, nor when the budget is spent: the primary attempt decides alone.
+      Mono<Signal<T>> hedge = Mono.delay(Duration.ofNanos(tracker.getDelayNanos()))
+          .takeUntilOther(primaryFailure.asMono())
+          .flatMap(ignored -> {
+            if ((this.retryBudget != null) && !this.retryBudget.tryWithdraw()) {
+              return Mono.empty();
+            }
+            this.listener.onHedgeSent(api, component);
+            return attempt.materialize().doOnNext(signal -> {
+              if (!signal.isOnError()) {
+                this.listener.onHedgeWon(api, component);
+              }
+            });
+          });
+      // The first response wins, the call only fails once every attempt sent has failed.
+      return Flux.merge(primary, hedge)
+          .filter(signal -> !signal.isOnError())
+          .next()
+          .switchIfEmpty(primaryFailure.asMono().flatMap(e -> Mono.<Signal<T>>error(e)))
+          .<T>dematerialize()
+          .doFinally(type -> {
+            // Cancelled calls are recorded too: leaving the slowest calls out would lower the delay.
+            if (type != SignalType.ON_ERROR) {
+              tracker.record(System.nanoTime() - start);
+            }
+          });
+    });
+  }
+
+  LatencyTracker getTracker(String api, String component) {
+    Map<String, LatencyTracker> byComponent = this.trackers.get(api);
+    if (byComponent == null) {
+      byComponent = this.trackers.computeIfAbsent(api, k -> new ConcurrentHashMap<>());
+    }
+
+    String key = component == null ? "" : component;
+    LatencyTracker tracker = byComponent.get(key);
+    if (tracker == null) {
+      tracker = byComponent.computeIfAbsent(key, k -> new LatencyTracker());
+    }
+    return tracker;
+  }
+
+  /**
+   * Recent latencies of one API and component, and the hedging delay derived from them.
+   */
+  final class LatencyTracker {
+
+    /**
+     * Ring buffer of recent latencies, guarded by this.
+     */
+    private final long[] samples = new long[WINDOW];
+
+    private int count;
+
+    private int next;
+
+    private int sinceUpdate;
+
+    private volatile long delayNanos = initialDelayNanos;
+
+    /**
+     * Gets the delay after which a call is hedged.
+     *
+     * @return Delay in nanoseconds.
+     */
+    long getDelayNanos() {
+      return this.delayNanos;
+    }
+
+    /**
+     * Records the latency of a call.
+     *
+     * @param nanos Latency in nanoseconds.
+     */
+    synchronized void record(long nanos) {
+      this.samples[this.next] = nanos;
+      this.next = (this.next + 1) % WINDOW;
+      this.count = Math.min(this.count + 1, WINDOW);
+      if ((++this.sinceUpdate >= UPDATE_INTERVAL) && (this.count >= MIN_SAMPLES)) {
+        this.sinceUpdate = 0;
+        long[] sorted = Arrays.copyOf(this.samples, this.count);
+        Arrays.sort(sorted);
+        int index = Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1);
+        this.delayNanos = Math.max(minDelayNanos, sorted[index]);
+      }
+    }
+  }
+}
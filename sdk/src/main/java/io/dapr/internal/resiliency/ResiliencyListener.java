@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+/**
+ * Receives the decisions of the resiliency policies, such as to record them as metrics.
+ */
+public interface ResiliencyListener {
+
+  /**
+   * Listener ignoring every event.
+   */
+  ResiliencyListener NONE = new ResiliencyListener() {
+  };
+
+  /**
+   * Called when a call is rejected without reaching the sidecar.
+   *
+   * @param api       Dapr API, such as GetState.
+   * @param component Component the call was for, null if none.
+   * @param reason    Why the call was rejected.
+   */
+  default void onRejected(String api, String component, AdmissionPolicy.Rejection reason) {
+  }
+
+  /**
+   * Called when a circuit breaker changes state.
+   *
+   * @param api       Dapr API, such as GetState.
+   * @param component Component of the circuit, null if none.
+   * @param from      Previous state.
+   * @param to        New state.
+   */
+  default void onStateChange(String api, String component, CircuitBreaker.State from, CircuitBreaker.State to) {
+  }
+
+  /**
+   * Called when a failed call may be retried.
+   *
+   * @param allowed False if the retry budget is exhausted and the call is not retried.
+   */
+  default void onRetry(boolean allowed) {
+  }
+
+  /**
+   * Called when a hedged request is sent for a slow call.
+   *
+   * @param api       Dapr API, such as GetState.
+   * @param component Component the call is for, null if none.
+   */
+  default void onHedgeSent(String api, String component) {
+  }
+
+  /**
+   * Called when a hedged request answered before the original call.
+   *
+   * @param api       Dapr API, such as GetState.
+   * @param component Component the call is for, null if none.
+   */
+  default void onHedgeWon(String api, String component) {
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.RetryBudgetOptions;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket bounding the retries and hedged requests of a client to a share of its calls.
+ * Tokens are kept in thousandths, so fractional deposits need no floating point arithmetic.
+ */
+public final class RetryBudget {
+
+  private static final long TOKEN = 1000;
+
+  private final long deposit;
+
+  private final long capacity;
+
+  private final AtomicLong balance;
+
+  /**
+   * Instantiates a new budget, starting full.
+   *
+   * @param options Retry budget options.
+   */
+  public RetryBudget(RetryBudgetOptions options) {
+    this(options.getRetryRatio(), options.getMaxTokens());
+  }
+
+  /**
+   * Instantiates a new budget, starting full.
+   *
+   * @param retryRatio Tokens added by every call.
+   * @param maxTokens  Maximum number of tokens.
+   */
+  public RetryBudget(double retryRatio, int maxTokens) {
+    if ((retryRatio <= 0) || (retryRatio > 1)) {
+      throw new IllegalArgumentException("Retry ratio must be greater than 0 and at most 1");
+    }
+    if (maxTokens <= 0) {
+      throw new IllegalArgumentException("Retry budget max tokens must be greater than zero");
+    }
+
+    this.deposit = Math.max(1, Math.round(retryRatio * TOKEN));
+    this.capacity = maxTokens * TOKEN;
+    this.balance = new AtomicLong(this.capacity);
+  }
+
+  /**
+   * Credits the budget for a new call.
+   */
+  public void deposit() {
+    long current;
+    do {
+      current = this.balance.get();
+      if (current >= this.capacity) {
+        return;
+      }
+    } while (!this.balance.compareAndSet(current, Math.min(this.capacity, current + this.deposit)));
+  }
+
+  /**
+   * Takes a token for a retry or hedged request.
+   *
+   * @return False if the budget is exhausted.
+   */
+  public boolean tryWithdraw() {
+    long current;
+    do {
+      current = this.balance.get();
+      if (current < TOKEN) {
+        return false;
+      }
+    } while (!this.balance.compareAndSet(current, current - TOKEN));
+
+    return true;
+  }
+
+  /**
+   * Gets the number of whole tokens available.
+   *
+   * @return Number of retries or hedged requests currently allowed.
+   */
+  public long getAvailableTokens() {
+    return this.balance.get() / TOKEN;
+  }
+}
@@ -15,6 +15,7 @@ package io.dapr.internal.resiliency;
 
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprException;
+import io.dapr.internal.health.SidecarDownException;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import reactor.core.publisher.Flux;
@@ -34,11 +35,27 @@ public final class RetryPolicy {
 
   private final Retry retrySpec;
 
+  private final RetryBudget retryBudget;
+
+  private final ResiliencyListener listener;
+
   public RetryPolicy() {
     this(null);
   }
 
   public RetryPolicy(Integer maxRetries) {
+    this(maxRetries, null, null);
+  }
+
+  /**
+   * Instantiates a new retry policy.
+   * @param maxRetries Maximum number of retries, null for the configured default, negative for no limit.
+   * @param retryBudget Budget shared by the retries of a client, null for none.
+   * @param listener Receives the retries and the ones denied by the budget.
+   */
+  public RetryPolicy(Integer maxRetries, RetryBudget retryBudget, ResiliencyListener listener) {
+    this.retryBudget = retryBudget;
+    this.listener = listener == null ? ResiliencyListener.NONE : listener;
     this.retrySpec = buildRetrySpec(maxRetries != null ? maxRetries : Properties.MAX_RETRIES.get());
   }
 
@@ -53,8 +70,16 @@ public final class RetryPolicy {
       return response;
     }
 
-    return response.retryWhen(retrySpec)
+    Mono<T> retried = response.retryWhen(retrySpec)
         .onErrorMap(throwable -> findDaprException(throwable));
+    if (this.retryBudget == null) {
+      return retried;
+    }
+
+    return Mono.defer(() -> {
+      this.retryBudget.deposit();
+      return retried;
+    });
   }
 
   /**
@@ -68,28 +93,52 @@ public final class RetryPolicy {
       return response;
     }
 
-    return response.retryWhen(retrySpec)
+    Flux<T> retried = response.retryWhen(retrySpec)
         .onErrorMap(throwable -> findDaprException(throwable));
+    if (this.retryBudget == null) {
+      return retried;
+    }
+
+    return Flux.defer(() -> {
+      this.retryBudget.deposit();
+      return retried;
+    });
   }
 
-  private static Retry buildRetrySpec(int maxRetries) {
+  private Retry buildRetrySpec(int maxRetries) {
     if (maxRetries == 0) {
       return null;
     }
 
     if (maxRetries < 0) {
       return Retry.indefinitely()
-          .filter(throwable -> isRetryableGrpcError(throwable));
+          .filter(throwable -> isRetryableGrpcError(throwable) && this.allowRetry());
     }
 
-    return Retry.backoff(maxRetries, Duration.ofMillis(MIN_BACKOFF_MILLIS))
-        .maxBackoff(Duration.ofSeconds(MAX_BACKOFF_SECONDS))
-        .filter(throwable -> isRetryableGrpcError(throwable));
+    return Retry.from(signals -> {
+      // The failure exhausting the retries is not retried, so it must not take from the budget.
+      boolean[] exhausted = new boolean[1];
+      Retry backoff = Retry.backoff(maxRetries, Duration.ofMillis(MIN_BACKOFF_MILLIS))
+          .maxBackoff(Duration.ofSeconds(MAX_BACKOFF_SECONDS))
+          .filter(throwable -> isRetryableGrpcError(throwable) && (exhausted[0] || this.allowRetry()));
+      return backoff.generateCompanion(
+          signals.doOnNext(signal -> exhausted[0] = signal.totalRetries() >= maxRetries));
+    });
+  }
+
+  /**
+   * Takes a retry from the budget shared by the retries of the client, reporting it to the listener.
+   * @return Whether the retry is allowed.
+   */
+  public boolean allowRetry() {
+    boolean allowed = (this.retryBudget == null) || this.retryBudget.tryWithdraw();
+    this.listener.onRetry(allowed);
+    return allowed;
   }
 
   private static boolean isRetryableGrpcError(Throwable throwable) {
     Status grpcStatus = findGrpcStatusCode(throwable);
-    if (grpcStatus == null) {
+    if ((grpcStatus == null) || SidecarDownException.isCauseOf(grpcStatus)) {
       return false;
     }
 
@@ -13,10 +13,13 @@ limitations under the License.
 
 package io.dapr.internal.resiliency;
 
+import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.grpc.CallOptions;
+import io.grpc.Deadline;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -26,19 +29,34 @@ public final class TimeoutPolicy {
 
   private final Duration timeout;
 
+  private final Map<String, Duration> apiTimeouts;
+
   /**
    * Instantiates a new timeout policy with override value.
    * @param timeout Override timeout value.
    */
   public TimeoutPolicy(Duration timeout) {
+    this(timeout, Map.of());
+  }
+
+  /**
+   * Instantiates a new timeout policy from the client's resiliency options.
+   * @param options Resiliency options, null for the default timeout.
+   */
+  public TimeoutPolicy(ResiliencyOptions options) {
+    this(options == null ? null : options.getTimeout(), options == null ? Map.of() : options.getApiTimeouts());
+  }
+
+  private TimeoutPolicy(Duration timeout, Map<String, Duration> apiTimeouts) {
     this.timeout = timeout != null ? timeout : Properties.TIMEOUT.get();
+    this.apiTimeouts = Map.copyOf(apiTimeouts);
   }
 
   /**
    * Instantiates a new timeout policy with default value.
    */
   public TimeoutPolicy() {
-    this(null);
+    this((Duration) null);
   }
 
   /**
@@ -47,10 +65,24 @@ public final class TimeoutPolicy {
    * @return Call options with retry policy applied
    */
   public CallOptions apply(CallOptions options) {
-    if (this.timeout.isZero() || this.timeout.isNegative()) {
-      return options;
+    return this.apply(null, options, null);
+  }
+
+  /**
+   * Applies the timeout policy to a gRPC call options.
+   * @param api Name of the gRPC method called, to look up its timeout override.
+   * @param options Call options
+   * @param callerDeadline Deadline of the caller, null if none.
+   * @return Call options ending at the earliest of the caller's deadline and the timeout
+   */
+  public CallOptions apply(String api, CallOptions options, Deadline callerDeadline) {
+    Duration timeout = api == null ? this.timeout : this.apiTimeouts.getOrDefault(api, this.timeout);
+    Deadline deadline = callerDeadline;
+    if (!timeout.isZero() && !timeout.isNegative()) {
+      Deadline timeoutDeadline = Deadline.after(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      deadline = deadline == null ? timeoutDeadline : deadline.minimum(timeoutDeadline);
     }
 
-    return options.withDeadlineAfter(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+    return deadline == null ? options : options.withDeadline(deadline);
   }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.secret;
+
+import io.dapr.client.domain.SecretCacheOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, least recently used cache of secrets with a time to live, refreshed ahead of expiry.
+ * Concurrent loads of the same secret are coalesced into a single call to the sidecar.
+ */
+public final class SecretCache {
+
+  /**
+   * Notified of the cache lookups and background refreshes, such as to record metrics.
+   */
+  public interface Listener {
+
+    Listener NONE = new Listener() {
+    };
+
+    /**
+     * Called when a read is served from the cache.
+     *
+     * @param storeName Secret store name.
+     */
+    default void onHit(String storeName) {
+    }
+
+    /**
+     * Called when a read goes to the sidecar.
+     *
+     * @param storeName Secret store name.
+     */
+    default void onMiss(String storeName) {
+    }
+
+    /**
+     * Called when a cached secret is read again in the background before it expires.
+     *
+     * @param storeName Secret store name.
+     */
+    default void onRefresh(String storeName) {
+    }
+  }
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SecretCache.class);
+
+  private final long ttlNanos;
+
+  private final long refreshAheadNanos;
+
+  private final long maxEntries;
+
+  private final LongSupplier nanoClock;
+
+  private final Listener listener;
+
+  /**
+   * Entries in access order, guarded by this.
+   */
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Loads in flight, shared by the concurrent reads of the same secret.
+   */
+  private final Map<Key, Mono<Map<String, String>>> loads = new ConcurrentHashMap<>();
+
+  /**
+   * Bumped by every invalidation so a load started before it does not cache what it fetched.
+   */
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Instantiates a new cache.
+   *
+   * @param options  Cache options.
+   * @param listener Notified of lookups and refreshes, null for none.
+   */
+  public SecretCache(SecretCacheOptions options, Listener listener) {
+    this(options, listener, System::nanoTime);
+  }
+
+  SecretCache(SecretCacheOptions options, Listener listener, LongSupplier nanoClock) {
+    if (options == null) {
+      throw new IllegalArgumentException("Secret cache options are required");
+    }
+    if ((options.getTtl() == null) || options.getTtl().isNegative() || options.getTtl().isZero()) {
+      throw new IllegalArgumentException("Secret cache TTL must be positive");
+    }
+    if ((options.getRefreshAhead() == null) || options.getRefreshAhead().isNegative()
+        || (options.getRefreshAhead().compareTo(options.getTtl()) >= 0)) {
+      throw new IllegalArgumentException("Secret cache refresh ahead must be between zero and the TTL");
+    }
+    if (options.getMaxEntries() <= 0) {
+      throw new IllegalArgumentException("Secret cache max entries must be positive");
+    }
+
+    this.ttlNanos = options.getTtl().toNanos();
+    this.refreshAheadNanos = options.getRefreshAhead().toNanos();
+    this.maxEntries = options.getMaxEntries();
+    this.nanoClock = nanoClock;
+    this.listener = listener == null ? Listener.NONE : listener;
+  }
+
+  /**
+   * Gets a secret from the cache, or loads it.
+   *
+   * @param storeName Secret store name.
+   * @param key       Secret key.
+   * @param metadata  Metadata of the read, null for none.
+   * @param loader    Reads the secret from the sidecar.
+   * @return Secret.
+   */
+  public Mono<Map<String, String>> get(
+      String storeName, String key, Map<String, String> metadata, Supplier<Mono<Map<String, String>>> loader) {
+    return Mono.defer(() -> {
+      Key cacheKey = new Key(storeName, key, metadata);
+      long now = this.nanoClock.getAsLong();
+      Entry entry;
+      synchronized (this) {
+        entry = this.entries.get(cacheKey);
+        if ((entry != null) && (now - entry.expiresAt >= 0)) {
+          this.entries.remove(cacheKey);
+        }
+      }
+
+      if ((entry == null) || (now - entry.expiresAt >= 0)) {
+        this.listener.onMiss(storeName);
+        return this.load(cacheKey, loader);
+      }
+
+      this.listener.onHit(storeName);
+      if ((now - (entry.expiresAt - this.refreshAheadNanos) >= 0) && entry.refreshing.compareAndSet(false, true)) {
+        this.listener.onRefresh(storeName);
+        this.load(cacheKey, loader).subscribe(
+            it -> {
+            },
+            e -> {
+              // Keep serving the cached secret until it expires, and try again on the next read.
+              entry.refreshing.set(false);
+              LOGGER.debug("Failed to refresh secret {} of store {}", key, storeName, e);
+            });
+      }
+      return Mono.just(entry.secret);
+    });
+  }
+
+  /**
+   * Caches secrets read in bulk, such as to warm the cache up.
+   *
+   * @param storeName Secret store name.
+   * @param metadata  Metadata of the bulk read, null for none.
+   * @param secrets   Secrets by key.
+   */
+  public void putAll(String storeName, Map<String, String> metadata, Map<String, Map<String, String>> secrets) {
+    long now = this.nanoClock.getAsLong();
+    synchronized (this) {
+      for (Map.Entry<String, Map<String, String>> secret : secrets.entrySet()) {
+        this.put(new Key(storeName, secret.getKey(), metadata), secret.getValue(), now);
+      }
+    }
+  }
+
+  /**
+   * Drops the cached secrets of a store.
+   *
+   * @param storeName Secret store name.
+   * @param key       Secret key, null for all the secrets of the store.
+   */
+  public void invalidate(String storeName, String key) {
+    synchronized (this) {
+      this.version.incrementAndGet();
+      this.entries.keySet().removeIf(it -> it.storeName.equals(storeName) && ((key == null) || it.key.equals(key)));
+    }
+  }
+
+  /**
+   * Gets the number of cached secrets, including expired ones not yet dropped.
+   *
+   * @return Number of entries.
+   */
+  public synchronized int size() {
+    return this.entries.size();
+  }
+
+  private Mono<Map<String, String>> load(Key key, Supplier<Mono<Map<String, String>>> loader) {
+    return this.loads.computeIfAbsent(key, it -> {
+      long startVersion = this.version.get();
+      AtomicReference<Mono<Map<String, String>>> load = new AtomicReference<>();
+      load.set(Mono.defer(loader)
+          .doOnNext(secret -> {
+            synchronized (this) {
+              if (this.version.get() == startVersion) {
+                this.put(key, secret, this.nanoClock.getAsLong());
+              }
+            }
+          })
+          .doFinally(signal -> this.loads.remove(key, load.get()))
+          .cache());
+      return load.get();
+    });
+  }
+
+  private void put(Key key, Map<String, String> secret, long now) {
+    this.entries.put(key, new Entry(secret, now + this.ttlNanos));
+    Iterator<Key> eldest = this.entries.keySet().iterator();
+    while (this.entries.size() > this.maxEntries) {
+      eldest.next();
+      eldest.remove();
+    }
+  }
+
+  private static final class Key {
+
+    private final String storeName;
+
+    private final String key;
+
+    private final Map<String, String> metadata;
+
+    private Key(String storeName, String key, Map<String, String> metadata) {
+      this.storeName = storeName;
+      this.key = key;
+      this.metadata = (metadata == null) || metadata.isEmpty() ? Collections.emptyMap() : new HashMap<>(metadata);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return this.storeName.equals(that.storeName) && this.key.equals(that.key)
+          && this.metadata.equals(that.metadata);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.storeName, this.key, this.metadata);
+    }
+  }
+
+  private static final class Entry {
+
+    private final Map<String, String> secret;
+
+    private final long expiresAt;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private Entry(Map<String, String> secret, long expiresAt) {
+      this.secret = secret;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
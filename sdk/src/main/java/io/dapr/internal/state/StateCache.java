@@ -0,0 +1,264 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.state;
+
+import io.dapr.client.domain.StateCacheOptions;
+import io.dapr.v1.DaprStateProtos;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, least recently used cache of getState responses with a time to live.
+ * Responses are immutable protos, so they are shared between the reads served from the cache.
+ */
+public final class StateCache {
+
+  /**
+   * Notified of the cache lookups and evictions, such as to record metrics.
+   */
+  public interface Listener {
+
+    Listener NONE = new Listener() {
+    };
+
+    /**
+     * Called when a read is served from the cache.
+     *
+     * @param storeName State store name.
+     */
+    default void onHit(String storeName) {
+    }
+
+    /**
+     * Called when a read goes to the sidecar.
+     *
+     * @param storeName State store name.
+     */
+    default void onMiss(String storeName) {
+    }
+
+    /**
+     * Called when an entry is dropped to stay within the size or weight limit.
+     *
+     * @param storeName State store name.
+     */
+    default void onEviction(String storeName) {
+    }
+  }
+
+  private final long ttlNanos;
+
+  private final long maxEntries;
+
+  private final long maxWeight;
+
+  private final LongSupplier nanoClock;
+
+  private final Listener listener;
+
+  /**
+   * Entries in access order, guarded by this.
+   */
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Bumped by every write so a read started before it does not cache what it fetched.
+   */
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Total weight of the entries, guarded by this.
+   */
+  private long weight;
+
+  /**
+   * Instantiates a new cache.
+   *
+   * @param options  Cache options.
+   * @param listener Notified of lookups and evictions, null for none.
+   */
+  public StateCache(StateCacheOptions options, Listener listener) {
+    this(options, listener, System::nanoTime);
+  }
+
+  StateCache(StateCacheOptions options, Listener listener, LongSupplier nanoClock) {
+    if (options == null) {
+      throw new IllegalArgumentException("State cache options are required");
+    }
+    if ((options.getTtl() == null) || options.getTtl().isNegative() || options.getTtl().isZero()) {
+      throw new IllegalArgumentException("State cache TTL must be positive");
+    }
+    if (options.getMaxEntries() <= 0) {
+      throw new IllegalArgumentException("State cache max entries must be positive");
+    }
+    if (options.getMaxWeight() < 0) {
+      throw new IllegalArgumentException("State cache max weight cannot be negative");
+    }
+
+    this.ttlNanos = options.getTtl().toNanos();
+    this.maxEntries = options.getMaxEntries();
+    this.maxWeight = options.getMaxWeight();
+    this.nanoClock = nanoClock;
+    this.listener = listener == null ? Listener.NONE : listener;
+  }
+
+  /**
+   * Gets the version to pass to {@link #put(String, String, DaprStateProtos.GetStateResponse, long)} for a read
+   * about to be sent to the sidecar.
+   *
+   * @return Current version.
+   */
+  public long getVersion() {
+    return this.version.get();
+  }
+
+  /**
+   * Gets a cached response.
+   *
+   * @param storeName State store name.
+   * @param key       State key.
+   * @return Cached response, or null if missing or expired.
+   */
+  public DaprStateProtos.GetStateResponse get(String storeName, String key) {
+    Key cacheKey = new Key(storeName, key);
+    Entry entry;
+    synchronized (this) {
+      entry = this.entries.get(cacheKey);
+      if ((entry != null) && (this.nanoClock.getAsLong() - entry.expiresAt > 0)) {
+        this.remove(cacheKey);
+        entry = null;
+      }
+    }
+
+    if (entry == null) {
+      this.listener.onMiss(storeName);
+      return null;
+    }
+
+    this.listener.onHit(storeName);
+    return entry.response;
+  }
+
+  /**
+   * Caches a response read from the sidecar, unless the key was written since the read started.
+   *
+   * @param storeName State store name.
+   * @param key       State key.
+   * @param response  Response of the sidecar.
+   * @param version   Version returned by {@link #getVersion()} before sending the read.
+   */
+  public void put(String storeName, String key, DaprStateProtos.GetStateResponse response, long version) {
+    Key cacheKey = new Key(storeName, key);
+    long entryWeight = (long) key.length() + response.getSerializedSize();
+    if ((this.maxWeight > 0) && (entryWeight > this.maxWeight)) {
+      return;
+    }
+
+    synchronized (this) {
+      if (this.version.get() != version) {
+        return;
+      }
+
+      this.remove(cacheKey);
+      this.entries.put(cacheKey, new Entry(response, entryWeight, this.nanoClock.getAsLong() + this.ttlNanos));
+      this.weight += entryWeight;
+
+      Iterator<Map.Entry<Key, Entry>> eldest = this.entries.entrySet().iterator();
+      while ((this.entries.size() > this.maxEntries) || ((this.maxWeight > 0) && (this.weight > this.maxWeight))) {
+        Map.Entry<Key, Entry> evicted = eldest.next();
+        this.weight -= evicted.getValue().weight;
+        eldest.remove();
+        this.listener.onEviction(evicted.getKey().storeName);
+      }
+    }
+  }
+
+  /**
+   * Drops the cached response of a key being written.
+   *
+   * @param storeName State store name.
+   * @param key       State key.
+   */
+  public void invalidate(String storeName, String key) {
+    synchronized (this) {
+      this.version.incrementAndGet();
+      this.remove(new Key(storeName, key));
+    }
+  }
+
+  /**
+   * Gets the number of cached responses, including expired ones not yet dropped.
+   *
+   * @return Number of entries.
+   */
+  public synchronized int size() {
+    return this.entries.size();
+  }
+
+  private void remove(Key key) {
+    Entry removed = this.entries.remove(key);
+    if (removed != null) {
+      this.weight -= removed.weight;
+    }
+  }
+
+  private static final class Key {
+
+    private final String storeName;
+
+    private final String key;
+
+    private Key(String storeName, String key) {
+      this.storeName = storeName;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return this.storeName.equals(that.storeName) && this.key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.storeName, this.key);
+    }
+  }
+
+  private static final class Entry {
+
+    private final DaprStateProtos.GetStateResponse response;
+
+    private final long weight;
+
+    private final long expiresAt;
+
+    private Entry(DaprStateProtos.GetStateResponse response, long weight, long expiresAt) {
+      this.response = response;
+      this.weight = weight;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
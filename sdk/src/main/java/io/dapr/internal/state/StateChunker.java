@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.state;
+
+import io.dapr.client.domain.BulkStateChunkOptions;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits the keys or states of a bulk request into chunks bounded by count and serialized size.
+ */
+public final class StateChunker {
+
+  private StateChunker() {
+  }
+
+  /**
+   * Validates chunking options.
+   *
+   * @param options Chunking options.
+   * @throws IllegalArgumentException if a limit is not positive.
+   */
+  public static void validate(BulkStateChunkOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("Chunk options cannot be null.");
+    }
+    if ((options.getMaxKeys() <= 0) || (options.getMaxBytes() <= 0) || (options.getConcurrency() <= 0)) {
+      throw new IllegalArgumentException("Chunk size, byte size and concurrency must be positive.");
+    }
+  }
+
+  /**
+   * Groups items into consecutive chunks, each holding at most the maximum number of items and, unless a single
+   * item exceeds it, at most the maximum number of bytes.
+   *
+   * @param items   Items to group.
+   * @param size    Serialized size of an item.
+   * @param options Chunking options.
+   * @param <T>     Type of the items.
+   * @return Chunks of items, in order.
+   */
+  public static <T> Flux<List<T>> chunk(Flux<T> items, ToLongFunction<T> size, BulkStateChunkOptions options) {
+    int maxItems = options.getMaxKeys();
+    long maxBytes = options.getMaxBytes();
+    return Flux.defer(() -> {
+      long[] count = new long[1];
+      long[] bytes = new long[1];
+      return items.bufferUntil(item -> {
+        long itemBytes = size.applyAsLong(item);
+        boolean cut = (count[0] > 0) && ((count[0] >= maxItems) || (bytes[0] + itemBytes > maxBytes));
+        if (cut) {
+          count[0] = 0;
+          bytes[0] = 0;
+        }
+        count[0]++;
+        bytes[0] += itemBytes;
+        return cut;
+      }, true);
+    });
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.ConfigurationItem;
+import io.dapr.client.domain.GetConfigurationRequest;
+import io.dapr.client.domain.SubscribeConfigurationRequest;
+import io.dapr.client.domain.SubscribeConfigurationResponse;
+import io.dapr.client.domain.UnsubscribeConfigurationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConfigurationSnapshotTest {
+
+  private static final String STORE = "configstore";
+
+  private DaprClient client;
+
+  private Sinks.Many<SubscribeConfigurationResponse> updates;
+
+  private Sinks.One<Map<String, ConfigurationItem>> current;
+
+  @BeforeEach
+  public void setup() {
+    this.client = mock(DaprClient.class);
+    this.updates = Sinks.many().unicast().onBackpressureBuffer();
+    this.current = Sinks.one();
+    when(this.client.subscribeConfiguration(any(SubscribeConfigurationRequest.class)))
+        .thenAnswer(invocation -> this.updates.asFlux());
+    when(this.client.getConfiguration(any(GetConfigurationRequest.class)))
+        .thenAnswer(invocation -> this.current.asMono());
+    when(this.client.unsubscribeConfiguration(anyString(), anyString()))
+        .thenReturn(Mono.just(new UnsubscribeConfigurationResponse(true, "")));
+  }
+
+  @Test
+  public void readsCurrentItemsThenAppliesChanges() {
+    Mono<ConfigurationSnapshot> start = ConfigurationSnapshot.start(this.client, request());
+    ConfigurationSnapshot[] started = new ConfigurationSnapshot[1];
+    start.subscribe(snapshot -> started[0] = snapshot);
+
+    this.updates.tryEmitNext(response(Collections.emptyMap()));
+    this.current.tryEmitValue(Map.of("a", item("a", "1", "v1"), "b", item("b", "1", "v1")));
+
+    ConfigurationSnapshot snapshot = started[0];
+    assertEquals("1", snapshot.get("a").getValue());
+    assertEquals(2, snapshot.getItems().size());
+    long version = snapshot.getVersion();
+
+    List<Map<String, ConfigurationItem>> changes = new ArrayList<>();
+    snapshot.addListener((changed, v) -> changes.add(changed));
+    this.updates.tryEmitNext(response(Map.of("a", item("a", "2", "v2"))));
+
+    assertEquals("2", snapshot.get("a").getValue());
+    assertEquals("1", snapshot.get("b").getValue());
+    assertEquals(version + 1, snapshot.getVersion());
+    assertEquals(1, changes.size());
+    assertEquals(Collections.singleton("a"), changes.get(0).keySet());
+
+    // An unchanged item is not a change.
+    this.updates.tryEmitNext(response(Map.of("a", item("a", "2", "v2"))));
+    assertEquals(version + 1, snapshot.getVersion());
+    assertEquals(1, changes.size());
+    assertNull(snapshot.get("c"));
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getItems().put("c", item("c", "1", "v1")));
+
+    snapshot.close();
+    verify(this.client).unsubscribeConfiguration("sub-id", STORE);
+  }
+
+  @Test
+  public void keepsChangesReceivedWhileReading() {
+    ConfigurationSnapshot[] started = new ConfigurationSnapshot[1];
+    ConfigurationSnapshot.start(this.client, request()).subscribe(snapshot -> started[0] = snapshot);
+
+    this.updates.tryEmitNext(response(Collections.emptyMap()));
+    // The read started before this change, so its older value must not overwrite it.
+    this.updates.tryEmitNext(response(Map.of("a", item("a", "2", "v2"))));
+    this.current.tryEmitValue(Map.of("a", item("a", "1", "v1"), "b", item("b", "1", "v1")));
+
+    assertEquals("2", started[0].get("a").getValue());
+    assertEquals("1", started[0].get("b").getValue());
+    started[0].close();
+  }
+
+  @Test
+  public void failsWhenFirstReadFails() {
+    Mono<ConfigurationSnapshot> start = ConfigurationSnapshot.start(this.client, request());
+    Throwable[] error = new Throwable[1];
+    start.subscribe(snapshot -> { }, e -> error[0] = e);
+
+    this.updates.tryEmitError(new IllegalStateException("unavailable"));
+
+    assertEquals("unavailable", error[0].getMessage());
+  }
+
+  @Test
+  public void resubscribesWhenStreamEnds() {
+    VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+    try {
+      Sinks.Many<SubscribeConfigurationResponse> first = Sinks.many().unicast().onBackpressureBuffer();
+      when(this.client.subscribeConfiguration(any(SubscribeConfigurationRequest.class)))
+          .thenAnswer(invocation -> first.asFlux())
+          .thenAnswer(invocation -> this.updates.asFlux());
+      ConfigurationSnapshot[] started = new ConfigurationSnapshot[1];
+      ConfigurationSnapshot.start(this.client, request()).subscribe(snapshot -> started[0] = snapshot);
+
+      first.tryEmitNext(response(Collections.emptyMap()));
+      this.current.tryEmitValue(Map.of("a", item("a", "1", "v1")));
+      // The sidecar ends the stream without an error, as when it restarts gracefully.
+      first.tryEmitComplete();
+      scheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+      this.updates.tryEmitNext(response(Collections.emptyMap()));
+      this.updates.tryEmitNext(response(Map.of("a", item("a", "2", "v2"))));
+
+      assertEquals("2", started[0].get("a").getValue());
+      verify(this.client, times(2)).subscribeConfiguration(any(SubscribeConfigurationRequest.class));
+      started[0].close();
+    } finally {
+      VirtualTimeScheduler.reset();
+    }
+  }
+
+  @Test
+  public void failsWhenStreamEndsBeforeFirstRead() {
+    Throwable[] error = new Throwable[1];
+    ConfigurationSnapshot.start(this.client, request()).subscribe(snapshot -> { }, e -> error[0] = e);
+
+    this.updates.tryEmitComplete();
+
+    assertEquals(IllegalStateException.class, error[0].getClass());
+  }
+
+  private static SubscribeConfigurationRequest request() {
+    return new SubscribeConfigurationRequest(STORE, List.of("a", "b"));
+  }
+
+  private static SubscribeConfigurationResponse response(Map<String, ConfigurationItem> items) {
+    return new SubscribeConfigurationResponse("sub-id", items);
+  }
+
+  private static ConfigurationItem item(String key, String value, String version) {
+    return new ConfigurationItem(key, value, version, Collections.emptyMap());
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.config.Properties;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DaprChannelProviderTest {
+
+  @Test
+  public void singleChannelIsUsedDirectly() {
+    ManagedChannel channel = mock(ManagedChannel.class);
+    DaprChannelProvider provider = new DaprChannelProvider(new Properties(), channel);
+
+    assertSame(channel, provider.getChannel());
+    assertEquals(1, provider.getConnections());
+  }
+
+  @Test
+  public void callsAreSpreadOverConnections() {
+    ManagedChannel first = mock(ManagedChannel.class);
+    ManagedChannel second = mock(ManagedChannel.class);
+    DaprChannelProvider provider = new DaprChannelProvider(new Properties(), first, second);
+    MethodDescriptor<?, ?> method = mock(MethodDescriptor.class);
+
+    for (int i = 0; i < 4; i++) {
+      provider.getChannel().newCall(method, CallOptions.DEFAULT);
+    }
+
+    verify(first, times(2)).newCall(any(), any());
+    verify(second, times(2)).newCall(any(), any());
+  }
+
+  @Test
+  public void shutsDownWithLastHolder() {
+    ManagedChannel channel = mock(ManagedChannel.class);
+    DaprChannelProvider provider = new DaprChannelProvider(new Properties(), channel);
+
+    provider.retain();
+    provider.close();
+    verify(channel, never()).shutdown();
+    assertFalse(provider.isShutdown());
+
+    provider.close();
+    verify(channel).shutdown();
+    assertTrue(provider.isShutdown());
+
+    provider.close();
+    verify(channel, times(1)).shutdown();
+    assertThrows(IllegalStateException.class, provider::retain);
+  }
+
+  @Test
+  public void clientsReleaseSharedChannel() throws Exception {
+    DaprChannelProvider provider = new DaprChannelProvider(new Properties(), 2);
+
+    DaprClient first = new DaprClientBuilder().withChannelProvider(provider).build();
+    DaprClient second = new DaprClientBuilder().withChannelProvider(provider).build();
+    assertNotNull(first);
+    provider.close();
+
+    first.close();
+    assertFalse(provider.isShutdown());
+    second.close();
+    assertTrue(provider.isShutdown());
+  }
+
+  @Test
+  public void closingClientTwiceReleasesOnce() throws Exception {
+    DaprChannelProvider provider = new DaprChannelProvider(new Properties(), 2);
+
+    DaprClient first = new DaprClientBuilder().withChannelProvider(provider).build();
+    DaprClient second = new DaprClientBuilder().withChannelProvider(provider).build();
+    provider.close();
+
+    first.close();
+    first.close();
+    assertFalse(provider.isShutdown());
+    second.close();
+    assertTrue(provider.isShutdown());
+  }
+
+  @Test
+  public void invalidSettings() {
+    assertThrows(IllegalArgumentException.class, () -> new DaprChannelProvider(new Properties(), 0));
+    assertThrows(IllegalArgumentException.class, () -> new DaprChannelProvider(null, mock(ManagedChannel.class)));
+    assertThrows(IllegalArgumentException.class, () -> new DaprClientBuilder().withChannelProvider(null));
+  }
+}
@@ -18,6 +18,9 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
 import io.dapr.client.domain.AppConnectionPropertiesHealthMetadata;
 import io.dapr.client.domain.AppConnectionPropertiesMetadata;
+import io.dapr.client.domain.BulkJobOptions;
+import io.dapr.client.domain.BulkJobResult;
+import io.dapr.client.domain.BulkStateChunkOptions;
 import io.dapr.client.domain.ComponentMetadata;
 import io.dapr.client.domain.ConfigurationItem;
 import io.dapr.client.domain.ConstantFailurePolicy;
@@ -26,6 +29,7 @@ import io.dapr.client.domain.DeleteJobRequest;
 import io.dapr.client.domain.DeleteStateRequest;
 import io.dapr.client.domain.DropFailurePolicy;
 import io.dapr.client.domain.ExecuteStateTransactionRequest;
+import io.dapr.client.domain.GetBulkSecretRequest;
 import io.dapr.client.domain.GetBulkStateRequest;
 import io.dapr.client.domain.GetJobRequest;
 import io.dapr.client.domain.GetJobResponse;
@@ -34,14 +38,25 @@ import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.JobSchedule;
 import io.dapr.client.domain.PublishEventRequest;
 import io.dapr.client.domain.RuleMetadata;
+import io.dapr.client.domain.SaveStateRequest;
 import io.dapr.client.domain.ScheduleJobRequest;
+import io.dapr.client.domain.SecretCacheOptions;
 import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateCacheOptions;
 import io.dapr.client.domain.StateOptions;
+import io.dapr.client.domain.HttpExtension;
+import io.dapr.client.domain.InvokeMethodRequest;
+import io.dapr.client.domain.InvokeMethodTransport;
 import io.dapr.client.domain.SubscribeConfigurationResponse;
 import io.dapr.client.domain.SubscriptionMetadata;
 import io.dapr.client.domain.TransactionalStateOperation;
 import io.dapr.client.domain.UnsubscribeConfigurationRequest;
 import io.dapr.client.domain.UnsubscribeConfigurationResponse;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.client.resiliency.RetryBudgetOptions;
+import io.dapr.internal.secret.SecretCache;
+import io.dapr.internal.state.StateCache;
+import io.dapr.exceptions.DaprException;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.utils.TypeRef;
@@ -49,12 +64,14 @@ import io.dapr.v1.CommonProtos;
 import io.dapr.v1.DaprBindingsProtos;
 import io.dapr.v1.DaprConfigurationProtos;
 import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprInvokeProtos;
 import io.dapr.v1.DaprJobsProtos;
 import io.dapr.v1.DaprMetadataProtos;
 import io.dapr.v1.DaprProtos;
 import io.dapr.v1.DaprPubsubProtos;
 import io.dapr.v1.DaprSecretProtos;
 import io.dapr.v1.DaprStateProtos;
+import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.protobuf.StatusProto;
@@ -69,6 +86,7 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
@@ -85,6 +103,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -2860,6 +2879,96 @@ public class DaprClientGrpcTest {
     assertDoesNotThrow(() -> resultMono.block());
   }
 
+  @Test
+  public void scheduleJobsShouldReportResultsInOrderAndRetryTransientFailures() {
+    AtomicInteger unavailable = new AtomicInteger(1);
+    doAnswer(invocation -> {
+      DaprJobsProtos.ScheduleJobRequest request = invocation.getArgument(0);
+      StreamObserver<DaprJobsProtos.ScheduleJobResponse> observer = invocation.getArgument(1);
+      String name = request.getJob().getName();
+      if (name.equals("retried") && unavailable.getAndDecrement() > 0) {
+        observer.onError(newStatusRuntimeException("UNAVAILABLE", "sidecar restarting"));
+      } else if (name.equals("invalid")) {
+        observer.onError(newStatusRuntimeException("INVALID_ARGUMENT", "bad schedule"));
+      } else {
+        observer.onNext(DaprJobsProtos.ScheduleJobResponse.getDefaultInstance());
+        observer.onCompleted();
+      }
+      return null;
+    }).when(daprStub).scheduleJobAlpha1(any(DaprJobsProtos.ScheduleJobRequest.class), any());
+
+    Instant dueTime = Instant.now().plus(10, ChronoUnit.MINUTES);
+    List<BulkJobResult> results = client.scheduleJobs(
+        Flux.just("first", "retried", "invalid", "last").map(name -> new ScheduleJobRequest(name, dueTime)),
+        new BulkJobOptions().setConcurrency(2).setMinBackoff(Duration.ofMillis(1)).setMaxBackoff(Duration.ofMillis(1)))
+        .collectList().block();
+
+    assertEquals(List.of("first", "retried", "invalid", "last"),
+        results.stream().map(BulkJobResult::getName).collect(Collectors.toList()));
+    assertEquals(List.of(0, 1, 2, 3), results.stream().map(BulkJobResult::getIndex).collect(Collectors.toList()));
+    assertTrue(results.get(1).isSuccessful());
+    assertEquals(2, results.get(1).getAttempts());
+    assertFalse(results.get(2).isSuccessful());
+    assertEquals(1, results.get(2).getAttempts());
+    assertEquals("INVALID_ARGUMENT", ((DaprException) results.get(2).getError()).getErrorCode());
+    assertTrue(results.get(3).isSuccessful());
+  }
+
+  @Test
+  public void scheduleJobsShouldTakeRetriesFromTheBudgetAndNotRetryResourceExhausted() {
+    client = new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(), new DaprClientCollaborators().withResiliencyOptions(new ResiliencyOptions()
+            .setMaxRetries(0)
+            .setRetryBudget(new RetryBudgetOptions().setMaxTokens(1))));
+    doAnswer(invocation -> {
+      DaprJobsProtos.ScheduleJobRequest request = invocation.getArgument(0);
+      StreamObserver<DaprJobsProtos.ScheduleJobResponse> observer = invocation.getArgument(1);
+      if (request.getJob().getName().equals("overloaded")) {
+        observer.onError(newStatusRuntimeException("RESOURCE_EXHAUSTED", "too many jobs"));
+      } else {
+        observer.onError(newStatusRuntimeException("UNAVAILABLE", "sidecar restarting"));
+      }
+      return null;
+    }).when(daprStub).scheduleJobAlpha1(any(DaprJobsProtos.ScheduleJobRequest.class), any());
+
+    Instant dueTime = Instant.now().plus(10, ChronoUnit.MINUTES);
+    List<BulkJobResult> results = client.scheduleJobs(
+        Flux.just("overloaded", "unavailable").map(name -> new ScheduleJobRequest(name, dueTime)),
+        new BulkJobOptions().setConcurrency(1).setMaxRetries(5)
+            .setMinBackoff(Duration.ofMillis(1)).setMaxBackoff(Duration.ofMillis(1)))
+        .collectList().block();
+
+    assertEquals(1, results.get(0).getAttempts());
+    // The budget holds a single retry.
+    assertEquals(2, results.get(1).getAttempts());
+    assertFalse(results.get(1).isSuccessful());
+  }
+
+  @Test
+  public void scheduleJobsShouldFailWithoutThrowingOnInvalidOptions() {
+    Flux<BulkJobResult> results = client.scheduleJobs(Flux.empty(), new BulkJobOptions().setConcurrency(0));
+
+    assertThrows(IllegalArgumentException.class, () -> results.blockLast());
+  }
+
+  @Test
+  public void deleteJobsShouldReportInvalidRequestsWithoutFailingTheOthers() {
+    doAnswer(invocation -> {
+      StreamObserver<DaprJobsProtos.DeleteJobResponse> observer = invocation.getArgument(1);
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).deleteJobAlpha1(any(DaprJobsProtos.DeleteJobRequest.class), any());
+
+    List<BulkJobResult> results = client.deleteJobs(
+        Flux.just(new DeleteJobRequest("first"), new DeleteJobRequest(""), new DeleteJobRequest("last")))
+        .collectList().block();
+
+    assertEquals(3, results.size());
+    assertTrue(results.get(0).isSuccessful());
+    assertTrue(results.get(1).getError() instanceof IllegalArgumentException);
+    assertTrue(results.get(2).isSuccessful());
+    verify(daprStub, times(2)).deleteJobAlpha1(any(DaprJobsProtos.DeleteJobRequest.class), any());
+  }
 
   @Test
   public void getJobShouldThrowWhenRequestIsNull() {
@@ -2930,6 +3039,206 @@ public class DaprClientGrpcTest {
     assertEquals("Name in the request cannot be null or empty", exception.getMessage());
   }
 
+  @Test
+  public void invokeMethodGrpcTransport() {
+    ArgumentCaptor<DaprInvokeProtos.InvokeServiceRequest> captor =
+        ArgumentCaptor.forClass(DaprInvokeProtos.InvokeServiceRequest.class);
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<CommonProtos.InvokeResponse> observer =
+          (StreamObserver<CommonProtos.InvokeResponse>) invocation.getArguments()[1];
+      observer.onNext(CommonProtos.InvokeResponse.newBuilder()
+          .setData(Any.newBuilder().setValue(ByteString.copyFrom(serializer.serialize("pong"))))
+          .build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).invokeService(captor.capture(), any());
+
+    HttpExtension httpExtension = new HttpExtension(
+        DaprHttp.HttpMethods.POST, Map.of("q", List.of("a b")), Map.of("X-Custom", "1"));
+    InvokeMethodRequest request = new InvokeMethodRequest("app", "ping/now")
+        .setBody("ping")
+        .setHttpExtension(httpExtension)
+        .setTransport(InvokeMethodTransport.GRPC);
+
+    String response = client.invokeMethod(request, TypeRef.STRING).block();
+
+    assertEquals("pong", response);
+    DaprInvokeProtos.InvokeServiceRequest sent = captor.getValue();
+    assertEquals("app", sent.getId());
+    assertEquals("ping/now", sent.getMessage().getMethod());
+    assertEquals(CommonProtos.HTTPExtension.Verb.POST, sent.getMessage().getHttpExtension().getVerb());
+    assertEquals("q=a+b", sent.getMessage().getHttpExtension().getQuerystring());
+    assertEquals("application/json", sent.getMessage().getContentType());
+    assertEquals("\"ping\"", sent.getMessage().getData().getValue().toStringUtf8());
+    verify(daprHttp, times(0)).invokeApi(any(), any(), any(), any(byte[].class), any(), any());
+  }
+
+  @Test
+  public void invokeMethodGrpcHeaders() {
+    Locale defaultLocale = Locale.getDefault();
+    Locale.setDefault(new Locale("tr", "TR"));
+    try {
+      Map<String, String> values = new HashMap<>();
+      values.put("X-Id", "1");
+      values.put("Trace-Bin", "raw");
+      values.put("Content-Type", "text/plain");
+      values.put("TE", "trailers");
+      values.put(":authority", "other");
+      values.put("bad header", "2");
+      Metadata headers = new Metadata();
+
+      DaprClientImpl.addGrpcHeaders(headers, values);
+
+      assertEquals("1", headers.get(Metadata.Key.of("x-id", Metadata.ASCII_STRING_MARSHALLER)));
+      assertArrayEquals("raw".getBytes(), headers.get(Metadata.Key.of("trace-bin", Metadata.BINARY_BYTE_MARSHALLER)));
+      assertEquals(2, headers.keys().size());
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+
+  @Test
+  public void invokeMethodGrpcTransportFromClientDefault() {
+    client = new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(), new DaprClientCollaborators()
+            .withInvokeMethodTransport(InvokeMethodTransport.GRPC));
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<CommonProtos.InvokeResponse> observer =
+          (StreamObserver<CommonProtos.InvokeResponse>) invocation.getArguments()[1];
+      observer.onError(newStatusRuntimeException("NOT_FOUND", "no such app"));
+      return null;
+    }).when(daprStub).invokeService(any(DaprInvokeProtos.InvokeServiceRequest.class), any());
+
+    assertThrowsDaprException(
+        ExecutionException.class,
+        "NOT_FOUND",
+        "NOT_FOUND: no such app",
+        () -> client.invokeMethod("app", "ping", null, HttpExtension.GET, Void.class).block());
+  }
+
+  @Test
+  public void getBulkStateChunked() {
+    doAnswer((Answer<Void>) invocation -> {
+      DaprStateProtos.GetBulkStateRequest request = invocation.getArgument(0);
+      StreamObserver<DaprStateProtos.GetBulkStateResponse> observer =
+          (StreamObserver<DaprStateProtos.GetBulkStateResponse>) invocation.getArguments()[1];
+      DaprStateProtos.GetBulkStateResponse.Builder response = DaprStateProtos.GetBulkStateResponse.newBuilder();
+      for (String key : request.getKeysList()) {
+        response.addItems(DaprStateProtos.BulkStateItem.newBuilder()
+            .setKey(key)
+            .setData(serialize("value-" + key))
+            .build());
+      }
+      observer.onNext(response.build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getBulkState(any(DaprStateProtos.GetBulkStateRequest.class), any());
+
+    List<String> values = client.getBulkStateChunked(
+            new GetBulkStateRequest(STATE_STORE_NAME, List.of("1", "2", "3", "4", "5")), String.class,
+            new BulkStateChunkOptions().setMaxKeys(2).setConcurrency(2))
+        .map(State::getValue)
+        .sort()
+        .collectList()
+        .block();
+
+    assertEquals(List.of("value-1", "value-2", "value-3", "value-4", "value-5"), values);
+    verify(daprStub, times(3)).getBulkState(any(DaprStateProtos.GetBulkStateRequest.class), any());
+  }
+
+  @Test
+  public void saveBulkStateChunked() {
+    List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+    doAnswer((Answer<Void>) invocation -> {
+      DaprStateProtos.SaveStateRequest request = invocation.getArgument(0);
+      chunkSizes.add(request.getStatesCount());
+      StreamObserver<Empty> observer = (StreamObserver<Empty>) invocation.getArguments()[1];
+      observer.onNext(Empty.getDefaultInstance());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).saveState(any(DaprStateProtos.SaveStateRequest.class), any());
+    List<State<?>> states = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      states.add(new State<>(Integer.toString(i), "value", (String) null));
+    }
+
+    client.saveBulkStateChunked(new SaveStateRequest(STATE_STORE_NAME).setStates(states),
+        new BulkStateChunkOptions().setMaxKeys(2)).block();
+
+    chunkSizes.sort(null);
+    assertEquals(List.of(1, 2, 2), chunkSizes);
+  }
+
+  @Test
+  public void getStateServedFromCacheUntilSaved() {
+    client = new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(), new DaprClientCollaborators()
+            .withInvokeMethodTransport(InvokeMethodTransport.GRPC)
+            .withStateCache(new StateCache(new StateCacheOptions(), null)));
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<DaprStateProtos.GetStateResponse> observer =
+          (StreamObserver<DaprStateProtos.GetStateResponse>) invocation.getArguments()[1];
+      observer.onNext(DaprStateProtos.GetStateResponse.newBuilder()
+          .setData(serialize("flag"))
+          .setEtag("1")
+          .build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getState(any(DaprStateProtos.GetStateRequest.class), any());
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<Empty> observer = (StreamObserver<Empty>) invocation.getArguments()[1];
+      observer.onNext(Empty.getDefaultInstance());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).saveState(any(DaprStateProtos.SaveStateRequest.class), any());
+
+    assertEquals("1", client.getState(STATE_STORE_NAME, "key", String.class).block().getEtag());
+    assertEquals("flag", client.getState(STATE_STORE_NAME, "key", String.class).block().getValue());
+    verify(daprStub, times(1)).getState(any(DaprStateProtos.GetStateRequest.class), any());
+
+    // Strongly consistent reads skip the cache.
+    client.getState(STATE_STORE_NAME, "key",
+        new StateOptions(StateOptions.Consistency.STRONG, null), String.class).block();
+    verify(daprStub, times(2)).getState(any(DaprStateProtos.GetStateRequest.class), any());
+
+    client.saveState(STATE_STORE_NAME, "key", "1", "other", null).block();
+    client.getState(STATE_STORE_NAME, "key", String.class).block();
+    verify(daprStub, times(3)).getState(any(DaprStateProtos.GetStateRequest.class), any());
+  }
+
+  @Test
+  public void getSecretServedFromWarmedUpCache() {
+    client = new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(), new DaprClientCollaborators()
+            .withInvokeMethodTransport(InvokeMethodTransport.GRPC)
+            .withSecretCache(new SecretCache(new SecretCacheOptions(), null)));
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<DaprSecretProtos.GetBulkSecretResponse> observer =
+          (StreamObserver<DaprSecretProtos.GetBulkSecretResponse>) invocation.getArguments()[1];
+      observer.onNext(DaprSecretProtos.GetBulkSecretResponse.newBuilder()
+          .putData("db", DaprSecretProtos.SecretResponse.newBuilder().putSecrets("password", "old").build())
+          .build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getBulkSecret(any(DaprSecretProtos.GetBulkSecretRequest.class), any());
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<DaprSecretProtos.GetSecretResponse> observer =
+          (StreamObserver<DaprSecretProtos.GetSecretResponse>) invocation.getArguments()[1];
+      observer.onNext(buildGetSecretResponse("password", "new"));
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getSecret(any(DaprSecretProtos.GetSecretRequest.class), any());
+
+    client.warmUpSecretCache(new GetBulkSecretRequest(SECRET_STORE_NAME)).block();
+    assertEquals("old", client.getSecret(SECRET_STORE_NAME, "db").block().get("password"));
+    verify(daprStub, times(0)).getSecret(any(DaprSecretProtos.GetSecretRequest.class), any());
+
+    client.invalidateSecretCache(SECRET_STORE_NAME, "db");
+    assertEquals("new", client.getSecret(SECRET_STORE_NAME, "db").block().get("password"));
+    assertEquals("new", client.getSecret(SECRET_STORE_NAME, "db").block().get("password"));
+    verify(daprStub, times(1)).getSecret(any(DaprSecretProtos.GetSecretRequest.class), any());
+  }
+
   private static class GetStateRequestKeyMatcher implements ArgumentMatcher<DaprStateProtos.GetStateRequest> {
 
     private final String propValue;
@@ -18,9 +18,16 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class DaprHttpBuilderTest {
 
@@ -33,6 +40,38 @@ public class DaprHttpBuilderTest {
     assertSame(getHttpClient(daprHttp), getHttpClient(anotherDaprHttp));
   }
 
+  @Test
+  public void httpClientPerSettings() throws Exception {
+    Properties http2Properties = new Properties(Map.of(Properties.HTTP_CLIENT_HTTP2_ENABLED.getName(), "true"));
+    HttpClient http1Client = getHttpClient(new DaprHttpBuilder().build(new Properties()));
+    HttpClient http2Client = getHttpClient(new DaprHttpBuilder().build(http2Properties));
+
+    assertNotSame(http1Client, http2Client);
+    assertEquals(HttpClient.Version.HTTP_1_1, http1Client.version());
+    assertEquals(HttpClient.Version.HTTP_2, http2Client.version());
+    assertSame(http2Client, getHttpClient(new DaprHttpBuilder().build(http2Properties)));
+  }
+
+  @Test
+  public void dedicatedHttpClientWithExecutor() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      DaprHttpBuilder builder = new DaprHttpBuilder().withExecutor(executor);
+      HttpClient httpClient = getHttpClient(builder.build(new Properties()));
+
+      assertNotSame(getHttpClient(new DaprHttpBuilder().build(new Properties())), httpClient);
+      assertSame(executor, httpClient.executor().orElse(null));
+      assertSame(httpClient, getHttpClient(builder.build(new Properties())));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void nullExecutor() {
+    assertThrows(IllegalArgumentException.class, () -> new DaprHttpBuilder().withExecutor((Executor) null));
+  }
+
   private static HttpClient getHttpClient(DaprHttp daprHttp) throws Exception {
     Field httpClientField = DaprHttp.class.getDeclaredField("httpClient");
     httpClientField.setAccessible(true);
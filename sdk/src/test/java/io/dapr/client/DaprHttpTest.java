@@ -16,6 +16,11 @@ import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprErrorDetails;
 import io.dapr.exceptions.DaprException;
 import io.dapr.utils.TypeRef;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,17 +34,21 @@ import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
 
 import java.io.IOException;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import static io.dapr.utils.TestUtils.formatIpAddress;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -579,4 +588,90 @@ public class DaprHttpTest {
       assertEquals(DaprException.class, ex.getClass());
     }
   }
+
+  @Test
+  public void invokeApiEncodesOnlySegmentsThatNeedIt() throws IOException {
+    MockHttpResponse mockHttpResponse = new MockHttpResponse(serializer.serialize(EXPECTED_RESULT), HTTP_OK);
+    CompletableFuture<HttpResponse<Object>> mockResponse = CompletableFuture.completedFuture(mockHttpResponse);
+    ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    when(httpClient.sendAsync(any(), any())).thenReturn(mockResponse);
+
+    DaprHttp daprHttp = new DaprHttp("http://" + sidecarIp + ":3500/base/", daprTokenApi, READ_TIMEOUT, httpClient);
+    daprHttp.invokeApi(
+        "POST",
+        new String[] { "v1.0", "invoke", "my-app", "method", "say hello", "", "ünï" },
+        null,
+        (byte[]) null,
+        null,
+        Context.of("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", "other", "x")
+    ).block();
+
+    verify(httpClient).sendAsync(requestCaptor.capture(), any());
+    HttpRequest request = requestCaptor.getValue();
+    assertEquals("http://" + sidecarIp + ":3500/base/v1.0/invoke/my-app/method/say%20hello/%C3%BCn%C3%AF",
+        request.uri().toString());
+    assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+        request.headers().firstValue("traceparent").get());
+    assertFalse(request.headers().firstValue("other").isPresent());
+    assertEquals(4, UUID.fromString(request.headers().firstValue("X-DaprRequestId").get()).version());
+  }
+
+  @Test
+  public void invokeApiPropagatesTraceContextKeysInAnyCase() throws IOException {
+    MockHttpResponse mockHttpResponse = new MockHttpResponse(serializer.serialize(EXPECTED_RESULT), HTTP_OK);
+    CompletableFuture<HttpResponse<Object>> mockResponse = CompletableFuture.completedFuture(mockHttpResponse);
+    ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    when(httpClient.sendAsync(any(), any())).thenReturn(mockResponse);
+
+    DaprHttp daprHttp = new DaprHttp(sidecarIp, 3500, daprTokenApi, READ_TIMEOUT, httpClient);
+    daprHttp.invokeApi("GET", new String[] { "v1.0", "state" }, null, (byte[]) null, null,
+        Context.of("TraceParent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")).block();
+
+    verify(httpClient).sendAsync(requestCaptor.capture(), any());
+    assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+        requestCaptor.getValue().headers().firstValue("traceparent").get());
+  }
+
+  @Test
+  public void invokeApiPropagatesCurrentOpenTelemetrySpan() throws IOException {
+    MockHttpResponse mockHttpResponse = new MockHttpResponse(serializer.serialize(EXPECTED_RESULT), HTTP_OK);
+    CompletableFuture<HttpResponse<Object>> mockResponse = CompletableFuture.completedFuture(mockHttpResponse);
+    ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    when(httpClient.sendAsync(any(), any())).thenReturn(mockResponse);
+    SpanContext spanContext = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331",
+        TraceFlags.getSampled(), TraceState.builder().put("congo", "t61rcWkgMzE").build());
+
+    DaprHttp daprHttp = new DaprHttp(sidecarIp, 3500, daprTokenApi, READ_TIMEOUT, httpClient);
+    try (Scope ignored = Span.wrap(spanContext).makeCurrent()) {
+      daprHttp.invokeApi("GET", new String[] { "v1.0", "state" }, null, (byte[]) null, null, Context.empty())
+          .block();
+    }
+
+    verify(httpClient).sendAsync(requestCaptor.capture(), any());
+    HttpRequest request = requestCaptor.getValue();
+    assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+        request.headers().firstValue("traceparent").get());
+    assertEquals("congo=t61rcWkgMzE", request.headers().firstValue("tracestate").get());
+  }
+
+  @Test
+  public void newRequestIdIsRandomUuid() {
+    UUID first = UUID.fromString(DaprHttp.newRequestId());
+    UUID second = UUID.fromString(DaprHttp.newRequestId());
+
+    assertEquals(4, first.version());
+    assertEquals(2, first.variant());
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  public void responseHeadersAreCopiedOnRead() {
+    HttpHeaders httpHeaders = HttpHeaders.of(
+        Map.of("etag", List.of("1", "2")), (a, b) -> true);
+    DaprHttp.Response response = new DaprHttp.Response(new byte[0], httpHeaders, HTTP_OK);
+
+    Map<String, String> headers = response.getHeaders();
+    assertEquals("1", headers.get("etag"));
+    assertSame(headers, response.getHeaders());
+  }
 }
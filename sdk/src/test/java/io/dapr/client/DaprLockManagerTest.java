@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.LockManagerOptions;
+import io.dapr.client.domain.UnlockResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprLockManagerTest {
+
+  private static final String STORE = "lockstore";
+
+  private DaprPreviewClient client;
+
+  private VirtualTimeScheduler scheduler;
+
+  private final AtomicBoolean locked = new AtomicBoolean();
+
+  private final AtomicInteger tryLocks = new AtomicInteger();
+
+  @BeforeEach
+  public void setup() {
+    this.client = mock(DaprPreviewClient.class);
+    this.scheduler = VirtualTimeScheduler.create();
+    when(this.client.tryLock(eq(STORE), anyString(), anyString(), anyInt())).thenAnswer(invocation -> {
+      this.tryLocks.incrementAndGet();
+      return Mono.just(this.locked.compareAndSet(false, true));
+    });
+    when(this.client.unlock(eq(STORE), anyString(), anyString())).thenAnswer(invocation -> {
+      this.locked.set(false);
+      return Mono.just(UnlockResponseStatus.SUCCESS);
+    });
+  }
+
+  @Test
+  public void retriesWhileHeldByOthers() {
+    DaprLockManager manager = newManager(new LockManagerOptions());
+    this.locked.set(true);
+    List<DaprLockManager.LockHandle> handles = new ArrayList<>();
+
+    manager.acquire("order-1").subscribe(handles::add);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(1));
+    assertTrue(handles.isEmpty());
+
+    this.locked.set(false);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(3));
+    assertEquals(1, handles.size());
+    assertTrue(handles.get(0).isHeld());
+    assertTrue(this.tryLocks.get() > 1);
+    verify(this.client, atLeastOnce()).tryLock(eq(STORE), eq("order-1"), eq(handles.get(0).getLockOwner()), eq(30));
+
+    handles.get(0).release().block();
+    assertFalse(handles.get(0).isHeld());
+    verify(this.client).unlock(STORE, "order-1", handles.get(0).getLockOwner());
+  }
+
+  @Test
+  public void localRequestsWaitInQueue() {
+    DaprLockManager manager = newManager(new LockManagerOptions());
+    List<DaprLockManager.LockHandle> handles = new ArrayList<>();
+
+    for (int i = 0; i < 3; i++) {
+      manager.acquire("order-1").subscribe(handles::add);
+    }
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(10));
+    assertEquals(1, handles.size());
+    assertEquals(1, this.tryLocks.get());
+
+    handles.get(0).release().block();
+    assertEquals(2, handles.size());
+    handles.get(1).release().block();
+    handles.get(1).release().block();
+    assertEquals(3, handles.size());
+    assertEquals(3, this.tryLocks.get());
+    verify(this.client, times(2)).unlock(eq(STORE), eq("order-1"), anyString());
+  }
+
+  @Test
+  public void expiredLeaseLetsNextRequestThrough() {
+    DaprLockManager manager = newManager(new LockManagerOptions().setLeaseDuration(Duration.ofMillis(1500)));
+    List<DaprLockManager.LockHandle> handles = new ArrayList<>();
+    manager.acquire("order-1").subscribe(handles::add);
+    manager.acquire("order-1").subscribe(handles::add);
+    AtomicBoolean expired = new AtomicBoolean();
+    handles.get(0).onExpired().subscribe(null, null, () -> expired.set(true));
+
+    // The lease is rounded up to whole seconds and the lock store frees the lock once it runs out.
+    verify(this.client).tryLock(eq(STORE), eq("order-1"), anyString(), eq(2));
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(2));
+    this.locked.set(false);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+    assertTrue(expired.get());
+    assertFalse(handles.get(0).isHeld());
+    assertEquals(2, handles.size());
+  }
+
+  @Test
+  public void withLockReleasesAfterAction() {
+    DaprLockManager manager = newManager(new LockManagerOptions());
+
+    assertEquals("done", manager.withLock("order-1", handle -> Mono.just("done")).block());
+    assertThrows(IllegalStateException.class, () -> manager.withLock("order-1",
+        handle -> Mono.error(new IllegalStateException("failed"))).block());
+
+    verify(this.client, times(2)).unlock(eq(STORE), eq("order-1"), anyString());
+    assertFalse(this.locked.get());
+  }
+
+  @Test
+  public void timeoutLeavesQueue() {
+    DaprLockManager manager = newManager(new LockManagerOptions().setAcquireTimeout(Duration.ofSeconds(1)));
+    this.locked.set(true);
+    Throwable[] error = new Throwable[1];
+
+    manager.acquire("order-1").subscribe(null, e -> error[0] = e);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(1));
+    assertInstanceOf(TimeoutException.class, error[0]);
+
+    this.locked.set(false);
+    DaprLockManager.LockHandle handle = manager.acquire("order-1").block();
+    assertNotNull(handle);
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> newManager(new LockManagerOptions()
+        .setLeaseDuration(Duration.ZERO)));
+    assertThrows(IllegalArgumentException.class, () -> newManager(new LockManagerOptions()
+        .setMinBackoff(Duration.ofSeconds(5)).setMaxBackoff(Duration.ofSeconds(1))));
+    assertThrows(IllegalArgumentException.class, () -> newManager(new LockManagerOptions()).acquire("").block());
+  }
+
+  private DaprLockManager newManager(LockManagerOptions options) {
+    return new DaprLockManager(this.client, STORE, options, this.scheduler);
+  }
+}
@@ -24,6 +24,7 @@ import io.dapr.client.domain.BulkPublishEntry;
 import io.dapr.client.domain.BulkPublishRequest;
 import io.dapr.client.domain.BulkPublishResponse;
 import io.dapr.client.domain.CloudEvent;
+import io.dapr.client.domain.ConversationCacheOptions;
 import io.dapr.client.domain.ConversationInput;
 import io.dapr.client.domain.ConversationInputAlpha2;
 import io.dapr.client.domain.ConversationMessage;
@@ -41,6 +42,7 @@ import io.dapr.client.domain.ConversationToolsFunction;
 import io.dapr.client.domain.DecryptRequestAlpha1;
 import io.dapr.client.domain.DeveloperMessage;
 import io.dapr.client.domain.EncryptRequestAlpha1;
+import io.dapr.client.domain.GetJobResponse;
 import io.dapr.client.domain.QueryStateItem;
 import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
@@ -49,6 +51,7 @@ import io.dapr.client.domain.ToolMessage;
 import io.dapr.client.domain.UnlockResponseStatus;
 import io.dapr.client.domain.UserMessage;
 import io.dapr.client.domain.query.Query;
+import io.dapr.internal.conversation.ConversationCache;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.utils.TypeRef;
@@ -57,6 +60,7 @@ import io.dapr.v1.DaprAiProtos;
 import io.dapr.v1.DaprAppCallbackProtos;
 import io.dapr.v1.DaprCryptoProtos;
 import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprJobsProtos;
 import io.dapr.v1.DaprLockProtos;
 import io.dapr.v1.DaprPubsubProtos;
 import io.dapr.v1.DaprStateProtos;
@@ -78,6 +82,7 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -409,6 +414,47 @@ public class DaprPreviewClientGrpcTest {
     assertEquals("6f54ad94-dfb9-46f0-a371-e42d550adb7d", response.getResults().get(0).getEtag(), "result must be same");
   }
 
+  @Test
+  public void queryStateAllFollowsToken() throws JsonProcessingException {
+    List<QueryStateItem<?>> firstPage = new ArrayList<>();
+    firstPage.add(new QueryStateItem<Object>("1", (Object) "a", "1"));
+    firstPage.add(new QueryStateItem<Object>("2", (Object) "b", "1"));
+    List<QueryStateItem<?>> lastPage = new ArrayList<>();
+    lastPage.add(new QueryStateItem<Object>("3", (Object) "c", "1"));
+    List<String> queries = new ArrayList<>();
+    doAnswer(invocation -> {
+      DaprStateProtos.QueryStateRequest req = (DaprStateProtos.QueryStateRequest) invocation.getArgument(0);
+      queries.add(req.getQuery());
+      StreamObserver<DaprStateProtos.QueryStateResponse> observer = (StreamObserver<DaprStateProtos.QueryStateResponse>)
+              invocation.getArguments()[1];
+      observer.onNext(queries.size() == 1 ? buildQueryStateResponse(firstPage, "2") : buildQueryStateResponse(lastPage, ""));
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).queryStateAlpha1(any(DaprStateProtos.QueryStateRequest.class), any());
+
+    QueryStateRequest request = new QueryStateRequest(QUERY_STORE_NAME)
+        .setQueryString("{\"filter\":{\"EQ\":{\"state\":\"CA\"}},\"page\":{\"limit\":2}}");
+    List<String> values = previewClient.queryStateAll(request, String.class)
+        .map(QueryStateItem::getValue)
+        .collectList()
+        .block();
+
+    assertEquals(List.of("a", "b", "c"), values);
+    assertEquals(2, queries.size());
+    assertEquals("{\"filter\":{\"EQ\":{\"state\":\"CA\"}},\"page\":{\"limit\":2}}", queries.get(0));
+    assertEquals("{\"filter\":{\"EQ\":{\"state\":\"CA\"}},\"page\":{\"limit\":2,\"token\":\"2\"}}",
+        queries.get(1));
+  }
+
+  @Test
+  public void queryStateAllRequiresJsonQuery() {
+    assertThrows(IllegalArgumentException.class, () ->
+        previewClient.queryStateAll(new QueryStateRequest(QUERY_STORE_NAME).setQueryString("[]"), String.class)
+            .blockLast());
+    assertThrows(IllegalArgumentException.class, () ->
+        previewClient.queryStateAll(new QueryStateRequest(QUERY_STORE_NAME), String.class).blockLast());
+  }
+
   @Test
   public void queryStateMetadataError() throws JsonProcessingException {
     List<QueryStateItem<?>> resp = new ArrayList<>();
@@ -1186,6 +1232,67 @@ public class DaprPreviewClientGrpcTest {
         () -> result.block());
   }
 
+  @Test
+  public void converseAlpha2IsLazy() {
+    mockConverseAlpha2EchoingId();
+
+    Mono<ConversationResponseAlpha2> result = previewClient.converseAlpha2(newConversationRequest("a"));
+    verify(daprStub, times(0)).converseAlpha2(any(DaprAiProtos.ConversationRequestAlpha2.class), any());
+
+    assertEquals("a", result.block().getContextId());
+    verify(daprStub, times(1)).converseAlpha2(any(DaprAiProtos.ConversationRequestAlpha2.class), any());
+  }
+
+  @Test
+  public void converseAlpha2ManyKeepsRequestOrder() {
+    mockConverseAlpha2EchoingId();
+
+    List<String> contextIds = previewClient.converseAlpha2(
+        List.of(newConversationRequest("a"), newConversationRequest("b"), newConversationRequest("c")), 2)
+        .map(ConversationResponseAlpha2::getContextId)
+        .collectList().block();
+
+    assertEquals(List.of("a", "b", "c"), contextIds);
+    Flux<ConversationResponseAlpha2> invalid = previewClient.converseAlpha2(List.of(newConversationRequest("a")), 0);
+    assertThrows(IllegalArgumentException.class, invalid::blockLast);
+  }
+
+  @Test
+  public void converseAlpha2ServedFromCacheForZeroTemperature() {
+    previewClient = new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(),
+        new DaprClientCollaborators().withConversationCache(new ConversationCache(new ConversationCacheOptions())));
+    mockConverseAlpha2EchoingId();
+
+    assertEquals("a", previewClient.converseAlpha2(newConversationRequest("a")).block().getContextId());
+    assertEquals("a", previewClient.converseAlpha2(newConversationRequest("a")).block().getContextId());
+    verify(daprStub, times(1)).converseAlpha2(any(DaprAiProtos.ConversationRequestAlpha2.class), any());
+
+    previewClient.converseAlpha2(newConversationRequest("a").setTemperature(0.7)).block();
+    previewClient.converseAlpha2(newConversationRequest("a").setTemperature(0.7)).block();
+    previewClient.converseAlpha2(newConversationRequest("b")).block();
+    verify(daprStub, times(4)).converseAlpha2(any(DaprAiProtos.ConversationRequestAlpha2.class), any());
+  }
+
+  private void mockConverseAlpha2EchoingId() {
+    doAnswer((Answer<Void>) invocation -> {
+      DaprAiProtos.ConversationRequestAlpha2 request = invocation.getArgument(0);
+      StreamObserver<DaprAiProtos.ConversationResponseAlpha2> observer =
+          (StreamObserver<DaprAiProtos.ConversationResponseAlpha2>) invocation.getArguments()[1];
+      observer.onNext(DaprAiProtos.ConversationResponseAlpha2.newBuilder()
+          .setContextId(request.getMetadataOrThrow("id"))
+          .build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).converseAlpha2(any(DaprAiProtos.ConversationRequestAlpha2.class), any());
+  }
+
+  private static ConversationRequestAlpha2 newConversationRequest(String id) {
+    ConversationInputAlpha2 input = new ConversationInputAlpha2(
+        List.of(new SystemMessage(List.of(new ConversationMessageContent("Classify " + id)))));
+    return new ConversationRequestAlpha2("openai", List.of(input)).setMetadata(Map.of("id", id));
+  }
+
   @Test
   public void converseAlpha2MinimalRequestTest() {
     DaprAiProtos.ConversationResponseAlpha2 grpcResponse = DaprAiProtos.ConversationResponseAlpha2.newBuilder()
@@ -2040,8 +2147,95 @@ public class DaprPreviewClientGrpcTest {
     assertArrayEquals(validData, results.get(0));
   }
 
+  @Test
+  @DisplayName("encrypt should send a file in numbered chunks of the chunk size")
+  public void encryptPathInChunksTest() throws IOException {
+    java.nio.file.Path file = java.nio.file.Files.createTempFile("plain", ".txt");
+    java.nio.file.Files.write(file, "Hello, World!".getBytes(StandardCharsets.UTF_8));
+    List<DaprCryptoProtos.EncryptRequest> sent = new ArrayList<>();
+
+    doAnswer((Answer<StreamObserver<DaprCryptoProtos.EncryptRequest>>) invocation -> {
+      StreamObserver<DaprCryptoProtos.EncryptResponse> responseObserver =
+          (StreamObserver<DaprCryptoProtos.EncryptResponse>) invocation.getArguments()[0];
+      return new StreamObserver<>() {
+        @Override
+        public void onNext(DaprCryptoProtos.EncryptRequest request) {
+          sent.add(request);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+          responseObserver.onCompleted();
+        }
+      };
+    }).when(daprStub).encryptAlpha1(any());
+
+    try {
+      previewClient.encrypt(EncryptRequestAlpha1.ofPath("mycomponent", file, "mykey", "RSA-OAEP-256")
+          .setChunkSize(5)).blockLast();
+    } finally {
+      java.nio.file.Files.delete(file);
+    }
+
+    assertEquals(3, sent.size());
+    assertEquals("Hello", sent.get(0).getPayload().getData().toStringUtf8());
+    assertEquals("ld!", sent.get(2).getPayload().getData().toStringUtf8());
+    assertEquals(2, sent.get(2).getPayload().getSeq());
+    assertEquals("mykey", sent.get(0).getOptions().getKeyName());
+    assertEquals(false, sent.get(1).hasOptions());
+  }
+
   // ==================== Decrypt Tests ====================
 
+  @Test
+  @DisplayName("decrypt should write the plaintext of a file to another file")
+  public void decryptPathToPathTest() throws IOException {
+    java.nio.file.Path source = java.nio.file.Files.createTempFile("cipher", ".bin");
+    java.nio.file.Path target = java.nio.file.Files.createTempFile("plain", ".txt");
+    java.nio.file.Files.write(source, "encrypted".getBytes(StandardCharsets.UTF_8));
+    java.nio.file.Files.write(target, "stale content to truncate".getBytes(StandardCharsets.UTF_8));
+
+    doAnswer((Answer<StreamObserver<DaprCryptoProtos.DecryptRequest>>) invocation -> {
+      StreamObserver<DaprCryptoProtos.DecryptResponse> responseObserver =
+          (StreamObserver<DaprCryptoProtos.DecryptResponse>) invocation.getArguments()[0];
+      return new StreamObserver<>() {
+        @Override
+        public void onNext(DaprCryptoProtos.DecryptRequest request) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+          for (String chunk : new String[] { "Hello, ", "", "World!" }) {
+            responseObserver.onNext(DaprCryptoProtos.DecryptResponse.newBuilder()
+                .setPayload(CommonProtos.StreamPayload.newBuilder()
+                    .setData(ByteString.copyFromUtf8(chunk))
+                    .build())
+                .build());
+          }
+          responseObserver.onCompleted();
+        }
+      };
+    }).when(daprStub).decryptAlpha1(any());
+
+    try {
+      Long written = previewClient.decrypt(DecryptRequestAlpha1.ofPath("mycomponent", source), target).block();
+
+      assertEquals(13L, written);
+      assertEquals("Hello, World!", new String(java.nio.file.Files.readAllBytes(target), StandardCharsets.UTF_8));
+    } finally {
+      java.nio.file.Files.delete(source);
+      java.nio.file.Files.delete(target);
+    }
+  }
+
   @Test
   @DisplayName("decrypt should throw IllegalArgumentException when request is null")
   public void decryptNullRequestTest() {
@@ -2277,4 +2471,50 @@ public class DaprPreviewClientGrpcTest {
     assertNotNull(results);
     assertEquals(1, results.size());
   }
+
+  @Test
+  public void deleteJobsByPrefixShouldSendPrefix() {
+    doAnswer(invocation -> {
+      StreamObserver<DaprJobsProtos.DeleteJobsByPrefixResponseAlpha1> observer = invocation.getArgument(1);
+      observer.onNext(DaprJobsProtos.DeleteJobsByPrefixResponseAlpha1.getDefaultInstance());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).deleteJobsByPrefixAlpha1(any(DaprJobsProtos.DeleteJobsByPrefixRequestAlpha1.class), any());
+
+    previewClient.deleteJobsByPrefix("batch-").block();
+
+    ArgumentCaptor<DaprJobsProtos.DeleteJobsByPrefixRequestAlpha1> captor =
+        ArgumentCaptor.forClass(DaprJobsProtos.DeleteJobsByPrefixRequestAlpha1.class);
+    verify(daprStub).deleteJobsByPrefixAlpha1(captor.capture(), any());
+    assertEquals("batch-", captor.getValue().getNamePrefix());
+  }
+
+  @Test
+  public void listJobsShouldEmitEveryJob() {
+    doAnswer(invocation -> {
+      StreamObserver<DaprJobsProtos.ListJobsResponseAlpha1> observer = invocation.getArgument(1);
+      observer.onNext(DaprJobsProtos.ListJobsResponseAlpha1.newBuilder()
+          .addJobs(DaprJobsProtos.Job.newBuilder().setName("cron").setSchedule("*/5 * * * *"))
+          .addJobs(DaprJobsProtos.Job.newBuilder().setName("once").setDueTime("2026-01-01T00:00:00Z"))
+          .build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).listJobsAlpha1(any(DaprJobsProtos.ListJobsRequestAlpha1.class), any());
+
+    List<GetJobResponse> jobs = previewClient.listJobs().collectList().block();
+
+    assertEquals(2, jobs.size());
+    assertEquals("cron", jobs.get(0).getName());
+    assertEquals("*/5 * * * *", jobs.get(0).getSchedule().getExpression());
+    assertEquals(Instant.parse("2026-01-01T00:00:00Z"), jobs.get(1).getDueTime());
+  }
+
+  @Test
+  public void deleteJobsByPrefixShouldThrowWithoutPrefix() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> previewClient.deleteJobsByPrefix(null).block());
+    assertEquals("Name prefix cannot be null or empty", exception.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> previewClient.deleteJobsByPrefix("").block());
+    verify(daprStub, times(0)).deleteJobsByPrefixAlpha1(any(), any());
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GrpcChannelPoolTest {
+
+  private ManagedChannel first;
+
+  private ManagedChannel second;
+
+  private ClientCall<Object, Object> firstCall;
+
+  private ClientCall<Object, Object> secondCall;
+
+  private GrpcChannelPool pool;
+
+  private MethodDescriptor<Object, Object> method;
+
+  @BeforeEach
+  public void setup() {
+    this.first = mock(ManagedChannel.class);
+    this.second = mock(ManagedChannel.class);
+    this.firstCall = mock(ClientCall.class);
+    this.secondCall = mock(ClientCall.class);
+    when(this.first.getState(anyBoolean())).thenReturn(ConnectivityState.READY);
+    when(this.second.getState(anyBoolean())).thenReturn(ConnectivityState.READY);
+    when(this.first.newCall(any(), any())).thenReturn((ClientCall) this.firstCall);
+    when(this.second.newCall(any(), any())).thenReturn((ClientCall) this.secondCall);
+    this.pool = new GrpcChannelPool(new ManagedChannel[] { this.first, this.second });
+    this.method = mock(MethodDescriptor.class);
+  }
+
+  @Test
+  public void leastOutstandingConnectionIsSelected() {
+    start(this.pool.newCall(this.method, CallOptions.DEFAULT));
+    start(this.pool.newCall(this.method, CallOptions.DEFAULT));
+    assertEquals(1, this.pool.getOutstandingRequests(0));
+    assertEquals(1, this.pool.getOutstandingRequests(1));
+
+    // Completing the call on the second connection makes it the least loaded one.
+    ArgumentCaptor<ClientCall.Listener<Object>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+    verify(this.secondCall).start(listener.capture(), any());
+    listener.getValue().onClose(Status.OK, new Metadata());
+    assertEquals(0, this.pool.getOutstandingRequests(1));
+
+    // The rotation would start at the first connection, but it has more calls in flight.
+    this.pool.newCall(this.method, CallOptions.DEFAULT);
+    start(this.pool.newCall(this.method, CallOptions.DEFAULT));
+    verify(this.first, times(1)).newCall(any(), any());
+    verify(this.second, times(3)).newCall(any(), any());
+    assertEquals(1, this.pool.getOutstandingRequests(0));
+    assertEquals(1, this.pool.getOutstandingRequests(1));
+  }
+
+  @Test
+  public void unhealthyConnectionIsSkipped() {
+    when(this.first.getState(anyBoolean())).thenReturn(ConnectivityState.TRANSIENT_FAILURE);
+
+    for (int i = 0; i < 3; i++) {
+      start(this.pool.newCall(this.method, CallOptions.DEFAULT));
+    }
+
+    verify(this.first, never()).newCall(any(), any());
+    assertEquals(3, this.pool.getOutstandingRequests(1));
+  }
+
+  @Test
+  public void leastOutstandingConnectionIsUsedWhenNoneIsHealthy() {
+    when(this.first.getState(anyBoolean())).thenReturn(ConnectivityState.TRANSIENT_FAILURE);
+    when(this.second.getState(anyBoolean())).thenReturn(ConnectivityState.TRANSIENT_FAILURE);
+
+    start(this.pool.newCall(this.method, CallOptions.DEFAULT));
+    start(this.pool.newCall(this.method, CallOptions.DEFAULT));
+
+    assertEquals(1, this.pool.getOutstandingRequests(0));
+    assertEquals(1, this.pool.getOutstandingRequests(1));
+  }
+
+  private static void start(ClientCall<Object, Object> call) {
+    call.start(mock(ClientCall.Listener.class), new Metadata());
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.exceptions;
+
+import com.google.protobuf.Any;
+import com.google.rpc.ErrorInfo;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.StatusProto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DaprExceptionPropagateTest {
+
+  private static final com.google.rpc.Status STATUS = com.google.rpc.Status.newBuilder()
+      .setCode(Status.Code.ABORTED.value())
+      .setMessage("etag mismatch")
+      .addDetails(Any.pack(ErrorInfo.newBuilder().setReason("DAPR_STATE_ETAG_MISMATCH").build()))
+      .build();
+
+  @Test
+  public void expectedRemoteErrorIsStackless() {
+    DaprException exception = (DaprException) DaprException.propagate(StatusProto.toStatusRuntimeException(STATUS),
+        true);
+
+    assertEquals(0, exception.getStackTrace().length);
+    assertEquals("ABORTED", exception.getErrorCode());
+  }
+
+  @Test
+  public void unexpectedRemoteErrorKeepsStackTrace() {
+    DaprException exception = (DaprException) DaprException.propagate(
+        new StatusRuntimeException(Status.INTERNAL), true);
+
+    assertNotEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  public void stackTraceKeptByDefault() {
+    DaprException exception = (DaprException) DaprException.propagate(StatusProto.toStatusRuntimeException(STATUS),
+        false);
+
+    assertNotEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  public void detailsReadFromTrailersOnAccess() {
+    DaprException exception = (DaprException) DaprException.propagate(StatusProto.toStatusRuntimeException(STATUS),
+        true);
+
+    assertEquals("DAPR_STATE_ETAG_MISMATCH", exception.getErrorDetails().get(
+        DaprErrorDetails.ErrorDetailType.ERROR_INFO, "reason", io.dapr.utils.TypeRef.STRING));
+    assertArrayEquals(STATUS.toByteArray(), exception.getPayload());
+    assertEquals(new DaprErrorDetails(STATUS), exception.getErrorDetails());
+  }
+
+  @Test
+  public void noPayloadForDetailsGivenByTheCaller() {
+    DaprException exception = new DaprException("ABORTED", "etag mismatch", new DaprErrorDetails(STATUS), null);
+
+    assertNull(exception.getPayload());
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.conversation;
+
+import io.dapr.client.domain.ConversationCacheOptions;
+import io.dapr.v1.DaprAiProtos;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConversationCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  public void equalRequestsShareEntryWhateverMetadataOrder() {
+    ConversationCache cache = new ConversationCache(new ConversationCacheOptions(), this.now::get);
+    Map<String, String> metadata = new LinkedHashMap<>();
+    metadata.put("a", "1");
+    metadata.put("b", "2");
+    Map<String, String> reversed = new LinkedHashMap<>();
+    reversed.put("b", "2");
+    reversed.put("a", "1");
+
+    cache.get(request(metadata), this::call).block();
+    cache.get(request(reversed), this::call).block();
+
+    assertEquals(1, this.calls.get());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void responseExpiresAfterTtl() {
+    ConversationCache cache = new ConversationCache(
+        new ConversationCacheOptions().setTtl(Duration.ofSeconds(1)), this.now::get);
+
+    cache.get(request(Map.of()), this::call).block();
+    this.now.addAndGet(Duration.ofSeconds(1).toNanos());
+    cache.get(request(Map.of()), this::call).block();
+
+    assertEquals(2, this.calls.get());
+  }
+
+  @Test
+  public void concurrentRequestsShareOneCall() {
+    ConversationCache cache = new ConversationCache(new ConversationCacheOptions(), this.now::get);
+    Sinks.One<DaprAiProtos.ConversationResponseAlpha2> response = Sinks.one();
+    AtomicInteger responses = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      cache.get(request(Map.of()), () -> {
+        this.calls.incrementAndGet();
+        return response.asMono();
+      }).subscribe(it -> responses.incrementAndGet());
+    }
+    response.tryEmitValue(DaprAiProtos.ConversationResponseAlpha2.getDefaultInstance());
+
+    assertEquals(1, this.calls.get());
+    assertEquals(3, responses.get());
+  }
+
+  @Test
+  public void onlyDeterministicRequestsCacheable() {
+    assertTrue(ConversationCache.isCacheable(request(Map.of())));
+    assertFalse(ConversationCache.isCacheable(request(Map.of()).toBuilder().setTemperature(0.5).build()));
+    assertFalse(ConversationCache.isCacheable(request(Map.of()).toBuilder().setContextId("ctx").build()));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ConversationCache(new ConversationCacheOptions().setMaxEntries(0)));
+  }
+
+  private Mono<DaprAiProtos.ConversationResponseAlpha2> call() {
+    return Mono.fromSupplier(() -> {
+      this.calls.incrementAndGet();
+      return DaprAiProtos.ConversationResponseAlpha2.getDefaultInstance();
+    });
+  }
+
+  private static DaprAiProtos.ConversationRequestAlpha2 request(Map<String, String> metadata) {
+    return DaprAiProtos.ConversationRequestAlpha2.newBuilder()
+        .setName("openai")
+        .setTemperature(0)
+        .putAllMetadata(metadata)
+        .build();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BidiStreamsTest {
+
+  @Test
+  public void sendsOnlyWhileReady() {
+    FakeCall call = new FakeCall();
+    call.readyFor = 3;
+
+    BidiStreams.<Integer, String>call(call::start, Flux.range(0, 10)).subscribe();
+    assertEquals(List.of(0, 1, 2), call.sent);
+
+    call.readyFor = 100;
+    call.onReadyHandler.run();
+    assertEquals(10, call.sent.size());
+    assertTrue(call.halfClosed);
+  }
+
+  @Test
+  public void requestsResponsesOnDemand() {
+    FakeCall call = new FakeCall();
+    List<String> received = new ArrayList<>();
+    BaseSubscriber<String> subscriber = new BaseSubscriber<>() {
+      @Override
+      protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+        request(2);
+      }
+
+      @Override
+      protected void hookOnNext(String value) {
+        received.add(value);
+      }
+    };
+
+    BidiStreams.<Integer, String>call(call::start, Flux.empty()).subscribe(subscriber);
+    assertEquals(2, call.requested);
+    call.responseObserver.onNext("a");
+    subscriber.request(1);
+    assertEquals(3, call.requested);
+
+    subscriber.cancel();
+    assertEquals(List.of("a"), received);
+    assertTrue(call.cancelled);
+  }
+
+  @Test
+  public void failedSourceCancelsCall() {
+    FakeCall call = new FakeCall();
+    Throwable[] error = new Throwable[1];
+
+    BidiStreams.<Integer, String>call(call::start, Flux.error(new IllegalStateException("read failed")))
+        .subscribe(null, e -> error[0] = e);
+
+    assertEquals("read failed", error[0].getMessage());
+    assertEquals("read failed", call.sendError.getMessage());
+  }
+
+  private static final class FakeCall extends ClientCallStreamObserver<Integer> {
+
+    private final List<Integer> sent = new ArrayList<>();
+
+    private ClientResponseObserver<Integer, String> responseObserver;
+
+    private Runnable onReadyHandler;
+
+    private int readyFor = Integer.MAX_VALUE;
+
+    private int requested;
+
+    private boolean halfClosed;
+
+    private boolean cancelled;
+
+    private Throwable sendError;
+
+    private FakeCall start(io.grpc.stub.StreamObserver<String> observer) {
+      this.responseObserver = (ClientResponseObserver<Integer, String>) observer;
+      this.responseObserver.beforeStart(this);
+      return this;
+    }
+
+    @Override
+    public boolean isReady() {
+      return this.sent.size() < this.readyFor;
+    }
+
+    @Override
+    public void setOnReadyHandler(Runnable onReadyHandler) {
+      this.onReadyHandler = onReadyHandler;
+    }
+
+    @Override
+    public void disableAutoInboundFlowControl() {
+    }
+
+    @Override
+    public void disableAutoRequestWithInitial(int request) {
+      this.requested = request;
+    }
+
+    @Override
+    public void request(int count) {
+      this.requested += count;
+    }
+
+    @Override
+    public void setMessageCompression(boolean enable) {
+    }
+
+    @Override
+    public void cancel(String message, Throwable cause) {
+      this.cancelled = true;
+    }
+
+    @Override
+    public void onNext(Integer value) {
+      this.sent.add(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      this.sendError = t;
+    }
+
+    @Override
+    public void onCompleted() {
+      this.halfClosed = true;
+    }
+  }
+}
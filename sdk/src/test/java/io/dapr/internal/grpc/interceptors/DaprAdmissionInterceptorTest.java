@@ -0,0 +1,230 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import io.dapr.client.resiliency.CircuitBreakerOptions;
+import io.dapr.client.resiliency.ConcurrencyLimitOptions;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.internal.resiliency.AdmissionPolicy;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprStateProtos;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprAdmissionInterceptorTest {
+
+  private static final DaprStateProtos.GetStateRequest REQUEST =
+      DaprStateProtos.GetStateRequest.newBuilder().setStoreName("mystore").setKey("k").build();
+
+  private Channel channel;
+
+  private ClientCall<Object, Object> call;
+
+  @BeforeEach
+  public void setup() {
+    this.call = mock(ClientCall.class);
+    this.channel = mock(Channel.class);
+    when(this.channel.newCall(any(), any())).thenReturn((ClientCall) this.call);
+  }
+
+  @Test
+  public void admittedCallIsForwarded() {
+    DaprAdmissionInterceptor interceptor = new DaprAdmissionInterceptor(new AdmissionPolicy(
+        new ResiliencyOptions().setCircuitBreaker(new CircuitBreakerOptions())));
+    Metadata headers = new Metadata();
+
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> clientCall =
+        interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+    clientCall.start(mock(ClientCall.Listener.class), headers);
+    clientCall.request(2);
+    clientCall.sendMessage(REQUEST);
+    clientCall.halfClose();
+
+    verify(this.call).start(any(), eq(headers));
+    verify(this.call).request(2);
+    verify(this.call).sendMessage(REQUEST);
+    verify(this.call).halfClose();
+  }
+
+  @Test
+  public void rejectedCallFailsWithoutReachingChannel() {
+    DaprAdmissionInterceptor interceptor = new DaprAdmissionInterceptor(new AdmissionPolicy(
+        new ResiliencyOptions().setConcurrencyLimit(
+            new ConcurrencyLimitOptions().setInitialLimit(1).setMinLimit(1).setMaxLimit(1))));
+
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> first =
+        interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+    first.start(mock(ClientCall.Listener.class), new Metadata());
+    first.sendMessage(REQUEST);
+
+    ClientCall.Listener<DaprStateProtos.GetStateResponse> listener = mock(ClientCall.Listener.class);
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> second =
+        interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+    second.start(listener, new Metadata());
+    second.sendMessage(REQUEST);
+    second.halfClose();
+
+    verify(this.channel, times(1)).newCall(any(), any());
+    ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+    verify(listener, timeout(1000)).onClose(status.capture(), any());
+    assertEquals(Status.Code.RESOURCE_EXHAUSTED, status.getValue().getCode());
+
+    // Completing the first call frees its slot.
+    ArgumentCaptor<ClientCall.Listener<Object>> firstListener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+    verify(this.call).start(firstListener.capture(), any());
+    firstListener.getValue().onClose(Status.OK, new Metadata());
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> third =
+        interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+    third.start(mock(ClientCall.Listener.class), new Metadata());
+    third.sendMessage(REQUEST);
+    verify(this.channel, times(2)).newCall(any(), any());
+  }
+
+  @Test
+  public void rejectionIsDeliveredOnCallExecutor() {
+    DaprAdmissionInterceptor interceptor = new DaprAdmissionInterceptor(new AdmissionPolicy(
+        new ResiliencyOptions().setConcurrencyLimit(
+            new ConcurrencyLimitOptions().setInitialLimit(1).setMinLimit(1).setMaxLimit(1))));
+    List<Runnable> tasks = new ArrayList<>();
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> first =
+        interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+    first.start(mock(ClientCall.Listener.class), new Metadata());
+    first.sendMessage(REQUEST);
+
+    ClientCall.Listener<DaprStateProtos.GetStateResponse> listener = mock(ClientCall.Listener.class);
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> second =
+        interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT.withExecutor(tasks::add),
+            this.channel);
+    second.start(listener, new Metadata());
+    second.sendMessage(REQUEST);
+
+    verify(listener, never()).onClose(any(), any());
+    assertEquals(1, tasks.size());
+    tasks.get(0).run();
+    verify(listener).onClose(any(), any());
+  }
+
+  @Test
+  public void demandFromAnotherThreadIsNotLost() throws Exception {
+    DaprAdmissionInterceptor interceptor = new DaprAdmissionInterceptor(new AdmissionPolicy(
+        new ResiliencyOptions().setCircuitBreaker(new CircuitBreakerOptions())));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      for (int i = 0; i < 200; i++) {
+        AtomicInteger requested = new AtomicInteger();
+        doAnswer(invocation -> requested.addAndGet(invocation.getArgument(0))).when(this.call).request(anyInt());
+        ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> clientCall =
+            interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+        clientCall.start(mock(ClientCall.Listener.class), new Metadata());
+
+        Future<?> request = executor.submit(() -> clientCall.request(1));
+        clientCall.sendMessage(REQUEST);
+        request.get();
+
+        assertEquals(1, requested.get());
+        // Completes the call, releasing its permit.
+        ArgumentCaptor<ClientCall.Listener<Object>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+        verify(this.call, atLeastOnce()).start(listener.capture(), any());
+        listener.getValue().onClose(Status.OK, new Metadata());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void streamingCallsAreNotLimited() {
+    DaprAdmissionInterceptor interceptor = new DaprAdmissionInterceptor(new AdmissionPolicy(
+        new ResiliencyOptions().setCircuitBreaker(new CircuitBreakerOptions())));
+
+    ClientCall<?, ?> clientCall =
+        interceptor.interceptCall(DaprGrpc.getSubscribeConfigurationMethod(), CallOptions.DEFAULT, this.channel);
+
+    assertSame(this.call, clientCall);
+  }
+
+  @Test
+  public void outcomes() {
+    Metadata empty = new Metadata();
+    Metadata fromSidecar = new Metadata();
+    fromSidecar.put(Metadata.Key.of("content-type", Metadata.ASCII_STRING_MARSHALLER), "application/grpc");
+    Deadline expired = Deadline.after(-1, TimeUnit.SECONDS);
+    Deadline pending = Deadline.after(1, TimeUnit.HOURS);
+
+    assertEquals(AdmissionPolicy.Outcome.FAILURE, DaprAdmissionInterceptor.toOutcome(Status.UNAVAILABLE, empty, null));
+    assertEquals(AdmissionPolicy.Outcome.FAILURE,
+        DaprAdmissionInterceptor.toOutcome(Status.DEADLINE_EXCEEDED, empty, null));
+    assertEquals(AdmissionPolicy.Outcome.FAILURE,
+        DaprAdmissionInterceptor.toOutcome(Status.DEADLINE_EXCEEDED, empty, pending));
+    // The caller's own deadline expired.
+    assertEquals(AdmissionPolicy.Outcome.IGNORED,
+        DaprAdmissionInterceptor.toOutcome(Status.DEADLINE_EXCEEDED, fromSidecar, expired));
+    assertEquals(AdmissionPolicy.Outcome.FAILURE,
+        DaprAdmissionInterceptor.toOutcome(Status.RESOURCE_EXHAUSTED, fromSidecar, null));
+    // Raised by the client, such as for a message over the size limit.
+    assertEquals(AdmissionPolicy.Outcome.IGNORED,
+        DaprAdmissionInterceptor.toOutcome(Status.RESOURCE_EXHAUSTED, empty, null));
+    assertEquals(AdmissionPolicy.Outcome.IGNORED, DaprAdmissionInterceptor.toOutcome(Status.CANCELLED, empty, null));
+    assertEquals(AdmissionPolicy.Outcome.SUCCESS, DaprAdmissionInterceptor.toOutcome(Status.NOT_FOUND, empty, null));
+  }
+
+  @Test
+  public void callerDeadlineDoesNotOpenCircuit() {
+    DaprAdmissionInterceptor interceptor = new DaprAdmissionInterceptor(new AdmissionPolicy(
+        new ResiliencyOptions().setCircuitBreaker(new CircuitBreakerOptions().setFailureThreshold(1))),
+        Context.of(Deadline.class, Deadline.after(-1, TimeUnit.SECONDS)));
+
+    for (int i = 0; i < 2; i++) {
+      ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> clientCall =
+          interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+      clientCall.start(mock(ClientCall.Listener.class), new Metadata());
+      clientCall.sendMessage(REQUEST);
+      ArgumentCaptor<ClientCall.Listener<Object>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+      verify(this.call, times(i + 1)).start(listener.capture(), any());
+      listener.getValue().onClose(Status.DEADLINE_EXCEEDED, new Metadata());
+    }
+
+    verify(this.call, times(2)).sendMessage(any());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import io.dapr.client.domain.SidecarMonitorOptions;
+import io.dapr.internal.health.SidecarDownException;
+import io.dapr.internal.health.SidecarMonitor;
+import io.dapr.internal.resiliency.RetryPolicy;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprStateProtos;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class DaprSidecarReadinessInterceptorTest {
+
+  private SidecarMonitor monitor;
+
+  @BeforeEach
+  public void setup() {
+    this.monitor = new SidecarMonitor(new SidecarMonitorOptions()
+        .setProbeInterval(Duration.ofHours(1))
+        .setFailureThreshold(1));
+    this.monitor.start(() -> Mono.error(new IllegalStateException("down")));
+    this.monitor.readiness().filter(ready -> !ready).blockFirst(Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    this.monitor.close();
+  }
+
+  @Test
+  public void failsFastOnCallExecutorWithoutRetries() {
+    List<Runnable> tasks = new ArrayList<>();
+    Channel channel = mock(Channel.class);
+    ClientCall.Listener<DaprStateProtos.GetStateResponse> listener = mock(ClientCall.Listener.class);
+
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> clientCall =
+        new DaprSidecarReadinessInterceptor(this.monitor)
+            .interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT.withExecutor(tasks::add), channel);
+    clientCall.start(listener, new Metadata());
+
+    verifyNoInteractions(channel);
+    verify(listener, never()).onClose(any(), any());
+    assertEquals(1, tasks.size());
+    tasks.get(0).run();
+    ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+    verify(listener).onClose(status.capture(), any());
+    assertEquals(Status.Code.UNAVAILABLE, status.getValue().getCode());
+    assertTrue(SidecarDownException.isCauseOf(status.getValue()));
+
+    // Retrying would only wait for the sidecar to recover.
+    AtomicInteger attempts = new AtomicInteger();
+    StepVerifier.create(new RetryPolicy(3).apply(Mono.defer(() -> {
+      attempts.incrementAndGet();
+      return Mono.error(status.getValue().asRuntimeException());
+    })))
+        .expectError()
+        .verify();
+    assertEquals(1, attempts.get());
+  }
+}
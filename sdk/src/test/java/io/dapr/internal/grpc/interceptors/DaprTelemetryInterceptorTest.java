@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import io.dapr.internal.opencensus.GrpcHelper;
+import io.dapr.v1.DaprBindingsProtos;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprMetadataProtos;
+import io.dapr.v1.DaprPubsubProtos;
+import io.dapr.v1.DaprStateProtos;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprTelemetryInterceptorTest {
+
+  private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+
+  private static final Metadata.Key<byte[]> GRPC_TRACE_BIN_KEY =
+      Metadata.Key.of("grpc-trace-bin", Metadata.BINARY_BYTE_MARSHALLER);
+
+  private static final Metadata.Key<String> TRACEPARENT_KEY =
+      Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+
+  private Tracer tracer;
+
+  private SpanBuilder spanBuilder;
+
+  private Span span;
+
+  private DoubleHistogram duration;
+
+  private Channel channel;
+
+  private ClientCall<Object, Object> call;
+
+  @BeforeEach
+  public void setup() {
+    this.span = mock(Span.class);
+    when(this.span.getSpanContext()).thenReturn(
+        SpanContext.create(TRACE_ID, "00f067aa0ba902b7", TraceFlags.getSampled(), TraceState.getDefault()));
+    when(this.span.isRecording()).thenReturn(true);
+    when(this.span.storeInContext(any())).thenCallRealMethod();
+    this.spanBuilder = mock(SpanBuilder.class, RETURNS_SELF);
+    when(this.spanBuilder.startSpan()).thenReturn(this.span);
+    this.tracer = mock(Tracer.class);
+    when(this.tracer.spanBuilder(anyString())).thenReturn(this.spanBuilder);
+    this.duration = mock(DoubleHistogram.class);
+    this.call = mock(ClientCall.class);
+    this.channel = mock(Channel.class);
+    when(this.channel.newCall(any(), any())).thenReturn((ClientCall) this.call);
+  }
+
+  @Test
+  public void recordsSpanAndDuration() {
+    Metadata metadata = new Metadata();
+    metadata.put(TRACEPARENT_KEY, "00-" + TRACE_ID + "-b7ad6b7169203331-01");
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> clientCall =
+        new DaprTelemetryInterceptor(this.tracer, this.duration)
+            .interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+
+    clientCall.start(mock(ClientCall.Listener.class), metadata);
+    clientCall.sendMessage(DaprStateProtos.GetStateRequest.newBuilder().setStoreName("mystore").setKey("k").build());
+    close(Status.NOT_FOUND);
+
+    verify(this.tracer).spanBuilder("dapr.proto.runtime.v1.Dapr/GetState");
+    ArgumentCaptor<Context> parent = ArgumentCaptor.forClass(Context.class);
+    verify(this.spanBuilder).setParent(parent.capture());
+    assertEquals("b7ad6b7169203331", Span.fromContext(parent.getValue()).getSpanContext().getSpanId());
+    // The sidecar continues the trace from the client span.
+    assertEquals("00-" + TRACE_ID + "-00f067aa0ba902b7-01", metadata.get(TRACEPARENT_KEY));
+
+    verify(this.duration).record(anyDouble(), eq(Attributes.builder()
+        .put(DaprTelemetryInterceptor.RPC_METHOD, "GetState")
+        .put(DaprTelemetryInterceptor.RPC_GRPC_STATUS_CODE, (long) Status.Code.NOT_FOUND.value())
+        .put(DaprTelemetryInterceptor.DAPR_COMPONENT_NAME, "mystore")
+        .build()));
+    verify(this.span).setAttribute(DaprTelemetryInterceptor.DAPR_COMPONENT_NAME, "mystore");
+    verify(this.span).setStatus(StatusCode.ERROR, "NOT_FOUND");
+    verify(this.span).end();
+  }
+
+  @Test
+  public void continuesTraceFromGrpcTraceBin() {
+    Metadata metadata = new Metadata();
+    metadata.put(GRPC_TRACE_BIN_KEY, GrpcHelper.toGrpcTraceBin(TRACE_ID, "b7ad6b7169203331", "01"));
+    ClientCall<DaprStateProtos.GetStateRequest, DaprStateProtos.GetStateResponse> clientCall =
+        new DaprTelemetryInterceptor(this.tracer, this.duration)
+            .interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, this.channel);
+
+    clientCall.start(mock(ClientCall.Listener.class), metadata);
+
+    ArgumentCaptor<Context> parent = ArgumentCaptor.forClass(Context.class);
+    verify(this.spanBuilder).setParent(parent.capture());
+    SpanContext parentContext = Span.fromContext(parent.getValue()).getSpanContext();
+    assertEquals(TRACE_ID, parentContext.getTraceId());
+    assertEquals("b7ad6b7169203331", parentContext.getSpanId());
+    assertEquals("00-" + TRACE_ID + "-00f067aa0ba902b7-01", metadata.get(TRACEPARENT_KEY));
+    assertEquals("00-" + TRACE_ID + "-00f067aa0ba902b7-01",
+        GrpcHelper.toTraceparent(metadata.get(GRPC_TRACE_BIN_KEY)));
+  }
+
+  @Test
+  public void skipsSpanAttributesWhenNotSampled() {
+    when(this.span.isRecording()).thenReturn(false);
+    ClientCall<DaprPubsubProtos.PublishEventRequest, com.google.protobuf.Empty> clientCall =
+        new DaprTelemetryInterceptor(this.tracer, this.duration)
+            .interceptCall(DaprGrpc.getPublishEventMethod(), CallOptions.DEFAULT, this.channel);
+
+    clientCall.start(mock(ClientCall.Listener.class), new Metadata());
+    clientCall.sendMessage(DaprPubsubProtos.PublishEventRequest.newBuilder().setPubsubName("pubsub").build());
+    close(Status.OK);
+
+    verify(this.duration).record(anyDouble(), any(Attributes.class));
+    verify(this.span, never()).setAttribute(eq(DaprTelemetryInterceptor.DAPR_COMPONENT_NAME), anyString());
+    verify(this.span).end();
+  }
+
+  @Test
+  public void componentName() {
+    assertEquals("mystore", ComponentNames.of(
+        DaprStateProtos.GetStateRequest.newBuilder().setStoreName("mystore").build()));
+    assertEquals("pubsub", ComponentNames.of(
+        DaprPubsubProtos.PublishEventRequest.newBuilder().setPubsubName("pubsub").build()));
+    assertEquals("binding", ComponentNames.of(
+        DaprBindingsProtos.InvokeBindingRequest.newBuilder().setName("binding").build()));
+    assertNull(ComponentNames.of(
+        DaprMetadataProtos.GetMetadataRequest.getDefaultInstance()));
+    assertNull(ComponentNames.of(
+        DaprStateProtos.GetStateRequest.getDefaultInstance()));
+  }
+
+  private void close(Status status) {
+    ArgumentCaptor<ClientCall.Listener<Object>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+    verify(this.call).start(listener.capture(), any());
+    listener.getValue().onClose(status, new Metadata());
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.health;
+
+import io.dapr.client.domain.DaprMetadata;
+import io.dapr.client.domain.SidecarMonitorOptions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SidecarMonitorTest {
+
+  private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+  private final AtomicInteger metadataCalls = new AtomicInteger();
+
+  @Test
+  public void tracksReadinessAcrossProbes() {
+    SidecarMonitor monitor = newMonitor(new SidecarMonitorOptions()
+        .setProbeInterval(Duration.ofSeconds(5))
+        .setFailureThreshold(2));
+    List<Boolean> readiness = new ArrayList<>();
+    monitor.readiness().subscribe(readiness::add);
+    assertEquals(SidecarMonitor.State.UNKNOWN, monitor.getState());
+
+    monitor.start(this::probe);
+    assertEquals(SidecarMonitor.State.READY, monitor.getState());
+
+    this.healthy.set(false);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(5));
+    // One failed probe is not enough to consider the sidecar down.
+    assertEquals(SidecarMonitor.State.READY, monitor.getState());
+    assertFalse(monitor.shouldFailFast());
+
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(5));
+    assertEquals(SidecarMonitor.State.DOWN, monitor.getState());
+    assertTrue(monitor.shouldFailFast());
+
+    this.healthy.set(true);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(5));
+    assertEquals(SidecarMonitor.State.READY, monitor.getState());
+    assertEquals(List.of(true, false, true), readiness);
+
+    monitor.close();
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(5));
+    assertEquals(List.of(true, false, true), readiness);
+  }
+
+  @Test
+  public void probeTimingOutCountsAsFailure() {
+    SidecarMonitor monitor = newMonitor(new SidecarMonitorOptions()
+        .setProbeTimeout(Duration.ofSeconds(1))
+        .setFailureThreshold(1));
+
+    monitor.start(Mono::never);
+    assertEquals(SidecarMonitor.State.UNKNOWN, monitor.getState());
+    assertFalse(monitor.shouldFailFast());
+
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(1));
+    assertEquals(SidecarMonitor.State.DOWN, monitor.getState());
+  }
+
+  @Test
+  public void doesNotFailFastWhenDisabled() {
+    SidecarMonitor monitor = newMonitor(new SidecarMonitorOptions().setFailureThreshold(1).setFailFast(false));
+    this.healthy.set(false);
+
+    monitor.start(this::probe);
+
+    assertEquals(SidecarMonitor.State.DOWN, monitor.getState());
+    assertFalse(monitor.shouldFailFast());
+  }
+
+  @Test
+  public void cachesMetadataForRefreshInterval() {
+    SidecarMonitor monitor = newMonitor(new SidecarMonitorOptions()
+        .setMetadataRefreshInterval(Duration.ofSeconds(30)));
+
+    DaprMetadata first = monitor.getMetadata(this::loadMetadata).block();
+    this.now.addAndGet(Duration.ofSeconds(29).toNanos());
+    assertSame(first, monitor.getMetadata(this::loadMetadata).block());
+    assertEquals(1, this.metadataCalls.get());
+
+    this.now.addAndGet(Duration.ofSeconds(1).toNanos());
+    monitor.getMetadata(this::loadMetadata).block();
+    assertEquals(2, this.metadataCalls.get());
+
+    monitor.invalidateMetadata();
+    monitor.getMetadata(this::loadMetadata).block();
+    assertEquals(3, this.metadataCalls.get());
+  }
+
+  @Test
+  public void concurrentMetadataReadsShareOneCall() {
+    SidecarMonitor monitor = newMonitor(new SidecarMonitorOptions());
+    Sinks.One<DaprMetadata> response = Sinks.one();
+    AtomicInteger calls = new AtomicInteger();
+    List<DaprMetadata> results = new ArrayList<>();
+
+    monitor.getMetadata(() -> {
+      calls.incrementAndGet();
+      return response.asMono();
+    }).subscribe(results::add);
+    monitor.getMetadata(this::loadMetadata).subscribe(results::add);
+    response.tryEmitValue(metadata());
+
+    assertEquals(1, calls.get());
+    assertEquals(0, this.metadataCalls.get());
+    assertEquals(2, results.size());
+    assertSame(results.get(0), results.get(1));
+  }
+
+  @Test
+  public void failedMetadataReadIsNotCached() {
+    SidecarMonitor monitor = newMonitor(new SidecarMonitorOptions());
+
+    assertThrows(IllegalStateException.class,
+        () -> monitor.getMetadata(() -> Mono.error(new IllegalStateException("down"))).block());
+    monitor.getMetadata(this::loadMetadata).block();
+
+    assertEquals(1, this.metadataCalls.get());
+  }
+
+  @Test
+  public void recoveringSidecarClearsMetadata() {
+    SidecarMonitor monitor = newMonitor(new SidecarMonitorOptions()
+        .setProbeInterval(Duration.ofSeconds(5))
+        .setFailureThreshold(1));
+    monitor.start(this::probe);
+    monitor.getMetadata(this::loadMetadata).block();
+
+    this.healthy.set(false);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(5));
+    monitor.getMetadata(this::loadMetadata).block();
+    assertEquals(1, this.metadataCalls.get());
+
+    this.healthy.set(true);
+    this.scheduler.advanceTimeBy(Duration.ofSeconds(5));
+    monitor.getMetadata(this::loadMetadata).block();
+    assertEquals(2, this.metadataCalls.get());
+  }
+
+  @Test
+  public void rejectsInvalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> newMonitor(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> newMonitor(new SidecarMonitorOptions().setProbeInterval(Duration.ZERO)));
+    assertThrows(IllegalArgumentException.class,
+        () -> newMonitor(new SidecarMonitorOptions().setFailureThreshold(0)));
+  }
+
+  private SidecarMonitor newMonitor(SidecarMonitorOptions options) {
+    return new SidecarMonitor(options, this.scheduler, this.now::get);
+  }
+
+  private Mono<Void> probe() {
+    return this.healthy.get() ? Mono.empty() : Mono.error(new IllegalStateException("unhealthy"));
+  }
+
+  private Mono<DaprMetadata> loadMetadata() {
+    this.metadataCalls.incrementAndGet();
+    return Mono.just(metadata());
+  }
+
+  private static DaprMetadata metadata() {
+    return new DaprMetadata("app", "1.16.0", List.of(), List.of(), Map.of(), List.of(), List.of(),
+        List.of(), null);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.nio;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ByteChunksTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void splitsLargeBuffersIntoViews() {
+    ByteBuffer buffer = ByteBuffer.wrap("abcdefghij".getBytes());
+
+    List<String> chunks = ByteChunks.split(Flux.just(buffer, ByteBuffer.wrap("k".getBytes())), 4)
+        .map(ByteChunksTest::toString)
+        .collectList().block();
+
+    assertEquals(List.of("abcd", "efgh", "ij", "k"), chunks);
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  public void readsFileInChunks() throws Exception {
+    Path file = Files.write(this.directory.resolve("plain.txt"), "abcdefghij".getBytes());
+
+    List<String> chunks = ByteChunks.read(file, 4).map(ByteChunksTest::toString).collectList().block();
+
+    assertEquals(List.of("abcd", "efgh", "ij"), chunks);
+    assertEquals(List.of(), ByteChunks.read(Files.createFile(this.directory.resolve("empty")), 4)
+        .map(ByteChunksTest::toString).collect(Collectors.toList()).block());
+  }
+
+  @Test
+  public void readsChannelInChunksAndLeavesItOpen() {
+    ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream("abcdefghij".getBytes()));
+
+    List<ByteBuffer> chunks = ByteChunks.read(channel, 4).collectList().block();
+
+    assertEquals(List.of("abcd", "efgh", "ij"), chunks.stream().map(ByteChunksTest::toString)
+        .collect(Collectors.toList()));
+    assertNotSame(chunks.get(0).array(), chunks.get(1).array());
+    assertTrue(channel.isOpen());
+  }
+
+  private static String toString(ByteBuffer buffer) {
+    byte[] data = new byte[buffer.remaining()];
+    buffer.duplicate().get(data);
+    return new String(data);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.opencensus;
+
+import io.grpc.Metadata;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import org.junit.jupiter.api.Test;
+import reactor.util.context.Context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GrpcHelperTest {
+
+  private static final String TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+  private static final Metadata.Key<byte[]> GRPC_TRACE_BIN_KEY =
+      Metadata.Key.of("grpc-trace-bin", Metadata.BINARY_BYTE_MARSHALLER);
+
+  private static final Metadata.Key<String> TRACEPARENT_KEY =
+      Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> TRACESTATE_KEY =
+      Metadata.Key.of("tracestate", Metadata.ASCII_STRING_MARSHALLER);
+
+  @Test
+  public void populatesHeadersFromReactorContext() {
+    Metadata metadata = new Metadata();
+
+    GrpcHelper.populateMetadata(Context.of("traceparent", TRACEPARENT, "tracestate", "congo=t61rcWkgMzE"), metadata);
+
+    assertEquals(TRACEPARENT, metadata.get(TRACEPARENT_KEY));
+    assertEquals("congo=t61rcWkgMzE", metadata.get(TRACESTATE_KEY));
+    assertNotNull(metadata.get(GRPC_TRACE_BIN_KEY));
+  }
+
+  @Test
+  public void reusesEncodedHeadersForSameSpan() {
+    GrpcHelper.TraceHeaders first = GrpcHelper.getHeaders(null, TRACEPARENT, null);
+    GrpcHelper.TraceHeaders second = GrpcHelper.getHeaders(null, new String(TRACEPARENT), null);
+    GrpcHelper.TraceHeaders other = GrpcHelper.getHeaders(null, TRACEPARENT, "congo=t61rcWkgMzE");
+
+    assertSame(first, second);
+    assertNotSame(first, other);
+  }
+
+  @Test
+  public void reusesEncodedHeadersAcrossInterleavedSpans() {
+    String otherTraceparent = "00-0af7651916cd43dd8448eb211c80319c-00f067aa0ba902b7-01";
+
+    GrpcHelper.TraceHeaders first = GrpcHelper.getHeaders(null, TRACEPARENT, null);
+    GrpcHelper.TraceHeaders other = GrpcHelper.getHeaders(null, otherTraceparent, null);
+
+    assertSame(first, GrpcHelper.getHeaders(null, TRACEPARENT, null));
+    assertSame(other, GrpcHelper.getHeaders(null, otherTraceparent, null));
+  }
+
+  @Test
+  public void keepsRecentlyUsedSpansWhenFull() {
+    GrpcHelper.TraceHeaders first = GrpcHelper.getHeaders(null, TRACEPARENT, null);
+    for (int i = 1; i <= 2048; i++) {
+      GrpcHelper.getHeaders(null, String.format("00-0af7651916cd43dd8448eb211c80319c-%016x-01", i), null);
+      assertSame(first, GrpcHelper.getHeaders(null, TRACEPARENT, null));
+    }
+  }
+
+  @Test
+  public void encodesHeadersOnceForContext() {
+    Context context = GrpcHelper.withTraceHeaders(Context.of("traceparent", TRACEPARENT));
+    Metadata metadata = new Metadata();
+
+    GrpcHelper.populateMetadata(context, metadata);
+
+    assertSame(context, GrpcHelper.withTraceHeaders(context));
+    assertEquals(TRACEPARENT, metadata.get(TRACEPARENT_KEY));
+    assertNotNull(metadata.get(GRPC_TRACE_BIN_KEY));
+    assertTrue(GrpcHelper.withTraceHeaders(Context.empty()).isEmpty());
+  }
+
+  @Test
+  public void decodesGrpcTraceBinToTraceparent() {
+    byte[] grpcTraceBin = GrpcHelper.toGrpcTraceBin("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", "01");
+
+    assertEquals(TRACEPARENT, GrpcHelper.toTraceparent(grpcTraceBin));
+    assertNull(GrpcHelper.toTraceparent(new byte[] { 0, 1, 2 }));
+    assertNull(GrpcHelper.toTraceparent(null));
+  }
+
+  @Test
+  public void keepsGrpcTraceBinWithoutTraceparent() {
+    byte[] grpcTraceBin = new byte[] { 0, 1, 2 };
+    Metadata metadata = new Metadata();
+
+    GrpcHelper.populateMetadata(Context.of("grpc-trace-bin", grpcTraceBin), metadata);
+
+    assertSame(grpcTraceBin, metadata.get(GRPC_TRACE_BIN_KEY));
+    assertNull(metadata.get(TRACEPARENT_KEY));
+  }
+
+  @Test
+  public void populatesHeadersFromOpenTelemetryContext() {
+    SpanContext spanContext = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331",
+        TraceFlags.getSampled(), TraceState.getDefault());
+    io.opentelemetry.context.Context otelContext = io.opentelemetry.context.Context.root()
+        .with(Span.wrap(spanContext));
+    Metadata metadata = new Metadata();
+
+    GrpcHelper.populateMetadata(Context.of(io.opentelemetry.context.Context.class, otelContext), metadata);
+
+    assertEquals(TRACEPARENT, metadata.get(TRACEPARENT_KEY));
+    assertNull(metadata.get(TRACESTATE_KEY));
+    assertNotNull(metadata.get(GRPC_TRACE_BIN_KEY));
+  }
+
+  @Test
+  public void noHeadersWithoutTraceContext() {
+    Metadata metadata = new Metadata();
+
+    GrpcHelper.populateMetadata(Context.empty(), metadata);
+
+    assertTrue(metadata.keys().isEmpty());
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.CircuitBreakerOptions;
+import io.dapr.client.resiliency.ConcurrencyLimitOptions;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdmissionPolicyTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private final List<String> events = new ArrayList<>();
+
+  private final ResiliencyListener listener = new ResiliencyListener() {
+    @Override
+    public void onRejected(String api, String component, AdmissionPolicy.Rejection reason) {
+      events.add(api + "/" + component + ":" + reason);
+    }
+
+    @Override
+    public void onStateChange(String api, String component, CircuitBreaker.State from, CircuitBreaker.State to) {
+      events.add(api + "/" + component + ":" + from + "->" + to);
+    }
+  };
+
+  @Test
+  public void disabledByDefault() {
+    assertFalse(new AdmissionPolicy(null).isEnabled());
+    assertFalse(new AdmissionPolicy(new ResiliencyOptions().setMaxRetries(3)).isEnabled());
+    assertTrue(new AdmissionPolicy(new ResiliencyOptions().setCircuitBreaker(new CircuitBreakerOptions()))
+        .isEnabled());
+  }
+
+  @Test
+  public void circuitOpensAndRecoversPerComponent() {
+    AdmissionPolicy policy = new AdmissionPolicy(
+        new CircuitBreakerOptions().setFailureThreshold(2).setOpenDuration(Duration.ofSeconds(1)),
+        null, this.listener, this.clock::get);
+
+    policy.tryAcquire("GetState", "store").release(AdmissionPolicy.Outcome.FAILURE);
+    policy.tryAcquire("GetState", "store").release(AdmissionPolicy.Outcome.FAILURE);
+    assertNull(policy.tryAcquire("GetState", "store"));
+    // Other components and APIs keep their own circuit.
+    assertNotNull(policy.tryAcquire("GetState", "other"));
+    assertNotNull(policy.tryAcquire("SaveState", "store"));
+
+    this.clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    AdmissionPolicy.Permit trial = policy.tryAcquire("GetState", "store");
+    assertNotNull(trial);
+    assertNull(policy.tryAcquire("GetState", "store"));
+    trial.release(AdmissionPolicy.Outcome.SUCCESS);
+    assertNotNull(policy.tryAcquire("GetState", "store"));
+
+    assertEquals(List.of(
+        "GetState/store:CLOSED->OPEN",
+        "GetState/store:CIRCUIT_OPEN",
+        "GetState/store:OPEN->HALF_OPEN",
+        "GetState/store:CIRCUIT_OPEN",
+        "GetState/store:HALF_OPEN->CLOSED"), this.events);
+  }
+
+  @Test
+  public void failedTrialReopensCircuit() {
+    AdmissionPolicy policy = new AdmissionPolicy(
+        new CircuitBreakerOptions().setFailureThreshold(1).setOpenDuration(Duration.ofSeconds(1)),
+        null, this.listener, this.clock::get);
+
+    policy.tryAcquire("PublishEvent", null).release(AdmissionPolicy.Outcome.FAILURE);
+    this.clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    policy.tryAcquire("PublishEvent", null).release(AdmissionPolicy.Outcome.FAILURE);
+
+    assertNull(policy.tryAcquire("PublishEvent", null));
+    this.clock.addAndGet(Duration.ofMillis(999).toNanos());
+    assertNull(policy.tryAcquire("PublishEvent", null));
+  }
+
+  @Test
+  public void onlyTrialCallDecidesHalfOpenCircuit() {
+    AdmissionPolicy policy = new AdmissionPolicy(
+        new CircuitBreakerOptions().setFailureThreshold(1).setOpenDuration(Duration.ofSeconds(1)),
+        null, this.listener, this.clock::get);
+
+    AdmissionPolicy.Permit early = policy.tryAcquire("GetState", "store");
+    AdmissionPolicy.Permit late = policy.tryAcquire("GetState", "store");
+    early.release(AdmissionPolicy.Outcome.FAILURE);
+    this.clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    AdmissionPolicy.Permit trial = policy.tryAcquire("GetState", "store");
+
+    // Calls admitted before the circuit opened neither close it, reopen it, nor free the trial slot.
+    late.release(AdmissionPolicy.Outcome.SUCCESS);
+    assertNull(policy.tryAcquire("GetState", "store"));
+    late.release(AdmissionPolicy.Outcome.IGNORED);
+    assertNull(policy.tryAcquire("GetState", "store"));
+    late.release(AdmissionPolicy.Outcome.FAILURE);
+    assertNull(policy.tryAcquire("GetState", "store"));
+
+    trial.release(AdmissionPolicy.Outcome.SUCCESS);
+    assertNotNull(policy.tryAcquire("GetState", "store"));
+    assertEquals(List.of(
+        "GetState/store:CLOSED->OPEN",
+        "GetState/store:OPEN->HALF_OPEN",
+        "GetState/store:CIRCUIT_OPEN",
+        "GetState/store:CIRCUIT_OPEN",
+        "GetState/store:CIRCUIT_OPEN",
+        "GetState/store:HALF_OPEN->CLOSED"), this.events);
+  }
+
+  @Test
+  public void successResetsConsecutiveFailures() {
+    AdmissionPolicy policy = new AdmissionPolicy(
+        new CircuitBreakerOptions().setFailureThreshold(2), null, this.listener, this.clock::get);
+
+    policy.tryAcquire("GetState", "store").release(AdmissionPolicy.Outcome.FAILURE);
+    policy.tryAcquire("GetState", "store").release(AdmissionPolicy.Outcome.SUCCESS);
+    policy.tryAcquire("GetState", "store").release(AdmissionPolicy.Outcome.FAILURE);
+
+    assertNotNull(policy.tryAcquire("GetState", "store"));
+    assertTrue(this.events.isEmpty());
+  }
+
+  @Test
+  public void concurrencyLimitRejectsExcessCalls() {
+    AdmissionPolicy policy = new AdmissionPolicy(
+        null, new ConcurrencyLimitOptions().setInitialLimit(2).setMinLimit(1).setMaxLimit(4),
+        this.listener, this.clock::get);
+
+    AdmissionPolicy.Permit first = policy.tryAcquire("GetState", "store");
+    assertNotNull(first);
+    assertNotNull(policy.tryAcquire("GetState", "store"));
+    assertNull(policy.tryAcquire("GetState", "store"));
+    first.release(AdmissionPolicy.Outcome.IGNORED);
+    assertNotNull(policy.tryAcquire("GetState", "store"));
+
+    assertEquals(List.of("GetState/store:CONCURRENCY_LIMIT"), this.events);
+  }
+
+  @Test
+  public void limitAdaptsToLatency() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 1, 20, 2.0);
+
+    // Calls within the latency tolerance grow the limit while it is in use.
+    for (int i = 0; i < 10; i++) {
+      assertTrue(limiter.tryAcquire());
+    }
+    for (int i = 0; i < 10; i++) {
+      limiter.onComplete(1_000_000, false);
+    }
+    assertEquals(14, limiter.getLimit());
+
+    // Slow and failed calls shrink it.
+    assertTrue(limiter.tryAcquire());
+    limiter.onComplete(5_000_000, false);
+    assertEquals(12, limiter.getLimit());
+    assertTrue(limiter.tryAcquire());
+    limiter.onComplete(1_000_000, true);
+    assertEquals(10, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  public void invalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> new AdmissionPolicy(
+        new ResiliencyOptions().setCircuitBreaker(new CircuitBreakerOptions().setFailureThreshold(0))));
+    assertThrows(IllegalArgumentException.class, () -> new AdmissionPolicy(
+        new ResiliencyOptions().setConcurrencyLimit(new ConcurrencyLimitOptions().setMinLimit(50))));
+    assertThrows(IllegalArgumentException.class, () -> new AdmissionPolicy(
+        new ResiliencyOptions().setConcurrencyLimit(new ConcurrencyLimitOptions().setLatencyTolerance(1))));
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.HedgingOptions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgePolicyTest {
+
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  private final AtomicInteger hedgesWon = new AtomicInteger();
+
+  private final ResiliencyListener listener = new ResiliencyListener() {
+    @Override
+    public void onHedgeWon(String api, String component) {
+      hedgesWon.incrementAndGet();
+    }
+  };
+
+  @Test
+  public void slowCallIsHedged() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofMillis(50)), null, this.listener);
+
+    StepVerifier.withVirtualTime(() -> policy.apply("GetState", "store", this.attempt(Duration.ofSeconds(10))))
+        .expectSubscription()
+        .thenAwait(Duration.ofMillis(50))
+        .expectNext("attempt-2")
+        .verifyComplete();
+
+    assertEquals(2, this.attempts.get());
+    assertEquals(1, this.hedgesWon.get());
+  }
+
+  @Test
+  public void fastCallIsNotHedged() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofMillis(50)), null, this.listener);
+
+    StepVerifier.withVirtualTime(() -> policy.apply("GetState", "store", this.attempt(Duration.ofMillis(10))))
+        .expectSubscription()
+        .thenAwait(Duration.ofMillis(10))
+        .expectNext("attempt-1")
+        .verifyComplete();
+
+    assertEquals(1, this.attempts.get());
+  }
+
+  @Test
+  public void hedgeNeedsRetryBudget() {
+    RetryBudget budget = new RetryBudget(0.1, 1);
+    assertTrue(budget.tryWithdraw());
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofMillis(50)), budget, this.listener);
+
+    StepVerifier.withVirtualTime(() -> policy.apply("GetState", "store", this.attempt(Duration.ofSeconds(1))))
+        .expectSubscription()
+        .thenAwait(Duration.ofSeconds(1))
+        .expectNext("attempt-1")
+        .verifyComplete();
+
+    assertEquals(1, this.attempts.get());
+  }
+
+  @Test
+  public void hedgeErrorDoesNotWin() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofMillis(50)), null, this.listener);
+    Mono<String> attempt = Mono.defer(() -> this.attempts.incrementAndGet() == 1
+        ? Mono.delay(Duration.ofSeconds(1)).thenReturn("primary")
+        : Mono.error(new IllegalStateException()));
+
+    StepVerifier.withVirtualTime(() -> policy.apply("GetState", "store", attempt))
+        .expectSubscription()
+        .thenAwait(Duration.ofSeconds(1))
+        .expectNext("primary")
+        .verifyComplete();
+
+    assertEquals(2, this.attempts.get());
+  }
+
+  @Test
+  public void primaryErrorWaitsForHedge() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofMillis(50)), null, this.listener);
+    Mono<String> attempt = Mono.defer(() -> this.attempts.incrementAndGet() == 1
+        ? Mono.delay(Duration.ofMillis(60)).then(Mono.error(new IllegalStateException()))
+        : Mono.delay(Duration.ofMillis(100)).thenReturn("hedge"));
+
+    StepVerifier.withVirtualTime(() -> policy.apply("GetState", "store", attempt))
+        .expectSubscription()
+        .thenAwait(Duration.ofMillis(150))
+        .expectNext("hedge")
+        .verifyComplete();
+
+    assertEquals(2, this.attempts.get());
+  }
+
+  @Test
+  public void primaryErrorBeforeHedgeFailsRightAway() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofMillis(50)), null, this.listener);
+    Mono<String> attempt = Mono.defer(() -> {
+      this.attempts.incrementAndGet();
+      return Mono.delay(Duration.ofMillis(10)).then(Mono.error(new IllegalStateException("primary")));
+    });
+
+    StepVerifier.withVirtualTime(() -> policy.apply("GetState", "store", attempt))
+        .expectSubscription()
+        .thenAwait(Duration.ofMillis(10))
+        .expectErrorMessage("primary")
+        .verify();
+
+    assertEquals(1, this.attempts.get());
+  }
+
+  @Test
+  public void callFailsWithPrimaryErrorOnceBothAttemptsFail() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofMillis(50)), null, this.listener);
+    Mono<String> attempt = Mono.defer(() -> this.attempts.incrementAndGet() == 1
+        ? Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IllegalStateException("primary")))
+        : Mono.error(new IllegalStateException("hedge")));
+
+    StepVerifier.withVirtualTime(() -> policy.apply("GetState", "store", attempt))
+        .expectSubscription()
+        .thenAwait(Duration.ofMillis(100))
+        .expectErrorMessage("primary")
+        .verify();
+
+    assertEquals(2, this.attempts.get());
+  }
+
+  @Test
+  public void cancelledCallLatencyIsRecorded() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setInitialDelay(Duration.ofSeconds(10)), null, this.listener);
+    for (int i = 0; i < HedgePolicy.UPDATE_INTERVAL; i++) {
+      StepVerifier.create(policy.apply("GetState", "store", Mono.never()))
+          .expectSubscription()
+          .thenCancel()
+          .verify();
+    }
+
+    assertTrue(policy.getTracker("GetState", "store").getDelayNanos() < Duration.ofSeconds(10).toNanos());
+  }
+
+  @Test
+  public void delayFollowsLatencyPercentile() {
+    HedgePolicy policy = new HedgePolicy(
+        new HedgingOptions().setPercentile(0.9).setInitialDelay(Duration.ofSeconds(1)), null, this.listener);
+    HedgePolicy.LatencyTracker tracker = policy.new LatencyTracker();
+    assertEquals(Duration.ofSeconds(1).toNanos(), tracker.getDelayNanos());
+
+    for (int i = 1; i <= HedgePolicy.UPDATE_INTERVAL; i++) {
+      tracker.record(i * 1_000_000L);
+    }
+
+    assertEquals(45_000_000L, tracker.getDelayNanos());
+  }
+
+  @Test
+  public void invalidOptions() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new HedgePolicy(new HedgingOptions().setPercentile(0), null, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new HedgePolicy(new HedgingOptions().setInitialDelay(Duration.ofMillis(-1)), null, null));
+    assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0, 10));
+  }
+
+  private Mono<String> attempt(Duration primaryLatency) {
+    return Mono.defer(() -> {
+      int attempt = this.attempts.incrementAndGet();
+      Duration latency = attempt == 1 ? primaryLatency : Duration.ZERO;
+      return Mono.delay(latency).thenReturn("attempt-" + attempt);
+    });
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.internal.grpc.interceptors.DaprTimeoutInterceptor;
+import io.dapr.v1.DaprGrpc;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.Deadline;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class TimeoutPolicyTest {
+
+  @Test
+  public void apiTimeoutOverridesDefault() {
+    TimeoutPolicy policy = new TimeoutPolicy(new ResiliencyOptions()
+        .setTimeout(Duration.ofSeconds(1))
+        .setApiTimeout("QueryStateAlpha1", Duration.ofSeconds(60)));
+
+    long getState = policy.apply("GetState", CallOptions.DEFAULT, null).getDeadline().timeRemaining(TimeUnit.SECONDS);
+    long queryState = policy.apply("QueryStateAlpha1", CallOptions.DEFAULT, null).getDeadline()
+        .timeRemaining(TimeUnit.SECONDS);
+
+    assertTrue(getState <= 1);
+    assertTrue(queryState > 1);
+  }
+
+  @Test
+  public void callerDeadlineShortensTimeout() {
+    TimeoutPolicy policy = new TimeoutPolicy(new ResiliencyOptions().setTimeout(Duration.ofSeconds(60)));
+    Deadline callerDeadline = Deadline.after(1, TimeUnit.SECONDS);
+
+    assertSame(callerDeadline, policy.apply("GetState", CallOptions.DEFAULT, callerDeadline).getDeadline());
+  }
+
+  @Test
+  public void callerDeadlineAppliesWithoutTimeout() {
+    TimeoutPolicy policy = new TimeoutPolicy(new ResiliencyOptions()
+        .setTimeout(Duration.ofSeconds(1))
+        .setApiTimeout("SubscribeConfiguration", Duration.ZERO));
+    Deadline callerDeadline = Deadline.after(1, TimeUnit.HOURS);
+
+    assertNull(policy.apply("SubscribeConfiguration", CallOptions.DEFAULT, null).getDeadline());
+    assertSame(callerDeadline, policy.apply("SubscribeConfiguration", CallOptions.DEFAULT, callerDeadline)
+        .getDeadline());
+  }
+
+  @Test
+  public void interceptorReadsDeadlineFromReactorContext() {
+    Deadline callerDeadline = Deadline.after(1, TimeUnit.SECONDS);
+    Channel channel = mock(Channel.class);
+    DaprTimeoutInterceptor interceptor = new DaprTimeoutInterceptor(
+        new TimeoutPolicy(Duration.ofSeconds(60)), Context.of(Deadline.class, callerDeadline));
+
+    interceptor.interceptCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT, channel);
+
+    ArgumentCaptor<CallOptions> options = ArgumentCaptor.forClass(CallOptions.class);
+    verify(channel).newCall(eq(DaprGrpc.getGetStateMethod()), options.capture());
+    assertSame(callerDeadline, options.getValue().getDeadline());
+  }
+
+  @Test
+  public void apiIsRequired() {
+    assertThrows(IllegalArgumentException.class, () -> new ResiliencyOptions().setApiTimeout("", Duration.ZERO));
+    assertEquals(0, new ResiliencyOptions()
+        .setApiTimeout("GetState", Duration.ZERO)
+        .setApiTimeout("GetState", null)
+        .getApiTimeouts().size());
+  }
+}
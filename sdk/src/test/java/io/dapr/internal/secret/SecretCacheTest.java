@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.secret;
+
+import io.dapr.client.domain.SecretCacheOptions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SecretCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final List<String> events = new ArrayList<>();
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final SecretCache.Listener listener = new SecretCache.Listener() {
+    @Override
+    public void onHit(String storeName) {
+      events.add("hit");
+    }
+
+    @Override
+    public void onMiss(String storeName) {
+      events.add("miss");
+    }
+
+    @Override
+    public void onRefresh(String storeName) {
+      events.add("refresh");
+    }
+  };
+
+  @Test
+  public void secretExpiresAfterTtl() {
+    SecretCache cache = newCache(new SecretCacheOptions().setTtl(Duration.ofSeconds(10))
+        .setRefreshAhead(Duration.ZERO));
+
+    assertEquals("1", get(cache, "key").get("key"));
+    assertEquals("1", get(cache, "key").get("key"));
+    this.now.addAndGet(Duration.ofSeconds(10).toNanos());
+    assertEquals("2", get(cache, "key").get("key"));
+
+    assertEquals(List.of("miss", "hit", "miss"), this.events);
+    assertEquals(2, this.loads.get());
+  }
+
+  @Test
+  public void secretRefreshedAheadOfExpiry() {
+    SecretCache cache = newCache(new SecretCacheOptions().setTtl(Duration.ofSeconds(10))
+        .setRefreshAhead(Duration.ofSeconds(2)));
+
+    get(cache, "key");
+    this.now.addAndGet(Duration.ofSeconds(9).toNanos());
+
+    // Served from the cache while the refresh runs, then replaced by the refreshed secret.
+    assertEquals("1", get(cache, "key").get("key"));
+    assertEquals("2", get(cache, "key").get("key"));
+    assertEquals(List.of("miss", "hit", "refresh", "hit"), this.events);
+  }
+
+  @Test
+  public void concurrentMissesShareOneLoad() {
+    SecretCache cache = newCache(new SecretCacheOptions());
+    Sinks.One<Map<String, String>> secret = Sinks.one();
+    List<Map<String, String>> results = new ArrayList<>();
+
+    for (int i = 0; i < 3; i++) {
+      cache.get("store", "key", null, () -> {
+        this.loads.incrementAndGet();
+        return secret.asMono();
+      }).subscribe(results::add);
+    }
+    secret.tryEmitValue(Map.of("key", "value"));
+
+    assertEquals(1, this.loads.get());
+    assertEquals(3, results.size());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void metadataIsPartOfTheKey() {
+    SecretCache cache = newCache(new SecretCacheOptions());
+
+    cache.get("store", "key", Map.of("namespace", "a"), this::load).block();
+    cache.get("store", "key", Map.of("namespace", "b"), this::load).block();
+    cache.get("store", "key", Map.of("namespace", "a"), this::load).block();
+
+    assertEquals(2, this.loads.get());
+  }
+
+  @Test
+  public void warmedUpAndInvalidated() {
+    SecretCache cache = newCache(new SecretCacheOptions());
+
+    cache.putAll("store", null, Map.of("a", Map.of("a", "0"), "b", Map.of("b", "0")));
+    assertEquals("0", get(cache, "a").get("a"));
+    assertEquals(0, this.loads.get());
+
+    cache.invalidate("store", "a");
+    assertEquals(1, cache.size());
+    assertEquals("1", get(cache, "a").get("a"));
+
+    cache.invalidate("store", null);
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void failedLoadIsNotCached() {
+    SecretCache cache = newCache(new SecretCacheOptions());
+
+    assertThrows(IllegalStateException.class, () -> cache.get("store", "key", null,
+        () -> Mono.error(new IllegalStateException("unavailable"))).block());
+    assertEquals(0, cache.size());
+    assertEquals("1", get(cache, "key").get("key"));
+  }
+
+  @Test
+  public void invalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> newCache(new SecretCacheOptions().setTtl(Duration.ZERO)));
+    assertThrows(IllegalArgumentException.class, () -> newCache(new SecretCacheOptions()
+        .setTtl(Duration.ofSeconds(1)).setRefreshAhead(Duration.ofSeconds(1))));
+    assertThrows(IllegalArgumentException.class, () -> newCache(new SecretCacheOptions().setMaxEntries(0)));
+  }
+
+  private SecretCache newCache(SecretCacheOptions options) {
+    return new SecretCache(options, this.listener, this.now::get);
+  }
+
+  private Map<String, String> get(SecretCache cache, String key) {
+    return cache.get("store", key, null, this::load).block();
+  }
+
+  private Mono<Map<String, String>> load() {
+    return Mono.fromSupplier(() -> {
+      String version = String.valueOf(this.loads.incrementAndGet());
+      return Map.of("key", version, "a", version);
+    });
+  }
+}
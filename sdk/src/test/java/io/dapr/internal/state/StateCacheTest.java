@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.state;
+
+import com.google.protobuf.ByteString;
+import io.dapr.client.domain.StateCacheOptions;
+import io.dapr.v1.DaprStateProtos;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StateCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final List<String> events = new ArrayList<>();
+
+  private final StateCache.Listener listener = new StateCache.Listener() {
+    @Override
+    public void onHit(String storeName) {
+      events.add("hit");
+    }
+
+    @Override
+    public void onMiss(String storeName) {
+      events.add("miss");
+    }
+
+    @Override
+    public void onEviction(String storeName) {
+      events.add("eviction");
+    }
+  };
+
+  @Test
+  public void entryExpiresAfterTtl() {
+    StateCache cache = newCache(new StateCacheOptions().setTtl(Duration.ofSeconds(1)));
+    DaprStateProtos.GetStateResponse response = response("value");
+
+    cache.put("store", "key", response, cache.getVersion());
+    assertSame(response, cache.get("store", "key"));
+    this.now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+    assertNull(cache.get("store", "key"));
+    assertEquals(List.of("hit", "miss"), this.events);
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryEvicted() {
+    StateCache cache = newCache(new StateCacheOptions().setMaxEntries(2));
+
+    cache.put("store", "a", response("a"), cache.getVersion());
+    cache.put("store", "b", response("b"), cache.getVersion());
+    cache.get("store", "a");
+    cache.put("store", "c", response("c"), cache.getVersion());
+
+    assertNotNull(cache.get("store", "a"));
+    assertNull(cache.get("store", "b"));
+    assertEquals(2, cache.size());
+    assertEquals(List.of("hit", "eviction", "hit", "miss"), this.events);
+  }
+
+  @Test
+  public void entriesEvictedByWeight() {
+    DaprStateProtos.GetStateResponse response = response("0123456789");
+    long entryWeight = 1 + response.getSerializedSize();
+    StateCache cache = newCache(new StateCacheOptions().setMaxWeight(entryWeight * 2));
+
+    cache.put("store", "a", response, cache.getVersion());
+    cache.put("store", "b", response, cache.getVersion());
+    cache.put("store", "c", response, cache.getVersion());
+    cache.put("store", "d", response("too large to fit in the cache at all"), cache.getVersion());
+
+    assertEquals(2, cache.size());
+    assertNull(cache.get("store", "a"));
+    assertNull(cache.get("store", "d"));
+  }
+
+  @Test
+  public void readStartedBeforeWriteIsNotCached() {
+    StateCache cache = newCache(new StateCacheOptions());
+    long version = cache.getVersion();
+
+    cache.invalidate("store", "key");
+    cache.put("store", "key", response("stale"), version);
+
+    assertNull(cache.get("store", "key"));
+  }
+
+  @Test
+  public void invalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> newCache(new StateCacheOptions().setTtl(Duration.ZERO)));
+    assertThrows(IllegalArgumentException.class, () -> newCache(new StateCacheOptions().setMaxEntries(0)));
+    assertThrows(IllegalArgumentException.class, () -> newCache(new StateCacheOptions().setMaxWeight(-1)));
+  }
+
+  private StateCache newCache(StateCacheOptions options) {
+    return new StateCache(options, this.listener, this.now::get);
+  }
+
+  private static DaprStateProtos.GetStateResponse response(String value) {
+    return DaprStateProtos.GetStateResponse.newBuilder()
+        .setData(ByteString.copyFromUtf8(value))
+        .setEtag("1")
+        .build();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.state;
+
+import io.dapr.client.domain.BulkStateChunkOptions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StateChunkerTest {
+
+  @Test
+  public void chunksByCount() {
+    List<List<String>> chunks = StateChunker.chunk(Flux.just("a", "b", "c", "d", "e"), String::length,
+        new BulkStateChunkOptions().setMaxKeys(2)).collectList().block();
+
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), chunks);
+  }
+
+  @Test
+  public void chunksBySize() {
+    List<List<String>> chunks = StateChunker.chunk(Flux.just("aaa", "bb", "c", "dddddd", "e"), String::length,
+        new BulkStateChunkOptions().setMaxBytes(5)).collectList().block();
+
+    assertEquals(List.of(List.of("aaa", "bb"), List.of("c"), List.of("dddddd"), List.of("e")), chunks);
+  }
+
+  @Test
+  public void chunkStateIsPerSubscription() {
+    Flux<List<String>> chunks = StateChunker.chunk(Flux.just("a", "b", "c"), String::length,
+        new BulkStateChunkOptions().setMaxKeys(2));
+
+    assertEquals(chunks.collectList().block(), chunks.collectList().block());
+  }
+
+  @Test
+  public void invalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> StateChunker.validate(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> StateChunker.validate(new BulkStateChunkOptions().setMaxKeys(0)));
+    assertThrows(IllegalArgumentException.class,
+        () -> StateChunker.validate(new BulkStateChunkOptions().setMaxBytes(0)));
+    assertThrows(IllegalArgumentException.class,
+        () -> StateChunker.validate(new BulkStateChunkOptions().setConcurrency(0)));
+  }
+}
@@ -13,6 +13,8 @@ limitations under the License.
 
 package io.dapr.resiliency;
 
+import io.dapr.internal.resiliency.ResiliencyListener;
+import io.dapr.internal.resiliency.RetryBudget;
 import io.dapr.internal.resiliency.RetryPolicy;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -116,6 +118,57 @@ public class RetryPolicyTest {
     assertEquals(1, callCounter.get());
   }
 
+  @Test
+  public void retriesStopWhenBudgetIsExhausted() {
+    AtomicInteger callCounter = new AtomicInteger();
+    AtomicInteger denied = new AtomicInteger();
+    RetryBudget budget = new RetryBudget(0.5, 1);
+    RetryPolicy policy = new RetryPolicy(3, budget, new ResiliencyListener() {
+      @Override
+      public void onRetry(boolean allowed) {
+        if (!allowed) {
+          denied.incrementAndGet();
+        }
+      }
+    });
+    Mono<String> action = createActionErrorAndReturn(callCounter, Integer.MAX_VALUE, RETRYABLE_EXCEPTION);
+
+    // The call refills half a token, on top of the single token of the full budget.
+    StepVerifier
+            .create(policy.apply(action))
+            .expectError(StatusRuntimeException.class)
+            .verify();
+
+    assertEquals(2, callCounter.get());
+    assertEquals(1, denied.get());
+    assertEquals(0, budget.getAvailableTokens());
+  }
+
+  @Test
+  public void exhaustedRetriesDoNotTakeFromBudget() {
+    AtomicInteger callCounter = new AtomicInteger();
+    AtomicInteger allowed = new AtomicInteger();
+    RetryBudget budget = new RetryBudget(0.5, 10);
+    RetryPolicy policy = new RetryPolicy(2, budget, new ResiliencyListener() {
+      @Override
+      public void onRetry(boolean retryAllowed) {
+        if (retryAllowed) {
+          allowed.incrementAndGet();
+        }
+      }
+    });
+    Mono<String> action = createActionErrorAndReturn(callCounter, Integer.MAX_VALUE, RETRYABLE_EXCEPTION);
+
+    StepVerifier
+            .create(policy.apply(action))
+            .expectErrorMatches(e -> Exceptions.isRetryExhausted(e))
+            .verify();
+
+    assertEquals(3, callCounter.get());
+    assertEquals(2, allowed.get());
+    assertEquals(8, budget.getAvailableTokens());
+  }
+
   private static Mono<String> createActionErrorAndReturn(
       AtomicInteger callCounter,
       int firstErrors,